@@ -1,5 +1,7 @@
 package org.example.cartservice.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.Getter;
 import lombok.Setter;
 import org.example.cartservice.entity.Cart;
@@ -32,6 +34,7 @@ public class CartResponseDto {
 
     @Getter @Setter
     public static class CartItemDto {
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long cartItemId;
         private Long productId;
         private String productTitle;
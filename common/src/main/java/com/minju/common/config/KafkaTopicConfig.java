@@ -0,0 +1,44 @@
+package com.minju.common.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.List;
+
+/**
+ * Saga 토픽 선언 (KafkaAdmin이 기동 시 없으면 생성, 파티션 수가 늘면 추가)
+ * - 메시지 키: 주문 흐름 이벤트는 orderId, 재고 명령(예약/복구)은 productId → 키 단위 순서 보장
+ * - 리스너 동시성은 파티션 수와 같게 설정 (kafka.topics.partitions)
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    public static final List<String> SAGA_TOPICS = List.of(
+            "order-created-topic",
+            "stock-reservation-requested-topic",
+            "stock-restore-topic",
+            "stock-reserved-topic",
+            "stock-reservation-failed-topic",
+            "payment-requested-topic",
+            "payment-completed-topic",
+            "payment-failed-topic",
+            "payment-manual-processing-topic",
+            "order-completed-topic",
+            "order-cancelled-topic"
+    );
+
+    @Bean
+    public KafkaAdmin.NewTopics sagaTopics(@Value("${kafka.topics.partitions:6}") int partitions,
+                                           @Value("${kafka.topics.replication-factor:1}") int replicationFactor) {
+        return new KafkaAdmin.NewTopics(SAGA_TOPICS.stream()
+                .map(topic -> TopicBuilder.name(topic)
+                        .partitions(partitions)
+                        .replicas(replicationFactor)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+}
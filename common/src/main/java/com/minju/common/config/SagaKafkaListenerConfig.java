@@ -0,0 +1,77 @@
+package com.minju.common.config;
+
+import com.minju.common.kafka.listener.SagaListenerContainerCustomizer;
+import com.minju.common.outbox.OutboxPayloadDeserializer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * Saga 리스너 공용 컨테이너 팩토리 (order / product / payment의 모든 Saga @KafkaListener가 사용)
+ * - 소비자 설정: 서비스의 spring.kafka 설정 위에 Saga 공통값을 덮어씀
+ *   (OutboxPayloadDeserializer - JSON/바이너리, read_committed, 수동 커밋, cooperative-sticky 할당)
+ * - cooperative-sticky: 멤버가 늘거나 줄 때 옮겨야 하는 파티션만 회수 → 전체 소비 중단(stop-the-world) 리밸런스 없음
+ * - 레코드 리스너는 레코드마다 오프셋 커밋(RECORD), 배치 리스너는 배치 단위 커밋(BATCH)
+ * - 토픽별 동시성, 정적 멤버십, 처리 시간 메트릭은 {@link SagaListenerContainerCustomizer}
+ */
+@Configuration
+public class SagaKafkaListenerConfig {
+
+    public static final String CONTAINER_FACTORY = "sagaListenerContainerFactory";
+    public static final String BATCH_CONTAINER_FACTORY = "sagaBatchListenerContainerFactory";
+
+    @Bean
+    public ConsumerFactory<Object, Object> sagaConsumerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${kafka.listener.max-poll-records:100}") int maxPollRecords,
+            @Value("${kafka.listener.session-timeout-ms:45000}") int sessionTimeoutMs) {
+        Map<String, Object> config = kafkaProperties.buildConsumerProperties(null);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, OutboxPayloadDeserializer.class);
+        config.put(JsonDeserializer.TRUSTED_PACKAGES, "com.minju.common.kafka.*");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        config.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        config.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, sessionTimeoutMs);
+        config.putIfAbsent(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return new DefaultKafkaConsumerFactory<>(config);
+    }
+
+    @Bean(CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> sagaListenerContainerFactory(
+            ConsumerFactory<Object, Object> sagaConsumerFactory,
+            SagaListenerContainerCustomizer containerCustomizer) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(sagaConsumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+        factory.setContainerCustomizer(containerCustomizer);
+        return factory;
+    }
+
+    /**
+     * 배치 리스너용 (List로 받는 리스너, 한 번의 poll = 한 번의 호출)
+     */
+    @Bean(BATCH_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> sagaBatchListenerContainerFactory(
+            ConsumerFactory<Object, Object> sagaConsumerFactory,
+            SagaListenerContainerCustomizer containerCustomizer) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(sagaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setContainerCustomizer(containerCustomizer);
+        return factory;
+    }
+}
@@ -1,9 +1,13 @@
 package com.minju.common.dlq;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,5 +22,20 @@ public interface DeadLetterEventRepository extends JpaRepository<DeadLetterEvent
 
     long countByStatus(String status);
 
+    /**
+     * 보관 기간이 지난 처리 완료 DLQ 이벤트 ID (PK 범위 청크, 미처리/실패 건은 보관)
+     */
+    @Query(value = "SELECT id FROM dead_letter_event WHERE status = 'PROCESSED' AND id > :afterId " +
+            "AND created_at < :before ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findProcessedIdsBefore(@Param("afterId") long afterId, @Param("before") LocalDateTime before,
+                                      @Param("limit") int limit);
+
+    /**
+     * ID 목록 삭제 (보관 기간 정리 청크)
+     */
+    @Modifying
+    @Query("DELETE FROM DeadLetterEvent d WHERE d.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
     List<DeadLetterEvent> findByAggregateId(String aggregateId);
 }
@@ -12,6 +12,7 @@ public enum ErrorCode {
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, 1000, "잘못된 요청입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 1001, "서버에 오류가 발생했습니다."),
     UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 1002, "알 수 없는 오류가 발생했습니다."),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, 1003, "일시적으로 서비스를 이용할 수 없습니다."),
 
     // USER 도메인
 
@@ -42,6 +43,8 @@ public enum ErrorCode {
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, 5000, "존재하지 않는 주문입니다."),
     NOT_YOUR_ORDER(HttpStatus.BAD_REQUEST, 5001, "주문정보와 아이디가 일치하지 않습니다."),
     ORDER_CANCELLED_FAILED(HttpStatus.BAD_REQUEST, 5002, "주문취소 불가능한 상태입니다."),
+    ORDER_SUBMISSION_NOT_FOUND(HttpStatus.NOT_FOUND, 5003, "주문 접수 정보를 찾을 수 없습니다."),
+    IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, 5004, "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
 
     // PAYMENT 도메인
     PAYMENT_ALREADY(HttpStatus.BAD_REQUEST, 6000, "이미 결제내역이 존재하는 주문입니다."),
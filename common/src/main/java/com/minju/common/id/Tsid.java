@@ -0,0 +1,23 @@
+package com.minju.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간순 정렬 가능한 64bit ID 자동 할당
+ * - IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 INSERT 가능
+ *
+ * <pre>
+ * &#64;Id &#64;Tsid
+ * private Long id;
+ * </pre>
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+}
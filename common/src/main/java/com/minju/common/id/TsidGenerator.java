@@ -0,0 +1,94 @@
+package com.minju.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+
+/**
+ * TSID(Snowflake 계열) ID 생성기
+ * - 구성: 41bit 타임스탬프(ms, 2024-01-01 기준) | 10bit 노드 ID | 12bit 시퀀스
+ * - 노드당 ms당 4096개, 약 69년 사용 가능
+ * - 같은 노드에서 생성된 ID는 단조 증가 (시계가 뒤로 가도 마지막 시각 기준으로 계속 증가)
+ * - 노드 ID: 시스템 프로퍼티 tsid.node → 환경변수 TSID_NODE 순으로 결정 (0~1023)
+ *   인스턴스마다 다른 값을 반드시 지정 (추정값은 인스턴스 간 충돌 시 중복 ID를 만들므로 미설정이면 기동 실패)
+ */
+@Slf4j
+public final class TsidGenerator {
+
+    public static final long EPOCH_MS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final int SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+
+    private static volatile TsidGenerator instance;
+
+    private final long nodeBits;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public TsidGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public static TsidGenerator getInstance() {
+        TsidGenerator current = instance;
+        if (current == null) {
+            synchronized (TsidGenerator.class) {
+                current = instance;
+                if (current == null) {
+                    int nodeId = resolveNodeId(System.getProperty("tsid.node", System.getenv("TSID_NODE")));
+                    current = new TsidGenerator(nodeId);
+                    log.info("TSID 노드 ID: {}", nodeId);
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MS;
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0;
+        } else {
+            // 같은 ms(또는 시계 역행): 시퀀스 증가, 소진 시 다음 ms로 넘어감
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                lastTimestamp++;
+            }
+        }
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MS;
+    }
+
+    /**
+     * 지정 시각에 생성될 수 있는 가장 작은 ID (시각 기준 PK 범위 조회/파티션 경계용)
+     */
+    public static long minIdAt(long epochMs) {
+        return Math.max(0, epochMs - EPOCH_MS) << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+
+    static int resolveNodeId(String configured) {
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("TSID 노드 ID가 설정되지 않았습니다 - 인스턴스마다 고유한 tsid.node 또는 TSID_NODE(0~" + MAX_NODE + ")를 지정하세요");
+        }
+        try {
+            return Integer.parseInt(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("TSID 노드 ID 형식이 올바르지 않습니다: " + configured, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.minju.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link Tsid} 어노테이션용 Hibernate ID 생성기
+ * - SessionFactory 생성 시 인스턴스화되므로, 노드 ID 미설정이면 첫 INSERT가 아니라 기동 시점에 실패
+ */
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+    private final TsidGenerator generator;
+
+    public TsidIdentifierGenerator() {
+        this.generator = TsidGenerator.getInstance();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
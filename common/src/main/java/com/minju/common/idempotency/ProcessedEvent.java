@@ -1,9 +1,11 @@
 package com.minju.common.idempotency;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -19,7 +21,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-public class ProcessedEvent {
+public class ProcessedEvent implements Persistable<String> {
 
     /**
      * 이벤트 고유 ID (aggregateId_eventType_subId 형식)
@@ -53,6 +55,30 @@ public class ProcessedEvent {
     @Column(name = "processed_by", length = 50)
     private String processedBy;
 
+    /**
+     * 신규 여부 (ID를 직접 할당하므로 save 시 SELECT 없이 INSERT 하기 위함)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     /**
      * 새 ProcessedEvent 생성
      */
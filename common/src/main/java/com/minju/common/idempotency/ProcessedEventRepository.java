@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
@@ -21,12 +22,23 @@ public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent,
     List<ProcessedEvent> findByAggregateIdAndEventType(String aggregateId, String eventType);
 
     /**
-     * 특정 시간 이전의 처리된 이벤트 삭제 (정리용)
-     * 기본: 7일 이전 이벤트 삭제
+     * 집계 ID의 처리된 이벤트 전체 조회 (Saga 상태 적재용)
+     */
+    List<ProcessedEvent> findByAggregateId(String aggregateId);
+
+    /**
+     * 보관 기간이 지난 처리 기록 ID (processed_at 인덱스 순 청크)
+     */
+    @Query(value = "SELECT event_id FROM processed_event WHERE processed_at < :before " +
+            "ORDER BY processed_at LIMIT :limit", nativeQuery = true)
+    List<String> findIdsProcessedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * ID 목록 삭제 (보관 기간 정리 청크)
      */
     @Modifying
-    @Query("DELETE FROM ProcessedEvent p WHERE p.processedAt < :before")
-    int deleteProcessedEventsBefore(@Param("before") LocalDateTime before);
+    @Query("DELETE FROM ProcessedEvent p WHERE p.eventId IN :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
 
     /**
      * 서비스별 처리된 이벤트 개수
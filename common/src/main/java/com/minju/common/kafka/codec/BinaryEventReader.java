@@ -0,0 +1,67 @@
+package com.minju.common.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 이벤트 읽기 ({@link BinaryEventWriter}의 역순)
+ */
+final class BinaryEventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    BinaryEventReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    int readByte() {
+        if (position >= buffer.length) {
+            throw new SerializationException("바이너리 이벤트가 잘림 - length: " + buffer.length);
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("잘못된 varint");
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("잘못된 varlong");
+    }
+
+    int readSignedVarInt() {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (position + length > buffer.length) {
+            throw new SerializationException("바이너리 이벤트가 잘림 - length: " + buffer.length);
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
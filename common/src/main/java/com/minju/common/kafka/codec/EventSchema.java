@@ -0,0 +1,226 @@
+package com.minju.common.kafka.codec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 이벤트 타입 하나의 바이너리 스키마 (필드 순서 = 인코딩 순서, getter/setter 참조로 미리 구성 → 리플렉션 없음)
+ * - 필드는 뒤에만 추가하고, 추가 시 version(n)을 먼저 호출 → 이후 필드는 n 버전부터 인코딩
+ * - 이전 버전으로 인코딩된 메시지는 없는 필드를 기본값으로 둔 채 읽음, 더 새로운 버전은 아는 필드까지만 읽음 ({@link SagaEventCodec})
+ *
+ * 필드 인코딩
+ * - id : 숫자 ID 문자열(orderId 등)은 varlong, 숫자가 아니면 문자열 그대로 (태그 1바이트)
+ * - int32 : zigzag varint / bool : 1바이트 / string : 길이+1 varint + UTF-8
+ * - symbol : 사전(dictionary)에 있으면 인덱스만, 없으면 문자열 그대로
+ */
+public final class EventSchema<T> {
+
+    private final int typeId;
+    private final int version;
+    private final Class<T> type;
+    private final Supplier<T> factory;
+    private final List<FieldCodec<T>> fields;
+
+    private EventSchema(Builder<T> builder) {
+        this.typeId = builder.typeId;
+        this.version = builder.version;
+        this.type = builder.type;
+        this.factory = builder.factory;
+        this.fields = List.copyOf(builder.fields);
+    }
+
+    public static <T> Builder<T> builder(int typeId, Class<T> type, Supplier<T> factory) {
+        return new Builder<>(typeId, type, factory);
+    }
+
+    public int getTypeId() {
+        return typeId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    void encode(T event, BinaryEventWriter writer) {
+        for (FieldCodec<T> field : fields) {
+            field.write(event, writer);
+        }
+    }
+
+    T decode(BinaryEventReader reader, int encodedVersion) {
+        T event = factory.get();
+        for (FieldCodec<T> field : fields) {
+            if (field.since() <= encodedVersion) {
+                field.read(event, reader);
+            }
+        }
+        return event;
+    }
+
+    private interface FieldCodec<T> {
+
+        int since();
+
+        void write(T event, BinaryEventWriter writer);
+
+        void read(T event, BinaryEventReader reader);
+    }
+
+    public static final class Builder<T> {
+
+        private static final int ID_NULL = 0;
+        private static final int ID_NUMERIC = 1;
+        private static final int ID_TEXT = 2;
+
+        private final int typeId;
+        private final Class<T> type;
+        private final Supplier<T> factory;
+        private final List<FieldCodec<T>> fields = new ArrayList<>();
+        private int version = 1;
+
+        private Builder(int typeId, Class<T> type, Supplier<T> factory) {
+            this.typeId = typeId;
+            this.type = type;
+            this.factory = factory;
+        }
+
+        /**
+         * 이후에 추가하는 필드의 시작 버전 (증가만 가능)
+         */
+        public Builder<T> version(int version) {
+            if (version < this.version) {
+                throw new IllegalArgumentException("스키마 버전은 증가만 가능: " + this.version + " → " + version);
+            }
+            this.version = version;
+            return this;
+        }
+
+        public Builder<T> id(Function<T, String> getter, BiConsumer<T, String> setter) {
+            return field(
+                    (event, writer) -> {
+                        String value = getter.apply(event);
+                        if (value == null) {
+                            writer.writeByte(ID_NULL);
+                        } else if (isCanonicalNumber(value)) {
+                            writer.writeByte(ID_NUMERIC);
+                            writer.writeVarLong(Long.parseLong(value));
+                        } else {
+                            writer.writeByte(ID_TEXT);
+                            writer.writeString(value);
+                        }
+                    },
+                    (event, reader) -> {
+                        int tag = reader.readByte();
+                        if (tag == ID_NUMERIC) {
+                            setter.accept(event, Long.toString(reader.readVarLong()));
+                        } else if (tag == ID_TEXT) {
+                            setter.accept(event, reader.readString());
+                        }
+                    });
+        }
+
+        public Builder<T> int32(ToIntFunction<T> getter, ObjIntConsumer<T> setter) {
+            return field(
+                    (event, writer) -> writer.writeSignedVarInt(getter.applyAsInt(event)),
+                    (event, reader) -> setter.accept(event, reader.readSignedVarInt()));
+        }
+
+        public Builder<T> bool(Predicate<T> getter, BiConsumer<T, Boolean> setter) {
+            return field(
+                    (event, writer) -> writer.writeByte(getter.test(event) ? 1 : 0),
+                    (event, reader) -> setter.accept(event, reader.readByte() != 0));
+        }
+
+        public Builder<T> string(Function<T, String> getter, BiConsumer<T, String> setter) {
+            return field(
+                    (event, writer) -> writer.writeString(getter.apply(event)),
+                    (event, reader) -> setter.accept(event, reader.readString()));
+        }
+
+        /**
+         * 값이 몇 가지로 정해진 문자열 (status 등) - 사전은 뒤에만 추가 (인덱스가 곧 와이어 값)
+         * 0 = null, 1 = 사전에 없는 값(문자열이 뒤따름), 2부터 = 사전 인덱스 + 2
+         */
+        public Builder<T> symbol(Function<T, String> getter, BiConsumer<T, String> setter, List<String> dictionary) {
+            Map<String, Integer> codes = new HashMap<>();
+            for (int i = 0; i < dictionary.size(); i++) {
+                codes.put(dictionary.get(i), i + 2);
+            }
+            return field(
+                    (event, writer) -> {
+                        String value = getter.apply(event);
+                        Integer code = value == null ? null : codes.get(value);
+                        if (value == null) {
+                            writer.writeVarInt(0);
+                        } else if (code != null) {
+                            writer.writeVarInt(code);
+                        } else {
+                            writer.writeVarInt(1);
+                            writer.writeString(value);
+                        }
+                    },
+                    (event, reader) -> {
+                        int code = reader.readVarInt();
+                        if (code == 1) {
+                            setter.accept(event, reader.readString());
+                        } else if (code >= 2) {
+                            setter.accept(event, dictionary.get(code - 2));
+                        }
+                    });
+        }
+
+        public EventSchema<T> build() {
+            return new EventSchema<>(this);
+        }
+
+        private Builder<T> field(BiConsumer<T, BinaryEventWriter> write, BiConsumer<T, BinaryEventReader> read) {
+            int since = version;
+            fields.add(new FieldCodec<>() {
+                @Override
+                public int since() {
+                    return since;
+                }
+
+                @Override
+                public void write(T event, BinaryEventWriter writer) {
+                    write.accept(event, writer);
+                }
+
+                @Override
+                public void read(T event, BinaryEventReader reader) {
+                    read.accept(event, reader);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * 되돌렸을 때 같은 문자열이 되는 0 이상의 long만 숫자로 ("007", "+1" 등은 문자열 그대로)
+         */
+        private static boolean isCanonicalNumber(String value) {
+            int length = value.length();
+            if (length == 0 || length > 19 || (length > 1 && value.charAt(0) == '0')) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return length < 19 || value.compareTo("9223372036854775807") <= 0;
+        }
+    }
+}
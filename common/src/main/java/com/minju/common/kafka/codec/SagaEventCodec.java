@@ -0,0 +1,60 @@
+package com.minju.common.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Saga 이벤트 바이너리 코덱 (JSON + __TypeId__ 헤더 대신)
+ * - 형식: [매직 0xB5][스키마 버전][typeId varint][필드...] - 필드 인코딩은 {@link EventSchema}
+ * - 타입은 typeId로 스키마 목록에서 결정 → 클래스 이름 헤더/trusted packages/리플렉션 불필요
+ * - 메시지에는 content-type 헤더를 붙여 JSON 메시지와 구분 ({@link com.minju.common.outbox.OutboxPayloadDeserializer}가 둘 다 처리)
+ * - 더 새로운 버전(필드가 뒤에 추가된 메시지)은 아는 필드까지만 읽고 나머지 바이트는 무시 → 롤링 배포 중 구버전 컨슈머도 처리 가능
+ */
+public final class SagaEventCodec {
+
+    public static final String CONTENT_TYPE = "content-type";
+    public static final String BINARY_CONTENT_TYPE = "application/x-saga-binary";
+
+    static final int MAGIC = 0xB5;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private SagaEventCodec() {
+    }
+
+    public static byte[] encode(Object event) {
+        return encode(SagaEventSchemas.forType(event.getClass()), event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> byte[] encode(EventSchema<T> schema, Object event) {
+        BinaryEventWriter writer = new BinaryEventWriter(INITIAL_CAPACITY);
+        writer.writeByte(MAGIC);
+        writer.writeByte(schema.getVersion());
+        writer.writeVarInt(schema.getTypeId());
+        schema.encode((T) event, writer);
+        return writer.toByteArray();
+    }
+
+    public static Object decode(byte[] data) {
+        BinaryEventReader reader = new BinaryEventReader(data);
+        if (reader.readByte() != MAGIC) {
+            throw new SerializationException("바이너리 Saga 이벤트가 아님");
+        }
+        int version = reader.readByte();
+        EventSchema<?> schema = SagaEventSchemas.forTypeId(reader.readVarInt());
+        if (version < 1) {
+            throw new SerializationException("지원하지 않는 스키마 버전 - type: " + schema.getType().getSimpleName()
+                    + ", version: " + version);
+        }
+        // 필드는 뒤에만 추가되므로 새 버전 메시지도 앞부분은 현재 스키마와 같음
+        return schema.decode(reader, Math.min(version, schema.getVersion()));
+    }
+
+    public static boolean isBinary(Headers headers) {
+        Header header = headers == null ? null : headers.lastHeader(CONTENT_TYPE);
+        return header != null && BINARY_CONTENT_TYPE.equals(new String(header.value(), StandardCharsets.UTF_8));
+    }
+}
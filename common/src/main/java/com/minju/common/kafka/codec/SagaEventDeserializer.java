@@ -0,0 +1,14 @@
+package com.minju.common.kafka.codec;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Saga 이벤트 바이너리 값 역직렬화 (바이너리 전용, JSON과 섞여 있으면 OutboxPayloadDeserializer 사용)
+ */
+public class SagaEventDeserializer implements Deserializer<Object> {
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return data == null ? null : SagaEventCodec.decode(data);
+    }
+}
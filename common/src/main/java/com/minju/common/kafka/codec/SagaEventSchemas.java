@@ -0,0 +1,149 @@
+package com.minju.common.kafka.codec;
+
+import com.minju.common.kafka.order.OrderCancelledEvent;
+import com.minju.common.kafka.order.OrderCompletedEvent;
+import com.minju.common.kafka.order.OrderCreatedEvent;
+import com.minju.common.kafka.payment.PaymentCompletedEvent;
+import com.minju.common.kafka.payment.PaymentFailedEvent;
+import com.minju.common.kafka.payment.PaymentManualProcessingEvent;
+import com.minju.common.kafka.payment.PaymentRequestedEvent;
+import com.minju.common.kafka.stock.StockReservationFailedEvent;
+import com.minju.common.kafka.stock.StockReservationRequestEvent;
+import com.minju.common.kafka.stock.StockReservedEvent;
+import com.minju.common.kafka.stock.StockRestoreEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saga 이벤트 바이너리 스키마 목록 (com.minju.common.kafka 이벤트 전체)
+ * - typeId와 STATUSES 순서는 와이어 값이므로 변경/재사용 금지, 뒤에만 추가
+ * - 이벤트 클래스에 필드를 추가하면 해당 스키마에 version(n) 후 필드 추가
+ */
+public final class SagaEventSchemas {
+
+    static final List<String> STATUSES = List.of(
+            "STOCK_RESERVATION_REQUESTED",
+            "STOCK_RESERVED",
+            "STOCK_RESERVATION_FAILED",
+            "STOCK_RESTORE_REQUESTED",
+            "PAYMENT_REQUESTED",
+            "PAYMENT_COMPLETED",
+            "PAYMENT_FAILED",
+            "MANUAL_PROCESSING_REQUIRED",
+            "COMPLETED",
+            "CANCELLED"
+    );
+
+    private static final List<EventSchema<?>> SCHEMAS = List.of(
+            EventSchema.builder(1, StockReservationRequestEvent.class, StockReservationRequestEvent::new)
+                    .id(StockReservationRequestEvent::getOrderId, StockReservationRequestEvent::setOrderId)
+                    .id(StockReservationRequestEvent::getProductId, StockReservationRequestEvent::setProductId)
+                    .int32(StockReservationRequestEvent::getQuantity, StockReservationRequestEvent::setQuantity)
+                    .symbol(StockReservationRequestEvent::getStatus, StockReservationRequestEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(2, StockReservedEvent.class, StockReservedEvent::new)
+                    .id(StockReservedEvent::getOrderId, StockReservedEvent::setOrderId)
+                    .id(StockReservedEvent::getProductId, StockReservedEvent::setProductId)
+                    .int32(StockReservedEvent::getQuantity, StockReservedEvent::setQuantity)
+                    .symbol(StockReservedEvent::getStatus, StockReservedEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(3, StockReservationFailedEvent.class, StockReservationFailedEvent::new)
+                    .id(StockReservationFailedEvent::getOrderId, StockReservationFailedEvent::setOrderId)
+                    .id(StockReservationFailedEvent::getProductId, StockReservationFailedEvent::setProductId)
+                    .int32(StockReservationFailedEvent::getQuantity, StockReservationFailedEvent::setQuantity)
+                    .string(StockReservationFailedEvent::getReason, StockReservationFailedEvent::setReason)
+                    .symbol(StockReservationFailedEvent::getStatus, StockReservationFailedEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(4, StockRestoreEvent.class, StockRestoreEvent::new)
+                    .id(StockRestoreEvent::getOrderId, StockRestoreEvent::setOrderId)
+                    .id(StockRestoreEvent::getProductId, StockRestoreEvent::setProductId)
+                    .int32(StockRestoreEvent::getQuantity, StockRestoreEvent::setQuantity)
+                    .string(StockRestoreEvent::getReason, StockRestoreEvent::setReason)
+                    .symbol(StockRestoreEvent::getStatus, StockRestoreEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(5, PaymentRequestedEvent.class, PaymentRequestedEvent::new)
+                    .id(PaymentRequestedEvent::getOrderId, PaymentRequestedEvent::setOrderId)
+                    .id(PaymentRequestedEvent::getUserId, PaymentRequestedEvent::setUserId)
+                    .id(PaymentRequestedEvent::getProductId, PaymentRequestedEvent::setProductId)
+                    .int32(PaymentRequestedEvent::getQuantity, PaymentRequestedEvent::setQuantity)
+                    .int32(PaymentRequestedEvent::getAmount, PaymentRequestedEvent::setAmount)
+                    .symbol(PaymentRequestedEvent::getStatus, PaymentRequestedEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(6, PaymentCompletedEvent.class, PaymentCompletedEvent::new)
+                    .id(PaymentCompletedEvent::getOrderId, PaymentCompletedEvent::setOrderId)
+                    .id(PaymentCompletedEvent::getUserId, PaymentCompletedEvent::setUserId)
+                    .id(PaymentCompletedEvent::getProductId, PaymentCompletedEvent::setProductId)
+                    .int32(PaymentCompletedEvent::getQuantity, PaymentCompletedEvent::setQuantity)
+                    .int32(PaymentCompletedEvent::getAmount, PaymentCompletedEvent::setAmount)
+                    .symbol(PaymentCompletedEvent::getStatus, PaymentCompletedEvent::setStatus, STATUSES)
+                    .bool(PaymentCompletedEvent::isSuccess, PaymentCompletedEvent::setSuccess)
+                    .build(),
+            EventSchema.builder(7, PaymentFailedEvent.class, PaymentFailedEvent::new)
+                    .id(PaymentFailedEvent::getOrderId, PaymentFailedEvent::setOrderId)
+                    .id(PaymentFailedEvent::getUserId, PaymentFailedEvent::setUserId)
+                    .id(PaymentFailedEvent::getProductId, PaymentFailedEvent::setProductId)
+                    .int32(PaymentFailedEvent::getQuantity, PaymentFailedEvent::setQuantity)
+                    .string(PaymentFailedEvent::getReason, PaymentFailedEvent::setReason)
+                    .symbol(PaymentFailedEvent::getStatus, PaymentFailedEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(8, PaymentManualProcessingEvent.class, PaymentManualProcessingEvent::new)
+                    .id(PaymentManualProcessingEvent::getOrderId, PaymentManualProcessingEvent::setOrderId)
+                    .int32(PaymentManualProcessingEvent::getAmount, PaymentManualProcessingEvent::setAmount)
+                    .string(PaymentManualProcessingEvent::getReason, PaymentManualProcessingEvent::setReason)
+                    .symbol(PaymentManualProcessingEvent::getStatus, PaymentManualProcessingEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(9, OrderCreatedEvent.class, OrderCreatedEvent::new)
+                    .id(OrderCreatedEvent::getOrderId, OrderCreatedEvent::setOrderId)
+                    .id(OrderCreatedEvent::getUserId, OrderCreatedEvent::setUserId)
+                    .id(OrderCreatedEvent::getProductId, OrderCreatedEvent::setProductId)
+                    .int32(OrderCreatedEvent::getQuantity, OrderCreatedEvent::setQuantity)
+                    .int32(OrderCreatedEvent::getAmount, OrderCreatedEvent::setAmount)
+                    .symbol(OrderCreatedEvent::getStatus, OrderCreatedEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(10, OrderCompletedEvent.class, OrderCompletedEvent::new)
+                    .id(OrderCompletedEvent::getOrderId, OrderCompletedEvent::setOrderId)
+                    .symbol(OrderCompletedEvent::getStatus, OrderCompletedEvent::setStatus, STATUSES)
+                    .build(),
+            EventSchema.builder(11, OrderCancelledEvent.class, OrderCancelledEvent::new)
+                    .id(OrderCancelledEvent::getOrderId, OrderCancelledEvent::setOrderId)
+                    .string(OrderCancelledEvent::getReason, OrderCancelledEvent::setReason)
+                    .symbol(OrderCancelledEvent::getStatus, OrderCancelledEvent::setStatus, STATUSES)
+                    .build()
+    );
+
+    private static final Map<Class<?>, EventSchema<?>> BY_TYPE = new HashMap<>();
+    private static final EventSchema<?>[] BY_TYPE_ID;
+
+    static {
+        int maxTypeId = SCHEMAS.stream().mapToInt(EventSchema::getTypeId).max().orElse(0);
+        BY_TYPE_ID = new EventSchema<?>[maxTypeId + 1];
+        for (EventSchema<?> schema : SCHEMAS) {
+            if (BY_TYPE_ID[schema.getTypeId()] != null || BY_TYPE.put(schema.getType(), schema) != null) {
+                throw new IllegalStateException("중복 스키마: " + schema.getType().getSimpleName());
+            }
+            BY_TYPE_ID[schema.getTypeId()] = schema;
+        }
+    }
+
+    private SagaEventSchemas() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> EventSchema<T> forType(Class<T> type) {
+        EventSchema<?> schema = BY_TYPE.get(type);
+        if (schema == null) {
+            throw new IllegalArgumentException("바이너리 스키마가 없는 이벤트: " + type.getName());
+        }
+        return (EventSchema<T>) schema;
+    }
+
+    public static EventSchema<?> forTypeId(int typeId) {
+        EventSchema<?> schema = typeId < BY_TYPE_ID.length ? BY_TYPE_ID[typeId] : null;
+        if (schema == null) {
+            throw new IllegalArgumentException("알 수 없는 이벤트 typeId: " + typeId);
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,30 @@
+package com.minju.common.kafka.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Saga 이벤트 바이너리 값 직렬화 (value-serializer로 지정)
+ * - 소비 측이 모두 {@link com.minju.common.outbox.OutboxPayloadDeserializer} 또는 {@link SagaEventDeserializer}를 쓸 때만 사용
+ */
+public class SagaEventSerializer implements Serializer<Object> {
+
+    private static final byte[] BINARY_CONTENT_TYPE = SagaEventCodec.BINARY_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return data == null ? null : SagaEventCodec.encode(data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        headers.remove(SagaEventCodec.CONTENT_TYPE);
+        headers.add(SagaEventCodec.CONTENT_TYPE, BINARY_CONTENT_TYPE);
+        return SagaEventCodec.encode(data);
+    }
+}
@@ -0,0 +1,98 @@
+package com.minju.common.kafka.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Saga 리스너 컨테이너 공통 설정 (공용 컨테이너 팩토리와 Kafka 트랜잭션 팩토리가 함께 사용)
+ * - 토픽별 동시성: kafka.listener.concurrency.{topic}, 없으면 kafka.topics.partitions (파티션 수 = 최대 유효 동시성)
+ * - 정적 멤버십: kafka.listener.group-instance-id가 있으면 group.instance.id = {값}-{리스너 id}(-{스레드 번호})
+ *   → 재시작/스케일 아웃 시 session.timeout 안에 돌아온 멤버는 리밸런스 없이 파티션 유지
+ * - 리스너별 처리 시간 메트릭 ({@link SagaListenerMetrics})
+ * - 서비스에 ConsumerAwareRebalanceListener 빈이 있으면 모든 Saga 컨테이너에 등록 (파티션 회수 시 캐시 정리 등)
+ */
+@Component
+@Slf4j
+public class SagaListenerContainerCustomizer
+        implements ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> {
+
+    static final String CONCURRENCY_PREFIX = "kafka.listener.concurrency.";
+
+    private final Environment environment;
+    private final SagaListenerMetrics metrics;
+    private final int defaultConcurrency;
+    private final String groupInstanceId;
+    private final ConsumerAwareRebalanceListener rebalanceListener;
+
+    @Autowired
+    public SagaListenerContainerCustomizer(Environment environment,
+                                           SagaListenerMetrics metrics,
+                                           @Value("${kafka.topics.partitions:6}") int defaultConcurrency,
+                                           @Value("${kafka.listener.group-instance-id:}") String groupInstanceId,
+                                           ObjectProvider<ConsumerAwareRebalanceListener> rebalanceListener) {
+        this(environment, metrics, defaultConcurrency, groupInstanceId, rebalanceListener.getIfUnique());
+    }
+
+    SagaListenerContainerCustomizer(Environment environment,
+                                    SagaListenerMetrics metrics,
+                                    int defaultConcurrency,
+                                    String groupInstanceId,
+                                    ConsumerAwareRebalanceListener rebalanceListener) {
+        this.environment = environment;
+        this.metrics = metrics;
+        this.defaultConcurrency = defaultConcurrency;
+        this.groupInstanceId = groupInstanceId;
+        this.rebalanceListener = rebalanceListener;
+    }
+
+    @Override
+    public void configure(ConcurrentMessageListenerContainer<Object, Object> container) {
+        String listenerId = container.getListenerId();
+        String[] topics = container.getContainerProperties().getTopics();
+
+        int concurrency = concurrencyOf(topics);
+        container.setConcurrency(concurrency);
+
+        if (StringUtils.hasText(groupInstanceId)) {
+            // 동시성 > 1이면 컨테이너가 스레드별로 -0, -1 … 을 붙임
+            container.getContainerProperties().getKafkaConsumerProperties()
+                    .setProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, groupInstanceId + "-" + listenerId);
+        }
+
+        if (rebalanceListener != null) {
+            container.getContainerProperties().setConsumerRebalanceListener(rebalanceListener);
+        }
+
+        // 레코드/배치 리스너 중 해당하는 인터셉터만 호출됨
+        container.setRecordInterceptor(metrics.recordInterceptor(listenerId));
+        container.setBatchInterceptor(metrics.batchInterceptor(listenerId));
+
+        log.info("[Kafka] 리스너 구성 - id: {}, topics: {}, concurrency: {}, static membership: {}",
+                listenerId, String.join(",", topics == null ? new String[0] : topics), concurrency,
+                StringUtils.hasText(groupInstanceId));
+    }
+
+    /**
+     * 여러 토픽을 듣는 리스너는 토픽별 값 중 최댓값
+     */
+    int concurrencyOf(String[] topics) {
+        if (topics == null || topics.length == 0) {
+            return defaultConcurrency;
+        }
+        int concurrency = 0;
+        for (String topic : topics) {
+            concurrency = Math.max(concurrency,
+                    environment.getProperty(CONCURRENCY_PREFIX + topic, Integer.class, defaultConcurrency));
+        }
+        return concurrency;
+    }
+}
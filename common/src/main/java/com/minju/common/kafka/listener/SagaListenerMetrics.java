@@ -0,0 +1,111 @@
+package com.minju.common.kafka.listener;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saga 리스너 처리 시간 메트릭 (리스너별 인터셉터)
+ * - saga.listener.processing : 리스너 메서드 처리 시간 (listener, topic, mode=record|batch, result=success|failure)
+ * - saga.listener.batch.size : 배치 리스너가 한 번에 받은 레코드 수
+ * - 비동기 반환 리스너(CompletableFuture)는 메서드가 반환될 때까지만 측정
+ */
+@Component
+public class SagaListenerMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SagaListenerMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        // actuator가 없는 모듈(common 단독 실행 등)은 전역 레지스트리에 기록
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    SagaListenerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RecordInterceptor<Object, Object> recordInterceptor(String listenerId) {
+        ThreadLocal<Long> startedAt = new ThreadLocal<>();
+        return new RecordInterceptor<>() {
+            @Override
+            public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record,
+                                                            Consumer<Object, Object> consumer) {
+                startedAt.set(System.nanoTime());
+                return record;
+            }
+
+            @Override
+            public void success(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+                record(listenerId, record.topic(), "record", startedAt, true);
+            }
+
+            @Override
+            public void failure(ConsumerRecord<Object, Object> record, Exception exception,
+                                Consumer<Object, Object> consumer) {
+                record(listenerId, record.topic(), "record", startedAt, false);
+            }
+        };
+    }
+
+    public BatchInterceptor<Object, Object> batchInterceptor(String listenerId) {
+        ThreadLocal<Long> startedAt = new ThreadLocal<>();
+        return new BatchInterceptor<>() {
+            @Override
+            public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records,
+                                                             Consumer<Object, Object> consumer) {
+                startedAt.set(System.nanoTime());
+                DistributionSummary.builder("saga.listener.batch.size")
+                        .description("Saga 배치 리스너가 한 번에 받은 레코드 수")
+                        .tags("listener", listenerId)
+                        .register(meterRegistry)
+                        .record(records.count());
+                return records;
+            }
+
+            @Override
+            public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+                record(listenerId, topicOf(records), "batch", startedAt, true);
+            }
+
+            @Override
+            public void failure(ConsumerRecords<Object, Object> records, Exception exception,
+                                Consumer<Object, Object> consumer) {
+                record(listenerId, topicOf(records), "batch", startedAt, false);
+            }
+        };
+    }
+
+    private void record(String listenerId, String topic, String mode, ThreadLocal<Long> startedAt, boolean success) {
+        Long start = startedAt.get();
+        startedAt.remove();
+        if (start == null) {
+            return;
+        }
+        Timer.builder("saga.listener.processing")
+                .description("Saga 리스너 메시지 처리 시간")
+                .tags("listener", listenerId, "topic", topic, "mode", mode, "result", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String topicOf(ConsumerRecords<Object, Object> records) {
+        return records.partitions().stream()
+                .map(TopicPartition::topic)
+                .findFirst()
+                .orElse("none");
+    }
+}
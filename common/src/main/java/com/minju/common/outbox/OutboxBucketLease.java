@@ -0,0 +1,30 @@
+package com.minju.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox 버킷 lease (버킷별 발행 담당 인스턴스, leaseUntil이 지나면 다른 인스턴스가 가져갈 수 있음)
+ */
+@Entity
+@Table(name = "outbox_bucket_lease")
+@Getter @Setter
+@NoArgsConstructor
+public class OutboxBucketLease {
+
+    @Id
+    private Integer bucket;
+
+    @Column(length = 100)
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+
+    public OutboxBucketLease(Integer bucket) {
+        this.bucket = bucket;
+    }
+}
@@ -0,0 +1,161 @@
+package com.minju.common.outbox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Outbox 버킷 lease 관리 (인스턴스 간 릴레이 작업 분할)
+ * - 이벤트는 aggregateId 해시로 {@link OutboxEvent#BUCKET_COUNT}개 버킷에 배정
+ * - 인스턴스는 heartbeat로 참여를 알리고, 살아있는 인스턴스 수로 나눈 몫만큼 버킷 lease를 보유/연장
+ * - 몫보다 많으면 반납하고 모자라면 빈/만료 버킷을 조건부 UPDATE로 획득 → 참여/이탈 시 자동 재분배
+ * - 폴링 릴레이는 보유 버킷의 이벤트만 점유 (SKIP LOCKED와 함께 이중 발행 방지)
+ */
+@Component
+@Slf4j
+public class OutboxBucketLeaseManager {
+
+    private final OutboxBucketLeaseRepository leaseRepository;
+    private final OutboxRelayMemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId;
+    private final Duration leaseTtl;
+
+    private volatile Set<Integer> ownedBuckets = Set.of();
+    private volatile LocalDateTime ownedUntil = LocalDateTime.MIN;
+    private boolean bucketsInitialized;
+
+    public OutboxBucketLeaseManager(OutboxBucketLeaseRepository leaseRepository,
+                                    OutboxRelayMemberRepository memberRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${spring.application.name:outbox}") String applicationName,
+                                    @Value("${outbox.relay.lease-ttl-ms:15000}") long leaseTtlMs) {
+        this.leaseRepository = leaseRepository;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.instanceId = applicationName + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+    }
+
+    /**
+     * 현재 보유 중인 버킷 (lease 만료 시각이 지났으면 빈 집합)
+     */
+    public Set<Integer> getOwnedBuckets() {
+        return LocalDateTime.now().isBefore(ownedUntil) ? ownedBuckets : Set.of();
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * heartbeat + lease 연장 + 재분배
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.lease-renew-interval-ms:5000}")
+    public void rebalance() {
+        try {
+            if (!bucketsInitialized) {
+                initializeBuckets();
+                bucketsInitialized = true;
+            }
+            transactionTemplate.executeWithoutResult(status -> rebalanceInTransaction());
+        } catch (Exception e) {
+            log.error("Outbox 버킷 lease 갱신 실패 - instance: {}", instanceId, e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!ownedBuckets.isEmpty()) {
+                    leaseRepository.release(instanceId, ownedBuckets);
+                }
+                memberRepository.deleteById(instanceId);
+            });
+            ownedBuckets = Set.of();
+            log.info("Outbox 버킷 lease 반납 - instance: {}", instanceId);
+        } catch (Exception e) {
+            log.warn("Outbox 버킷 lease 반납 실패 (만료 후 다른 인스턴스가 인수) - instance: {}", instanceId, e);
+        }
+    }
+
+    private void rebalanceInTransaction() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(leaseTtl);
+        LocalDateTime memberThreshold = now.minus(leaseTtl);
+
+        memberRepository.save(new OutboxRelayMember(instanceId, now));
+        memberRepository.deleteExpired(memberThreshold);
+        long liveMembers = Math.max(1, memberRepository.countByHeartbeatAtAfter(memberThreshold));
+        int fairShare = (int) ((OutboxEvent.BUCKET_COUNT + liveMembers - 1) / liveMembers);
+
+        leaseRepository.renew(instanceId, now, until);
+        List<Integer> owned = new ArrayList<>(leaseRepository.findOwnedBuckets(instanceId, now));
+
+        if (owned.size() > fairShare) {
+            // 새 인스턴스가 참여하면 몫을 넘는 버킷 반납 (다음 주기에 새 인스턴스가 획득)
+            List<Integer> excess = new ArrayList<>(owned.subList(fairShare, owned.size()));
+            leaseRepository.release(instanceId, excess);
+            owned.removeAll(excess);
+            log.info("Outbox 버킷 반납 - instance: {}, {}개 (인스턴스 {}개, 몫 {})",
+                    instanceId, excess.size(), liveMembers, fairShare);
+        } else if (owned.size() < fairShare) {
+            // 빈/만료 버킷 획득 (인스턴스 간 충돌을 줄이기 위해 순서를 섞음)
+            List<Integer> available = new ArrayList<>(leaseRepository.findAvailableBuckets(now));
+            Collections.shuffle(available);
+            int acquired = 0;
+            for (Integer bucket : available) {
+                if (owned.size() >= fairShare) {
+                    break;
+                }
+                if (leaseRepository.tryAcquire(bucket, instanceId, now, until) == 1) {
+                    owned.add(bucket);
+                    acquired++;
+                }
+            }
+            if (acquired > 0) {
+                log.info("Outbox 버킷 획득 - instance: {}, {}개 (보유 {}개, 인스턴스 {}개)",
+                        instanceId, acquired, owned.size(), liveMembers);
+            }
+        }
+
+        ownedBuckets = Set.copyOf(owned);
+        ownedUntil = until;
+    }
+
+    // 버킷 lease 행이 없으면 생성 (동시에 여러 인스턴스가 생성해도 중복 키는 무시)
+    private void initializeBuckets() {
+        if (leaseRepository.count() >= OutboxEvent.BUCKET_COUNT) {
+            return;
+        }
+        Set<Integer> existing = new HashSet<>();
+        leaseRepository.findAll().forEach(lease -> existing.add(lease.getBucket()));
+        List<OutboxBucketLease> missing = IntStream.range(0, OutboxEvent.BUCKET_COUNT)
+                .filter(bucket -> !existing.contains(bucket))
+                .mapToObj(OutboxBucketLease::new)
+                .toList();
+        for (OutboxBucketLease lease : missing) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> leaseRepository.save(lease));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Outbox 버킷 lease 이미 생성됨 - bucket: {}", lease.getBucket());
+            }
+        }
+    }
+}
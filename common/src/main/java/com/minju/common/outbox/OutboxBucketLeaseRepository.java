@@ -0,0 +1,39 @@
+package com.minju.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxBucketLeaseRepository extends JpaRepository<OutboxBucketLease, Integer> {
+
+    /**
+     * lease가 유효한 보유 버킷 연장 (한 번의 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE OutboxBucketLease l SET l.leaseUntil = :until WHERE l.owner = :owner AND l.leaseUntil > :now")
+    int renew(@Param("owner") String owner, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Query("SELECT l.bucket FROM OutboxBucketLease l WHERE l.owner = :owner AND l.leaseUntil > :now ORDER BY l.bucket")
+    List<Integer> findOwnedBuckets(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    @Query("SELECT l.bucket FROM OutboxBucketLease l WHERE l.owner IS NULL OR l.leaseUntil IS NULL OR l.leaseUntil <= :now")
+    List<Integer> findAvailableBuckets(@Param("now") LocalDateTime now);
+
+    /**
+     * 비어 있거나 만료된 버킷만 조건부 획득 (동시에 시도해도 한 인스턴스만 성공)
+     */
+    @Modifying
+    @Query("UPDATE OutboxBucketLease l SET l.owner = :owner, l.leaseUntil = :until " +
+            "WHERE l.bucket = :bucket AND (l.owner IS NULL OR l.leaseUntil IS NULL OR l.leaseUntil <= :now)")
+    int tryAcquire(@Param("bucket") Integer bucket, @Param("owner") String owner,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE OutboxBucketLease l SET l.owner = NULL, l.leaseUntil = NULL WHERE l.owner = :owner AND l.bucket IN :buckets")
+    int release(@Param("owner") String owner, @Param("buckets") Collection<Integer> buckets);
+}
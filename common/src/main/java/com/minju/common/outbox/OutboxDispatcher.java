@@ -0,0 +1,183 @@
+package com.minju.common.outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 이벤트 즉시 발행 + 안전망 폴링
+ * - saveEvent 트랜잭션이 커밋되면 저장된 이벤트 ID를 큐에 넣고, 발행 스레드가 모아서 바로 전송
+ * - 롤백된 트랜잭션의 이벤트는 큐에 들어가지 않음 (DB에도 없음)
+ * - 폴러는 크래시/전송 실패로 남은 이벤트만 처리: 비어 있으면 주기를 2배씩 늘리고(최대값까지),
+ *   즉시 발행이 실패하거나 큐가 넘치면 바로 깨움
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxRelay outboxRelay;
+    private final int dispatchBatchSize;
+    private final long minPollIntervalMs;
+    private final long maxPollIntervalMs;
+    private final BlockingQueue<List<Long>> queue;
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    private volatile boolean running;
+    private volatile long pollIntervalMs;
+    private Thread dispatchThread;
+    private Thread pollThread;
+
+    public OutboxDispatcher(OutboxRelay outboxRelay,
+                            @Value("${outbox.relay.dispatch-queue-capacity:10000}") int queueCapacity,
+                            @Value("${outbox.relay.dispatch-batch-size:500}") int dispatchBatchSize,
+                            @Value("${outbox.relay.poll-min-interval-ms:1000}") long minPollIntervalMs,
+                            @Value("${outbox.relay.poll-max-interval-ms:30000}") long maxPollIntervalMs) {
+        this.outboxRelay = outboxRelay;
+        this.dispatchBatchSize = dispatchBatchSize;
+        this.minPollIntervalMs = minPollIntervalMs;
+        this.maxPollIntervalMs = maxPollIntervalMs;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.pollIntervalMs = minPollIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatchThread = Thread.ofPlatform().name("outbox-dispatch").daemon().start(this::dispatchLoop);
+        pollThread = Thread.ofPlatform().name("outbox-poll").daemon().start(this::pollLoop);
+        log.info("Outbox 발행기 시작 - 폴링 주기 {}~{}ms", minPollIntervalMs, maxPollIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        wakeUp.release();
+        for (Thread thread : new Thread[]{dispatchThread, pollThread}) {
+            if (thread == null) {
+                continue;
+            }
+            thread.interrupt();
+            try {
+                thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 이벤트 발행 예약 (트랜잭션 밖이면 바로 예약)
+     */
+    public void publishAfterCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(List.of(eventId));
+            return;
+        }
+
+        // 트랜잭션당 한 번만 등록하고 ID는 모아서 커밋 후 한꺼번에 예약
+        @SuppressWarnings("unchecked")
+        List<Long> pending = (List<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Long> eventIds = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, eventIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(eventIds);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxDispatcher.this);
+                }
+            });
+            pending = eventIds;
+        }
+        pending.add(eventId);
+    }
+
+    /**
+     * 폴러를 즉시 깨움
+     */
+    public void wakeUp() {
+        wakeUp.release();
+    }
+
+    long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    // 트랜잭션 하나의 이벤트는 한 덩어리로 넣어 같은 배치에서 발행
+    private void enqueue(List<Long> eventIds) {
+        if (!queue.offer(eventIds)) {
+            // 큐가 가득 차면 폴러가 처리
+            log.warn("Outbox 즉시 발행 큐 초과 - {}건 폴러로 위임", eventIds.size());
+            wakeUp();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            List<Long> batch = new ArrayList<>();
+            try {
+                List<Long> first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.addAll(first);
+                List<Long> next;
+                while (batch.size() < dispatchBatchSize && (next = queue.poll()) != null) {
+                    batch.addAll(next);
+                }
+
+                OutboxRelay.BatchResult result = outboxRelay.relayEvents(batch);
+                if (result.getPublished() < result.getClaimed() || result.getClaimed() < batch.size()) {
+                    // 실패했거나 순서 대기/다른 인스턴스 점유로 건너뛴 이벤트가 있으면 폴러가 이어서 처리
+                    wakeUp();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Outbox 즉시 발행 실패 - {}건, 폴러로 위임", batch.size(), e);
+                wakeUp();
+            }
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                boolean woken = wakeUp.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+                if (!running) {
+                    return;
+                }
+
+                int claimed = outboxRelay.relayPendingEvents();
+                if (claimed > 0 && !woken) {
+                    log.info("Outbox 안전망 폴링으로 {}건 발행", claimed);
+                }
+                pollIntervalMs = claimed > 0 || woken
+                        ? minPollIntervalMs
+                        : Math.min(maxPollIntervalMs, pollIntervalMs * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Outbox 폴링 실패: ", e);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.minju.common.outbox;
 
+import com.minju.common.id.Tsid;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,13 +9,20 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "outbox_event", indexes = {
         @Index(name = "idx_status_retry", columnList = "status,retry_count"),
+        @Index(name = "idx_status_id", columnList = "status,id"),
+        @Index(name = "idx_status_bucket_id", columnList = "status,bucket,id"),
         @Index(name = "idx_created_at", columnList = "created_at")
 })
 @Getter @Setter
 public class OutboxEvent {
 
+    /**
+     * 릴레이 작업 분할 단위 (aggregateId 해시, 인스턴스가 버킷 단위로 lease 보유)
+     */
+    public static final int BUCKET_COUNT = 64;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -29,6 +37,9 @@ public class OutboxEvent {
     @Column(nullable = false, length = 50)
     private String topic; // Kafka 토픽 이름
 
+    @Column(length = 100)
+    private String messageKey; // Kafka 메시지 키 (없으면 aggregateId)
+
     @Column(columnDefinition = "TEXT", nullable = false)
     private String payload; // JSON 형태의 이벤트 데이터
 
@@ -38,6 +49,9 @@ public class OutboxEvent {
     @Column(nullable = false)
     private Integer retryCount = 0;
 
+    @Column(nullable = false, columnDefinition = "int default 0")
+    private int bucket;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -54,5 +68,10 @@ public class OutboxEvent {
         if (retryCount == null) {
             retryCount = 0;
         }
+        bucket = bucketOf(aggregateId);
+    }
+
+    public static int bucketOf(String aggregateId) {
+        return aggregateId == null ? 0 : Math.floorMod(aggregateId.hashCode(), BUCKET_COUNT);
     }
 }
\ No newline at end of file
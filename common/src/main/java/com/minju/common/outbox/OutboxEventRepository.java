@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
@@ -16,21 +17,96 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
     List<OutboxEvent> findByStatusAndRetryCountLessThan(String status, int maxRetry);
 
     /**
-     * 발행 완료된 이벤트 중 지정된 시간 이전의 이벤트 삭제
+     * 보유한 버킷의 발행 대기 이벤트를 생성 순(TSID)으로 잠금 획득 - 다른 트랜잭션이 잡은 행은 건너뜀
+     * - 건너뛴 행보다 나중 이벤트가 먼저 나가지 않도록 점유 후 {@link #findBlockedByOlderPending}로 걸러냄
+     */
+    @Query(value = "SELECT * FROM outbox_event WHERE status = 'PENDING' AND bucket IN (:buckets) " +
+            "AND retry_count < :maxRetry ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> claimPendingEvents(@Param("buckets") Collection<Integer> buckets,
+                                         @Param("maxRetry") int maxRetry, @Param("limit") int limit);
+
+    /**
+     * 점유한 이벤트 중 같은 aggregate에 점유하지 못한 더 오래된 대기 이벤트가 있는 ID
+     * (claimPendingEventsByIds와 같은 조건 - 생성 순으로 점유하므로 빠진 오래된 이벤트는 다른 트랜잭션이 잡고 있는 것)
+     */
+    @Query(value = "SELECT o.id FROM outbox_event o WHERE o.id IN (:ids) " +
+            "AND EXISTS (SELECT 1 FROM outbox_event p WHERE p.status = 'PENDING' AND p.id < o.id " +
+            "AND p.aggregate_type = o.aggregate_type AND p.aggregate_id = o.aggregate_id AND p.id NOT IN (:ids))",
+            nativeQuery = true)
+    List<Long> findBlockedByOlderPending(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 커밋 직후 발행할 이벤트 점유 - 같은 aggregate에 더 오래된 대기 이벤트가 있으면 순서를 위해 폴러에 맡김
+     */
+    @Query(value = "SELECT * FROM outbox_event o WHERE o.id IN (:ids) AND o.status = 'PENDING' AND o.retry_count < :maxRetry " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_event p WHERE p.status = 'PENDING' AND p.id < o.id " +
+            "AND p.aggregate_type = o.aggregate_type AND p.aggregate_id = o.aggregate_id AND p.id NOT IN (:ids)) " +
+            "ORDER BY o.id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> claimPendingEventsByIds(@Param("ids") Collection<Long> ids, @Param("maxRetry") int maxRetry);
+
+    /**
+     * 발행 성공 이벤트 일괄 완료 처리
      */
     @Modifying
-    @Query("DELETE FROM OutboxEvent o WHERE o.status = 'PUBLISHED' AND o.publishedAt < :before")
-    int deletePublishedEventsBefore(@Param("before") LocalDateTime before);
+    @Query("UPDATE OutboxEvent o SET o.status = 'PUBLISHED', o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
 
     /**
-     * 최종 실패한 이벤트 중 지정된 시간 이전의 이벤트 삭제
+     * 발행 실패 이벤트 재시도 횟수 증가, 한도 도달 시 FAILED
+     * (MySQL은 SET 절을 왼쪽부터 적용하므로 status를 retryCount보다 먼저 계산)
      */
     @Modifying
-    @Query("DELETE FROM OutboxEvent o WHERE o.status = 'FAILED' AND o.createdAt < :before")
-    int deleteFailedEventsBefore(@Param("before") LocalDateTime before);
+    @Query("UPDATE OutboxEvent o SET " +
+            "o.status = CASE WHEN o.retryCount + 1 >= :maxRetry THEN 'FAILED' ELSE o.status END, " +
+            "o.retryCount = o.retryCount + 1 " +
+            "WHERE o.id IN :ids")
+    int markSendFailed(@Param("ids") Collection<Long> ids, @Param("maxRetry") int maxRetry);
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 이벤트 ID (PK 범위 청크, afterId 다음부터 생성 순)
+     * - createdAt ≤ publishedAt 이므로 id < beforeId(기준 시각의 TSID) 범위만 보면 됨
+     */
+    @Query(value = "SELECT id FROM outbox_event WHERE status = 'PUBLISHED' AND id > :afterId AND id < :beforeId " +
+            "AND published_at < :before ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findPublishedIdsBefore(@Param("afterId") long afterId, @Param("beforeId") long beforeId,
+                                      @Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 보관 기간이 지난 FAILED 이벤트 ID (PK 범위 청크)
+     */
+    @Query(value = "SELECT id FROM outbox_event WHERE status = 'FAILED' AND id > :afterId AND id < :beforeId " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findFailedIdsBefore(@Param("afterId") long afterId, @Param("beforeId") long beforeId,
+                                   @Param("limit") int limit);
+
+    /**
+     * ID 목록 삭제 (보관 기간 정리 청크)
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상태별 이벤트 개수 (cap까지만 세서 전체 스캔 없이 인덱스 범위만 읽음)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM outbox_event WHERE status = :status LIMIT :cap) t",
+            nativeQuery = true)
+    long countByStatusUpTo(@Param("status") String status, @Param("cap") int cap);
+
+    /**
+     * 미발행(PENDING, FAILED) 이벤트 타입/상태별 건수와 가장 오래된 생성 시각 - 메트릭 게이지용
+     * - 상태별로 오래된 순 cap건까지만 읽음 (status,id 인덱스 범위, 적체가 커져도 스캔량 고정)
+     * [eventType, status, count, MIN(createdAt)]
+     */
+    @Query(value = "SELECT t.event_type, t.status, COUNT(*), MIN(t.created_at) FROM (" +
+            "(SELECT event_type, status, created_at FROM outbox_event WHERE status = 'PENDING' ORDER BY id LIMIT :cap) " +
+            "UNION ALL " +
+            "(SELECT event_type, status, created_at FROM outbox_event WHERE status = 'FAILED' ORDER BY id LIMIT :cap)" +
+            ") t GROUP BY t.event_type, t.status", nativeQuery = true)
+    List<Object[]> summarizeUnpublishedUpTo(@Param("cap") int cap);
 
     /**
      * 상태별 이벤트 개수 조회
      */
     long countByStatus(String status);
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.minju.common.outbox;
+
+import com.minju.common.kafka.order.OrderCancelledEvent;
+import com.minju.common.kafka.order.OrderCompletedEvent;
+import com.minju.common.kafka.order.OrderCreatedEvent;
+import com.minju.common.kafka.payment.PaymentCompletedEvent;
+import com.minju.common.kafka.payment.PaymentFailedEvent;
+import com.minju.common.kafka.payment.PaymentManualProcessingEvent;
+import com.minju.common.kafka.payment.PaymentRequestedEvent;
+import com.minju.common.kafka.stock.StockReservationFailedEvent;
+import com.minju.common.kafka.stock.StockReservationRequestEvent;
+import com.minju.common.kafka.stock.StockReservedEvent;
+import com.minju.common.kafka.stock.StockRestoreEvent;
+
+import java.util.Map;
+
+/**
+ * Outbox eventType → 이벤트 클래스 매핑 (전 서비스 공용)
+ */
+public final class OutboxEventTypes {
+
+    private static final Map<String, Class<?>> TYPES = Map.ofEntries(
+            Map.entry("STOCK_RESERVATION_REQUESTED", StockReservationRequestEvent.class),
+            Map.entry("STOCK_RESTORE_REQUESTED", StockRestoreEvent.class),
+            Map.entry("STOCK_RESERVED", StockReservedEvent.class),
+            Map.entry("STOCK_RESERVATION_FAILED", StockReservationFailedEvent.class),
+            Map.entry("PAYMENT_REQUESTED", PaymentRequestedEvent.class),
+            Map.entry("PAYMENT_COMPLETED", PaymentCompletedEvent.class),
+            Map.entry("PAYMENT_FAILED", PaymentFailedEvent.class),
+            Map.entry("PAYMENT_MANUAL_PROCESSING", PaymentManualProcessingEvent.class),
+            Map.entry("ORDER_CREATED", OrderCreatedEvent.class),
+            Map.entry("ORDER_COMPLETED", OrderCompletedEvent.class),
+            Map.entry("ORDER_CANCELLED", OrderCancelledEvent.class)
+    );
+
+    private OutboxEventTypes() {
+    }
+
+    public static Class<?> classOf(String eventType) {
+        Class<?> eventClass = TYPES.get(eventType);
+        if (eventClass == null) {
+            throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+        return eventClass;
+    }
+}
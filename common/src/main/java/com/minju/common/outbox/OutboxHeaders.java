@@ -0,0 +1,56 @@
+package com.minju.common.outbox;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Outbox 릴레이가 붙이는 Kafka 헤더
+ * - __TypeId__ : 페이로드 클래스 (JsonDeserializer가 그대로 사용)
+ * - eventType : outbox eventType (STOCK_RESERVED 등)
+ * - content-encoding : 큰 페이로드를 gzip으로 보낸 경우에만 "gzip"
+ */
+public final class OutboxHeaders {
+
+    public static final String EVENT_TYPE = "eventType";
+    public static final String CONTENT_ENCODING = "content-encoding";
+    public static final String GZIP = "gzip";
+
+    private OutboxHeaders() {
+    }
+
+    public static String eventType(Headers headers) {
+        Header header = headers.lastHeader(EVENT_TYPE);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    public static boolean isGzip(Headers headers) {
+        Header header = headers.lastHeader(CONTENT_ENCODING);
+        return header != null && GZIP.equals(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    public static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] gunzip(byte[] data) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.minju.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 메트릭 (Prometheus에서 saga 구간별 지연 확인용, event_type 태그 = saga 구간)
+ * - outbox.publish.lag : 커밋(createdAt) → 발행 완료까지 지연 히스토그램
+ * - outbox.send.latency : Kafka 전송 지연 (result=success|failure)
+ * - outbox.send.failures / outbox.publish.retries : 전송 실패 수, 발행 성공 시점의 재시도 횟수
+ * - outbox.relay.batch.size : 점유 배치 크기 (path=poll|dispatch)
+ * - outbox.events / outbox.events.oldest.age : 상태별(PENDING, FAILED) 건수와 가장 오래된 이벤트 경과 시간 (주기 갱신)
+ *   DB 집계이므로 버킷 0의 lease를 가진 인스턴스만 갱신하고 상태별 count-cap건까지만 셈 (나머지 인스턴스는 게이지 비움)
+ */
+@Component
+@Slf4j
+public class OutboxMetrics {
+
+    private static final Duration[] LAG_SLOS = {
+            Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(1),
+            Duration.ofSeconds(5), Duration.ofSeconds(30)
+    };
+
+    // 게이지 집계 담당 인스턴스 = 이 버킷의 lease 보유자 (버킷 재분배에 따라 자동 인계)
+    static final int REPORTER_BUCKET = 0;
+
+    private final MeterRegistry meterRegistry;
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxBucketLeaseManager leaseManager;
+    private final int countCap;
+    private final MultiGauge eventCounts;
+    private final MultiGauge oldestAges;
+
+    @Autowired
+    public OutboxMetrics(ObjectProvider<MeterRegistry> meterRegistry, OutboxEventRepository outboxRepository,
+                         OutboxBucketLeaseManager leaseManager,
+                         @Value("${outbox.metrics.count-cap:10000}") int countCap) {
+        // actuator가 없는 모듈(common 단독 실행 등)은 전역 레지스트리에 기록
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), outboxRepository, leaseManager, countCap);
+    }
+
+    OutboxMetrics(MeterRegistry meterRegistry, OutboxEventRepository outboxRepository,
+                  OutboxBucketLeaseManager leaseManager, int countCap) {
+        this.meterRegistry = meterRegistry;
+        this.outboxRepository = outboxRepository;
+        this.leaseManager = leaseManager;
+        this.countCap = countCap;
+        this.eventCounts = MultiGauge.builder("outbox.events")
+                .description("상태별 Outbox 이벤트 수 (PENDING, FAILED - count-cap에서 멈춤)")
+                .register(meterRegistry);
+        this.oldestAges = MultiGauge.builder("outbox.events.oldest.age")
+                .description("상태별 가장 오래된 Outbox 이벤트 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발행 성공 - 커밋→발행 지연과 그때까지의 재시도 횟수
+     */
+    public void recordPublished(OutboxEvent event, LocalDateTime publishedAt) {
+        if (event.getCreatedAt() != null) {
+            Timer.builder("outbox.publish.lag")
+                    .description("Outbox 이벤트 커밋부터 발행까지 지연")
+                    .tags("event_type", event.getEventType(), "topic", event.getTopic())
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(LAG_SLOS)
+                    .register(meterRegistry)
+                    .record(Duration.between(event.getCreatedAt(), publishedAt).abs());
+        }
+        DistributionSummary.builder("outbox.publish.retries")
+                .description("발행 성공 시점의 재시도 횟수")
+                .tags("event_type", event.getEventType())
+                .register(meterRegistry)
+                .record(event.getRetryCount() == null ? 0 : event.getRetryCount());
+    }
+
+    /**
+     * Kafka 전송 한 건의 지연 (실패면 실패 수도 증가)
+     */
+    public void recordSend(OutboxEvent event, long elapsedNanos, boolean success) {
+        Timer.builder("outbox.send.latency")
+                .description("Outbox 이벤트 Kafka 전송 지연")
+                .tags("event_type", event.getEventType(), "result", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (!success) {
+            Counter.builder("outbox.send.failures")
+                    .description("Outbox 이벤트 전송 실패 수 (재시도 대상)")
+                    .tags("event_type", event.getEventType())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 점유한 배치 크기
+     */
+    public void recordBatch(String path, int size) {
+        DistributionSummary.builder("outbox.relay.batch.size")
+                .description("Outbox 릴레이 점유 배치 크기")
+                .tags("path", path)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    /**
+     * 상태별 건수/최고령 이벤트 게이지 갱신 (PENDING, FAILED만 - status 인덱스 범위로 집계)
+     */
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-interval-ms:10000}")
+    public void refreshGauges() {
+        try {
+            List<MultiGauge.Row<?>> counts = new ArrayList<>();
+            List<MultiGauge.Row<?>> ages = new ArrayList<>();
+            if (leaseManager.getOwnedBuckets().contains(REPORTER_BUCKET)) {
+                LocalDateTime now = LocalDateTime.now();
+                for (Object[] row : outboxRepository.summarizeUnpublishedUpTo(countCap)) {
+                    Tags tags = Tags.of("event_type", (String) row[0], "status", (String) row[1]);
+                    counts.add(MultiGauge.Row.of(tags, ((Number) row[2]).longValue()));
+                    LocalDateTime oldest = toLocalDateTime(row[3]);
+                    ages.add(MultiGauge.Row.of(tags, oldest == null ? 0 : Duration.between(oldest, now).toMillis() / 1000.0));
+                }
+            }
+            // 이전 주기에 있던 태그 조합이 사라지면 게이지도 제거 (0건, 또는 담당을 넘긴 인스턴스)
+            eventCounts.register(counts, true);
+            oldestAges.register(ages, true);
+        } catch (Exception e) {
+            log.warn("Outbox 메트릭 갱신 실패: ", e);
+        }
+    }
+
+    // 네이티브 쿼리 DATETIME은 드라이버에 따라 Timestamp 또는 LocalDateTime
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
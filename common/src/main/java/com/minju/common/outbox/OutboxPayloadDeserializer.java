@@ -0,0 +1,24 @@
+package com.minju.common.outbox;
+
+import com.minju.common.kafka.codec.SagaEventCodec;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * Outbox 릴레이 메시지용 값 역직렬화
+ * - gzip으로 보낸 페이로드는 풀어서 전달, 타입은 __TypeId__ 헤더로 결정 (JsonDeserializer 기본 동작)
+ * - content-type이 바이너리인 메시지는 {@link SagaEventCodec}으로 (JSON → 바이너리 전환 중에는 두 형식이 섞여 옴)
+ */
+public class OutboxPayloadDeserializer extends JsonDeserializer<Object> {
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data != null && OutboxHeaders.isGzip(headers)) {
+            data = OutboxHeaders.gunzip(data);
+        }
+        if (data != null && SagaEventCodec.isBinary(headers)) {
+            return SagaEventCodec.decode(data);
+        }
+        return super.deserialize(topic, headers, data);
+    }
+}
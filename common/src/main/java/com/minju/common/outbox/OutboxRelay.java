@@ -0,0 +1,340 @@
+package com.minju.common.outbox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 공용 Outbox 릴레이 (order / product / payment)
+ * - 커밋 직후 발행({@link OutboxDispatcher})과 안전망 폴링이 같은 점유/전송/반영 로직을 사용
+ * - 폴링은 {@link OutboxBucketLeaseManager}로 보유한 버킷의 이벤트만 점유 → 인스턴스 간 경합 없음
+ * - FOR UPDATE SKIP LOCKED로 점유 → 인스턴스/경로 간 중복 발행 없음
+ * - 배치 내 이벤트는 비동기로 동시에 전송하되, 같은 aggregate는 이전 전송 성공 후에만 다음 전송 (순서 보장)
+ * - 성공/실패는 배치 UPDATE 한 번씩으로 반영
+ * - 폴링 배치 크기는 전송 지연에 따라 AIMD로 조정 (목표 이내면 +step, 초과/실패면 절반)
+ * - 저장된 JSON 페이로드를 역직렬화/재직렬화 없이 바이트 그대로 전송, 타입은 헤더로 전달 ({@link OutboxHeaders})
+ * - 배치 크기, 전송 지연, 커밋→발행 지연은 {@link OutboxMetrics}로 기록
+ * - compress-threshold-bytes 이상인 페이로드는 gzip 압축 (0이면 사용 안 함, 소비 측은 {@link OutboxPayloadDeserializer})
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxBucketLeaseManager leaseManager;
+    private final OutboxStatusCounter statusCounter;
+    private final OutboxMetrics metrics;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int batchSizeStep;
+    private final long targetLatencyMs;
+    private final long sendTimeoutMs;
+    private final int maxRetry;
+    private final int compressThresholdBytes;
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile int batchSize;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxRepository,
+                       OutboxBucketLeaseManager leaseManager,
+                       OutboxStatusCounter statusCounter,
+                       OutboxMetrics metrics,
+                       ProducerFactory<String, Object> producerFactory,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${outbox.relay.initial-batch-size:100}") int initialBatchSize,
+                       @Value("${outbox.relay.min-batch-size:10}") int minBatchSize,
+                       @Value("${outbox.relay.max-batch-size:1000}") int maxBatchSize,
+                       @Value("${outbox.relay.batch-size-step:50}") int batchSizeStep,
+                       @Value("${outbox.relay.target-latency-ms:500}") long targetLatencyMs,
+                       @Value("${outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs,
+                       @Value("${outbox.relay.max-retry:3}") int maxRetry,
+                       @Value("${outbox.relay.compress-threshold-bytes:0}") int compressThresholdBytes) {
+        this(outboxRepository, leaseManager, statusCounter, metrics, new KafkaTemplate<>(rawProducerFactory(producerFactory)),
+                transactionManager, initialBatchSize, minBatchSize, maxBatchSize, batchSizeStep, targetLatencyMs, sendTimeoutMs,
+                maxRetry, compressThresholdBytes);
+    }
+
+    OutboxRelay(OutboxEventRepository outboxRepository,
+                OutboxBucketLeaseManager leaseManager,
+                OutboxStatusCounter statusCounter,
+                OutboxMetrics metrics,
+                KafkaTemplate<String, byte[]> kafkaTemplate,
+                PlatformTransactionManager transactionManager,
+                int initialBatchSize, int minBatchSize, int maxBatchSize, int batchSizeStep,
+                long targetLatencyMs, long sendTimeoutMs, int maxRetry, int compressThresholdBytes) {
+        this.outboxRepository = outboxRepository;
+        this.leaseManager = leaseManager;
+        this.statusCounter = statusCounter;
+        this.metrics = metrics;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizeStep = batchSizeStep;
+        this.targetLatencyMs = targetLatencyMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.maxRetry = maxRetry;
+        this.compressThresholdBytes = compressThresholdBytes;
+        this.batchSize = Math.max(minBatchSize, Math.min(maxBatchSize, initialBatchSize));
+    }
+
+    // 서비스의 프로듀서 설정(브로커, acks 등)은 그대로 쓰고 직렬화만 바이트 그대로 전송하도록 교체
+    private static DefaultKafkaProducerFactory<String, byte[]> rawProducerFactory(ProducerFactory<String, Object> source) {
+        return new DefaultKafkaProducerFactory<>(source.getConfigurationProperties(),
+                new StringSerializer(), new ByteArraySerializer());
+    }
+
+    @PreDestroy
+    public void stop() {
+        sendExecutor.shutdown();
+        if (kafkaTemplate.getProducerFactory() instanceof DisposableBean factory) {
+            try {
+                factory.destroy();
+            } catch (Exception e) {
+                log.warn("Outbox 프로듀서 종료 실패: ", e);
+            }
+        }
+    }
+
+    /**
+     * 대기 이벤트 폴링 발행 - 꽉 찬 배치를 모두 성공하면 바로 다음 배치 처리 (실패/미완료가 있으면 다음 주기로)
+     *
+     * @return 점유한 이벤트 수
+     */
+    public int relayPendingEvents() {
+        int claimed = 0;
+        try {
+            BatchResult result;
+            do {
+                result = relayBatch();
+                claimed += result.claimed;
+            } while (result.claimed == result.limit && result.published == result.claimed);
+        } catch (Exception e) {
+            log.error("Outbox 릴레이 실패: ", e);
+        }
+        return claimed;
+    }
+
+    /**
+     * 폴링 배치 하나를 점유 → 전송 → 결과 반영 (보유 버킷이 없으면 건너뜀)
+     */
+    BatchResult relayBatch() {
+        int limit = batchSize;
+        Set<Integer> buckets = leaseManager.getOwnedBuckets();
+        if (buckets.isEmpty()) {
+            return new BatchResult(limit, 0, 0, 0);
+        }
+        long start = System.nanoTime();
+        BatchResult result = relay("poll", limit, () -> claimInAggregateOrder(buckets, limit));
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (result.claimed > 0) {
+            adjustBatchSize(result, elapsedMs);
+            log.info("Outbox 이벤트 발행 - 점유 {}건, 성공 {}건, 실패 {}건, {}ms, 다음 배치 {}",
+                    result.claimed, result.published, result.failed, elapsedMs, batchSize);
+        }
+        return result;
+    }
+
+    /**
+     * 폴링 점유 - SKIP LOCKED로 건너뛴 오래된 이벤트(커밋 직후 경로가 잡고 있는 등)가 있는 aggregate의 뒤 이벤트는 제외
+     * (제외한 이벤트는 PENDING 그대로 남아 다음 폴링에서 순서대로 발행)
+     */
+    private List<OutboxEvent> claimInAggregateOrder(Set<Integer> buckets, int limit) {
+        List<OutboxEvent> claimed = outboxRepository.claimPendingEvents(buckets, maxRetry, limit);
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+        Set<Long> blocked = new HashSet<>(outboxRepository.findBlockedByOlderPending(
+                claimed.stream().map(OutboxEvent::getId).toList()));
+        if (blocked.isEmpty()) {
+            return claimed;
+        }
+        log.debug("Outbox 폴링 - 앞선 이벤트가 다른 트랜잭션에 점유된 {}건 보류", blocked.size());
+        return claimed.stream().filter(event -> !blocked.contains(event.getId())).toList();
+    }
+
+    /**
+     * 지정한 이벤트만 점유해서 발행 (커밋 직후 경로)
+     */
+    BatchResult relayEvents(Collection<Long> eventIds) {
+        BatchResult result = relay("dispatch", eventIds.size(), () -> outboxRepository.claimPendingEventsByIds(eventIds, maxRetry));
+        log.debug("Outbox 즉시 발행 - 요청 {}건, 점유 {}건, 성공 {}건, 실패 {}건",
+                eventIds.size(), result.claimed, result.published, result.failed);
+        return result;
+    }
+
+    // 점유 → 전송 → 결과 반영을 한 트랜잭션으로 (점유 잠금은 반영 시점까지 유지)
+    private BatchResult relay(String path, int limit, Supplier<List<OutboxEvent>> claim) {
+        return transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = claim.get();
+            if (events.isEmpty()) {
+                return new BatchResult(limit, 0, 0, 0);
+            }
+            metrics.recordBatch(path, events.size());
+
+            Queue<Long> published = new ConcurrentLinkedQueue<>();
+            Queue<Long> failed = new ConcurrentLinkedQueue<>();
+            awaitAll(sendInAggregateOrder(events, published, failed));
+
+            List<Long> publishedIds = new ArrayList<>(published);
+            List<Long> failedIds = new ArrayList<>(failed);
+            if (!publishedIds.isEmpty()) {
+                outboxRepository.markPublished(publishedIds, LocalDateTime.now());
+                statusCounter.recordPublished(publishedIds.size());
+            }
+            if (!failedIds.isEmpty()) {
+                outboxRepository.markSendFailed(failedIds, maxRetry);
+                statusCounter.recordSendFailed(failedIds.size());
+            }
+            return new BatchResult(limit, events.size(), publishedIds.size(), failedIds.size());
+        });
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    // 같은 aggregate의 이벤트는 앞 이벤트 전송이 성공해야 다음을 전송, 실패 이후 이벤트는 이번 배치에서 보류
+    private List<CompletableFuture<Boolean>> sendInAggregateOrder(List<OutboxEvent> events,
+                                                                 Queue<Long> published, Queue<Long> failed) {
+        Map<String, List<OutboxEvent>> byAggregate = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            byAggregate.computeIfAbsent(event.getAggregateType() + ":" + event.getAggregateId(),
+                    k -> new ArrayList<>()).add(event);
+        }
+
+        List<CompletableFuture<Boolean>> tails = new ArrayList<>(byAggregate.size());
+        for (List<OutboxEvent> aggregateEvents : byAggregate.values()) {
+            CompletableFuture<Boolean> chain = CompletableFuture.completedFuture(true);
+            for (OutboxEvent event : aggregateEvents) {
+                chain = chain.thenComposeAsync(previousSent -> previousSent
+                        ? send(event, published, failed)
+                        : CompletableFuture.completedFuture(false), sendExecutor);
+            }
+            tails.add(chain);
+        }
+        return tails;
+    }
+
+    private CompletableFuture<Boolean> send(OutboxEvent event, Queue<Long> published, Queue<Long> failed) {
+        try {
+            long start = System.nanoTime();
+            return kafkaTemplate.send(toRecord(event))
+                    .handle((sendResult, ex) -> {
+                        metrics.recordSend(event, System.nanoTime() - start, ex == null);
+                        if (ex != null) {
+                            log.error("Outbox 이벤트 발행 실패 - id: {}, type: {}, retry: {}",
+                                    event.getId(), event.getEventType(), event.getRetryCount(), ex);
+                            failed.add(event.getId());
+                            return false;
+                        }
+                        published.add(event.getId());
+                        metrics.recordPublished(event, LocalDateTime.now());
+                        return true;
+                    });
+        } catch (Exception e) {
+            log.error("Outbox 이벤트 발행 실패 - id: {}, type: {}", event.getId(), event.getEventType(), e);
+            failed.add(event.getId());
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    // 저장된 JSON 바이트 + 타입 헤더 (JsonSerializer가 붙이던 __TypeId__와 동일한 형식), 키로 파티션 결정
+    ProducerRecord<String, byte[]> toRecord(OutboxEvent event) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(new RecordHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                OutboxEventTypes.classOf(event.getEventType()).getName().getBytes(StandardCharsets.UTF_8)));
+        headers.add(new RecordHeader(OutboxHeaders.EVENT_TYPE, event.getEventType().getBytes(StandardCharsets.UTF_8)));
+
+        byte[] payload = event.getPayload().getBytes(StandardCharsets.UTF_8);
+        if (compressThresholdBytes > 0 && payload.length >= compressThresholdBytes) {
+            payload = OutboxHeaders.gzip(payload);
+            headers.add(new RecordHeader(OutboxHeaders.CONTENT_ENCODING, OutboxHeaders.GZIP.getBytes(StandardCharsets.UTF_8)));
+        }
+        String key = event.getMessageKey() != null ? event.getMessageKey() : event.getAggregateId();
+        return new ProducerRecord<String, byte[]>(event.getTopic(), null, key, payload, headers);
+    }
+
+    // 시간 내 완료되지 않은 전송은 성공/실패 어느 쪽에도 반영하지 않음 → PENDING 유지, 다음 배치에서 재전송
+    private void awaitAll(List<CompletableFuture<Boolean>> tails) {
+        try {
+            CompletableFuture.allOf(tails.toArray(new CompletableFuture[0])).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Outbox 전송 대기 시간 초과 ({}ms) - 미완료 이벤트는 다음 배치에서 재전송", sendTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Outbox 전송 대기 실패: ", e);
+        }
+    }
+
+    private void adjustBatchSize(BatchResult result, long elapsedMs) {
+        if (result.failed > 0 || elapsedMs > targetLatencyMs) {
+            batchSize = Math.max(minBatchSize, result.limit / 2);
+        } else if (result.claimed == result.limit) {
+            batchSize = Math.min(maxBatchSize, result.limit + batchSizeStep);
+        }
+    }
+
+    static final class BatchResult {
+        private final int limit;
+        private final int claimed;
+        private final int published;
+        private final int failed;
+
+        BatchResult(int limit, int claimed, int published, int failed) {
+            this.limit = limit;
+            this.claimed = claimed;
+            this.published = published;
+            this.failed = failed;
+        }
+
+        int getClaimed() {
+            return claimed;
+        }
+
+        int getPublished() {
+            return published;
+        }
+
+        int getFailed() {
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.minju.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox 릴레이 참여 인스턴스 (heartbeat로 살아있는 인스턴스 수를 세서 버킷 몫 계산)
+ */
+@Entity
+@Table(name = "outbox_relay_member")
+@Getter @Setter
+@NoArgsConstructor
+public class OutboxRelayMember {
+
+    @Id
+    @Column(length = 100)
+    private String instanceId;
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    public OutboxRelayMember(String instanceId, LocalDateTime heartbeatAt) {
+        this.instanceId = instanceId;
+        this.heartbeatAt = heartbeatAt;
+    }
+}
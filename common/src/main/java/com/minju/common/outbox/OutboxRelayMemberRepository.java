@@ -0,0 +1,17 @@
+package com.minju.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface OutboxRelayMemberRepository extends JpaRepository<OutboxRelayMember, String> {
+
+    long countByHeartbeatAtAfter(LocalDateTime threshold);
+
+    @Modifying
+    @Query("DELETE FROM OutboxRelayMember m WHERE m.heartbeatAt <= :threshold")
+    int deleteExpired(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,81 @@
+package com.minju.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbox 상태 집계 (상태별 COUNT(*) 전체 스캔 대신 증분 카운터)
+ * - 발행 성공/실패/정리 건수는 릴레이와 보관 정리에서 증가시키고, 주기마다 구간 값을 로그로 남기고 초기화
+ * - PENDING/FAILED는 알림 기준값까지만 인덱스 범위로 셈 (PUBLISHED는 세지 않음)
+ */
+@Component
+@Slf4j
+public class OutboxStatusCounter {
+
+    private final OutboxEventRepository outboxRepository;
+    private final int pendingAlertThreshold;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder sendFailed = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+
+    public OutboxStatusCounter(OutboxEventRepository outboxRepository,
+                               @Value("${outbox.status.pending-alert-threshold:100}") int pendingAlertThreshold) {
+        this.outboxRepository = outboxRepository;
+        this.pendingAlertThreshold = pendingAlertThreshold;
+    }
+
+    public void recordPublished(int count) {
+        published.add(count);
+    }
+
+    public void recordSendFailed(int count) {
+        sendFailed.add(count);
+    }
+
+    public void recordPurged(long count) {
+        purged.add(count);
+    }
+
+    /**
+     * Outbox 상태 로깅 (10분마다)
+     */
+    @Scheduled(fixedDelayString = "${outbox.status.log-interval-ms:600000}")
+    public void logStatus() {
+        try {
+            long publishedCount = published.sumThenReset();
+            long sendFailedCount = sendFailed.sumThenReset();
+            long purgedCount = purged.sumThenReset();
+
+            int cap = pendingAlertThreshold + 1;
+            long pendingCount = outboxRepository.countByStatusUpTo("PENDING", cap);
+            long failedCount = outboxRepository.countByStatusUpTo("FAILED", cap);
+
+            if (publishedCount > 0 || sendFailedCount > 0 || purgedCount > 0 || pendingCount > 0 || failedCount > 0) {
+                log.info("[Outbox Status] 구간 발행: {}, 전송 실패: {}, 정리: {} / PENDING: {}, FAILED: {}",
+                        publishedCount, sendFailedCount, purgedCount, display(pendingCount), display(failedCount));
+            }
+
+            // PENDING이 많이 쌓이면 경고
+            if (pendingCount > pendingAlertThreshold) {
+                log.warn("[Outbox Alert] PENDING 이벤트가 {}건 누적됨 - 발행 지연 확인 필요", display(pendingCount));
+            }
+
+            // FAILED가 있으면 경고
+            if (failedCount > 0) {
+                log.warn("[Outbox Alert] FAILED 이벤트가 {}건 존재 - 수동 확인 필요", display(failedCount));
+            }
+
+        } catch (Exception e) {
+            log.error("[Outbox Status] 상태 조회 실패: ", e);
+        }
+    }
+
+    private String display(long count) {
+        return count > pendingAlertThreshold ? pendingAlertThreshold + "+" : String.valueOf(count);
+    }
+}
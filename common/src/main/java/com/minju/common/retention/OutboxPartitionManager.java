@@ -0,0 +1,125 @@
+package com.minju.common.retention;
+
+import com.minju.common.id.TsidGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * outbox_event 일 단위 파티션 관리 (선택, 기본 비활성)
+ * - PK가 TSID(시각 포함)라서 RANGE(id)로 날짜 경계를 잡을 수 있음 → 하루치를 DROP PARTITION으로 한 번에 제거
+ * - 처음 활성화하면 테이블을 RANGE(id) 파티션 테이블로 전환 (pmax 하나)
+ * - 보관할 행(PENDING, 기간 안의 FAILED/PUBLISHED)이 남은 파티션은 건너뛰고 청크 삭제에 맡김
+ */
+@Component
+@Slf4j
+public class OutboxPartitionManager {
+
+    private static final String TABLE = "outbox_event";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int daysAhead;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public OutboxPartitionManager(JdbcTemplate jdbcTemplate,
+                                  @Value("${retention.outbox-partitioning.enabled:false}") boolean enabled,
+                                  @Value("${retention.outbox-partitioning.days-ahead:3}") int daysAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.daysAhead = daysAhead;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 오늘부터 daysAhead일 뒤까지의 일 단위 파티션 생성 (pmax를 쪼갬)
+     */
+    public void ensurePartitions(LocalDate today) {
+        Map<String, Long> partitions = findPartitions();
+        if (partitions.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE (id) " +
+                    "(PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+            log.info("[Retention] {} 테이블을 RANGE(id) 파티션으로 전환", TABLE);
+        }
+
+        long highestBound = partitions.values().stream()
+                .filter(bound -> bound != Long.MAX_VALUE)
+                .max(Long::compare)
+                .orElse(Long.MIN_VALUE);
+        for (int i = 0; i <= daysAhead; i++) {
+            LocalDate day = today.plusDays(i);
+            long upperBound = upperBoundOf(day);
+            if (upperBound <= highestBound) {
+                continue;
+            }
+            String name = day.format(PARTITION_NAME);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                    "PARTITION " + name + " VALUES LESS THAN (" + upperBound + "), " +
+                    "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+            highestBound = upperBound;
+            log.info("[Retention] {} 파티션 추가 - {}", TABLE, name);
+        }
+    }
+
+    /**
+     * 모든 행이 보관 기간을 넘긴 파티션을 통째로 삭제
+     *
+     * @return 삭제한 파티션 수
+     */
+    public int dropExpiredPartitions(LocalDateTime publishedBefore, LocalDateTime failedBefore) {
+        long publishedBeforeId = TsidGenerator.minIdAt(publishedBefore.atZone(zone).toInstant().toEpochMilli());
+        long failedBeforeId = TsidGenerator.minIdAt(failedBefore.atZone(zone).toInstant().toEpochMilli());
+
+        int dropped = 0;
+        for (Map.Entry<String, Long> partition : findPartitions().entrySet()) {
+            if (partition.getValue() == Long.MAX_VALUE || partition.getValue() > publishedBeforeId) {
+                continue;
+            }
+            String name = partition.getKey();
+            Boolean hasRowsToKeep = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + TABLE + " PARTITION (" + name + ") " +
+                            "WHERE status = 'PENDING' OR (status = 'FAILED' AND id >= ?) " +
+                            "OR (status = 'PUBLISHED' AND published_at >= ?))",
+                    Boolean.class, failedBeforeId, publishedBefore);
+            if (Boolean.TRUE.equals(hasRowsToKeep)) {
+                log.debug("[Retention] {} 파티션 {}에 보관 대상 행이 남아 있어 청크 삭제로 처리", TABLE, name);
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+            dropped++;
+            log.info("[Retention] {} 파티션 삭제 - {}", TABLE, name);
+        }
+        return dropped;
+    }
+
+    // 파티션 이름 → 상한 ID (MAXVALUE는 Long.MAX_VALUE), 파티션되지 않은 테이블이면 빈 맵
+    private Map<String, Long> findPartitions() {
+        Map<String, Long> partitions = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                rs -> {
+                    String description = rs.getString("PARTITION_DESCRIPTION");
+                    partitions.put(rs.getString("PARTITION_NAME"),
+                            "MAXVALUE".equals(description) ? Long.MAX_VALUE : Long.parseLong(description));
+                }, TABLE);
+        return partitions;
+    }
+
+    private long upperBoundOf(LocalDate day) {
+        return TsidGenerator.minIdAt(day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,176 @@
+package com.minju.common.retention;
+
+import com.minju.common.dlq.DeadLetterEventRepository;
+import com.minju.common.id.TsidGenerator;
+import com.minju.common.idempotency.ProcessedEventRepository;
+import com.minju.common.outbox.OutboxEventRepository;
+import com.minju.common.outbox.OutboxStatusCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 보관 기간 정리 (outbox_event / processed_event / dead_letter_event)
+ * - 한 번의 DELETE로 지우지 않고 작은 청크로: 대상 ID를 인덱스 범위로 골라 PK로 삭제, 청크마다 트랜잭션 커밋
+ *   → 잠금 보유 시간과 undo log를 청크 크기로 제한
+ * - 청크 사이에 쉬어 가고(chunk-pause-ms), 한 번 실행에 최대 max-chunks-per-run 청크까지만 처리 (남은 건 다음 주기)
+ * - outbox_event는 TSID 시각 범위(id < 기준 시각 ID)로 잘라서 PK 범위 스캔, 일 단위 파티션이 켜져 있으면 먼저 통째로 DROP
+ * - processed_event는 PK가 문자열이라 processed_at 인덱스 순으로 청크
+ * - dead_letter_event는 처리 완료(PROCESSED) 건만 정리, 미처리/실패 건은 수동 확인용으로 보관
+ */
+@Component
+@Slf4j
+public class RetentionEngine {
+
+    private final OutboxEventRepository outboxRepository;
+    private final ProcessedEventRepository processedEventRepository;
+    private final DeadLetterEventRepository deadLetterRepository;
+    private final OutboxPartitionManager partitionManager;
+    private final OutboxStatusCounter statusCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final int maxChunksPerRun;
+    private final int publishedRetentionHours;
+    private final int failedRetentionDays;
+    private final int processedRetentionDays;
+    private final int deadLetterRetentionDays;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public RetentionEngine(OutboxEventRepository outboxRepository,
+                           ProcessedEventRepository processedEventRepository,
+                           DeadLetterEventRepository deadLetterRepository,
+                           OutboxPartitionManager partitionManager,
+                           OutboxStatusCounter statusCounter,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${retention.chunk-size:1000}") int chunkSize,
+                           @Value("${retention.chunk-pause-ms:50}") long chunkPauseMs,
+                           @Value("${retention.max-chunks-per-run:200}") int maxChunksPerRun,
+                           @Value("${retention.outbox-published-hours:24}") int publishedRetentionHours,
+                           @Value("${retention.outbox-failed-days:7}") int failedRetentionDays,
+                           @Value("${retention.processed-event-days:7}") int processedRetentionDays,
+                           @Value("${retention.dead-letter-days:30}") int deadLetterRetentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.processedEventRepository = processedEventRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.partitionManager = partitionManager;
+        this.statusCounter = statusCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.publishedRetentionHours = publishedRetentionHours;
+        this.failedRetentionDays = failedRetentionDays;
+        this.processedRetentionDays = processedRetentionDays;
+        this.deadLetterRetentionDays = deadLetterRetentionDays;
+    }
+
+    /**
+     * 보관 기간 정리 (기본 10분마다)
+     */
+    @Scheduled(fixedDelayString = "${retention.interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime publishedBefore = now.minusHours(publishedRetentionHours);
+        LocalDateTime failedBefore = now.minusDays(failedRetentionDays);
+
+        if (partitionManager.isEnabled()) {
+            try {
+                partitionManager.ensurePartitions(LocalDate.now(zone));
+                partitionManager.dropExpiredPartitions(publishedBefore, failedBefore);
+            } catch (Exception e) {
+                log.error("[Retention] outbox_event 파티션 관리 실패 - 청크 삭제로 계속: ", e);
+            }
+        }
+
+        long publishedBeforeId = tsidAt(publishedBefore);
+        long failedBeforeId = tsidAt(failedBefore);
+        long outboxDeleted = purge("outbox_event(PUBLISHED)", 0L,
+                (afterId, limit) -> outboxRepository.findPublishedIdsBefore(afterId, publishedBeforeId, publishedBefore, limit),
+                outboxRepository::deleteByIds);
+        outboxDeleted += purge("outbox_event(FAILED)", 0L,
+                (afterId, limit) -> outboxRepository.findFailedIdsBefore(afterId, failedBeforeId, limit),
+                outboxRepository::deleteByIds);
+        statusCounter.recordPurged(outboxDeleted);
+
+        // 처리 기록은 선택한 행이 바로 삭제되므로 커서 없이 매번 가장 오래된 청크부터
+        LocalDateTime processedBefore = now.minusDays(processedRetentionDays);
+        purge("processed_event", "",
+                (ignored, limit) -> processedEventRepository.findIdsProcessedBefore(processedBefore, limit),
+                processedEventRepository::deleteByIds);
+
+        LocalDateTime deadLetterBefore = now.minusDays(deadLetterRetentionDays);
+        purge("dead_letter_event", 0L,
+                (afterId, limit) -> deadLetterRepository.findProcessedIdsBefore(afterId, deadLetterBefore, limit),
+                deadLetterRepository::deleteByIds);
+    }
+
+    /**
+     * 대상 ID 청크 선택 → 삭제를 청크 단위 트랜잭션으로 반복
+     *
+     * @param start       첫 커서 (선택 쿼리의 afterId)
+     * @param selectChunk (커서, 청크 크기) → 정렬된 대상 ID
+     * @param deleteChunk ID 목록 삭제 → 삭제 건수
+     * @return 삭제 건수
+     */
+    <ID> long purge(String target, ID start, BiFunction<ID, Integer, List<ID>> selectChunk,
+                    Function<List<ID>, Integer> deleteChunk) {
+        long deleted = 0;
+        int chunks = 0;
+        ID cursor = start;
+        try {
+            while (chunks < maxChunksPerRun) {
+                ID after = cursor;
+                int[] deletedInChunk = new int[1];
+                List<ID> ids = transactionTemplate.execute(status -> {
+                    List<ID> chunk = selectChunk.apply(after, chunkSize);
+                    if (!chunk.isEmpty()) {
+                        deletedInChunk[0] = deleteChunk.apply(chunk);
+                    }
+                    return chunk;
+                });
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                deleted += deletedInChunk[0];
+                chunks++;
+                cursor = ids.get(ids.size() - 1);
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+                pause();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[Retention] {} 정리 실패 - {}건 삭제 후 중단: ", target, deleted, e);
+        }
+
+        if (deleted > 0) {
+            log.info("[Retention] {} {}건 삭제 ({}청크{})", target, deleted, chunks,
+                    chunks >= maxChunksPerRun ? ", 남은 건 다음 주기" : "");
+        }
+        return deleted;
+    }
+
+    private void pause() throws InterruptedException {
+        if (chunkPauseMs > 0) {
+            TimeUnit.MILLISECONDS.sleep(chunkPauseMs);
+        }
+    }
+
+    private long tsidAt(LocalDateTime time) {
+        return TsidGenerator.minIdAt(time.atZone(zone).toInstant().toEpochMilli());
+    }
+}
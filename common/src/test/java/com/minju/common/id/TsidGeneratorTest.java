@@ -0,0 +1,232 @@
+package com.minju.common.id;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TsidGenerator 테스트")
+class TsidGeneratorTest {
+
+    @Nested
+    @DisplayName("ID 생성")
+    class Generate {
+
+        @Test
+        @DisplayName("같은 노드에서 생성한 ID는 단조 증가")
+        void nextId_Monotonic() {
+            TsidGenerator generator = new TsidGenerator(7);
+            long previous = generator.nextId();
+            for (int i = 0; i < 100_000; i++) {
+                long next = generator.nextId();
+                assertThat(next).isGreaterThan(previous);
+                previous = next;
+            }
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 생성해도 중복 없음")
+        void nextId_UniqueUnderConcurrency() throws Exception {
+            TsidGenerator generator = new TsidGenerator(1);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            assertThat(ids).hasSize(8 * 50_000);
+        }
+
+        @Test
+        @DisplayName("ID에서 생성 시각과 노드 ID를 복원")
+        void decode_TimestampAndNode() {
+            long before = System.currentTimeMillis();
+            long id = new TsidGenerator(1023).nextId();
+
+            assertThat(TsidGenerator.nodeOf(id)).isEqualTo(1023);
+            assertThat(TsidGenerator.timestampOf(id)).isBetween(before, System.currentTimeMillis());
+            assertThat(id).isPositive();
+        }
+
+        @Test
+        @DisplayName("minIdAt 경계: 그 시각 이전 ID보다 크고 이후 ID보다 작거나 같음")
+        void minIdAt_BoundsByTime() throws Exception {
+            TsidGenerator generator = new TsidGenerator(1023);
+            long before = generator.nextId();
+            Thread.sleep(2);
+            long boundary = TsidGenerator.minIdAt(System.currentTimeMillis());
+            long after = generator.nextId();
+
+            assertThat(before).isLessThan(boundary);
+            assertThat(after).isGreaterThanOrEqualTo(boundary);
+        }
+
+        @Test
+        @DisplayName("노드 ID 범위를 벗어나면 예외")
+        void invalidNode() {
+            assertThatThrownBy(() -> new TsidGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new TsidGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("노드 ID 설정")
+    class NodeId {
+
+        @Test
+        @DisplayName("설정값을 노드 ID로 사용")
+        void configured() {
+            assertThat(TsidGenerator.resolveNodeId(" 12 ")).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("미설정이면 추정하지 않고 예외")
+        void missing_FailsFast() {
+            assertThatThrownBy(() -> TsidGenerator.resolveNodeId(null)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> TsidGenerator.resolveNodeId(" ")).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("숫자가 아니면 예외")
+        void invalid_FailsFast() {
+            assertThatThrownBy(() -> TsidGenerator.resolveNodeId("node-a")).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("배치 INSERT 문 수 (H2)")
+    class BatchInsertStatements {
+
+        private static final int ORDERS = 300;
+        private static final int ITEMS_PER_ORDER = 10;
+
+        @Test
+        @DisplayName("IDENTITY 대비 TSID는 주문 1건당 INSERT 문이 상품 수와 무관하게 고정")
+        void tsid_EnablesBatchInsert() {
+            long identity = run(IdentityOrder.class, IdentityItem.class,
+                    IdentityOrder::new, order -> new IdentityItem((IdentityOrder) order));
+            long tsid = run(TsidOrder.class, TsidItem.class,
+                    TsidOrder::new, order -> new TsidItem((TsidOrder) order));
+
+            // IDENTITY: 주문 1 + 상품 N개 각각 INSERT / TSID: 엔티티 종류별 배치 1회
+            assertThat(identity).isEqualTo((long) ORDERS * (1 + ITEMS_PER_ORDER));
+            assertThat(tsid).isEqualTo(ORDERS * 2L);
+        }
+
+        private long run(Class<?> orderType, Class<?> itemType,
+                     Supplier<Object> orderFactory, Function<Object, Object> itemFactory) {
+            try (SessionFactory sessionFactory = new Configuration()
+                    .addAnnotatedClass(orderType)
+                    .addAnnotatedClass(itemType)
+                    .setProperty("hibernate.connection.url", "jdbc:h2:mem:" + orderType.getSimpleName() + ";DB_CLOSE_DELAY=-1")
+                    .setProperty("hibernate.connection.username", "sa")
+                    .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                    .setProperty("hibernate.jdbc.batch_size", "100")
+                    .setProperty("hibernate.order_inserts", "true")
+                    .setProperty("hibernate.generate_statistics", "true")
+                    .buildSessionFactory()) {
+
+                for (int i = 0; i < ORDERS; i++) {
+                    try (Session session = sessionFactory.openSession()) {
+                        session.beginTransaction();
+                        Object order = orderFactory.get();
+                        session.persist(order);
+                        for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                            session.persist(itemFactory.apply(order));
+                        }
+                        session.getTransaction().commit();
+                    }
+                }
+                return sessionFactory.getStatistics().getPrepareStatementCount();
+            }
+        }
+    }
+
+    @Entity
+    @Table(name = "identity_order")
+    static class IdentityOrder {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        String status = "PENDING";
+    }
+
+    @Entity
+    @Table(name = "identity_item")
+    static class IdentityItem {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "order_id")
+        IdentityOrder order;
+        int quantity = 1;
+
+        IdentityItem() {
+        }
+
+        IdentityItem(IdentityOrder order) {
+            this.order = order;
+        }
+    }
+
+    @Entity
+    @Table(name = "tsid_order")
+    static class TsidOrder {
+        @Id
+        @Tsid
+        Long id;
+        String status = "PENDING";
+    }
+
+    @Entity
+    @Table(name = "tsid_item")
+    static class TsidItem {
+        @Id
+        @Tsid
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "order_id")
+        TsidOrder order;
+        int quantity = 1;
+
+        TsidItem() {
+        }
+
+        TsidItem(TsidOrder order) {
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.minju.common.kafka.codec;
+
+import com.minju.common.kafka.payment.PaymentRequestedEvent;
+import com.minju.common.outbox.OutboxPayloadDeserializer;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 바이너리 코덱 vs 현재 JSON(JsonSerializer / OutboxPayloadDeserializer) 인코딩·디코딩 시간 (JMH)
+ * - 실행: gradle :common:codecBenchmark
+ * - 메시지 크기는 실행 시작 시 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SagaEventCodecBenchmark {
+
+    private static final String TOPIC = "payment-requested-topic";
+
+    private PaymentRequestedEvent event;
+    private JsonSerializer<Object> jsonSerializer;
+    private OutboxPayloadDeserializer jsonDeserializer;
+    private SagaEventSerializer binarySerializer;
+    private RecordHeaders jsonHeaders;
+    private RecordHeaders binaryHeaders;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        event = PaymentRequestedEvent.builder()
+                .orderId("742036471295148032")
+                .userId("742036471295148033")
+                .productId("1024")
+                .quantity(2)
+                .amount(59800)
+                .status("PAYMENT_REQUESTED")
+                .build();
+        jsonSerializer = new JsonSerializer<>();
+        jsonDeserializer = new OutboxPayloadDeserializer();
+        jsonDeserializer.configure(Map.of("spring.json.trusted.packages", "*"), false);
+        binarySerializer = new SagaEventSerializer();
+
+        jsonHeaders = new RecordHeaders();
+        json = jsonSerializer.serialize(TOPIC, jsonHeaders, event);
+        binaryHeaders = new RecordHeaders();
+        binary = binarySerializer.serialize(TOPIC, binaryHeaders, event);
+        System.out.printf("%n[codec-benchmark] PaymentRequestedEvent - json: %d bytes, binary: %d bytes%n",
+                json.length, binary.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jsonSerializer.close();
+        jsonDeserializer.close();
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binarySerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return jsonDeserializer.deserialize(TOPIC, jsonHeaders, json);
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return jsonDeserializer.deserialize(TOPIC, binaryHeaders, binary);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SagaEventCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
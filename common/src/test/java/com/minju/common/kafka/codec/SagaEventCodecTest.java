@@ -0,0 +1,211 @@
+package com.minju.common.kafka.codec;
+
+import com.minju.common.kafka.order.OrderCancelledEvent;
+import com.minju.common.kafka.payment.PaymentCompletedEvent;
+import com.minju.common.kafka.stock.StockReservationFailedEvent;
+import com.minju.common.kafka.stock.StockReservationRequestEvent;
+import com.minju.common.outbox.OutboxPayloadDeserializer;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SagaEventCodec 테스트")
+class SagaEventCodecTest {
+
+    @Nested
+    @DisplayName("인코딩/디코딩")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("숫자 ID·수량·사전 status를 그대로 복원")
+        void restoresAllFields() {
+            // given
+            StockReservationRequestEvent event = StockReservationRequestEvent.builder()
+                    .orderId("742036471295148032")
+                    .productId("17")
+                    .quantity(3)
+                    .status("STOCK_RESERVATION_REQUESTED")
+                    .build();
+
+            // when
+            Object decoded = SagaEventCodec.decode(SagaEventCodec.encode(event));
+
+            // then
+            assertThat(decoded).isEqualTo(event);
+        }
+
+        @Test
+        @DisplayName("숫자가 아닌 ID, 사전에 없는 status, null, 음수, boolean도 복원")
+        void restoresEdgeValues() {
+            // given
+            PaymentCompletedEvent payment = PaymentCompletedEvent.builder()
+                    .orderId("ORD-0001")
+                    .userId("007")
+                    .productId(null)
+                    .quantity(-1)
+                    .amount(Integer.MAX_VALUE)
+                    .status("PARTIALLY_REFUNDED")
+                    .success(true)
+                    .build();
+            OrderCancelledEvent cancelled = OrderCancelledEvent.builder()
+                    .orderId("9223372036854775807")
+                    .reason("재고 부족으로 취소")
+                    .build();
+
+            // when & then
+            assertThat(SagaEventCodec.decode(SagaEventCodec.encode(payment))).isEqualTo(payment);
+            assertThat(SagaEventCodec.decode(SagaEventCodec.encode(cancelled))).isEqualTo(cancelled);
+        }
+
+        @Test
+        @DisplayName("스키마가 없는 타입은 인코딩 거부")
+        void rejectsUnknownType() {
+            assertThatThrownBy(() -> SagaEventCodec.encode(Map.of("orderId", "1")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("스키마 버전")
+    class Versioning {
+
+        @Test
+        @DisplayName("이전 버전 메시지는 추가된 필드를 기본값으로 두고 읽음")
+        void readsOlderVersion() {
+            // given
+            EventSchema<Sample> v1 = EventSchema.builder(99, Sample.class, Sample::new)
+                    .id(Sample::getOrderId, Sample::setOrderId)
+                    .build();
+            EventSchema<Sample> v2 = EventSchema.builder(99, Sample.class, Sample::new)
+                    .id(Sample::getOrderId, Sample::setOrderId)
+                    .version(2)
+                    .string(Sample::getNote, Sample::setNote)
+                    .build();
+            Sample sample = new Sample();
+            sample.setOrderId("1");
+            sample.setNote("v2에만 있는 필드");
+            BinaryEventWriter writer = new BinaryEventWriter(16);
+            v1.encode(sample, writer);
+
+            // when
+            Sample decoded = v2.decode(new BinaryEventReader(writer.toByteArray()), v1.getVersion());
+
+            // then
+            assertThat(v2.getVersion()).isEqualTo(2);
+            assertThat(decoded.getOrderId()).isEqualTo("1");
+            assertThat(decoded.getNote()).isNull();
+        }
+
+        @Test
+        @DisplayName("알고 있는 것보다 새로운 버전은 아는 필드까지만 읽고 뒤에 추가된 필드는 무시")
+        void readsNewerVersionKnownFields() {
+            // given - 새 버전 프로듀서가 필드를 하나 더 붙여 보낸 메시지
+            StockReservationRequestEvent event = StockReservationRequestEvent.builder()
+                    .orderId("1")
+                    .productId("2")
+                    .quantity(3)
+                    .status("STOCK_RESERVATION_REQUESTED")
+                    .build();
+            BinaryEventWriter writer = new BinaryEventWriter(64);
+            for (byte b : SagaEventCodec.encode(event)) {
+                writer.writeByte(b);
+            }
+            writer.writeString("v2에 추가된 필드");
+            byte[] data = writer.toByteArray();
+            data[1] = 2;
+
+            // when
+            Object decoded = SagaEventCodec.decode(data);
+
+            // then
+            assertThat(decoded).isEqualTo(event);
+        }
+
+        @Test
+        @DisplayName("0 이하의 버전은 거부")
+        void rejectsInvalidVersion() {
+            // given
+            byte[] data = SagaEventCodec.encode(StockReservationRequestEvent.builder().orderId("1").build());
+            data[1] = 0;
+
+            // when & then
+            assertThatThrownBy(() -> SagaEventCodec.decode(data))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("스키마 버전");
+        }
+
+        @Test
+        @DisplayName("잘린 메시지는 SerializationException")
+        void rejectsTruncated() {
+            // given
+            byte[] data = SagaEventCodec.encode(StockReservationRequestEvent.builder().orderId("1").productId("2").build());
+            byte[] truncated = Arrays.copyOf(data, data.length - 2);
+
+            // when & then
+            assertThatThrownBy(() -> SagaEventCodec.decode(truncated)).isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Kafka 직렬화")
+    class KafkaSerde {
+
+        @Test
+        @DisplayName("content-type 헤더를 붙이고, OutboxPayloadDeserializer가 JSON과 바이너리를 모두 처리")
+        void outboxDeserializerHandlesBothFormats() {
+            // given
+            StockReservationFailedEvent event = StockReservationFailedEvent.builder()
+                    .orderId("100").productId("1").quantity(5).reason("재고 부족").status("STOCK_RESERVATION_FAILED")
+                    .build();
+            RecordHeaders binaryHeaders = new RecordHeaders();
+            byte[] binary = new SagaEventSerializer().serialize("stock-reservation-failed-topic", binaryHeaders, event);
+            RecordHeaders jsonHeaders = new RecordHeaders();
+            byte[] json;
+            try (JsonSerializer<Object> jsonSerializer = new JsonSerializer<>()) {
+                json = jsonSerializer.serialize("stock-reservation-failed-topic", jsonHeaders, event);
+            }
+
+            // when
+            try (OutboxPayloadDeserializer deserializer = new OutboxPayloadDeserializer()) {
+                deserializer.configure(Map.of("spring.json.trusted.packages", "*"), false);
+
+                // then
+                assertThat(SagaEventCodec.isBinary(binaryHeaders)).isTrue();
+                assertThat(deserializer.deserialize("t", binaryHeaders, binary)).isEqualTo(event);
+                assertThat(deserializer.deserialize("t", jsonHeaders, json)).isEqualTo(event);
+            }
+
+            assertThat(binary.length).isLessThan(json.length / 2);
+        }
+    }
+
+    static class Sample {
+        private String orderId;
+        private String note;
+
+        String getOrderId() {
+            return orderId;
+        }
+
+        void setOrderId(String orderId) {
+            this.orderId = orderId;
+        }
+
+        String getNote() {
+            return note;
+        }
+
+        void setNote(String note) {
+            this.note = note;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.minju.common.kafka.listener;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SagaListenerContainerCustomizer 테스트")
+class SagaListenerContainerCustomizerTest {
+
+    private MockEnvironment environment;
+    private SimpleMeterRegistry meterRegistry;
+    private SagaListenerMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new SagaListenerMetrics(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("동시성")
+    class Concurrency {
+
+        @Test
+        @DisplayName("토픽별 설정이 있으면 그 값, 없으면 기본값(파티션 수)")
+        void perTopicConcurrency() {
+            // given
+            environment.setProperty(SagaListenerContainerCustomizer.CONCURRENCY_PREFIX + "stock-reserved-topic", "3");
+            SagaListenerContainerCustomizer customizer = customizer(6, "");
+            ConcurrentMessageListenerContainer<Object, Object> configured = container("order-stock-reserved", "stock-reserved-topic");
+            ConcurrentMessageListenerContainer<Object, Object> defaulted = container("payment-requested", "payment-requested-topic");
+
+            // when
+            customizer.configure(configured);
+            customizer.configure(defaulted);
+
+            // then
+            assertThat(configured.getConcurrency()).isEqualTo(3);
+            assertThat(defaulted.getConcurrency()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("여러 토픽을 듣는 리스너는 토픽별 값 중 최댓값")
+        void maxAcrossTopics() {
+            // given
+            environment.setProperty(SagaListenerContainerCustomizer.CONCURRENCY_PREFIX + "a-topic", "2");
+            environment.setProperty(SagaListenerContainerCustomizer.CONCURRENCY_PREFIX + "b-topic", "4");
+            SagaListenerContainerCustomizer customizer = customizer(1, "");
+
+            // when & then
+            assertThat(customizer.concurrencyOf(new String[]{"a-topic", "b-topic"})).isEqualTo(4);
+            assertThat(customizer.concurrencyOf(new String[]{"c-topic"})).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("정적 멤버십")
+    class StaticMembership {
+
+        @Test
+        @DisplayName("group-instance-id가 있으면 리스너 id를 붙여 group.instance.id 설정")
+        void setsGroupInstanceId() {
+            // given
+            SagaListenerContainerCustomizer customizer = customizer(6, "product-0");
+            ConcurrentMessageListenerContainer<Object, Object> container = container("stock-restore", "stock-restore-topic");
+
+            // when
+            customizer.configure(container);
+
+            // then
+            assertThat(container.getContainerProperties().getKafkaConsumerProperties()
+                    .getProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG)).isEqualTo("product-0-stock-restore");
+        }
+
+        @Test
+        @DisplayName("group-instance-id가 비어 있으면 동적 멤버십 유지")
+        void keepsDynamicMembership() {
+            // given
+            SagaListenerContainerCustomizer customizer = customizer(6, "");
+            ConcurrentMessageListenerContainer<Object, Object> container = container("stock-restore", "stock-restore-topic");
+
+            // when
+            customizer.configure(container);
+
+            // then
+            assertThat(container.getContainerProperties().getKafkaConsumerProperties()
+                    .getProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("리밸런스 리스너")
+    class RebalanceListener {
+
+        @Test
+        @DisplayName("서비스가 제공한 리밸런스 리스너를 컨테이너에 등록")
+        void registersRebalanceListener() {
+            // given
+            ConsumerAwareRebalanceListener listener = mock(ConsumerAwareRebalanceListener.class);
+            SagaListenerContainerCustomizer customizer = new SagaListenerContainerCustomizer(environment, metrics, 6, "", listener);
+            ConcurrentMessageListenerContainer<Object, Object> container = container("order-payment-completed", "payment-completed-topic");
+
+            // when
+            customizer.configure(container);
+
+            // then
+            assertThat(container.getContainerProperties().getConsumerRebalanceListener()).isSameAs(listener);
+        }
+    }
+
+    @Nested
+    @DisplayName("처리 시간 메트릭")
+    class ProcessingMetrics {
+
+        @Test
+        @DisplayName("레코드 처리 결과별로 리스너·토픽 태그를 붙여 기록")
+        void recordsProcessingTime() {
+            // given
+            RecordInterceptor<Object, Object> interceptor = metrics.recordInterceptor("order-payment-completed");
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>("payment-completed-topic", 0, 0L, "1", "payload");
+
+            // when
+            interceptor.intercept(record, null);
+            interceptor.success(record, null);
+            interceptor.intercept(record, null);
+            interceptor.failure(record, new IllegalStateException("실패"), null);
+
+            // then
+            Timer success = meterRegistry.find("saga.listener.processing")
+                    .tags("listener", "order-payment-completed", "topic", "payment-completed-topic",
+                            "mode", "record", "result", "success")
+                    .timer();
+            Timer failure = meterRegistry.find("saga.listener.processing")
+                    .tags("listener", "order-payment-completed", "result", "failure")
+                    .timer();
+            assertThat(success).isNotNull();
+            assertThat(success.count()).isEqualTo(1);
+            assertThat(failure).isNotNull();
+            assertThat(failure.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("intercept 없이 호출된 완료 콜백은 기록하지 않음")
+        void ignoresUnmatchedCallback() {
+            // given
+            RecordInterceptor<Object, Object> interceptor = metrics.recordInterceptor("stock-restore");
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>("stock-restore-topic", 0, 0L, "1", "payload");
+
+            // when
+            interceptor.success(record, null);
+
+            // then
+            assertThat(meterRegistry.find("saga.listener.processing").timer()).isNull();
+        }
+    }
+
+    private SagaListenerContainerCustomizer customizer(int defaultConcurrency, String groupInstanceId) {
+        return new SagaListenerContainerCustomizer(environment, metrics, defaultConcurrency, groupInstanceId,
+                (ConsumerAwareRebalanceListener) null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMessageListenerContainer<Object, Object> container(String listenerId, String topic) {
+        ConcurrentMessageListenerContainer<Object, Object> container = new ConcurrentMessageListenerContainer<>(
+                mock(ConsumerFactory.class), new ContainerProperties(topic));
+        container.setBeanName(listenerId);
+        return container;
+    }
+}
@@ -0,0 +1,132 @@
+package com.minju.common.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxBucketLeaseManager 테스트")
+class OutboxBucketLeaseManagerTest {
+
+    @Mock
+    private OutboxBucketLeaseRepository leaseRepository;
+
+    @Mock
+    private OutboxRelayMemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxBucketLeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        leaseManager = new OutboxBucketLeaseManager(leaseRepository, memberRepository, transactionManager,
+                "order-service", 15_000L);
+        lenient().when(leaseRepository.count()).thenReturn((long) OutboxEvent.BUCKET_COUNT);
+    }
+
+    @Nested
+    @DisplayName("재분배")
+    class Rebalance {
+
+        @Test
+        @DisplayName("혼자면 모든 버킷을 획득")
+        void alone_AcquiresAllBuckets() {
+            // given
+            given(memberRepository.countByHeartbeatAtAfter(any())).willReturn(1L);
+            given(leaseRepository.findOwnedBuckets(anyString(), any())).willReturn(List.of());
+            given(leaseRepository.findAvailableBuckets(any())).willReturn(buckets(0, OutboxEvent.BUCKET_COUNT));
+            given(leaseRepository.tryAcquire(anyInt(), anyString(), any(), any())).willReturn(1);
+
+            // when
+            leaseManager.rebalance();
+
+            // then
+            assertThat(leaseManager.getOwnedBuckets()).hasSize(OutboxEvent.BUCKET_COUNT);
+            verify(memberRepository).save(argThat(member -> member.getInstanceId().equals(leaseManager.getInstanceId())));
+        }
+
+        @Test
+        @DisplayName("인스턴스가 늘어나면 몫을 넘는 버킷을 반납")
+        void memberJoined_ReleasesExcess() {
+            // given - 전체를 보유하던 중 인스턴스 2개
+            given(memberRepository.countByHeartbeatAtAfter(any())).willReturn(2L);
+            given(leaseRepository.findOwnedBuckets(anyString(), any())).willReturn(buckets(0, OutboxEvent.BUCKET_COUNT));
+
+            // when
+            leaseManager.rebalance();
+
+            // then
+            int half = OutboxEvent.BUCKET_COUNT / 2;
+            assertThat(leaseManager.getOwnedBuckets()).hasSize(half);
+            verify(leaseRepository).release(eq(leaseManager.getInstanceId()),
+                    argThat(released -> released.size() == half && released.containsAll(buckets(half, OutboxEvent.BUCKET_COUNT))));
+            verify(leaseRepository, never()).tryAcquire(anyInt(), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 먼저 가져간 버킷은 건너뛰고 몫까지만 획득")
+        void contended_AcquiresUpToFairShare() {
+            // given - 인스턴스 4개 → 몫 16, 짝수 버킷은 경쟁에서 짐
+            given(memberRepository.countByHeartbeatAtAfter(any())).willReturn(4L);
+            given(leaseRepository.findOwnedBuckets(anyString(), any())).willReturn(List.of());
+            given(leaseRepository.findAvailableBuckets(any())).willReturn(buckets(0, OutboxEvent.BUCKET_COUNT));
+            given(leaseRepository.tryAcquire(anyInt(), anyString(), any(), any()))
+                    .willAnswer(invocation -> (int) invocation.getArgument(0) % 2 == 1 ? 1 : 0);
+
+            // when
+            leaseManager.rebalance();
+
+            // then
+            assertThat(leaseManager.getOwnedBuckets())
+                    .hasSize(OutboxEvent.BUCKET_COUNT / 4)
+                    .allMatch(bucket -> bucket % 2 == 1);
+        }
+
+        @Test
+        @DisplayName("lease 갱신에 실패하면 만료 이후 보유 버킷 없음으로 간주")
+        void renewFailure_OwnsNothing() {
+            // given
+            given(memberRepository.save(any())).willThrow(new RuntimeException("DB 장애"));
+
+            // when
+            leaseManager.rebalance();
+
+            // then
+            assertThat(leaseManager.getOwnedBuckets()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("이벤트 버킷은 aggregateId 해시로 고정 배정")
+    void bucketOf_StableByAggregateId() {
+        assertThat(OutboxEvent.bucketOf("12345")).isEqualTo(OutboxEvent.bucketOf("12345"));
+        assertThat(OutboxEvent.bucketOf("12345")).isBetween(0, OutboxEvent.BUCKET_COUNT - 1);
+        assertThat(OutboxEvent.bucketOf(null)).isZero();
+    }
+
+    private static List<Integer> buckets(int from, int to) {
+        return new ArrayList<>(IntStream.range(from, to).boxed().toList());
+    }
+}
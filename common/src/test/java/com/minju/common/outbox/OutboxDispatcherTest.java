@@ -0,0 +1,144 @@
+package com.minju.common.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDispatcher 테스트")
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxRelay outboxRelay;
+
+    private OutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(dispatcher);
+    }
+
+    @Nested
+    @DisplayName("커밋 직후 발행")
+    class AfterCommit {
+
+        @Test
+        @DisplayName("트랜잭션에서 저장한 이벤트를 커밋 후 한 번에 발행")
+        void committed_DispatchedTogether() {
+            // given - 폴러는 사실상 끔
+            dispatcher = start(60_000L, 60_000L);
+            given(outboxRelay.relayEvents(List.of(1L, 2L))).willReturn(new OutboxRelay.BatchResult(2, 2, 2, 0));
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            dispatcher.publishAfterCommit(1L);
+            dispatcher.publishAfterCommit(2L);
+            verify(outboxRelay, after(100).never()).relayEvents(anyCollection());
+            completeTransaction(true);
+
+            // then
+            verify(outboxRelay, timeout(2000)).relayEvents(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("롤백된 트랜잭션의 이벤트는 발행하지 않음")
+        void rolledBack_NotDispatched() {
+            // given
+            dispatcher = start(60_000L, 60_000L);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            dispatcher.publishAfterCommit(1L);
+            completeTransaction(false);
+
+            // then
+            verify(outboxRelay, after(200).never()).relayEvents(anyCollection());
+        }
+
+        @Test
+        @DisplayName("즉시 발행이 실패하면 폴러를 바로 깨움")
+        void dispatchFailure_WakesPoller() {
+            // given
+            dispatcher = start(60_000L, 60_000L);
+            given(outboxRelay.relayEvents(List.of(1L))).willReturn(new OutboxRelay.BatchResult(1, 1, 0, 1));
+
+            // when
+            dispatcher.publishAfterCommit(1L);
+
+            // then
+            verify(outboxRelay, timeout(2000)).relayPendingEvents();
+        }
+    }
+
+    @Nested
+    @DisplayName("안전망 폴링")
+    class Polling {
+
+        @Test
+        @DisplayName("처리할 이벤트가 없으면 폴링 주기를 최대값까지 늘림")
+        void idle_BacksOff() {
+            // given
+            dispatcher = start(10L, 80L);
+            given(outboxRelay.relayPendingEvents()).willReturn(0);
+
+            // then
+            await().atMost(Duration.ofSeconds(2))
+                    .untilAsserted(() -> assertThat(dispatcher.getPollIntervalMs()).isEqualTo(80L));
+        }
+
+        @Test
+        @DisplayName("폴링에서 이벤트를 찾으면 최소 주기로 복귀")
+        void backlog_ResetsInterval() {
+            // given
+            dispatcher = start(10L, 80L);
+            given(outboxRelay.relayPendingEvents()).willReturn(0, 0, 0, 5);
+
+            // then
+            verify(outboxRelay, timeout(2000).atLeast(5)).relayPendingEvents();
+            await().atMost(Duration.ofSeconds(2))
+                    .untilAsserted(() -> assertThat(dispatcher.getPollIntervalMs()).isEqualTo(10L));
+            verify(outboxRelay, never()).relayEvents(anyCollection());
+        }
+    }
+
+    private OutboxDispatcher start(long minPollIntervalMs, long maxPollIntervalMs) {
+        OutboxDispatcher started = new OutboxDispatcher(outboxRelay, 100, 50, minPollIntervalMs, maxPollIntervalMs);
+        started.start();
+        return started;
+    }
+
+    private void completeTransaction(boolean commit) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (commit) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(commit
+                    ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.minju.common.outbox;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxMetrics 테스트")
+class OutboxMetricsTest {
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private OutboxBucketLeaseManager leaseManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new OutboxMetrics(meterRegistry, outboxRepository, leaseManager, 1000);
+    }
+
+    @Nested
+    @DisplayName("발행 기록")
+    class Publish {
+
+        @Test
+        @DisplayName("커밋→발행 지연을 event_type별로 기록")
+        void recordsLagByEventType() {
+            // given
+            LocalDateTime publishedAt = LocalDateTime.now();
+            OutboxEvent event = event("STOCK_RESERVED", publishedAt.minusNanos(300_000_000L), 2);
+
+            // when
+            metrics.recordPublished(event, publishedAt);
+
+            // then
+            Timer lag = meterRegistry.get("outbox.publish.lag").tag("event_type", "STOCK_RESERVED").timer();
+            assertThat(lag.count()).isEqualTo(1);
+            assertThat(lag.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(300.0);
+            assertThat(meterRegistry.get("outbox.publish.retries").summary().totalAmount()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("전송 실패는 지연(result=failure)과 실패 수를 함께 기록")
+        void recordsSendFailure() {
+            // given
+            OutboxEvent event = event("PAYMENT_REQUESTED", LocalDateTime.now(), 0);
+
+            // when
+            metrics.recordSend(event, 5_000_000L, false);
+
+            // then
+            assertThat(meterRegistry.get("outbox.send.latency").tag("result", "failure").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("outbox.send.failures").tag("event_type", "PAYMENT_REQUESTED").counter().count())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("상태 게이지")
+    class Gauges {
+
+        @Test
+        @DisplayName("PENDING/FAILED 건수와 가장 오래된 이벤트 경과 시간을 갱신하고, 사라진 조합은 제거")
+        void refreshesAndDropsStaleRows() {
+            // given
+            given(leaseManager.getOwnedBuckets()).willReturn(Set.of(OutboxMetrics.REPORTER_BUCKET, 5));
+            Timestamp oldest = Timestamp.valueOf(LocalDateTime.now().minusSeconds(40));
+            given(outboxRepository.summarizeUnpublishedUpTo(1000))
+                    .willReturn(List.<Object[]>of(new Object[]{"STOCK_RESERVED", "PENDING", 12L, oldest}))
+                    .willReturn(List.of());
+
+            // when
+            metrics.refreshGauges();
+
+            // then
+            assertThat(meterRegistry.get("outbox.events").tag("event_type", "STOCK_RESERVED").tag("status", "PENDING")
+                    .gauge().value()).isEqualTo(12.0);
+            assertThat(meterRegistry.get("outbox.events.oldest.age").gauge().value()).isGreaterThanOrEqualTo(40.0);
+
+            // when - 다음 주기에 모두 발행됨
+            metrics.refreshGauges();
+
+            // then
+            assertThat(meterRegistry.find("outbox.events").gauges()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("집계 담당 버킷이 없는 인스턴스는 DB를 조회하지 않고, 담당을 넘기면 게이지를 비움")
+        void nonReporter_SkipsQuery() {
+            // given - 첫 주기는 담당, 다음 주기에는 재분배로 버킷 0을 넘김
+            given(leaseManager.getOwnedBuckets())
+                    .willReturn(Set.of(OutboxMetrics.REPORTER_BUCKET))
+                    .willReturn(Set.of(3, 4));
+            given(outboxRepository.summarizeUnpublishedUpTo(1000))
+                    .willReturn(List.<Object[]>of(new Object[]{"STOCK_RESERVED", "FAILED", 1L, LocalDateTime.now()}));
+            metrics.refreshGauges();
+
+            // when
+            metrics.refreshGauges();
+
+            // then
+            verify(outboxRepository, times(1)).summarizeUnpublishedUpTo(1000);
+            assertThat(meterRegistry.find("outbox.events").gauges()).isEmpty();
+        }
+    }
+
+    private OutboxEvent event(String eventType, LocalDateTime createdAt, int retryCount) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(eventType);
+        event.setTopic("test-topic");
+        event.setCreatedAt(createdAt);
+        event.setRetryCount(retryCount);
+        return event;
+    }
+}
@@ -0,0 +1,347 @@
+package com.minju.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.kafka.stock.StockReservationRequestEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private static final String TOPIC = "stock-reservation-requested-topic";
+    private static final Set<Integer> BUCKETS = Set.of(1, 2);
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private OutboxBucketLeaseManager leaseManager;
+
+    @Mock
+    private OutboxStatusCounter statusCounter;
+
+    @Mock
+    private OutboxMetrics metrics;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OutboxRelay relay;
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+    }
+
+    @Nested
+    @DisplayName("배치 발행")
+    class RelayBatch {
+
+        @Test
+        @DisplayName("점유한 이벤트를 모두 전송하고 PUBLISHED는 한 번의 UPDATE로 반영")
+        void publishesAndMarksInOneUpdate() throws Exception {
+            // given
+            relay = relay(10);
+            List<OutboxEvent> events = List.of(event(1L, "100", "1"), event(2L, "200", "1"), event(3L, "300", "1"));
+            given(outboxRepository.claimPendingEvents(BUCKETS, 3, 10)).willReturn(events);
+            given(kafkaTemplate.send(anyRecord())).willReturn(success());
+
+            // when
+            OutboxRelay.BatchResult result = relay.relayBatch();
+
+            // then
+            assertThat(result.getPublished()).isEqualTo(3);
+            verify(kafkaTemplate, times(3)).send(anyRecord());
+            verify(outboxRepository, times(1)).markPublished(argThat(ids -> ids.size() == 3), any());
+            verify(outboxRepository, never()).markSendFailed(anyCollection(), anyInt());
+        }
+
+        @Test
+        @DisplayName("같은 aggregate는 순서대로 보내고, 앞 이벤트가 실패하면 뒤 이벤트는 보류")
+        void sameAggregate_StopsAfterFailure() throws Exception {
+            // given
+            relay = relay(10);
+            OutboxEvent first = event(1L, "100", "1");
+            OutboxEvent second = event(2L, "100", "2");
+            OutboxEvent other = event(3L, "200", "3");
+            given(outboxRepository.claimPendingEvents(BUCKETS, 3, 10)).willReturn(List.of(first, second, other));
+            given(kafkaTemplate.send(recordOf("1"))).willReturn(failure());
+            given(kafkaTemplate.send(recordOf("3"))).willReturn(success());
+
+            // when
+            OutboxRelay.BatchResult result = relay.relayBatch();
+
+            // then - 2번은 전송 안 함 (PENDING 유지, 재시도 횟수도 증가하지 않음)
+            assertThat(result.getClaimed()).isEqualTo(3);
+            verify(kafkaTemplate, never()).send(recordOf("2"));
+            verify(outboxRepository).markPublished(eq(List.of(3L)), any());
+            verify(outboxRepository).markSendFailed(List.of(1L), 3);
+        }
+
+        @Test
+        @DisplayName("건너뛴 오래된 이벤트가 있는 aggregate의 뒤 이벤트는 이번 폴링에서 보류")
+        void olderEventLockedElsewhere_HoldsLaterEvents() throws Exception {
+            // given - aggregate 100의 더 오래된 이벤트는 커밋 직후 경로가 점유 중이라 건너뜀
+            relay = relay(10);
+            given(outboxRepository.claimPendingEvents(BUCKETS, 3, 10))
+                    .willReturn(List.of(event(2L, "100", "2"), event(3L, "200", "3"), event(4L, "100", "4")));
+            given(outboxRepository.findBlockedByOlderPending(List.of(2L, 3L, 4L))).willReturn(List.of(2L, 4L));
+            given(kafkaTemplate.send(anyRecord())).willReturn(success());
+
+            // when
+            OutboxRelay.BatchResult result = relay.relayBatch();
+
+            // then
+            assertThat(result.getClaimed()).isEqualTo(1);
+            verify(kafkaTemplate, never()).send(recordOf("2"));
+            verify(kafkaTemplate, never()).send(recordOf("4"));
+            verify(outboxRepository).markPublished(eq(List.of(3L)), any());
+        }
+
+        @Test
+        @DisplayName("같은 aggregate의 이벤트는 저장 순서대로 전송")
+        void sameAggregate_SentInOrder() throws Exception {
+            // given
+            relay = relay(10);
+            given(outboxRepository.claimPendingEvents(BUCKETS, 3, 10))
+                    .willReturn(List.of(event(1L, "100", "1"), event(2L, "100", "2"), event(3L, "100", "3")));
+            given(kafkaTemplate.send(anyRecord())).willReturn(success());
+
+            // when
+            relay.relayBatch();
+
+            // then
+            InOrder inOrder = inOrder(kafkaTemplate);
+            inOrder.verify(kafkaTemplate).send(recordOf("1"));
+            inOrder.verify(kafkaTemplate).send(recordOf("2"));
+            inOrder.verify(kafkaTemplate).send(recordOf("3"));
+        }
+    }
+
+    @Nested
+    @DisplayName("버킷 분할")
+    class Buckets {
+
+        @Test
+        @DisplayName("보유한 버킷이 없으면 점유하지 않음")
+        void noOwnedBuckets_ClaimsNothing() {
+            // given
+            relay = relay(10);
+            given(leaseManager.getOwnedBuckets()).willReturn(Set.of());
+
+            // when
+            OutboxRelay.BatchResult result = relay.relayBatch();
+
+            // then
+            assertThat(result.getClaimed()).isZero();
+            verify(outboxRepository, never()).claimPendingEvents(anyCollection(), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("즉시 발행")
+    class RelayEvents {
+
+        @Test
+        @DisplayName("지정한 이벤트만 점유해서 발행하고 배치 크기는 바꾸지 않음")
+        void claimsOnlyGivenIds() throws Exception {
+            // given
+            relay = relay(10);
+            given(outboxRepository.claimPendingEventsByIds(List.of(5L, 6L), 3))
+                    .willReturn(List.of(event(5L, "100", "1"), event(6L, "200", "2")));
+            given(kafkaTemplate.send(anyRecord())).willReturn(success());
+
+            // when
+            OutboxRelay.BatchResult result = relay.relayEvents(List.of(5L, 6L));
+
+            // then
+            assertThat(result.getPublished()).isEqualTo(2);
+            verify(outboxRepository).markPublished(argThat(ids -> ids.containsAll(List.of(5L, 6L))), any());
+            verify(outboxRepository, never()).claimPendingEvents(anyCollection(), anyInt(), anyInt());
+            assertThat(relay.getBatchSize()).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("페이로드 전달")
+    class Payload {
+
+        @Test
+        @DisplayName("저장된 JSON을 바이트 그대로 보내고 타입은 헤더로 전달")
+        void sendsStoredBytesWithTypeHeaders() throws Exception {
+            // given
+            relay = relay(10);
+            OutboxEvent event = event(1L, "100", "1");
+
+            // when
+            ProducerRecord<String, byte[]> record = relay.toRecord(event);
+
+            // then
+            assertThat(record.topic()).isEqualTo(TOPIC);
+            assertThat(record.value()).isEqualTo(event.getPayload().getBytes(StandardCharsets.UTF_8));
+            assertThat(header(record, AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+                    .isEqualTo(StockReservationRequestEvent.class.getName());
+            assertThat(header(record, OutboxHeaders.EVENT_TYPE)).isEqualTo("STOCK_RESERVATION_REQUESTED");
+            assertThat(record.headers().lastHeader(OutboxHeaders.CONTENT_ENCODING)).isNull();
+        }
+
+        @Test
+        @DisplayName("메시지 키가 있으면 키로 쓰고, 없으면 aggregateId를 키로 사용")
+        void usesMessageKeyOrAggregateId() throws Exception {
+            // given
+            relay = relay(10);
+            OutboxEvent keyed = event(1L, "100", "7");
+            keyed.setMessageKey("7");
+            OutboxEvent unkeyed = event(2L, "200", "8");
+
+            // when & then
+            assertThat(relay.toRecord(keyed).key()).isEqualTo("7");
+            assertThat(relay.toRecord(unkeyed).key()).isEqualTo("200");
+        }
+
+        @Test
+        @DisplayName("임계값 이상이면 gzip으로 보내고, 소비 측 역직렬화기가 헤더 타입으로 복원")
+        void compressesLargePayload_AndConsumerRestoresType() throws Exception {
+            // given
+            relay = relay(10, 16);
+            OutboxEvent event = event(1L, "100", "7");
+
+            // when
+            ProducerRecord<String, byte[]> record = relay.toRecord(event);
+
+            // then
+            assertThat(header(record, OutboxHeaders.CONTENT_ENCODING)).isEqualTo(OutboxHeaders.GZIP);
+            try (OutboxPayloadDeserializer deserializer = new OutboxPayloadDeserializer()) {
+                deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.minju.common.kafka.*"), false);
+                Object restored = deserializer.deserialize(TOPIC, record.headers(), record.value());
+                assertThat(restored).isInstanceOf(StockReservationRequestEvent.class);
+                assertThat(((StockReservationRequestEvent) restored).getProductId()).isEqualTo("7");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("배치 크기 조정 (AIMD)")
+    class AdaptiveBatchSize {
+
+        @Test
+        @DisplayName("꽉 찬 배치가 목표 지연 이내면 step만큼 증가")
+        void fullFastBatch_Grows() throws Exception {
+            // given
+            relay = relay(2);
+            given(outboxRepository.claimPendingEvents(BUCKETS, 3, 2)).willReturn(List.of(event(1L, "100", "1"), event(2L, "200", "2")));
+            given(kafkaTemplate.send(anyRecord())).willReturn(success());
+
+            // when
+            relay.relayBatch();
+
+            // then
+            assertThat(relay.getBatchSize()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("전송 실패가 있으면 절반으로 감소 (최소값 유지)")
+        void failure_Halves() throws Exception {
+            // given
+            relay = relay(8);
+            given(outboxRepository.claimPendingEvents(BUCKETS, 3, 8)).willReturn(List.of(event(1L, "100", "1")));
+            given(kafkaTemplate.send(anyRecord())).willReturn(failure());
+
+            // when
+            relay.relayBatch();
+
+            // then
+            assertThat(relay.getBatchSize()).isEqualTo(4);
+        }
+    }
+
+    private OutboxRelay relay(int initialBatchSize) {
+        return relay(initialBatchSize, 0);
+    }
+
+    private OutboxRelay relay(int initialBatchSize, int compressThresholdBytes) {
+        lenient().when(leaseManager.getOwnedBuckets()).thenReturn(BUCKETS);
+        return new OutboxRelay(outboxRepository, leaseManager, statusCounter, metrics, kafkaTemplate, transactionManager,
+                initialBatchSize, 1, 100, 5, 60_000L, 2_000L, 3, compressThresholdBytes);
+    }
+
+    private OutboxEvent event(Long id, String orderId, String productId) throws Exception {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAggregateType("ORDER");
+        event.setAggregateId(orderId);
+        event.setEventType("STOCK_RESERVATION_REQUESTED");
+        event.setTopic(TOPIC);
+        event.setPayload(objectMapper.writeValueAsString(StockReservationRequestEvent.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .quantity(1)
+                .build()));
+        return event;
+    }
+
+    private static ProducerRecord<String, byte[]> anyRecord() {
+        return any();
+    }
+
+    private ProducerRecord<String, byte[]> recordOf(String productId) {
+        return argThat(record -> record != null && TOPIC.equals(record.topic()) && productOf(record).equals(productId));
+    }
+
+    private String productOf(ProducerRecord<String, byte[]> record) {
+        try {
+            return objectMapper.readValue(record.value(), StockReservationRequestEvent.class).getProductId();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String key) {
+        return new String(record.headers().lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> success() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> failure() {
+        return CompletableFuture.failedFuture(new RuntimeException("브로커 장애"));
+    }
+}
@@ -0,0 +1,170 @@
+package com.minju.common.retention;
+
+import com.minju.common.dlq.DeadLetterEventRepository;
+import com.minju.common.idempotency.ProcessedEventRepository;
+import com.minju.common.outbox.OutboxEventRepository;
+import com.minju.common.outbox.OutboxStatusCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetentionEngine 테스트")
+class RetentionEngineTest {
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    @Mock
+    private DeadLetterEventRepository deadLetterRepository;
+
+    @Mock
+    private OutboxPartitionManager partitionManager;
+
+    @Mock
+    private OutboxStatusCounter statusCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Nested
+    @DisplayName("청크 삭제")
+    class Purge {
+
+        @Test
+        @DisplayName("마지막 ID를 커서로 이어가며 청크 단위로 삭제하고, 덜 찬 청크에서 멈춤")
+        void advancesCursorUntilShortChunk() {
+            // given
+            RetentionEngine engine = engine(3, 10);
+            List<Long> cursors = new ArrayList<>();
+            List<List<Long>> chunks = List.of(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L));
+            BiFunction<Long, Integer, List<Long>> select = (afterId, limit) -> {
+                cursors.add(afterId);
+                return chunks.get(cursors.size() - 1);
+            };
+
+            // when
+            long deleted = engine.purge("test", 0L, select, List::size);
+
+            // then
+            assertThat(deleted).isEqualTo(7);
+            assertThat(cursors).containsExactly(0L, 3L, 6L);
+        }
+
+        @Test
+        @DisplayName("한 번 실행에 최대 청크 수까지만 처리 (남은 건 다음 주기)")
+        void stopsAtMaxChunksPerRun() {
+            // given
+            RetentionEngine engine = engine(2, 2);
+            List<Long> cursors = new ArrayList<>();
+            BiFunction<Long, Integer, List<Long>> select = (afterId, limit) -> {
+                cursors.add(afterId);
+                return List.of(afterId + 1, afterId + 2);
+            };
+
+            // when
+            long deleted = engine.purge("test", 0L, select, List::size);
+
+            // then
+            assertThat(deleted).isEqualTo(4);
+            assertThat(cursors).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("삭제 중 예외가 나면 그때까지 삭제한 건수만 반환하고 중단")
+        void stopsOnFailure() {
+            // given
+            RetentionEngine engine = engine(2, 10);
+            List<Long> cursors = new ArrayList<>();
+            BiFunction<Long, Integer, List<Long>> select = (afterId, limit) -> {
+                cursors.add(afterId);
+                if (cursors.size() == 2) {
+                    throw new IllegalStateException("잠금 대기 시간 초과");
+                }
+                return List.of(1L, 2L);
+            };
+
+            // when
+            long deleted = engine.purge("test", 0L, select, List::size);
+
+            // then
+            assertThat(deleted).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("보관 기간 정리")
+    class PurgeExpired {
+
+        @Test
+        @DisplayName("파티션이 꺼져 있으면 DDL 없이 청크 삭제만 하고 outbox 삭제 건수를 집계")
+        void chunkedOnly_WhenPartitioningDisabled() {
+            // given
+            RetentionEngine engine = engine(100, 10);
+            given(partitionManager.isEnabled()).willReturn(false);
+            given(outboxRepository.findPublishedIdsBefore(eq(0L), anyLong(), any(), eq(100))).willReturn(List.of(1L, 2L));
+            given(outboxRepository.deleteByIds(List.of(1L, 2L))).willReturn(2);
+            given(outboxRepository.findFailedIdsBefore(eq(0L), anyLong(), eq(100))).willReturn(List.of());
+            given(processedEventRepository.findIdsProcessedBefore(any(), eq(100))).willReturn(List.of("1_STOCK_RESERVED"));
+            given(processedEventRepository.deleteByIds(List.of("1_STOCK_RESERVED"))).willReturn(1);
+            given(deadLetterRepository.findProcessedIdsBefore(eq(0L), any(), eq(100))).willReturn(List.of());
+
+            // when
+            engine.purgeExpired();
+
+            // then
+            verify(partitionManager, never()).ensurePartitions(any());
+            verify(partitionManager, never()).dropExpiredPartitions(any(), any());
+            verify(processedEventRepository).deleteByIds(List.of("1_STOCK_RESERVED"));
+            verify(deadLetterRepository, never()).deleteByIds(any());
+            verify(statusCounter).recordPurged(2L);
+        }
+
+        @Test
+        @DisplayName("파티션 관리가 실패해도 청크 삭제는 계속")
+        void partitionFailure_FallsBackToChunks() {
+            // given
+            RetentionEngine engine = engine(100, 10);
+            given(partitionManager.isEnabled()).willReturn(true);
+            given(partitionManager.dropExpiredPartitions(any(), any())).willThrow(new IllegalStateException("권한 없음"));
+            given(outboxRepository.findPublishedIdsBefore(anyLong(), anyLong(), any(), anyInt())).willReturn(List.of());
+            given(outboxRepository.findFailedIdsBefore(anyLong(), anyLong(), anyInt())).willReturn(List.of());
+            given(processedEventRepository.findIdsProcessedBefore(any(), anyInt())).willReturn(List.of());
+            given(deadLetterRepository.findProcessedIdsBefore(anyLong(), any(), anyInt())).willReturn(List.of());
+
+            // when
+            engine.purgeExpired();
+
+            // then
+            verify(partitionManager).ensurePartitions(any());
+            verify(outboxRepository).findPublishedIdsBefore(anyLong(), anyLong(), any(), anyInt());
+            verify(statusCounter).recordPurged(0L);
+        }
+    }
+
+    private RetentionEngine engine(int chunkSize, int maxChunksPerRun) {
+        return new RetentionEngine(outboxRepository, processedEventRepository, deadLetterRepository,
+                partitionManager, statusCounter, transactionManager,
+                chunkSize, 0L, maxChunksPerRun, 24, 7, 7, 30);
+    }
+}
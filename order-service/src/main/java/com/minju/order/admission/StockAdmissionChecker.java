@@ -0,0 +1,82 @@
+package com.minju.order.admission;
+
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 사전 승인 (캐시 재고 기반 fail-fast)
+ * - 장바구니 전체 상품의 재고를 MGET 한 번으로 조회해 확실히 부족한 주문은 저장 전에 거절
+ * - 재고 키가 없거나 Redis 장애면 판단하지 않고 통과 (최종 판단은 Saga 재고 예약)
+ * - 결과는 order.admission{result=admitted|rejected|skipped} 카운터로 기록
+ */
+@Component
+@Slf4j
+public class StockAdmissionChecker {
+
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Counter admitted;
+    private final Counter rejected;
+    private final Counter skipped;
+
+    public StockAdmissionChecker(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.admitted = meterRegistry.counter("order.admission", "result", "admitted");
+        this.rejected = meterRegistry.counter("order.admission", "result", "rejected");
+        this.skipped = meterRegistry.counter("order.admission", "result", "skipped");
+    }
+
+    /**
+     * @param quantities 상품 ID별 주문 수량
+     * @throws BusinessException PRODUCT_SOLD_OUT - 캐시 재고가 주문 수량보다 적은 상품이 있는 경우
+     */
+    public void check(Long userId, Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue()
+                    .multiGet(productIds.stream().map(id -> STOCK_KEY_PREFIX + id).toList());
+        } catch (RuntimeException e) {
+            log.warn("사전 재고 확인 생략 (Redis 조회 실패) - userId: {}, error: {}", userId, e.getMessage());
+            skipped.increment();
+            return;
+        }
+        if (values == null) {
+            skipped.increment();
+            return;
+        }
+
+        for (int i = 0; i < productIds.size(); i++) {
+            Integer stock = parse(values.get(i));
+            Long productId = productIds.get(i);
+            if (stock != null && stock < quantities.get(productId)) {
+                log.info("주문 사전 거절 (재고 부족) - userId: {}, productId: {}, 재고: {}, 요청: {}",
+                        userId, productId, stock, quantities.get(productId));
+                rejected.increment();
+                throw new BusinessException(ErrorCode.PRODUCT_SOLD_OUT);
+            }
+        }
+        admitted.increment();
+    }
+
+    private Integer parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.minju.order.config;
+
+import com.minju.order.history.OrderHistoryCache;
+import com.minju.order.submission.OrderSubmissionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.util.List;
+
+@Configuration
+public class RedisConfig {
+
+    /**
+     * Saga 기한 선점 Lua Script
+     * 반환값: 기한이 지난 member 목록 (선점 만료 시각으로 score 갱신)
+     */
+    @Bean
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public RedisScript<List<String>> claimSagaDeadlinesScript() {
+        DefaultRedisScript script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(
+                new ClassPathResource("scripts/claim_saga_deadlines.lua")));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    /**
+     * 멱등성 응답 저장 Lua Script (자신의 IN_FLIGHT 마커일 때만 응답으로 교체)
+     * 반환값: 1 (저장), 0 (마커 소유자 아님)
+     */
+    @Bean
+    public RedisScript<Long> completeIdempotencyScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(
+                new ClassPathResource("scripts/idempotency_complete.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 멱등성 마커 해제 Lua Script (자신의 IN_FLIGHT 마커일 때만 삭제)
+     * 반환값: 1 (삭제), 0 (마커 소유자 아님)
+     */
+    @Bean
+    public RedisScript<Long> releaseIdempotencyScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(
+                new ClassPathResource("scripts/idempotency_release.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 주문 내역 캐시 무효화 구독 (다른 인스턴스에서 커밋된 변경 반영)
+     */
+    @Bean
+    public RedisMessageListenerContainer orderHistoryInvalidationContainer(RedisConnectionFactory connectionFactory,
+                                                                           OrderHistoryCache orderHistoryCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(orderHistoryCache, new ChannelTopic(OrderHistoryCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    /**
+     * 주문 상태 전이 구독 (다른 인스턴스에서 커밋된 Saga 전이를 접수 건 구독자에게 전송)
+     */
+    @Bean
+    public RedisMessageListenerContainer orderSubmissionStatusContainer(RedisConnectionFactory connectionFactory,
+                                                                        OrderSubmissionService orderSubmissionService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(orderSubmissionService, new ChannelTopic(OrderSubmissionService.STATUS_CHANNEL));
+        return container;
+    }
+}
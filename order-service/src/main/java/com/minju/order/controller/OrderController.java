@@ -1,14 +1,21 @@
 package com.minju.order.controller;
 
 import com.minju.common.dto.CommonResponse;
+import com.minju.order.dto.OrderHistoryPageDto;
 import com.minju.order.dto.OrderRequestDto;
 import com.minju.order.dto.OrderResponseDto;
+import com.minju.order.idempotency.IdempotencyKeyStore;
+import com.minju.order.service.OrderHistoryService;
 import com.minju.order.service.OrderService;
+import com.minju.order.submission.OrderSubmissionDto;
+import com.minju.order.submission.OrderSubmissionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,16 +24,25 @@ import java.util.List;
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderHistoryService orderHistoryService;
+    private final OrderSubmissionService orderSubmissionService;
+    private final IdempotencyKeyStore idempotencyKeyStore;
 
     /**
-     * 장바구니에서 주문 생성
+     * 장바구니에서 주문 생성 (Idempotency-Key가 같으면 최초 응답을 그대로 반환)
      */
     @PostMapping("/from-cart")
     public ResponseEntity<CommonResponse<OrderResponseDto>> createOrderFromCart(
-            @RequestHeader("X-User-Id") Long userId) {
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
-        OrderResponseDto response = orderService.createOrderFromCart(userId);
+        // fallback 응답(orderId -1)은 저장하지 않아 같은 키로 재시도 가능
+        OrderResponseDto response = idempotencyKeyStore.execute(userId, idempotencyKey, OrderResponseDto.class,
+                () -> orderService.createOrderFromCart(userId),
+                result -> result.getOrderId() != null && result.getOrderId() > 0);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(CommonResponse.success(
@@ -35,6 +51,49 @@ public class OrderController {
                 ));
     }
 
+    /**
+     * 장바구니에서 주문 비동기 접수 (202 Accepted + 접수 토큰, Idempotency-Key가 같으면 같은 토큰 반환)
+     */
+    @PostMapping("/from-cart/async")
+    public ResponseEntity<CommonResponse<OrderSubmissionDto>> submitOrderFromCart(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+
+        // 접수 토큰은 보관 기간이 지나면 사라지므로 멱등성 응답도 같은 기간만 보관 (만료된 토큰을 재전송하지 않도록)
+        OrderSubmissionDto submission = idempotencyKeyStore.execute(userId, idempotencyKey, OrderSubmissionDto.class,
+                () -> orderSubmissionService.submit(userId),
+                result -> true,
+                orderSubmissionService.getRetention());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(CommonResponse.success("주문이 접수되었습니다.", submission));
+    }
+
+    /**
+     * 주문 접수 상태 조회
+     */
+    @GetMapping("/submissions/{token}")
+    public ResponseEntity<CommonResponse<OrderSubmissionDto>> getSubmission(
+            @PathVariable String token,
+            @RequestHeader("X-User-Id") Long userId) {
+
+        OrderSubmissionDto submission = orderSubmissionService.getSubmission(token, userId);
+
+        return ResponseEntity.ok(
+                CommonResponse.success("주문 접수 상태 조회에 성공했습니다.", submission)
+        );
+    }
+
+    /**
+     * 주문 접수 상태 구독 (SSE, 종료 상태가 되면 스트림 종료)
+     */
+    @GetMapping(value = "/submissions/{token}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSubmission(
+            @PathVariable String token,
+            @RequestHeader("X-User-Id") Long userId) {
+        return orderSubmissionService.subscribe(token, userId);
+    }
+
     /**
      * 주문 내역 조회
      */
@@ -49,6 +108,35 @@ public class OrderController {
         );
     }
 
+    /**
+     * 주문 내역 커서 페이지 조회 (cursor: 이전 응답의 nextCursor)
+     */
+    @GetMapping("/history")
+    public ResponseEntity<CommonResponse<OrderHistoryPageDto>> getOrderHistoryPage(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String status) {
+
+        OrderHistoryPageDto page = orderHistoryService.getOrderHistoryPage(userId, cursor, size, status);
+
+        return ResponseEntity.ok(
+                CommonResponse.success("주문 내역 조회에 성공했습니다.", page)
+        );
+    }
+
+    /**
+     * 주문 내역 읽기 모델 재구성 (원본 테이블 기준)
+     */
+    @PostMapping("/history/rebuild")
+    public ResponseEntity<CommonResponse<Integer>> rebuildOrderHistory() {
+        int rebuilt = orderHistoryService.rebuild();
+
+        return ResponseEntity.ok(
+                CommonResponse.success("주문 내역 재구성에 성공했습니다.", rebuilt)
+        );
+    }
+
     /**
      * 주문 취소
      */
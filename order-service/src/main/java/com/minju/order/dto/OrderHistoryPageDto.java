@@ -0,0 +1,18 @@
+package com.minju.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 내역 커서 페이지
+ * - nextCursor를 다음 요청의 cursor로 그대로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderHistoryPageDto {
+    private final List<OrderResponseDto> orders;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -1,5 +1,10 @@
 package com.minju.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.minju.order.entity.OrderHistoryView;
 import com.minju.order.entity.Orders;
 import com.minju.order.entity.OrderItem;
 import lombok.Getter;
@@ -11,6 +16,7 @@ import java.util.stream.Collectors;
 
 @Getter
 public class OrderResponseDto {
+    @JsonSerialize(using = ToStringSerializer.class)  // TSID는 2^53을 넘으므로 JS 클라이언트용으로 문자열 직렬화
     private final Long orderId;
     private final String orderStatus;
     private final int totalAmount;
@@ -30,6 +36,30 @@ public class OrderResponseDto {
                         .collect(Collectors.toList());
     }
 
+    public OrderResponseDto(OrderHistoryView view, List<OrderItemDto> items) {
+        this.orderId = view.getOrderId();
+        this.orderStatus = view.getOrderStatus();
+        this.totalAmount = view.getTotalAmount();
+        this.createdAt = view.getCreatedAt();
+        this.updatedAt = view.getUpdatedAt();
+        this.items = items;
+    }
+
+    @JsonCreator
+    public OrderResponseDto(@JsonProperty("orderId") Long orderId,
+                            @JsonProperty("orderStatus") String orderStatus,
+                            @JsonProperty("totalAmount") int totalAmount,
+                            @JsonProperty("createdAt") LocalDateTime createdAt,
+                            @JsonProperty("updatedAt") LocalDateTime updatedAt,
+                            @JsonProperty("items") List<OrderItemDto> items) {
+        this.orderId = orderId;
+        this.orderStatus = orderStatus;
+        this.totalAmount = totalAmount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.items = items;
+    }
+
     @Getter
     public static class OrderItemDto {
         private final Long productId;
@@ -41,5 +71,14 @@ public class OrderResponseDto {
             this.quantity = orderItem.getQuantity();
             this.price = orderItem.getPrice();
         }
+
+        @JsonCreator
+        public OrderItemDto(@JsonProperty("productId") Long productId,
+                            @JsonProperty("quantity") int quantity,
+                            @JsonProperty("price") int price) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.price = price;
+        }
     }
 }
\ No newline at end of file
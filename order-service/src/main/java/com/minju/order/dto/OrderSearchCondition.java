@@ -14,4 +14,10 @@ public class OrderSearchCondition {
     private LocalDateTime endDate;
     private Integer minAmount;
     private Integer maxAmount;
+
+    /**
+     * keyset 커서 - 이전 페이지 마지막 주문의 생성일시/ID
+     */
+    private LocalDateTime cursorCreatedAt;
+    private Long cursorOrderId;
 }
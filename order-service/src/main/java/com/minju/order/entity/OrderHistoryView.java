@@ -0,0 +1,75 @@
+package com.minju.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내역 조회용 프로젝션 (CQRS 읽기 모델)
+ * - 주문 1건 = 1행, 주문 상품은 JSON 문서로 포함
+ * - Saga 상태 전이 / 주문 취소·반품 시 같은 트랜잭션에서 갱신
+ * - 원본(orders, order_items)으로부터 언제든 재구성 가능
+ */
+@Entity
+@Table(name = "order_history_view", indexes = {
+        @Index(name = "idx_history_user_created_id", columnList = "user_id,created_at,order_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderHistoryView implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_status", nullable = false)
+    private String orderStatus;
+
+    @Column(name = "total_amount", nullable = false)
+    private int totalAmount;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    /**
+     * 주문 상품 목록 (JSON 배열: productId, quantity, price)
+     */
+    @Column(name = "items", columnDefinition = "TEXT", nullable = false)
+    private String items;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -1,4 +1,5 @@
 package com.minju.order.entity;
+import com.minju.common.id.Tsid;
 import jakarta.persistence.Entity;
 import lombok.Getter;
 import jakarta.persistence.*;
@@ -18,7 +19,7 @@ import java.time.LocalDateTime;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "id", nullable = false, columnDefinition = "BIGINT")
     private Long id; // Primary Key
 
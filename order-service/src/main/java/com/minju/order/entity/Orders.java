@@ -1,5 +1,6 @@
 package com.minju.order.entity;
 
+import com.minju.common.id.Tsid;
 import jakarta.persistence.Entity;
 import lombok.*;
 import jakarta.persistence.*;
@@ -16,11 +17,15 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created_id", columnList = "created_at,order_id"),
+        @Index(name = "idx_orders_user_created_id", columnList = "user_id,created_at,order_id"),
+        @Index(name = "idx_orders_status_id", columnList = "order_status,order_id")
+})
 public class Orders {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "order_id", nullable = false, columnDefinition = "BIGINT")
     private Long id; // Primary Key
 
@@ -63,6 +68,13 @@ public class Orders {
     @Column(nullable = false, columnDefinition = "int default 0")
     private int failedItemCount = 0;
 
+    /**
+     * Saga 진행 버전 (Saga 카운터/상태 UPDATE마다 증가, 조건부 UPDATE의 기대값)
+     * - 예약 성공/실패 토픽 파티션이 서로 다른 인스턴스에 배정돼도 서로의 카운터를 덮어쓰지 않도록
+     */
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long sagaVersion = 0;
+
     /**
      * 모든 상품의 재고 예약이 완료되었는지 확인
      */
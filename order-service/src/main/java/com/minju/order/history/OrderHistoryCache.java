@@ -0,0 +1,135 @@
+package com.minju.order.history;
+
+import com.minju.order.dto.OrderResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 주문 내역 캐시 (LRU, 최대 사용자 수 제한)
+ * - 해당 사용자의 주문이 바뀌면 커밋 후 무효화
+ * - 조회 도중 무효화가 일어나면 읽은 값은 캐시에 넣지 않음 (무효화 세대 비교)
+ * - 무효화는 Redis pub/sub으로 다른 인스턴스에도 전파 (메시지: "발신 인스턴스|userId", 전체는 "*")
+ * - 전파가 유실돼도(Redis 장애, 구독 재연결 중) TTL이 지나면 다시 읽으므로 오래된 내역이 남는 시간은 TTL로 제한
+ */
+@Component
+@Slf4j
+public class OrderHistoryCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "order:history:invalidate";
+    private static final String ALL_USERS = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMs;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<Long, CachedHistory> entries;
+    private long generation;
+
+    public OrderHistoryCache(StringRedisTemplate redisTemplate,
+                             @Value("${order.history.cache.max-users:10000}") int maxUsers,
+                             @Value("${order.history.cache.ttl-ms:30000}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedHistory> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public List<OrderResponseDto> get(Long userId, Supplier<List<OrderResponseDto>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            CachedHistory cached = entries.get(userId);
+            if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+                return cached.orders;
+            }
+            loadGeneration = generation;
+        }
+
+        List<OrderResponseDto> loaded = List.copyOf(loader.get());
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(userId, new CachedHistory(loaded, System.currentTimeMillis() + ttlMs));
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(Long userId) {
+        evictLocal(userId);
+        publish(String.valueOf(userId));
+    }
+
+    public void clear() {
+        clearLocal();
+        publish(ALL_USERS);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 무효화 메시지 처리 (자신이 보낸 메시지는 이미 반영했으므로 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+
+        String target = body.substring(separator + 1);
+        if (ALL_USERS.equals(target)) {
+            clearLocal();
+            return;
+        }
+        try {
+            evictLocal(Long.valueOf(target));
+        } catch (NumberFormatException e) {
+            log.warn("주문 내역 캐시 무효화 메시지 형식 오류 - {}", body);
+        }
+    }
+
+    private synchronized void evictLocal(Long userId) {
+        generation++;
+        entries.remove(userId);
+    }
+
+    private synchronized void clearLocal() {
+        generation++;
+        entries.clear();
+    }
+
+    private void publish(String target) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + "|" + target);
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL 만료 후 갱신
+            log.warn("주문 내역 캐시 무효화 전파 실패 - target: {}, {}", target, e.getMessage());
+        }
+    }
+
+    private static final class CachedHistory {
+        private final List<OrderResponseDto> orders;
+        private final long expiresAt;
+
+        private CachedHistory(List<OrderResponseDto> orders, long expiresAt) {
+            this.orders = orders;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
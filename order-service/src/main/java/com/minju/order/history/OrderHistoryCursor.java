@@ -0,0 +1,45 @@
+package com.minju.order.history;
+
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 내역 keyset 커서 (createdAt, orderId)
+ * - 클라이언트에는 불투명한 URL-safe Base64 토큰으로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class OrderHistoryCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long orderId;
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderHistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST);
+            }
+            return new OrderHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
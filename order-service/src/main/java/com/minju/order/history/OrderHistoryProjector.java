@@ -0,0 +1,77 @@
+package com.minju.order.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.order.dto.OrderResponseDto;
+import com.minju.order.entity.OrderHistoryView;
+import com.minju.order.entity.Orders;
+import com.minju.order.repository.OrderHistoryViewRepository;
+import com.minju.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 내역 프로젝션 갱신
+ * - 커밋 직전(BEFORE_COMMIT) 같은 트랜잭션에서 읽기 모델 갱신 → 원본과 항상 함께 커밋/롤백
+ * - 커밋 후(AFTER_COMMIT) 해당 사용자의 캐시 무효화
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderHistoryProjector {
+
+    private final OrderHistoryViewRepository viewRepository;
+    private final OrderRepository orderRepository;
+    private final OrderHistoryCache orderHistoryCache;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void project(OrderStatusChangedEvent event) {
+        int updated = viewRepository.updateStatus(event.getOrderId(), event.getOrderStatus(), LocalDateTime.now());
+        if (updated > 0) {
+            return;
+        }
+
+        // 프로젝션 행이 없으면(신규 주문 / 프로젝션 도입 이전 주문) 원본에서 생성
+        orderRepository.findById(event.getOrderId()).ifPresentOrElse(
+                order -> viewRepository.save(toView(order)),
+                () -> log.warn("주문 내역 프로젝션 갱신 대상 주문 없음 - orderId: {}", event.getOrderId())
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictCache(OrderStatusChangedEvent event) {
+        orderHistoryCache.evict(event.getUserId());
+    }
+
+    public OrderHistoryView toView(Orders order) {
+        List<OrderResponseDto.OrderItemDto> items = order.getOrderItems().stream()
+                .map(OrderResponseDto.OrderItemDto::new)
+                .toList();
+
+        OrderHistoryView view = new OrderHistoryView();
+        view.setOrderId(order.getId());
+        view.setUserId(order.getUserId());
+        view.setOrderStatus(order.getOrderStatus());
+        view.setTotalAmount(order.getTotalAmount());
+        view.setItemCount(items.size());
+        view.setItems(writeItems(items));
+        view.setCreatedAt(order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now());
+        view.setUpdatedAt(LocalDateTime.now());
+        return view;
+    }
+
+    private String writeItems(List<OrderResponseDto.OrderItemDto> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 상품 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.minju.order.history;
+
+import lombok.Getter;
+
+/**
+ * 주문 상태 변경 (애플리케이션 내부 이벤트)
+ * - 주문 상태를 바꾸는 트랜잭션 안에서 발행 → 주문 내역 프로젝션 갱신
+ */
+@Getter
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final Long userId;
+    private final String orderStatus;
+
+    public OrderStatusChangedEvent(Long orderId, Long userId, String orderStatus) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.orderStatus = orderStatus;
+    }
+}
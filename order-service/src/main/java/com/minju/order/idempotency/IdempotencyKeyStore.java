@@ -0,0 +1,173 @@
+package com.minju.order.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 요청 중복 방지 (Redis)
+ * - 첫 요청이 SET NX로 IN_FLIGHT 마커(요청별 토큰 포함)를 잡고 처리, 끝나면 응답을 TTL과 함께 저장
+ * - 처리 중 들어온 중복 요청은 결과가 저장될 때까지 대기, 이후 중복 요청은 저장된 응답을 그대로 반환 (DB 미접근)
+ * - 처리 실패 시 마커를 지워 재시도 허용, Redis 장애 시에는 키 없이 처리
+ * - 저장/삭제는 자신의 마커일 때만 수행 (Lua compare-and-set/delete) → 마커가 만료돼 다른 요청이 잡은 키를 덮어쓰거나 지우지 않음
+ * - 마커 TTL은 최악의 처리 시간(장바구니 조회 재시도 포함)보다 길게 설정
+ */
+@Component
+@Slf4j
+public class IdempotencyKeyStore {
+
+    static final String KEY_PREFIX = "idempotency:order:";
+    static final String IN_FLIGHT = "IN_FLIGHT:";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> completeIdempotencyScript;
+    private final RedisScript<Long> releaseIdempotencyScript;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inFlightTtl;
+    private final long waitTimeoutMs;
+    private final long pollIntervalMs;
+
+    public IdempotencyKeyStore(StringRedisTemplate redisTemplate,
+                               RedisScript<Long> completeIdempotencyScript,
+                               RedisScript<Long> releaseIdempotencyScript,
+                               ObjectMapper objectMapper,
+                               @Value("${order.idempotency.ttl-ms:86400000}") long ttlMs,
+                               @Value("${order.idempotency.in-flight-ttl-ms:120000}") long inFlightTtlMs,
+                               @Value("${order.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs,
+                               @Value("${order.idempotency.poll-interval-ms:50}") long pollIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.completeIdempotencyScript = completeIdempotencyScript;
+        this.releaseIdempotencyScript = releaseIdempotencyScript;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.inFlightTtl = Duration.ofMillis(inFlightTtlMs);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    /**
+     * 키 단위로 한 번만 처리하고 결과를 재사용
+     *
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 그대로 처리)
+     * @param storable       저장할 결과인지 여부 (fallback 응답 등은 저장하지 않고 재시도 허용)
+     */
+    public <T> T execute(Long userId, String idempotencyKey, Class<T> type,
+                         Supplier<T> action, Predicate<T> storable) {
+        return execute(userId, idempotencyKey, type, action, storable, ttl);
+    }
+
+    /**
+     * 응답 보관 기간을 지정해 실행 (응답이 가리키는 대상의 보관 기간이 기본 TTL보다 짧을 때)
+     */
+    public <T> T execute(Long userId, String idempotencyKey, Class<T> type,
+                         Supplier<T> action, Predicate<T> storable, Duration responseTtl) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String key = KEY_PREFIX + userId + ":" + idempotencyKey;
+        String marker = IN_FLIGHT + UUID.randomUUID();
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        while (true) {
+            String stored;
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, marker, inFlightTtl))) {
+                    return runAndStore(key, marker, responseTtl, action, storable);
+                }
+                stored = redisTemplate.opsForValue().get(key);
+            } catch (BusinessException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                if (isRedisFailure(e)) {
+                    log.warn("멱등성 키 저장소 장애 - 키 없이 처리: {}", e.getMessage());
+                    return action.get();
+                }
+                throw e;
+            }
+
+            if (stored != null && !stored.startsWith(IN_FLIGHT)) {
+                log.info("중복 요청 - 저장된 응답 반환: {}", key);
+                return read(stored, type);
+            }
+            // 처리 중(IN_FLIGHT)이거나 방금 실패로 지워진 경우 → 대기 후 재확인
+            if (System.currentTimeMillis() > deadline) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+            }
+            sleep();
+        }
+    }
+
+    private <T> T runAndStore(String key, String marker, Duration responseTtl,
+                              Supplier<T> action, Predicate<T> storable) {
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            release(key, marker);
+            throw e;
+        }
+
+        if (!storable.test(result)) {
+            release(key, marker);
+            return result;
+        }
+        try {
+            Long stored = redisTemplate.execute(completeIdempotencyScript, List.of(key),
+                    marker, objectMapper.writeValueAsString(result), String.valueOf(responseTtl.toMillis()));
+            if (stored == null || stored == 0L) {
+                log.warn("멱등성 마커가 처리 중 만료되어 응답을 저장하지 않음 - key: {}", key);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 응답은 이미 만들어졌으므로 저장 실패는 기록만 (이후 중복 요청은 마커 만료 후 다시 처리)
+            log.error("멱등성 응답 저장 실패 - key: {}", key, e);
+        }
+        return result;
+    }
+
+    private void release(String key, String marker) {
+        try {
+            redisTemplate.execute(releaseIdempotencyScript, List.of(key), marker);
+        } catch (RuntimeException e) {
+            log.warn("멱등성 마커 삭제 실패 - key: {}", key, e);
+        }
+    }
+
+    private <T> T read(String stored, Class<T> type) {
+        try {
+            return objectMapper.readValue(stored, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등성 응답 역직렬화 실패", e);
+        }
+    }
+
+    // action 내부 예외와 구분하기 위해 Redis 접근 예외만 장애로 취급
+    private boolean isRedisFailure(RuntimeException e) {
+        return e instanceof org.springframework.dao.DataAccessException;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+    }
+}
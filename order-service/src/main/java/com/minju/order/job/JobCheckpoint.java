@@ -0,0 +1,55 @@
+package com.minju.order.job;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 작업 체크포인트 (파티션 단위)
+ * - 파티션 범위와 마지막으로 반영한 ID를 청크 트랜잭션과 함께 저장
+ * - 작업이 중단되면 다음 실행에서 미완료 파티션을 lastId 이후부터 재개
+ */
+@Entity
+@Table(name = "job_checkpoint", indexes = {
+        @Index(name = "idx_checkpoint_job", columnList = "job_name,completed")
+})
+@Getter
+@NoArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "checkpoint_key", nullable = false, length = 100)
+    private String checkpointKey;
+
+    @Column(name = "job_name", nullable = false, length = 80)
+    private String jobName;
+
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static JobCheckpoint create(String jobName, int partition, Long rangeStart, Long rangeEnd) {
+        JobCheckpoint checkpoint = new JobCheckpoint();
+        checkpoint.checkpointKey = jobName + ":" + partition;
+        checkpoint.jobName = jobName;
+        checkpoint.rangeStart = rangeStart;
+        checkpoint.rangeEnd = rangeEnd;
+        checkpoint.lastId = rangeStart - 1;
+        checkpoint.completed = false;
+        checkpoint.updatedAt = LocalDateTime.now();
+        return checkpoint;
+    }
+}
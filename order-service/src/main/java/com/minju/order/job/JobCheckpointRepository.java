@@ -0,0 +1,31 @@
+package com.minju.order.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    List<JobCheckpoint> findByJobNameAndCompletedFalse(String jobName);
+
+    /**
+     * 청크 반영 위치 기록 (청크 트랜잭션 안에서 호출)
+     */
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.lastId = :lastId, c.updatedAt = :updatedAt WHERE c.checkpointKey = :key")
+    int updateLastId(@Param("key") String checkpointKey,
+                     @Param("lastId") Long lastId,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.completed = true, c.updatedAt = :updatedAt WHERE c.checkpointKey = :key")
+    int markCompleted(@Param("key") String checkpointKey, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM JobCheckpoint c WHERE c.jobName = :jobName")
+    int deleteByJobName(@Param("jobName") String jobName);
+}
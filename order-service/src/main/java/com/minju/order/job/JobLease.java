@@ -0,0 +1,28 @@
+package com.minju.order.job;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 작업 실행 lease (작업별 실행 인스턴스, leaseUntil이 지나면 다른 인스턴스가 가져갈 수 있음)
+ * - 작업의 모든 쓰기 트랜잭션이 먼저 lease를 연장하므로, lease를 잃은 실행은 더 이상 반영하지 못함
+ */
+@Entity
+@Table(name = "job_lease")
+@Getter
+@NoArgsConstructor
+public class JobLease {
+
+    @Id
+    @Column(name = "job_name", nullable = false, length = 80)
+    private String jobName;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+}
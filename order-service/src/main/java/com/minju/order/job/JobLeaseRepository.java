@@ -0,0 +1,41 @@
+package com.minju.order.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * lease 행이 없으면 빈 행 생성 (동시에 실행돼도 한 행만 생김)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_lease (job_name, owner, lease_until) VALUES (:jobName, NULL, NULL)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName);
+
+    /**
+     * 비어 있거나 만료된 lease만 조건부 획득 (동시에 시도해도 한 인스턴스만 성공)
+     */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.leaseUntil = :until " +
+            "WHERE l.jobName = :jobName AND (l.owner IS NULL OR l.leaseUntil IS NULL OR l.leaseUntil <= :now)")
+    int tryAcquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * 보유 중인 유효한 lease 연장 (쓰기 트랜잭션 첫 문장 → 행 잠금으로 커밋까지 다른 인스턴스의 획득 차단)
+     */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.leaseUntil = :until " +
+            "WHERE l.jobName = :jobName AND l.owner = :owner AND l.leaseUntil > :now")
+    int renew(@Param("jobName") String jobName, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE JobLease l SET l.owner = NULL, l.leaseUntil = NULL WHERE l.jobName = :jobName AND l.owner = :owner")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner);
+}
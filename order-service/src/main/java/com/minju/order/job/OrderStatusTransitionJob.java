@@ -0,0 +1,285 @@
+package com.minju.order.job;
+
+import com.minju.order.history.OrderHistoryCache;
+import com.minju.order.repository.OrderHistoryViewRepository;
+import com.minju.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 상태 자동 전이 작업 (PENDING → SHIPPING → DELIVERED)
+ * - 엔티티를 적재하지 않고 ID 구간 단위 set-based UPDATE (청크마다 별도 트랜잭션)
+ * - 대상 ID 범위를 파티션으로 나눠 병렬 처리
+ * - 파티션별 체크포인트(job_checkpoint)를 청크와 같은 트랜잭션에 기록 → 중단 시 이어서 재개
+ * - 인스턴스 간에는 DB lease(job_lease)로 하나만 실행, 모든 쓰기 트랜잭션이 lease 연장에 성공해야 반영
+ */
+@Component
+@Slf4j
+public class OrderStatusTransitionJob {
+
+    static final String JOB_PREFIX = "order-status-transition:";
+    static final String LEASE_NAME = "order-status-transition";
+
+    private final OrderRepository orderRepository;
+    private final OrderHistoryViewRepository viewRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final JobLeaseRepository leaseRepository;
+    private final OrderHistoryCache orderHistoryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long leaseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger activePartitions = new AtomicInteger();
+
+    public OrderStatusTransitionJob(OrderRepository orderRepository,
+                                    OrderHistoryViewRepository viewRepository,
+                                    JobCheckpointRepository checkpointRepository,
+                                    JobLeaseRepository leaseRepository,
+                                    OrderHistoryCache orderHistoryCache,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${order.status-job.chunk-size:1000}") int chunkSize,
+                                    @Value("${order.status-job.parallelism:4}") int parallelism,
+                                    @Value("${order.status-job.lease-ms:60000}") long leaseMs) {
+        this.orderRepository = orderRepository;
+        this.viewRepository = viewRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.leaseRepository = leaseRepository;
+        this.orderHistoryCache = orderHistoryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.leaseMs = leaseMs;
+
+        Gauge.builder("order.status_transition.active_partitions", activePartitions, AtomicInteger::get)
+                .description("처리 중인 주문 상태 전이 파티션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상태 전이 실행 (인스턴스 전체에서 동시에 하나만 수행)
+     *
+     * @return 전이별 변경 주문 수
+     */
+    public Map<String, Integer> run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("주문 상태 전이 작업이 이미 실행 중입니다.");
+            return Map.of();
+        }
+        String owner = UUID.randomUUID().toString();
+        try {
+            if (!acquireLease(owner)) {
+                log.warn("주문 상태 전이 작업이 다른 인스턴스에서 실행 중입니다.");
+                return Map.of();
+            }
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                // SHIPPING → DELIVERED 먼저 수행: 이번 실행에서 SHIPPING이 된 주문이 곧바로 DELIVERED 되지 않도록
+                List<Transition> transitions = List.of(
+                        new Transition("SHIPPING", "DELIVERED", now.minusDays(2)),
+                        new Transition("PENDING", "SHIPPING", now.minusDays(1))
+                );
+
+                Map<String, Integer> result = new LinkedHashMap<>();
+                for (Transition transition : transitions) {
+                    result.put(transition.getName(), runTransition(transition, owner));
+                }
+                return result;
+            } finally {
+                releaseLease(owner);
+                // 사용자 구분 없이 일괄 변경되므로 주문 내역 캐시 전체 무효화
+                orderHistoryCache.clear();
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int runTransition(Transition transition, String owner) {
+        String jobName = JOB_PREFIX + transition.getName();
+        List<JobCheckpoint> partitions = checkpointRepository.findByJobNameAndCompletedFalse(jobName);
+        if (partitions.isEmpty()) {
+            partitions = plan(jobName, transition, owner);
+        } else {
+            log.info("[{}] 미완료 파티션 {}개 재개", jobName, partitions.size());
+        }
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions.size()),
+                r -> new Thread(r, "order-status-job"));
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (JobCheckpoint partition : partitions) {
+                futures.add(executor.submit(() -> runPartition(transition, partition, owner)));
+            }
+
+            int total = 0;
+            Exception failure = null;
+            for (Future<Integer> future : futures) {
+                try {
+                    total += future.get();
+                } catch (ExecutionException e) {
+                    failure = (Exception) e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw new IllegalStateException("주문 상태 전이 작업 실패 - " + jobName, failure);
+            }
+            log.info("[{}] 완료 - {}건", jobName, total);
+            return total;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 대상 ID 범위를 파티션으로 나누고 체크포인트 생성
+     */
+    private List<JobCheckpoint> plan(String jobName, Transition transition, String owner) {
+        Long minId = orderRepository.findMinIdForStatusTransition(transition.getFromStatus(), transition.getBefore());
+        Long maxId = orderRepository.findMaxIdForStatusTransition(transition.getFromStatus(), transition.getBefore());
+        if (minId == null || maxId == null) {
+            return List.of();
+        }
+
+        int partitionCount = (int) Math.max(1, Math.min(parallelism, maxId - minId + 1));
+        long span = (maxId - minId) / partitionCount + 1;
+        List<JobCheckpoint> partitions = new ArrayList<>();
+        for (int i = 0; i < partitionCount; i++) {
+            long start = minId + span * i;
+            long end = i == partitionCount - 1 ? maxId : start + span - 1;
+            partitions.add(JobCheckpoint.create(jobName, i, start, end));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            renewLease(owner);
+            checkpointRepository.deleteByJobName(jobName);
+            checkpointRepository.saveAll(partitions);
+        });
+        log.info("[{}] 파티션 {}개 생성 - ID {} ~ {}", jobName, partitionCount, minId, maxId);
+        return partitions;
+    }
+
+    private int runPartition(Transition transition, JobCheckpoint partition, String owner) {
+        String key = partition.getCheckpointKey();
+        Counter rows = meterRegistry.counter("order.status_transition.rows", "transition", transition.getName());
+        Timer chunkTimer = meterRegistry.timer("order.status_transition.chunk", "transition", transition.getName());
+
+        activePartitions.incrementAndGet();
+        try {
+            long lastId = partition.getLastId();
+            int updated = 0;
+            while (true) {
+                List<Long> ids = orderRepository.findIdsForStatusTransition(transition.getFromStatus(),
+                        transition.getBefore(), lastId, partition.getRangeEnd(), PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Long fromId = ids.get(0);
+                Long toId = ids.get(ids.size() - 1);
+                Integer chunkUpdated = chunkTimer.record(() -> transactionTemplate.execute(status -> {
+                    renewLease(owner);
+                    LocalDateTime now = LocalDateTime.now();
+                    int count = orderRepository.transitionStatusInRange(transition.getFromStatus(),
+                            transition.getToStatus(), transition.getBefore(), fromId, toId);
+                    viewRepository.transitionStatusInRange(transition.getFromStatus(), transition.getToStatus(),
+                            transition.getBefore(), fromId, toId, now);
+                    checkpointRepository.updateLastId(key, toId, now);
+                    return count;
+                }));
+
+                int count = chunkUpdated != null ? chunkUpdated : 0;
+                updated += count;
+                rows.increment(count);
+                lastId = toId;
+                log.debug("[{}] 청크 반영 - ID {} ~ {}, {}건", key, fromId, toId, count);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                renewLease(owner);
+                checkpointRepository.markCompleted(key, LocalDateTime.now());
+            });
+            log.info("[{}] 파티션 완료 - {}건", key, updated);
+            return updated;
+        } finally {
+            activePartitions.decrementAndGet();
+        }
+    }
+
+    private boolean acquireLease(String owner) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            leaseRepository.insertIfAbsent(LEASE_NAME);
+            return leaseRepository.tryAcquire(LEASE_NAME, owner, now, now.plus(Duration.ofMillis(leaseMs))) > 0;
+        }));
+    }
+
+    /**
+     * 쓰기 트랜잭션마다 가장 먼저 호출 - lease를 잃었으면(만료 후 다른 인스턴스가 획득) 트랜잭션 롤백
+     */
+    private void renewLease(String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        if (leaseRepository.renew(LEASE_NAME, owner, now, now.plus(Duration.ofMillis(leaseMs))) == 0) {
+            throw new IllegalStateException("주문 상태 전이 작업 lease 상실 - owner: " + owner);
+        }
+    }
+
+    private void releaseLease(String owner) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.release(LEASE_NAME, owner));
+        } catch (Exception e) {
+            // 해제하지 못해도 lease 만료 후 다른 인스턴스가 획득
+            log.warn("주문 상태 전이 작업 lease 해제 실패 - {}", e.getMessage());
+        }
+    }
+
+    @Getter
+    static final class Transition {
+        private final String fromStatus;
+        private final String toStatus;
+        private final LocalDateTime before;
+
+        Transition(String fromStatus, String toStatus, LocalDateTime before) {
+            this.fromStatus = fromStatus;
+            this.toStatus = toStatus;
+            this.before = before;
+        }
+
+        String getName() {
+            return fromStatus + "->" + toStatus;
+        }
+    }
+}
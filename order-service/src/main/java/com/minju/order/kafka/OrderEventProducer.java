@@ -14,7 +14,7 @@ public class OrderEventProducer {
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
     public void send(OrderCreatedEvent event) {
-        kafkaTemplate.send("order-created-topic", event);
+        kafkaTemplate.send("order-created-topic", event.getOrderId(), event);
         log.info("Kafka - 주문 생성 이벤트 발행: {}", event);
     }
 }
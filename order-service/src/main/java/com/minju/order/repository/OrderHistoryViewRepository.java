@@ -0,0 +1,61 @@
+package com.minju.order.repository;
+
+import com.minju.order.entity.OrderHistoryView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderHistoryViewRepository extends JpaRepository<OrderHistoryView, Long> {
+
+    List<OrderHistoryView> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * 사용자 주문 내역 keyset 페이지 (idx_history_user_created_id 범위 조회)
+     * - cursor가 없으면 첫 페이지, status가 없으면 전체 상태
+     */
+    @Query("SELECT v FROM OrderHistoryView v WHERE v.userId = :userId " +
+            "AND (:status IS NULL OR v.orderStatus = :status) " +
+            "AND (:cursorCreatedAt IS NULL OR v.createdAt < :cursorCreatedAt " +
+            "OR (v.createdAt = :cursorCreatedAt AND v.orderId < :cursorOrderId)) " +
+            "ORDER BY v.createdAt DESC, v.orderId DESC")
+    List<OrderHistoryView> findPageByUserId(@Param("userId") Long userId,
+                                            @Param("status") String orderStatus,
+                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                            @Param("cursorOrderId") Long cursorOrderId,
+                                            Pageable pageable);
+
+    /**
+     * 주문 상태만 갱신 (Saga 상태 전이 반영)
+     */
+    @Modifying
+    @Query("UPDATE OrderHistoryView v SET v.orderStatus = :status, v.updatedAt = :updatedAt WHERE v.orderId = :orderId")
+    int updateStatus(@Param("orderId") Long orderId,
+                     @Param("status") String orderStatus,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * ID 구간 단위 상태 일괄 전이 (주문 상태 전이 작업과 같은 조건)
+     */
+    @Modifying
+    @Query("UPDATE OrderHistoryView v SET v.orderStatus = :toStatus, v.updatedAt = :updatedAt " +
+            "WHERE v.orderStatus = :fromStatus AND v.createdAt < :before AND v.orderId BETWEEN :fromId AND :toId")
+    int transitionStatusInRange(@Param("fromStatus") String fromStatus,
+                                @Param("toStatus") String toStatus,
+                                @Param("before") LocalDateTime before,
+                                @Param("fromId") Long fromId,
+                                @Param("toId") Long toId,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 재구성 대상 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OrderHistoryView v WHERE v.orderId IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
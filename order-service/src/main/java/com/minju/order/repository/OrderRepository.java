@@ -1,10 +1,86 @@
 package com.minju.order.repository;
 
 import com.minju.order.entity.Orders;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Orders, Long>, OrderRepositoryCustom {
     List<Orders> findByUserId(Long userId);
+
+    @Query("SELECT o.orderStatus FROM Orders o WHERE o.id = :orderId")
+    Optional<String> findOrderStatusById(@Param("orderId") Long orderId);
+
+    /**
+     * 주문 ID keyset 페이지 (재구성/일괄 처리용)
+     */
+    @Query("SELECT o.id FROM Orders o WHERE o.id > :lastId ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 상태 전이 대상 ID 범위 (파티션 분할용)
+     */
+    @Query("SELECT MIN(o.id) FROM Orders o WHERE o.orderStatus = :status AND o.createdAt < :before")
+    Long findMinIdForStatusTransition(@Param("status") String orderStatus, @Param("before") LocalDateTime before);
+
+    @Query("SELECT MAX(o.id) FROM Orders o WHERE o.orderStatus = :status AND o.createdAt < :before")
+    Long findMaxIdForStatusTransition(@Param("status") String orderStatus, @Param("before") LocalDateTime before);
+
+    /**
+     * 상태 전이 대상 ID keyset 청크 (idx_orders_status_id)
+     */
+    @Query("SELECT o.id FROM Orders o WHERE o.orderStatus = :status AND o.createdAt < :before " +
+            "AND o.id > :lastId AND o.id <= :maxId ORDER BY o.id")
+    List<Long> findIdsForStatusTransition(@Param("status") String orderStatus,
+                                          @Param("before") LocalDateTime before,
+                                          @Param("lastId") Long lastId,
+                                          @Param("maxId") Long maxId,
+                                          Pageable pageable);
+
+    /**
+     * ID 구간 단위 상태 일괄 전이 (엔티티 적재 없이 set-based UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE Orders o SET o.orderStatus = :toStatus, o.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE o.orderStatus = :fromStatus AND o.createdAt < :before AND o.id BETWEEN :fromId AND :toId")
+    int transitionStatusInRange(@Param("fromStatus") String fromStatus,
+                                @Param("toStatus") String toStatus,
+                                @Param("before") LocalDateTime before,
+                                @Param("fromId") Long fromId,
+                                @Param("toId") Long toId);
+
+    /**
+     * Saga 진행 카운터 반영 (write-behind flush용)
+     * - 코디네이터가 적재한 버전·상태일 때만 반영 (다른 인스턴스가 먼저 반영했거나 다른 경로에서 상태가 바뀌었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Orders o SET o.reservedItemCount = :reserved, o.failedItemCount = :failed, " +
+            "o.sagaVersion = o.sagaVersion + 1, o.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE o.id = :orderId AND o.sagaVersion = :expectedVersion AND o.orderStatus = :expectedStatus")
+    int updateSagaProgress(@Param("orderId") Long orderId,
+                           @Param("expectedVersion") long expectedVersion,
+                           @Param("expectedStatus") String expectedStatus,
+                           @Param("reserved") int reservedItemCount,
+                           @Param("failed") int failedItemCount);
+
+    /**
+     * Saga 상태 전이 반영 (주문 상태 + 카운터)
+     * - 버전·상태가 기대값일 때만 전이 (다른 인스턴스의 Saga 반영, 취소/반품/상태 전이 배치가 먼저 바꿨으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Orders o SET o.orderStatus = :status, o.reservedItemCount = :reserved, " +
+            "o.failedItemCount = :failed, o.sagaVersion = o.sagaVersion + 1, o.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE o.id = :orderId AND o.sagaVersion = :expectedVersion AND o.orderStatus = :expectedStatus")
+    int updateSagaState(@Param("orderId") Long orderId,
+                        @Param("expectedVersion") long expectedVersion,
+                        @Param("expectedStatus") String expectedStatus,
+                        @Param("status") String orderStatus,
+                        @Param("reserved") int reservedItemCount,
+                        @Param("failed") int failedItemCount);
 }
@@ -4,8 +4,8 @@ import com.minju.order.dto.OrderSearchCondition;
 import com.minju.order.entity.Orders;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderRepositoryCustom {
@@ -15,13 +15,18 @@ public interface OrderRepositoryCustom {
      */
     List<Orders> findByUserIdWithItems(Long userId);
 
+    /**
+     * 주문 ID 목록으로 OrderItems 함께 조회
+     */
+    List<Orders> findWithItemsByIdIn(List<Long> orderIds);
+
     /**
      * 동적 검색 - 상태/날짜/금액 조건 조합
      */
     Page<Orders> searchOrders(OrderSearchCondition condition, Pageable pageable);
 
     /**
-     * 상태 업데이트 대상 조회 (findAll 대체)
+     * 동적 검색 - keyset 커서 기반
      */
-    List<Orders> findOrdersForStatusUpdate(List<String> statuses, LocalDateTime before);
+    Slice<Orders> searchOrdersAfter(OrderSearchCondition condition, int size);
 }
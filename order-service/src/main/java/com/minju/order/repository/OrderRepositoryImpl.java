@@ -8,11 +8,18 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.minju.order.entity.QOrderItem.orderItem;
 import static com.minju.order.entity.QOrders.orders;
@@ -36,8 +43,26 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 .fetch();
     }
 
+    /**
+     * 주문 ID 목록으로 OrderItems 함께 조회
+     */
+    @Override
+    public List<Orders> findWithItemsByIdIn(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(orders)
+                .distinct()
+                .leftJoin(orders.orderItems, orderItem).fetchJoin()
+                .where(orders.id.in(orderIds))
+                .fetch();
+    }
+
     /**
      * 동적 검색 - 상태/날짜/금액 조건 조합
+     * 컬렉션 fetchJoin + offset/limit 조합은 전체 행을 메모리에서 페이징(HHH90003004)하므로
+     * 1단계: 조건에 맞는 주문 ID만 페이징, 2단계: 해당 ID의 OrderItems를 한 번에 조회
      */
     @Override
     public Page<Orders> searchOrders(OrderSearchCondition condition, Pageable pageable) {
@@ -45,52 +70,75 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
         Long total = queryFactory
                 .select(orders.count())
                 .from(orders)
-                .where(
-                        userIdEq(condition.getUserId()),
-                        orderStatusEq(condition.getOrderStatus()),
-                        createdAtGoe(condition.getStartDate()),
-                        createdAtLoe(condition.getEndDate()),
-                        totalAmountGoe(condition.getMinAmount()),
-                        totalAmountLoe(condition.getMaxAmount())
-                )
+                .where(searchConditions(condition))
                 .fetchOne();
 
-        // 데이터 쿼리 (fetchJoin으로 N+1 방지)
-        List<Orders> content = queryFactory
-                .selectFrom(orders)
-                .leftJoin(orders.orderItems, orderItem).fetchJoin()
-                .where(
-                        userIdEq(condition.getUserId()),
-                        orderStatusEq(condition.getOrderStatus()),
-                        createdAtGoe(condition.getStartDate()),
-                        createdAtLoe(condition.getEndDate()),
-                        totalAmountGoe(condition.getMinAmount()),
-                        totalAmountLoe(condition.getMaxAmount())
-                )
-                .orderBy(orders.createdAt.desc())
+        // ID 페이징 쿼리 (idx_orders_created_id 순서)
+        List<Long> orderIds = queryFactory
+                .select(orders.id)
+                .from(orders)
+                .where(searchConditions(condition))
+                .orderBy(orders.createdAt.desc(), orders.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return new PageImpl<>(fetchInOrder(orderIds), pageable, total != null ? total : 0L);
     }
 
     /**
-     * 상태 업데이트 대상 조회 (findAll 대체)
+     * 동적 검색 - keyset 커서 기반 (마지막 주문의 생성일시/ID 이후)
+     * offset 스캔 없이 인덱스 범위 조회, 카운트 쿼리 생략
      */
     @Override
-    public List<Orders> findOrdersForStatusUpdate(List<String> statuses, LocalDateTime before) {
-        return queryFactory
-                .selectFrom(orders)
-                .where(
-                        orders.orderStatus.in(statuses),
-                        orders.createdAt.before(before)
-                )
+    public Slice<Orders> searchOrdersAfter(OrderSearchCondition condition, int size) {
+        List<Long> orderIds = queryFactory
+                .select(orders.id)
+                .from(orders)
+                .where(searchConditions(condition))
+                .where(afterCursor(condition.getCursorCreatedAt(), condition.getCursorOrderId()))
+                .orderBy(orders.createdAt.desc(), orders.id.desc())
+                .limit(size + 1L)
                 .fetch();
+
+        boolean hasNext = orderIds.size() > size;
+        if (hasNext) {
+            orderIds = orderIds.subList(0, size);
+        }
+        return new SliceImpl<>(fetchInOrder(orderIds), PageRequest.ofSize(size), hasNext);
+    }
+
+    // ID 순서를 유지하며 OrderItems 함께 조회 (IN 절 결과는 순서 보장 안 됨)
+    private List<Orders> fetchInOrder(List<Long> orderIds) {
+        Map<Long, Orders> byId = findWithItemsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Orders::getId, Function.identity()));
+        return orderIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     // ==================== 조건 빌더 메서드 ====================
 
+    private BooleanExpression[] searchConditions(OrderSearchCondition condition) {
+        return new BooleanExpression[]{
+                userIdEq(condition.getUserId()),
+                orderStatusEq(condition.getOrderStatus()),
+                createdAtGoe(condition.getStartDate()),
+                createdAtLoe(condition.getEndDate()),
+                totalAmountGoe(condition.getMinAmount()),
+                totalAmountLoe(condition.getMaxAmount())
+        };
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, Long cursorOrderId) {
+        if (cursorCreatedAt == null || cursorOrderId == null) {
+            return null;
+        }
+        return orders.createdAt.lt(cursorCreatedAt)
+                .or(orders.createdAt.eq(cursorCreatedAt).and(orders.id.lt(cursorOrderId)));
+    }
+
     private BooleanExpression userIdEq(Long userId) {
         return userId != null ? orders.userId.eq(userId) : null;
     }
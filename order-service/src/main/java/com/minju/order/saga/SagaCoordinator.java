@@ -0,0 +1,345 @@
+package com.minju.order.saga;
+
+import com.minju.common.idempotency.ProcessedEvent;
+import com.minju.common.idempotency.ProcessedEventRepository;
+import com.minju.order.entity.Orders;
+import com.minju.order.history.OrderStatusChangedEvent;
+import com.minju.order.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 단위 Saga 코디네이터
+ * - 같은 주문의 이벤트는 항상 같은 lane(단일 스레드)에서 순서대로 처리 → 카운터 경쟁 없음
+ * - 진행 상태는 메모리에 보관, 중간 단계(카운터 증가)는 write-behind로 묶어서 DB 반영
+ * - 종료 전이(결제 요청/취소/완료 등 outbox 발행)는 상태 + outbox + 처리 이벤트를 한 트랜잭션으로 동기 반영
+ * - 반환되는 future는 DB 반영 후 완료되므로 Kafka offset은 반영된 이벤트만 커밋됨
+ * - DB 반영은 Saga 버전과 주문 상태가 메모리에 적재한 값과 같을 때만 (예약 성공/실패 토픽을 다른 인스턴스가
+ *   처리해 먼저 반영했거나, 취소/반품/상태 전이 배치가 먼저 바꿨으면 상태를 버리고 future 실패 → 재전달 시 DB 상태로 다시 판단)
+ * - 파티션이 회수되면 반영 후 캐시 전체를 비움 (다른 인스턴스가 같은 주문을 이어서 처리)
+ */
+@Component
+@Slf4j
+public class SagaCoordinator {
+
+    static final String SERVICE_NAME = "ORDER_SAGA";
+
+    private final OrderRepository orderRepository;
+    private final ProcessedEventRepository processedEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final int laneCount;
+    private final long flushIntervalMs;
+    private final int maxPendingPerLane;
+    private final long stateIdleTimeoutMs;
+
+    private Lane[] lanes;
+    private ScheduledExecutorService flushScheduler;
+
+    public SagaCoordinator(OrderRepository orderRepository,
+                           ProcessedEventRepository processedEventRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${saga.coordinator.lanes:8}") int laneCount,
+                           @Value("${saga.coordinator.flush-interval-ms:50}") long flushIntervalMs,
+                           @Value("${saga.coordinator.max-pending-per-lane:500}") int maxPendingPerLane,
+                           @Value("${saga.coordinator.state-idle-timeout-ms:60000}") long stateIdleTimeoutMs) {
+        this.orderRepository = orderRepository;
+        this.processedEventRepository = processedEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.laneCount = laneCount;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxPendingPerLane = maxPendingPerLane;
+        this.stateIdleTimeoutMs = stateIdleTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane("saga-lane-" + i);
+        }
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "saga-flush"));
+        flushScheduler.scheduleWithFixedDelay(() -> {
+            for (Lane lane : lanes) {
+                lane.executor.execute(() -> flush(lane));
+            }
+        }, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Saga 코디네이터 시작 - lane {}개, flush 주기 {}ms", laneCount, flushIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flushScheduler.shutdownNow();
+        for (Lane lane : lanes) {
+            lane.executor.execute(() -> flush(lane));
+            lane.executor.shutdown();
+        }
+        for (Lane lane : lanes) {
+            try {
+                lane.executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 주문 이벤트를 해당 주문의 lane에서 처리
+     *
+     * @param step 상태를 변경하고, outbox 발행이 필요하면 트랜잭션 안에서 실행할 작업을 반환 (중간 단계면 null)
+     * @return 처리 결과가 DB에 반영되면 완료되는 future
+     */
+    public CompletableFuture<Void> dispatch(String orderId, String eventType, String subId, SagaStep step) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Long id;
+        try {
+            id = Long.parseLong(orderId);
+        } catch (NumberFormatException e) {
+            log.error("잘못된 주문 ID: {}", orderId);
+            future.complete(null);
+            return future;
+        }
+
+        Lane lane = laneOf(id);
+        lane.executor.execute(() -> process(lane, id, eventType, subId, step, future));
+        return future;
+    }
+
+    private void process(Lane lane, Long orderId, String eventType, String subId,
+                         SagaStep step, CompletableFuture<Void> future) {
+        String eventId = ProcessedEvent.generateEventId(String.valueOf(orderId), eventType, subId);
+        SagaState state = null;
+        try {
+            state = lane.states.get(orderId);
+            if (state == null) {
+                state = load(orderId);
+                if (state == null) {
+                    // 주문이 없으면 상태 없이 처리 (보상 이벤트만 발행 가능)
+                    runInTransaction(step.apply(null));
+                    future.complete(null);
+                    return;
+                }
+                lane.states.put(orderId, state);
+            }
+            state.touch();
+
+            // 멱등성 체크 (메모리)
+            if (state.isProcessed(eventId)) {
+                log.warn("중복 이벤트 무시: {}", eventId);
+                future.complete(null);
+                return;
+            }
+
+            Runnable effects = step.apply(state);
+            state.markProcessed(ProcessedEvent.create(String.valueOf(orderId), eventType, subId, SERVICE_NAME));
+            state.getPendingAcks().add(future);
+
+            if (effects == null) {
+                // 중간 단계: write-behind
+                lane.dirty.put(orderId, state);
+                if (lane.dirty.size() >= maxPendingPerLane) {
+                    flush(lane);
+                }
+            } else {
+                // 종료 전이: 상태 + 처리 이벤트 + outbox를 한 트랜잭션으로 반영
+                persistTransition(state, effects);
+                lane.dirty.remove(orderId);
+                completeAll(state.drainPendingAcks());
+            }
+        } catch (SagaStateConflictException e) {
+            log.warn("Saga 상태 충돌 - orderId: {}, event: {}, {}", orderId, eventType, e.getMessage());
+            evict(lane, state, e);
+            future.completeExceptionally(e);
+        } catch (Exception e) {
+            log.error("Saga 처리 실패 - orderId: {}, event: {}", orderId, eventType, e);
+            if (state != null) {
+                evict(lane, state, e);
+            }
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void persistTransition(SagaState state, Runnable effects) {
+        List<ProcessedEvent> processedEvents = state.drainPendingProcessedEvents();
+        transactionTemplate.executeWithoutResult(status -> {
+            int updated = orderRepository.updateSagaState(state.getOrderId(), state.getPersistedVersion(),
+                    state.getPersistedStatus(), state.getOrderStatus(),
+                    state.getReservedItemCount(), state.getFailedItemCount());
+            if (updated == 0) {
+                // 롤백 → outbox 발행도 취소
+                throw new SagaStateConflictException(state);
+            }
+            processedEventRepository.saveAll(processedEvents);
+            effects.run();
+            eventPublisher.publishEvent(
+                    new OrderStatusChangedEvent(state.getOrderId(), state.getUserId(), state.getOrderStatus()));
+        });
+        state.markPersisted();
+    }
+
+    /**
+     * lane의 중간 단계 변경을 한 트랜잭션으로 반영
+     * - 버전/상태가 바뀐 주문은 카운터와 처리 이벤트를 기록하지 않고 캐시에서 제거
+     */
+    void flush(Lane lane) {
+        if (!lane.dirty.isEmpty()) {
+            List<SagaState> states = new ArrayList<>(lane.dirty.values());
+            lane.dirty.clear();
+
+            Map<SagaState, List<ProcessedEvent>> processedEvents = new LinkedHashMap<>();
+            states.forEach(state -> processedEvents.put(state, state.drainPendingProcessedEvents()));
+            List<SagaState> conflicted = new ArrayList<>();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<ProcessedEvent> applied = new ArrayList<>();
+                    for (SagaState state : states) {
+                        int updated = orderRepository.updateSagaProgress(state.getOrderId(),
+                                state.getPersistedVersion(), state.getPersistedStatus(),
+                                state.getReservedItemCount(), state.getFailedItemCount());
+                        if (updated == 0) {
+                            conflicted.add(state);
+                        } else {
+                            applied.addAll(processedEvents.get(state));
+                        }
+                    }
+                    processedEventRepository.saveAll(applied);
+                });
+                for (SagaState state : states) {
+                    if (conflicted.contains(state)) {
+                        evict(lane, state, new SagaStateConflictException(state));
+                    } else {
+                        state.markPersisted();
+                        completeAll(state.drainPendingAcks());
+                    }
+                }
+                log.debug("Saga 진행 상태 반영 - 주문 {}건, 상태 충돌 {}건", states.size(), conflicted.size());
+            } catch (Exception e) {
+                log.error("Saga 진행 상태 반영 실패 - 주문 {}건", states.size(), e);
+                states.forEach(state -> evict(lane, state, e));
+            }
+        }
+        evictIdle(lane);
+    }
+
+    /**
+     * 모든 lane의 대기 중인 변경을 반영하고 캐시를 비움 (파티션 회수/유실 시)
+     * - 이후 이벤트는 DB에서 다시 적재하므로 다른 인스턴스가 바꾼 상태를 덮어쓰지 않음
+     */
+    public void evictAll() {
+        List<Future<?>> cleared = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            cleared.add(lane.executor.submit(() -> {
+                flush(lane);
+                lane.states.clear();
+            }));
+        }
+        for (Future<?> future : cleared) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Saga 상태 캐시 정리 대기 실패: {}", e.getMessage());
+            }
+        }
+        log.info("Saga 상태 캐시 정리 - 파티션 회수");
+    }
+
+    public int getCachedStateCount() {
+        int count = 0;
+        for (Lane lane : lanes) {
+            count += lane.states.size();
+        }
+        return count;
+    }
+
+    private SagaState load(Long orderId) {
+        return readOnlyTemplate.execute(status -> {
+            Optional<Orders> order = orderRepository.findById(orderId);
+            if (order.isEmpty()) {
+                return null;
+            }
+            Set<String> processed = processedEventRepository.findByAggregateId(String.valueOf(orderId)).stream()
+                    .map(ProcessedEvent::getEventId)
+                    .collect(Collectors.toSet());
+            return new SagaState(order.get(), processed);
+        });
+    }
+
+    private void runInTransaction(Runnable effects) {
+        if (effects != null) {
+            transactionTemplate.executeWithoutResult(status -> effects.run());
+        }
+    }
+
+    // 반영 실패 시 메모리 상태를 버리고 다음 이벤트에서 DB로부터 다시 적재 (미반영 이벤트는 offset 미커밋 → 재전달)
+    private void evict(Lane lane, SagaState state, Exception cause) {
+        lane.states.remove(state.getOrderId());
+        lane.dirty.remove(state.getOrderId());
+        state.drainPendingProcessedEvents();
+        state.drainPendingAcks().forEach(f -> f.completeExceptionally(cause));
+    }
+
+    // 반영이 끝난 유휴 상태 정리 (DB가 원본이므로 언제든 다시 적재 가능)
+    private void evictIdle(Lane lane) {
+        long threshold = System.currentTimeMillis() - stateIdleTimeoutMs;
+        lane.states.values().removeIf(state ->
+                state.getLastAccessMs() < threshold && !lane.dirty.containsKey(state.getOrderId()));
+    }
+
+    private void completeAll(List<CompletableFuture<Void>> futures) {
+        futures.forEach(f -> f.complete(null));
+    }
+
+    private Lane laneOf(Long orderId) {
+        return lanes[Math.floorMod(Long.hashCode(orderId), lanes.length)];
+    }
+
+    /**
+     * Saga 단계 처리 로직
+     */
+    @FunctionalInterface
+    public interface SagaStep {
+        /**
+         * @param state 주문 상태 (주문이 없으면 null)
+         * @return 트랜잭션 안에서 실행할 outbox 발행 작업, 중간 단계면 null
+         */
+        Runnable apply(SagaState state);
+    }
+
+    /**
+     * 메모리 상태와 DB 주문 상태가 다름 (다른 인스턴스의 Saga 반영 또는 다른 경로에서 상태 변경) → 재전달 시 다시 적재
+     */
+    public static class SagaStateConflictException extends RuntimeException {
+        public SagaStateConflictException(SagaState state) {
+            super("주문 상태가 변경되어 Saga 반영을 취소합니다 - orderId: " + state.getOrderId()
+                    + ", 예상 상태: " + state.getPersistedStatus() + ", 예상 버전: " + state.getPersistedVersion());
+        }
+    }
+
+    static final class Lane {
+        private final ExecutorService executor;
+        private final Map<Long, SagaState> states = new HashMap<>();
+        private final Map<Long, SagaState> dirty = new LinkedHashMap<>();
+
+        private Lane(String name) {
+            this.executor = Executors.newSingleThreadExecutor(r -> new Thread(r, name));
+        }
+    }
+}
@@ -1,76 +1,71 @@
 package com.minju.order.saga;
 
-import com.minju.common.idempotency.ProcessedEvent;
-import com.minju.common.idempotency.ProcessedEventRepository;
+import com.minju.common.config.SagaKafkaListenerConfig;
 import com.minju.common.kafka.order.OrderCancelledEvent;
 import com.minju.common.kafka.order.OrderCompletedEvent;
 import com.minju.common.kafka.payment.PaymentCompletedEvent;
 import com.minju.common.kafka.payment.PaymentFailedEvent;
+import com.minju.common.kafka.payment.PaymentManualProcessingEvent;
 import com.minju.common.kafka.payment.PaymentRequestedEvent;
 import com.minju.common.kafka.stock.StockReservationFailedEvent;
 import com.minju.common.kafka.stock.StockRestoreEvent;
 import com.minju.common.kafka.stock.StockReservedEvent;
-import com.minju.order.entity.Orders;
 import com.minju.order.outbox.OutboxEventPublisher;
-import com.minju.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 Saga 오케스트레이터
+ * - 이벤트는 SagaCoordinator가 주문별 lane으로 라우팅해 순서대로 처리
+ * - 리스너는 CompletableFuture를 반환하고, DB 반영이 끝난 뒤 offset이 커밋됨 (async ack)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SagaOrchestrator {
 
-    private static final String SERVICE_NAME = "ORDER_SAGA";
-
-    private final OrderRepository orderRepository;
+    private final SagaCoordinator sagaCoordinator;
     private final OutboxEventPublisher outboxPublisher;
-    private final ProcessedEventRepository processedEventRepository;
 
     /**
      * 재고 예약 성공 이벤트 수신
      * → 모든 상품 예약 완료 시에만 결제 요청 이벤트 발행 (Outbox)
      */
-    @KafkaListener(topics = "stock-reserved-topic", groupId = "order-saga-group")
-    @Transactional
-    public void handleStockReserved(StockReservedEvent event) {
+    @KafkaListener(id = "order-stock-reserved", topics = "stock-reserved-topic", groupId = "order-saga-group",
+            containerFactory = SagaKafkaListenerConfig.CONTAINER_FACTORY)
+    public CompletableFuture<Void> handleStockReserved(StockReservedEvent event) {
         log.info("재고 예약 성공 수신: orderId={}, productId={}",
                 event.getOrderId(), event.getProductId());
 
-        // 멱등성 체크
-        String eventId = ProcessedEvent.generateEventId(
-                event.getOrderId(), "STOCK_RESERVED", event.getProductId());
-        if (isEventAlreadyProcessed(eventId)) {
-            log.warn("중복 이벤트 무시: {}", eventId);
-            return;
-        }
-
-        try {
-            Orders order = orderRepository.findById(Long.parseLong(event.getOrderId()))
-                    .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + event.getOrderId()));
+        return sagaCoordinator.dispatch(event.getOrderId(), "STOCK_RESERVED", event.getProductId(), order -> {
+            if (order == null) {
+                log.error("주문을 찾을 수 없습니다: {}", event.getOrderId());
+                return () -> publishStockRestoreEvent(event, "SAGA 처리 오류");
+            }
 
             // 예약 완료 카운터 증가
-            order.setReservedItemCount(order.getReservedItemCount() + 1);
+            order.incrementReserved();
             log.info("재고 예약 진행: orderId={}, reserved={}/{}, failed={}",
                     event.getOrderId(), order.getReservedItemCount(),
                     order.getTotalItemCount(), order.getFailedItemCount());
 
-            // 이미 실패한 상품이 있으면 이 상품도 복구 필요
-            if (order.hasAnyFailedReservation()) {
-                log.warn("이미 실패한 상품이 있어 이 상품도 재고 복구 필요: orderId={}, productId={}",
+            // 이미 실패한 상품이 있거나 (시간 초과 등으로) 취소된 주문이면 이 상품도 복구 필요
+            if (order.hasAnyFailedReservation() || "CANCELLED".equals(order.getOrderStatus())) {
+                log.warn("실패한 상품이 있거나 취소된 주문이라 이 상품도 재고 복구 필요: orderId={}, productId={}",
                         event.getOrderId(), event.getProductId());
-                orderRepository.save(order);
-                publishStockRestoreEvent(event, "다른 상품 재고 예약 실패로 인한 복구");
-                return;
+                return () -> publishStockRestoreEvent(event, "다른 상품 재고 예약 실패로 인한 복구");
             }
 
             // 모든 상품의 재고 예약이 완료되었는지 확인
             if (order.isAllItemsReserved()) {
                 order.setOrderStatus("STOCK_RESERVED");
-                orderRepository.save(order);
                 log.info("모든 상품 재고 예약 완료 - 결제 요청 진행: orderId={}", event.getOrderId());
 
                 // Outbox를 통한 결제 요청 이벤트 발행
@@ -83,78 +78,70 @@ public class SagaOrchestrator {
                         .status("PAYMENT_REQUESTED")
                         .build();
 
-                outboxPublisher.saveEvent(
-                        "ORDER",
-                        event.getOrderId(),
-                        "PAYMENT_REQUESTED",
-                        "payment-requested-topic",
-                        paymentEvent
-                );
-                log.info("결제 요청 Outbox 저장 완료 - orderId: {}", event.getOrderId());
-            } else {
-                // 아직 모든 상품 예약이 완료되지 않음 - 대기
-                orderRepository.save(order);
-                log.info("재고 예약 대기 중: orderId={}, 남은 상품={}",
-                        event.getOrderId(),
-                        order.getTotalItemCount() - order.getReservedItemCount() - order.getFailedItemCount());
+                return () -> {
+                    outboxPublisher.saveEvent(
+                            "ORDER",
+                            event.getOrderId(),
+                            "PAYMENT_REQUESTED",
+                            "payment-requested-topic",
+                            paymentEvent
+                    );
+                    log.info("결제 요청 Outbox 저장 완료 - orderId: {}", event.getOrderId());
+                };
             }
 
-            // 처리 완료 기록
-            markEventAsProcessed(event.getOrderId(), "STOCK_RESERVED", event.getProductId());
-
-        } catch (Exception e) {
-            log.error("재고 예약 성공 처리 중 오류: orderId={}", event.getOrderId(), e);
-            publishStockRestoreEvent(event, "SAGA 처리 오류");
-        }
+            // 아직 모든 상품 예약이 완료되지 않음 - 대기 (write-behind)
+            log.info("재고 예약 대기 중: orderId={}, 남은 상품={}",
+                    event.getOrderId(), order.getRemainingItemCount());
+            return null;
+        });
     }
 
     /**
      * 재고 예약 실패 이벤트 수신
      * → 이미 예약된 상품들의 재고 복구 + 주문 취소
      */
-    @KafkaListener(topics = "stock-reservation-failed-topic", groupId = "order-saga-group")
-    @Transactional
-    public void handleStockReservationFailed(StockReservationFailedEvent event) {
+    @KafkaListener(id = "order-stock-reservation-failed", topics = "stock-reservation-failed-topic", groupId = "order-saga-group",
+            containerFactory = SagaKafkaListenerConfig.CONTAINER_FACTORY)
+    public CompletableFuture<Void> handleStockReservationFailed(StockReservationFailedEvent event) {
         log.error("재고 예약 실패 수신: orderId={}, productId={}, reason={}",
                 event.getOrderId(), event.getProductId(), event.getReason());
 
-        // 멱등성 체크
-        String eventId = ProcessedEvent.generateEventId(
-                event.getOrderId(), "STOCK_RESERVATION_FAILED", event.getProductId());
-        if (isEventAlreadyProcessed(eventId)) {
-            log.warn("중복 이벤트 무시: {}", eventId);
-            return;
-        }
-
-        try {
-            Orders order = orderRepository.findById(Long.parseLong(event.getOrderId()))
-                    .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + event.getOrderId()));
+        return sagaCoordinator.dispatch(event.getOrderId(), "STOCK_RESERVATION_FAILED", event.getProductId(), order -> {
+            if (order == null) {
+                log.error("주문을 찾을 수 없습니다: {}", event.getOrderId());
+                return null;
+            }
 
             // 실패 카운터 증가
-            order.setFailedItemCount(order.getFailedItemCount() + 1);
+            order.incrementFailed();
             log.info("재고 예약 실패 처리: orderId={}, reserved={}, failed={}/{}",
                     event.getOrderId(), order.getReservedItemCount(),
                     order.getFailedItemCount(), order.getTotalItemCount());
 
-            // 모든 재고 처리가 완료되었는지 확인 (일부 성공 + 일부 실패)
-            if (order.isAllReservationsProcessed() || order.getFailedItemCount() == 1) {
-                // 첫 번째 실패 또는 모든 처리 완료 시 주문 취소
-                order.setOrderStatus("CANCELLED");
-                orderRepository.save(order);
-                log.info("주문 상태 업데이트: PENDING → CANCELLED (재고 부족)");
+            // 첫 번째 실패 또는 모든 처리 완료 시 주문 취소 (이미 취소된 주문은 다시 보상하지 않음)
+            boolean shouldCancel = order.isAllReservationsProcessed() || order.getFailedItemCount() == 1;
+            if (!shouldCancel || "CANCELLED".equals(order.getOrderStatus())) {
+                return null;
+            }
+
+            order.setOrderStatus("CANCELLED");
+            log.info("주문 상태 업데이트: PENDING → CANCELLED (재고 부족)");
+
+            OrderCancelledEvent cancelEvent = OrderCancelledEvent.builder()
+                    .orderId(event.getOrderId())
+                    .reason("재고 부족: " + event.getReason())
+                    .status("CANCELLED")
+                    .build();
+            boolean hasReservedItems = order.getReservedItemCount() > 0;
 
+            return () -> {
                 // 이미 예약된 상품들의 재고 복구 요청
-                if (order.getReservedItemCount() > 0) {
+                if (hasReservedItems) {
                     publishStockRestoreForAllReservedItems(order, "다른 상품 재고 부족으로 인한 주문 취소");
                 }
 
                 // Outbox를 통한 주문 취소 이벤트 발행
-                OrderCancelledEvent cancelEvent = OrderCancelledEvent.builder()
-                        .orderId(event.getOrderId())
-                        .reason("재고 부족: " + event.getReason())
-                        .status("CANCELLED")
-                        .build();
-
                 outboxPublisher.saveEvent(
                         "ORDER",
                         event.getOrderId(),
@@ -163,25 +150,65 @@ public class SagaOrchestrator {
                         cancelEvent
                 );
                 log.info("주문 취소 Outbox 저장 완료 - orderId: {}", event.getOrderId());
-            } else {
-                orderRepository.save(order);
+            };
+        });
+    }
+
+    /**
+     * Saga 단계 응답 기한 초과 (SagaTimeoutWatchdog에서 호출)
+     * → 아직 해당 단계 응답을 기다리는 주문이면 취소 + 예약된 재고 복구
+     *
+     * @return 시간 초과로 취소했으면 true (이미 다음 단계로 진행됐거나 종료된 주문이면 false)
+     */
+    public CompletableFuture<Boolean> handleTimeout(String orderId, SagaTimeoutStep step) {
+        AtomicBoolean timedOut = new AtomicBoolean();
+        return sagaCoordinator.dispatch(orderId, "SAGA_TIMEOUT", step.name(), order -> {
+            if (order == null || !step.getWaitingStatus().equals(order.getOrderStatus())) {
+                return null;
             }
 
-            // 처리 완료 기록
-            markEventAsProcessed(event.getOrderId(), "STOCK_RESERVATION_FAILED", event.getProductId());
+            timedOut.set(true);
+            order.setOrderStatus("CANCELLED");
+            log.warn("Saga 응답 시간 초과 - orderId: {}, step: {} → CANCELLED", orderId, step);
+
+            // 결제 대기 중이면 전 상품 예약 완료 상태, 재고 예약 대기 중이면 예약 완료된 상품만 복구
+            Set<Long> reservedProductIds = order.getReservedProductIds();
+            List<SagaState.Item> reservedItems = step == SagaTimeoutStep.PAYMENT ? order.getItems() :
+                    order.getItems().stream()
+                            .filter(item -> reservedProductIds.contains(item.getProductId()))
+                            .toList();
+            String reason = "Saga 응답 시간 초과: " + step;
+            OrderCancelledEvent cancelEvent = OrderCancelledEvent.builder()
+                    .orderId(orderId)
+                    .reason(reason)
+                    .status("CANCELLED")
+                    .build();
 
-        } catch (Exception e) {
-            log.error("재고 예약 실패 처리 중 오류: orderId={}", event.getOrderId(), e);
-        }
+            return () -> {
+                publishStockRestoreForItems(order, reservedItems, reason);
+                outboxPublisher.saveEvent(
+                        "ORDER",
+                        orderId,
+                        "ORDER_CANCELLED",
+                        "order-cancelled-topic",
+                        cancelEvent
+                );
+                log.info("시간 초과 주문 취소 Outbox 저장 완료 - orderId: {}", orderId);
+            };
+        }).thenApply(ignored -> timedOut.get());
     }
 
     /**
      * 예약된 모든 상품의 재고 복구 이벤트 발행
      */
-    private void publishStockRestoreForAllReservedItems(Orders order, String reason) {
-        for (var orderItem : order.getOrderItems()) {
+    private void publishStockRestoreForAllReservedItems(SagaState order, String reason) {
+        publishStockRestoreForItems(order, order.getItems(), reason);
+    }
+
+    private void publishStockRestoreForItems(SagaState order, List<SagaState.Item> items, String reason) {
+        for (SagaState.Item orderItem : items) {
             StockRestoreEvent restoreEvent = StockRestoreEvent.builder()
-                    .orderId(String.valueOf(order.getId()))
+                    .orderId(String.valueOf(order.getOrderId()))
                     .productId(String.valueOf(orderItem.getProductId()))
                     .quantity(orderItem.getQuantity())
                     .reason(reason)
@@ -190,50 +217,70 @@ public class SagaOrchestrator {
 
             outboxPublisher.saveEvent(
                     "ORDER",
-                    String.valueOf(order.getId()),
+                    String.valueOf(order.getOrderId()),
                     "STOCK_RESTORE_REQUESTED",
                     "stock-restore-topic",
+                    restoreEvent.getProductId(),
                     restoreEvent
             );
         }
-        log.info("모든 예약된 상품 재고 복구 요청 완료 - orderId: {}, itemCount: {}",
-                order.getId(), order.getOrderItems().size());
+        log.info("예약된 상품 재고 복구 요청 완료 - orderId: {}, itemCount: {}",
+                order.getOrderId(), items.size());
     }
 
     /**
      * 결제 완료 이벤트 수신
      * → 주문 완료 or 실패 처리
      */
-    @KafkaListener(topics = "payment-completed-topic", groupId = "order-saga-group")
-    @Transactional
-    public void handlePaymentCompleted(PaymentCompletedEvent event) {
+    @KafkaListener(id = "order-payment-completed", topics = "payment-completed-topic", groupId = "order-saga-group",
+            containerFactory = SagaKafkaListenerConfig.CONTAINER_FACTORY)
+    public CompletableFuture<Void> handlePaymentCompleted(PaymentCompletedEvent event) {
         log.info("결제 완료 수신: orderId={}, success={}",
                 event.getOrderId(), event.isSuccess());
 
-        // 멱등성 체크
-        String eventId = ProcessedEvent.generateEventId(
-                event.getOrderId(), "PAYMENT_COMPLETED", null);
-        if (isEventAlreadyProcessed(eventId)) {
-            log.warn("중복 이벤트 무시: {}", eventId);
-            return;
-        }
-
-        try {
-            Orders order = orderRepository.findById(Long.parseLong(event.getOrderId()))
-                    .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + event.getOrderId()));
-
-            if (event.isSuccess()) {
-                // 결제 성공 → 주문 완료
-                order.setOrderStatus("COMPLETED");
-                orderRepository.save(order);
-                log.info("주문 상태 업데이트: STOCK_RESERVED → COMPLETED");
+        return sagaCoordinator.dispatch(event.getOrderId(), "PAYMENT_COMPLETED", null, order -> {
+            if (order == null) {
+                log.error("주문을 찾을 수 없습니다: {}", event.getOrderId());
+                return null;
+            }
 
-                // Outbox를 통한 주문 완료 이벤트 발행
-                OrderCompletedEvent completedEvent = OrderCompletedEvent.builder()
+            if ("CANCELLED".equals(order.getOrderStatus())) {
+                // 시간 초과로 이미 취소·재고 복구된 주문
+                if (!event.isSuccess()) {
+                    return null;
+                }
+                log.error("취소된 주문의 결제 완료 수신 - 수동 환불 필요: orderId={}", event.getOrderId());
+                PaymentManualProcessingEvent manualEvent = PaymentManualProcessingEvent.builder()
                         .orderId(event.getOrderId())
-                        .status("COMPLETED")
+                        .amount(order.getTotalAmount())
+                        .reason("취소된 주문의 결제 완료")
+                        .status("MANUAL_PROCESSING_REQUIRED")
                         .build();
+                return () -> outboxPublisher.saveEvent(
+                        "ORDER",
+                        event.getOrderId(),
+                        "PAYMENT_MANUAL_PROCESSING",
+                        "payment-manual-processing-topic",
+                        manualEvent
+                );
+            }
+
+            if (!event.isSuccess()) {
+                // 결제 실패 → 보상 트랜잭션 (재고 복구)
+                return handlePaymentFailure(order, event.getProductId(), event.getQuantity(), "결제 실패");
+            }
+
+            // 결제 성공 → 주문 완료
+            order.setOrderStatus("COMPLETED");
+            log.info("주문 상태 업데이트: STOCK_RESERVED → COMPLETED");
+
+            OrderCompletedEvent completedEvent = OrderCompletedEvent.builder()
+                    .orderId(event.getOrderId())
+                    .status("COMPLETED")
+                    .build();
 
+            return () -> {
+                // Outbox를 통한 주문 완료 이벤트 발행
                 outboxPublisher.saveEvent(
                         "ORDER",
                         event.getOrderId(),
@@ -242,82 +289,42 @@ public class SagaOrchestrator {
                         completedEvent
                 );
                 log.info("주문 완료 Outbox 저장 완료 - orderId: {}", event.getOrderId());
-
-            } else {
-                // 결제 실패 → 보상 트랜잭션 (재고 복구)
-                handlePaymentFailure(event);
-            }
-
-            // 처리 완료 기록
-            markEventAsProcessed(event.getOrderId(), "PAYMENT_COMPLETED", null);
-
-        } catch (Exception e) {
-            log.error("결제 완료 처리 중 오류: orderId={}", event.getOrderId(), e);
-            handlePaymentFailure(event);
-        }
+            };
+        });
     }
 
     /**
      * 결제 실패 이벤트 수신
      * → 재고 복구 + 주문 취소
      */
-    @KafkaListener(topics = "payment-failed-topic", groupId = "order-saga-group")
-    @Transactional
-    public void handlePaymentFailed(PaymentFailedEvent event) {
+    @KafkaListener(id = "order-payment-failed", topics = "payment-failed-topic", groupId = "order-saga-group",
+            containerFactory = SagaKafkaListenerConfig.CONTAINER_FACTORY)
+    public CompletableFuture<Void> handlePaymentFailed(PaymentFailedEvent event) {
         log.error("결제 실패 수신: orderId={}, reason={}",
                 event.getOrderId(), event.getReason());
 
-        // 멱등성 체크
-        String eventId = ProcessedEvent.generateEventId(
-                event.getOrderId(), "PAYMENT_FAILED", null);
-        if (isEventAlreadyProcessed(eventId)) {
-            log.warn("중복 이벤트 무시: {}", eventId);
-            return;
-        }
-
-        handlePaymentFailure(event);
-        markEventAsProcessed(event.getOrderId(), "PAYMENT_FAILED", null);
+        return sagaCoordinator.dispatch(event.getOrderId(), "PAYMENT_FAILED", null, order -> {
+            if (order == null) {
+                log.error("주문을 찾을 수 없습니다: {}", event.getOrderId());
+                return null;
+            }
+            if ("CANCELLED".equals(order.getOrderStatus())) {
+                // 시간 초과로 이미 취소·재고 복구된 주문
+                return null;
+            }
+            return handlePaymentFailure(order, event.getProductId(), event.getQuantity(), event.getReason());
+        });
     }
 
     /**
      * 결제 실패 공통 처리 로직 (보상 트랜잭션)
      */
-    private void handlePaymentFailure(Object event) {
-        try {
-            String orderId;
-            String productId;
-            int quantity;
-            String reason;
-
-            if (event instanceof PaymentCompletedEvent pce) {
-                orderId = pce.getOrderId();
-                productId = pce.getProductId();
-                quantity = pce.getQuantity();
-                reason = "결제 실패";
-            } else if (event instanceof PaymentFailedEvent pfe) {
-                orderId = pfe.getOrderId();
-                productId = pfe.getProductId();
-                quantity = pfe.getQuantity();
-                reason = pfe.getReason();
-            } else {
-                log.error("알 수 없는 이벤트 타입: {}", event.getClass());
-                return;
-            }
-
-            // 주문 상태 업데이트
-            Orders order = orderRepository.findById(Long.parseLong(orderId))
-                    .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + orderId));
-
-            order.setOrderStatus("PAYMENT_FAILED");
-            orderRepository.save(order);
-            log.info("주문 상태 업데이트: STOCK_RESERVED → PAYMENT_FAILED");
+    private Runnable handlePaymentFailure(SagaState order, String productId, int quantity, String reason) {
+        order.setOrderStatus("PAYMENT_FAILED");
+        log.info("주문 상태 업데이트: STOCK_RESERVED → PAYMENT_FAILED");
 
-            // Outbox를 통한 재고 복구 이벤트 발행 (보상 트랜잭션)
-            publishStockRestoreEvent(orderId, productId, quantity, reason);
-
-        } catch (Exception e) {
-            log.error("결제 실패 처리 중 오류: ", e);
-        }
+        // Outbox를 통한 재고 복구 이벤트 발행 (보상 트랜잭션)
+        return () -> publishStockRestoreEvent(String.valueOf(order.getOrderId()), productId, quantity, reason);
     }
 
     /**
@@ -329,49 +336,22 @@ public class SagaOrchestrator {
     }
 
     private void publishStockRestoreEvent(String orderId, String productId, int quantity, String reason) {
-        try {
-            StockRestoreEvent restoreEvent = StockRestoreEvent.builder()
-                    .orderId(orderId)
-                    .productId(productId)
-                    .quantity(quantity)
-                    .reason(reason)
-                    .status("STOCK_RESTORE_REQUESTED")
-                    .build();
-
-            outboxPublisher.saveEvent(
-                    "ORDER",
-                    orderId,
-                    "STOCK_RESTORE_REQUESTED",
-                    "stock-restore-topic",
-                    restoreEvent
-            );
-            log.info("재고 복구 Outbox 저장 완료 - orderId: {}, reason: {}", orderId, reason);
-
-        } catch (Exception e) {
-            log.error("재고 복구 이벤트 발행 실패: ", e);
-        }
-    }
-
-    // ==================== 멱등성 처리 헬퍼 메서드 ====================
-
-    /**
-     * 이벤트가 이미 처리되었는지 확인
-     */
-    private boolean isEventAlreadyProcessed(String eventId) {
-        return processedEventRepository.existsById(eventId);
-    }
-
-    /**
-     * 이벤트 처리 완료 기록
-     */
-    private void markEventAsProcessed(String aggregateId, String eventType, String subId) {
-        try {
-            ProcessedEvent processedEvent = ProcessedEvent.create(
-                    aggregateId, eventType, subId, SERVICE_NAME);
-            processedEventRepository.save(processedEvent);
-            log.debug("이벤트 처리 완료 기록: {}", processedEvent.getEventId());
-        } catch (Exception e) {
-            log.error("이벤트 처리 기록 실패 (무시됨): {}", e.getMessage());
-        }
+        StockRestoreEvent restoreEvent = StockRestoreEvent.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .quantity(quantity)
+                .reason(reason)
+                .status("STOCK_RESTORE_REQUESTED")
+                .build();
+
+        outboxPublisher.saveEvent(
+                "ORDER",
+                orderId,
+                "STOCK_RESTORE_REQUESTED",
+                "stock-restore-topic",
+                restoreEvent.getProductId(),
+                restoreEvent
+        );
+        log.info("재고 복구 Outbox 저장 완료 - orderId: {}, reason: {}", orderId, reason);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.minju.order.saga;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Saga 리스너 파티션 회수/유실 시 코디네이터 캐시 정리
+ * - 회수된 파티션의 주문은 다른 인스턴스가 이어서 처리하므로, 남은 메모리 상태로 DB를 덮어쓰지 않도록 비움
+ * - 공용 컨테이너 팩토리(SagaListenerContainerCustomizer)가 모든 Saga 컨테이너에 등록
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final SagaCoordinator sagaCoordinator;
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            log.info("Saga 파티션 회수 - {}", partitions);
+            sagaCoordinator.evictAll();
+        }
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            log.warn("Saga 파티션 유실 - {}", partitions);
+            sagaCoordinator.evictAll();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.minju.order.saga;
+
+import com.minju.common.idempotency.ProcessedEvent;
+import com.minju.order.entity.Orders;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 주문별 Saga 진행 상태 (메모리)
+ * - SagaCoordinator의 lane 스레드에서만 읽고 쓴다 (락 불필요)
+ * - DB에는 write-behind 또는 종료 전이 시 동기로 반영
+ */
+@Getter
+public class SagaState {
+
+    private final Long orderId;
+    private final Long userId;
+    private final int totalAmount;
+    private final int totalItemCount;
+    private final List<Item> items;
+
+    @Setter
+    private String orderStatus;
+    // DB에 반영된 것으로 알고 있는 상태 (조건부 UPDATE의 기대값)
+    private String persistedStatus;
+    // DB에 반영된 것으로 알고 있는 Saga 버전 (다른 인스턴스가 먼저 반영했으면 불일치 → 다시 적재)
+    private long persistedVersion;
+    private int reservedItemCount;
+    private int failedItemCount;
+
+    // 처리 완료된 이벤트 ID (DB 반영분 + 반영 대기분)
+    private final Set<String> processedEventIds;
+
+    // 아직 DB에 기록되지 않은 처리 이벤트 / 반영 후 완료 처리할 future
+    private final List<ProcessedEvent> pendingProcessedEvents = new ArrayList<>();
+    private final List<CompletableFuture<Void>> pendingAcks = new ArrayList<>();
+
+    private long lastAccessMs;
+
+    SagaState(Orders order, Set<String> processedEventIds) {
+        this.orderId = order.getId();
+        this.userId = order.getUserId();
+        this.totalAmount = order.getTotalAmount();
+        this.totalItemCount = order.getTotalItemCount();
+        this.items = order.getOrderItems().stream()
+                .map(item -> new Item(item.getProductId(), item.getQuantity()))
+                .toList();
+        this.orderStatus = order.getOrderStatus();
+        this.persistedStatus = order.getOrderStatus();
+        this.persistedVersion = order.getSagaVersion();
+        this.reservedItemCount = order.getReservedItemCount();
+        this.failedItemCount = order.getFailedItemCount();
+        this.processedEventIds = new HashSet<>(processedEventIds);
+        this.lastAccessMs = System.currentTimeMillis();
+    }
+
+    public void incrementReserved() {
+        reservedItemCount++;
+    }
+
+    public void incrementFailed() {
+        failedItemCount++;
+    }
+
+    /**
+     * 모든 상품의 재고 예약이 완료되었는지 확인
+     */
+    public boolean isAllItemsReserved() {
+        return totalItemCount > 0 && reservedItemCount == totalItemCount;
+    }
+
+    /**
+     * 재고 예약이 하나라도 실패했는지 확인
+     */
+    public boolean hasAnyFailedReservation() {
+        return failedItemCount > 0;
+    }
+
+    /**
+     * 모든 재고 예약 처리가 완료되었는지 확인 (성공+실패)
+     */
+    public boolean isAllReservationsProcessed() {
+        return totalItemCount > 0 && (reservedItemCount + failedItemCount) == totalItemCount;
+    }
+
+    public int getRemainingItemCount() {
+        return totalItemCount - reservedItemCount - failedItemCount;
+    }
+
+    /**
+     * 재고 예약 완료된 상품 ID (처리 완료된 STOCK_RESERVED 이벤트 기준)
+     */
+    public Set<Long> getReservedProductIds() {
+        // 이벤트 ID 형식: {orderId}_STOCK_RESERVED_{productId} (ProcessedEvent.generateEventId)
+        String prefix = orderId + "_STOCK_RESERVED_";
+        Set<Long> productIds = new HashSet<>();
+        for (String eventId : processedEventIds) {
+            if (eventId.startsWith(prefix)) {
+                productIds.add(Long.valueOf(eventId.substring(prefix.length())));
+            }
+        }
+        return productIds;
+    }
+
+    boolean isProcessed(String eventId) {
+        return processedEventIds.contains(eventId);
+    }
+
+    void markProcessed(ProcessedEvent processedEvent) {
+        processedEventIds.add(processedEvent.getEventId());
+        pendingProcessedEvents.add(processedEvent);
+    }
+
+    List<ProcessedEvent> drainPendingProcessedEvents() {
+        List<ProcessedEvent> drained = new ArrayList<>(pendingProcessedEvents);
+        pendingProcessedEvents.clear();
+        return drained;
+    }
+
+    List<CompletableFuture<Void>> drainPendingAcks() {
+        List<CompletableFuture<Void>> drained = new ArrayList<>(pendingAcks);
+        pendingAcks.clear();
+        return drained;
+    }
+
+    void markPersisted() {
+        persistedStatus = orderStatus;
+        persistedVersion++;
+    }
+
+    void touch() {
+        lastAccessMs = System.currentTimeMillis();
+    }
+
+    /**
+     * 주문 상품 (재고 복구 이벤트 발행용)
+     */
+    @Getter
+    public static final class Item {
+        private final Long productId;
+        private final int quantity;
+
+        private Item(Long productId, int quantity) {
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.minju.order.saga;
+
+import lombok.Getter;
+
+/**
+ * 응답 기한을 두는 Saga 단계
+ * - waitingStatus: 해당 단계 응답을 기다리는 주문 상태 (기한 초과 시점에 이 상태면 타임아웃 처리)
+ */
+@Getter
+public enum SagaTimeoutStep {
+
+    STOCK_RESERVATION("PENDING"),
+    PAYMENT("STOCK_RESERVED");
+
+    private final String waitingStatus;
+
+    SagaTimeoutStep(String waitingStatus) {
+        this.waitingStatus = waitingStatus;
+    }
+}
@@ -0,0 +1,130 @@
+package com.minju.order.saga;
+
+import com.minju.order.history.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Saga 단계 응답 기한 감시
+ * - 주문 상태 전이가 커밋되면 다음 단계의 기한을 Redis ZSET(score = 기한 epoch ms)에 등록/해제
+ * - 스위퍼가 기한이 지난 항목만 범위 조회로 선점(Lua, lease)해서 SagaOrchestrator로 타임아웃 처리
+ * - 처리 중 장애가 나면 lease 만료 후 다른 인스턴스가 다시 선점 (처리는 Saga 멱등성으로 중복 방지)
+ */
+@Component
+@Slf4j
+public class SagaTimeoutWatchdog {
+
+    static final String DEADLINE_KEY = "saga:deadlines";
+    private static final String SEPARATOR = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<List<String>> claimSagaDeadlinesScript;
+    private final SagaOrchestrator sagaOrchestrator;
+    private final MeterRegistry meterRegistry;
+    private final long stockReservationTimeoutMs;
+    private final long paymentTimeoutMs;
+    private final int batchSize;
+    private final long leaseMs;
+
+    public SagaTimeoutWatchdog(StringRedisTemplate redisTemplate,
+                               RedisScript<List<String>> claimSagaDeadlinesScript,
+                               SagaOrchestrator sagaOrchestrator,
+                               MeterRegistry meterRegistry,
+                               @Value("${saga.timeout.stock-reservation-ms:30000}") long stockReservationTimeoutMs,
+                               @Value("${saga.timeout.payment-ms:60000}") long paymentTimeoutMs,
+                               @Value("${saga.timeout.batch-size:100}") int batchSize,
+                               @Value("${saga.timeout.lease-ms:30000}") long leaseMs) {
+        this.redisTemplate = redisTemplate;
+        this.claimSagaDeadlinesScript = claimSagaDeadlinesScript;
+        this.sagaOrchestrator = sagaOrchestrator;
+        this.meterRegistry = meterRegistry;
+        this.stockReservationTimeoutMs = stockReservationTimeoutMs;
+        this.paymentTimeoutMs = paymentTimeoutMs;
+        this.batchSize = batchSize;
+        this.leaseMs = leaseMs;
+    }
+
+    /**
+     * 주문 상태 전이 커밋 후 단계 기한 등록/해제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        String orderId = String.valueOf(event.getOrderId());
+        try {
+            switch (event.getOrderStatus()) {
+                case "PENDING" -> schedule(orderId, SagaTimeoutStep.STOCK_RESERVATION, stockReservationTimeoutMs);
+                case "STOCK_RESERVED" -> {
+                    clear(orderId, SagaTimeoutStep.STOCK_RESERVATION);
+                    schedule(orderId, SagaTimeoutStep.PAYMENT, paymentTimeoutMs);
+                }
+                default -> clear(orderId, SagaTimeoutStep.values());
+            }
+        } catch (Exception e) {
+            // 기한 등록 실패가 주문 처리를 막지 않도록 기록만 남김
+            log.warn("Saga 기한 갱신 실패 - orderId: {}, status: {}", orderId, event.getOrderStatus(), e);
+        }
+    }
+
+    /**
+     * 기한이 지난 단계 선점 후 타임아웃 처리
+     */
+    @Scheduled(fixedDelayString = "${saga.timeout.sweep-interval-ms:1000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        List<String> claimed;
+        try {
+            claimed = redisTemplate.execute(claimSagaDeadlinesScript, List.of(DEADLINE_KEY),
+                    String.valueOf(now), String.valueOf(batchSize), String.valueOf(now + leaseMs));
+        } catch (Exception e) {
+            log.warn("Saga 기한 조회 실패", e);
+            return;
+        }
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        log.info("Saga 기한 초과 {}건 처리", claimed.size());
+        for (String member : claimed) {
+            int separator = member.lastIndexOf(SEPARATOR);
+            String orderId = member.substring(0, separator);
+            SagaTimeoutStep step = SagaTimeoutStep.valueOf(member.substring(separator + 1));
+
+            sagaOrchestrator.handleTimeout(orderId, step).whenComplete((timedOut, ex) -> {
+                if (ex != null) {
+                    // lease 만료 후 재시도
+                    log.error("Saga 타임아웃 처리 실패 - orderId: {}, step: {}", orderId, step, ex);
+                    return;
+                }
+                if (timedOut) {
+                    meterRegistry.counter("saga.timeouts", "step", step.name()).increment();
+                }
+                redisTemplate.opsForZSet().remove(DEADLINE_KEY, member);
+            });
+        }
+    }
+
+    private void schedule(String orderId, SagaTimeoutStep step, long timeoutMs) {
+        redisTemplate.opsForZSet().add(DEADLINE_KEY, member(orderId, step), System.currentTimeMillis() + timeoutMs);
+    }
+
+    private void clear(String orderId, SagaTimeoutStep... steps) {
+        Object[] members = new Object[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            members[i] = member(orderId, steps[i]);
+        }
+        redisTemplate.opsForZSet().remove(DEADLINE_KEY, members);
+    }
+
+    private static String member(String orderId, SagaTimeoutStep step) {
+        return orderId + SEPARATOR + step.name();
+    }
+}
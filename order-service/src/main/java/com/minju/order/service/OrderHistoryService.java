@@ -0,0 +1,136 @@
+package com.minju.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.order.dto.OrderHistoryPageDto;
+import com.minju.order.dto.OrderResponseDto;
+import com.minju.order.entity.OrderHistoryView;
+import com.minju.order.entity.Orders;
+import com.minju.order.history.OrderHistoryCache;
+import com.minju.order.history.OrderHistoryCursor;
+import com.minju.order.history.OrderHistoryProjector;
+import com.minju.order.repository.OrderHistoryViewRepository;
+import com.minju.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 주문 내역 조회 (읽기 모델 + 사용자별 캐시)
+ */
+@Service
+@Slf4j
+public class OrderHistoryService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final TypeReference<List<OrderResponseDto.OrderItemDto>> ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    private final OrderHistoryViewRepository viewRepository;
+    private final OrderRepository orderRepository;
+    private final OrderHistoryProjector projector;
+    private final OrderHistoryCache orderHistoryCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildChunkSize;
+
+    public OrderHistoryService(OrderHistoryViewRepository viewRepository,
+                               OrderRepository orderRepository,
+                               OrderHistoryProjector projector,
+                               OrderHistoryCache orderHistoryCache,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${order.history.rebuild-chunk-size:500}") int rebuildChunkSize) {
+        this.viewRepository = viewRepository;
+        this.orderRepository = orderRepository;
+        this.projector = projector;
+        this.orderHistoryCache = orderHistoryCache;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    /**
+     * 사용자 주문 내역 (캐시 → 읽기 모델)
+     */
+    public List<OrderResponseDto> getOrderHistory(Long userId) {
+        return orderHistoryCache.get(userId, () ->
+                viewRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                        .map(this::toResponse)
+                        .toList());
+    }
+
+    /**
+     * 사용자 주문 내역 커서 페이지 (읽기 모델 keyset 조회, OFFSET 스캔 없음)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @param status 주문 상태 필터 (없으면 전체)
+     */
+    public OrderHistoryPageDto getOrderHistoryPage(Long userId, String cursor, Integer size, String status) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        OrderHistoryCursor after = cursor == null || cursor.isBlank() ? null : OrderHistoryCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<OrderHistoryView> views = viewRepository.findPageByUserId(userId,
+                status == null || status.isBlank() ? null : status,
+                after == null ? null : after.getCreatedAt(),
+                after == null ? null : after.getOrderId(),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = views.size() > pageSize;
+        List<OrderHistoryView> page = hasNext ? views.subList(0, pageSize) : views;
+        String nextCursor = null;
+        if (hasNext) {
+            OrderHistoryView last = page.get(page.size() - 1);
+            nextCursor = new OrderHistoryCursor(last.getCreatedAt(), last.getOrderId()).encode();
+        }
+        return new OrderHistoryPageDto(page.stream().map(this::toResponse).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * 원본 테이블로부터 읽기 모델 재구성
+     * - 주문 ID 순으로 chunk 단위 교체 (chunk마다 별도 트랜잭션, 재구성 중에도 조회 가능)
+     *
+     * @return 재구성한 주문 수
+     */
+    public int rebuild() {
+        long lastId = 0L;
+        int rebuilt = 0;
+        while (true) {
+            List<Long> ids = orderRepository.findIdsAfter(lastId, PageRequest.of(0, rebuildChunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Orders> orders = orderRepository.findWithItemsByIdIn(ids);
+                viewRepository.deleteByOrderIdIn(ids);
+                viewRepository.saveAll(orders.stream().map(projector::toView).toList());
+            });
+
+            rebuilt += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        orderHistoryCache.clear();
+        log.info("주문 내역 프로젝션 재구성 완료 - {}건", rebuilt);
+        return rebuilt;
+    }
+
+    private OrderResponseDto toResponse(OrderHistoryView view) {
+        try {
+            return new OrderResponseDto(view, objectMapper.readValue(view.getItems(), ITEMS_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 내역 상품 역직렬화 실패 - orderId: " + view.getOrderId(), e);
+        }
+    }
+}
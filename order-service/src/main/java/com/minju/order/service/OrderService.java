@@ -1,13 +1,18 @@
 package com.minju.order.service;
 
 import com.minju.common.dto.CartResponseDto;
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
 import com.minju.common.kafka.stock.StockReservationRequestEvent;
 import com.minju.common.kafka.stock.StockRestoreEvent;
+import com.minju.order.admission.StockAdmissionChecker;
 import com.minju.order.client.CartServiceClient;
 import com.minju.order.client.ProductServiceClient;
 import com.minju.order.dto.*;
 import com.minju.order.entity.OrderItem;
 import com.minju.order.entity.Orders;
+import com.minju.order.history.OrderStatusChangedEvent;
+import com.minju.order.job.OrderStatusTransitionJob;
 import com.minju.order.outbox.OutboxEventPublisher;
 import com.minju.order.repository.OrderRepository;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -15,12 +20,18 @@ import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +45,10 @@ public class OrderService {
     private final OutboxEventPublisher outboxPublisher;
     private final CartServiceClient cartServiceClient;
     private final ProductServiceClient productServiceClient;
+    private final OrderHistoryService orderHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderStatusTransitionJob orderStatusTransitionJob;
+    private final StockAdmissionChecker stockAdmissionChecker;
 
     /**
      * 장바구니에서 주문 생성 - (Outbox 패턴 + Circuit Breaker)
@@ -52,7 +67,10 @@ public class OrderService {
             throw new IllegalArgumentException("장바구니에 상품이 없습니다.");
         }
 
-        // 2. 주문 생성 (PENDING 상태)
+        // 2. 사전 재고 확인 - 품절 상품이 있으면 주문/outbox 저장 전에 거절
+        stockAdmissionChecker.check(userId, quantitiesOf(cart));
+
+        // 3. 주문 생성 (PENDING 상태)
         Orders order = new Orders();
         order.setUserId(userId);
         order.setOrderStatus("PENDING");
@@ -76,6 +94,7 @@ public class OrderService {
         order.setFailedItemCount(0);
 
         Orders savedOrder = orderRepository.save(order);
+        publishStatusChanged(savedOrder);
 
         // 같은 트랜잭션 내에서 Outbox 이벤트 저장
         for (OrderItem orderItem : savedOrder.getOrderItems()) {
@@ -91,21 +110,50 @@ public class OrderService {
                     String.valueOf(savedOrder.getId()),
                     "STOCK_RESERVATION_REQUESTED",
                     "stock-reservation-requested-topic",
+                    event.getProductId(),
                     event
             );
         }
 
-        // 장바구니 비우기 (비동기로 처리 - 실패해도 주문은 생성됨)
+        // 장바구니 비우기 (커밋 후 처리 - 롤백된 주문의 장바구니를 비우지 않도록)
+        runAfterCommit(() -> {
+            try {
+                clearCartAsync(userId);
+            } catch (Exception e) {
+                log.warn("장바구니 비우기 실패 (주문은 생성됨) - userId: {}, error: {}",
+                        userId, e.getMessage());
+                // 장바구니 비우기 실패는 주문 생성을 막지 않음
+            }
+        });
+
+        log.info("주문 생성 및 Outbox 이벤트 저장 완료 - orderId: {}", savedOrder.getId());
+        return new OrderResponseDto(savedOrder);
+    }
+
+    /**
+     * 주문 가능 여부 사전 검증 (비동기 접수 전 - 빈 장바구니/품절이면 접수 토큰을 발급하지 않음)
+     * - 주문 생성 시점에 다시 검증하므로 여기서 통과해도 생성 단계에서 거절될 수 있음
+     */
+    public void validateOrderable(Long userId) {
+        CartResponseDto cart;
         try {
-            clearCartAsync(userId);
+            cart = getCartWithCircuitBreaker(userId);
         } catch (Exception e) {
-            log.warn("장바구니 비우기 실패 (주문은 생성됨) - userId: {}, error: {}",
-                    userId, e.getMessage());
-            // 장바구니 비우기 실패는 주문 생성을 막지 않음
+            log.warn("주문 사전 검증 - 장바구니 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "장바구니를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (cart.getItems() == null || cart.getItems().isEmpty()) {
+            throw new BusinessException(ErrorCode.CART_NOT_QUANTITY);
         }
+        stockAdmissionChecker.check(userId, quantitiesOf(cart));
+    }
 
-        log.info("주문 생성 및 Outbox 이벤트 저장 완료 - orderId: {}", savedOrder.getId());
-        return new OrderResponseDto(savedOrder);
+    private static Map<Long, Integer> quantitiesOf(CartResponseDto cart) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (CartResponseDto.CartItemDto cartItem : cart.getItems()) {
+            quantities.merge(cartItem.getProductId(), cartItem.getQuantity(), Integer::sum);
+        }
+        return quantities;
     }
 
     /**
@@ -127,12 +175,32 @@ public class OrderService {
         log.info("장바구니 비우기 완료 - userId: {}", userId);
     }
 
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖에서 호출되면 즉시 실행)
+     */
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
     // ==================== Circuit Breaker Fallback Methods ====================
 
     /**
      * 주문 생성 Circuit Breaker Fallback
      */
     public OrderResponseDto createOrderFromCartFallback(Long userId, Exception ex) {
+        if (ex instanceof BusinessException businessException) {
+            // 품절 등 비즈니스 거절은 장애가 아니므로 그대로 전달
+            throw businessException;
+        }
         log.error("주문 생성 Circuit Breaker 활성화 - userId: {}, error: {}",
                 userId, ex.getMessage());
         return createFallbackOrderResponse("서비스 일시 중단 - 잠시 후 다시 시도해주세요");
@@ -142,6 +210,9 @@ public class OrderService {
      * 주문 생성 Retry Fallback
      */
     public OrderResponseDto createOrderFromCartRetryFallback(Long userId, Exception ex) {
+        if (ex instanceof BusinessException businessException) {
+            throw businessException;
+        }
         log.error("주문 생성 재시도 실패 - userId: {}, error: {}", userId, ex.getMessage());
         return createFallbackOrderResponse("재시도 실패 - 잠시 후 다시 시도해주세요");
     }
@@ -176,12 +247,26 @@ public class OrderService {
     // ==================== 기존 메서드들 ====================
 
     /**
-     * 사용자 주문 목록 조회 (QueryDSL - fetchJoin으로 N+1 해결)
+     * 사용자 주문 목록 조회 (주문 내역 읽기 모델 + 사용자별 캐시)
      */
-    @Transactional(readOnly = true)
     public List<OrderResponseDto> getOrders(Long userId) {
-        List<Orders> orders = orderRepository.findByUserIdWithItems(userId);
-        return orders.stream().map(OrderResponseDto::new).collect(Collectors.toList());
+        return orderHistoryService.getOrderHistory(userId);
+    }
+
+    /**
+     * 동적 주문 검색 (QueryDSL, 주문 ID 페이징 후 OrderItems 일괄 조회)
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderResponseDto> searchOrders(OrderSearchCondition condition, Pageable pageable) {
+        return orderRepository.searchOrders(condition, pageable).map(OrderResponseDto::new);
+    }
+
+    /**
+     * 동적 주문 검색 - keyset 커서 기반 (condition의 cursorCreatedAt/cursorOrderId 이후)
+     */
+    @Transactional(readOnly = true)
+    public Slice<OrderResponseDto> searchOrdersAfter(OrderSearchCondition condition, int size) {
+        return orderRepository.searchOrdersAfter(condition, size).map(OrderResponseDto::new);
     }
 
     /**
@@ -194,6 +279,7 @@ public class OrderService {
 
         order.setOrderStatus("CANCELLED");
         orderRepository.save(order);
+        publishStatusChanged(order);
 
         // Outbox를 통한 재고 복구 이벤트 발행
         publishStockRestoreEvent(order, "주문 취소");
@@ -211,6 +297,7 @@ public class OrderService {
 
         order.setOrderStatus("RETURNED");
         orderRepository.save(order);
+        publishStatusChanged(order);
 
         // Outbox를 통한 재고 복구 이벤트 발행
         publishStockRestoreEvent(order, "반품");
@@ -237,6 +324,7 @@ public class OrderService {
                     String.valueOf(order.getId()),
                     "STOCK_RESTORE_REQUESTED",
                     "stock-restore-topic",
+                    event.getProductId(),
                     event
             );
         }
@@ -246,31 +334,19 @@ public class OrderService {
 
     /**
      * 주문 상태 자동 업데이트 (스케줄러)
-     * QueryDSL로 조건에 맞는 주문만 조회하여 성능 최적화
+     * ID 구간 청크 단위 set-based UPDATE로 처리 (엔티티 적재 없음, 체크포인트로 재개 가능)
      */
-    @Transactional
     public void updateOrderStatus() {
-        LocalDateTime now = LocalDateTime.now();
-
-        // PENDING → SHIPPING (1일 경과)
-        List<Orders> pendingOrders = orderRepository.findOrdersForStatusUpdate(
-                List.of("PENDING"),
-                now.minusDays(1)
-        );
-        pendingOrders.forEach(order -> order.setOrderStatus("SHIPPING"));
-
-        // SHIPPING → DELIVERED (2일 경과)
-        List<Orders> shippingOrders = orderRepository.findOrdersForStatusUpdate(
-                List.of("SHIPPING"),
-                now.minusDays(2)
-        );
-        shippingOrders.forEach(order -> order.setOrderStatus("DELIVERED"));
-
-        orderRepository.saveAll(pendingOrders);
-        orderRepository.saveAll(shippingOrders);
-
-        log.info("주문 상태 업데이트 완료 - PENDING→SHIPPING: {}건, SHIPPING→DELIVERED: {}건",
-                pendingOrders.size(), shippingOrders.size());
+        Map<String, Integer> result = orderStatusTransitionJob.run();
+        log.info("주문 상태 업데이트 완료 - {}", result);
+    }
+
+    /**
+     * 주문 상태 변경 알림 (주문 내역 프로젝션 갱신용)
+     */
+    private void publishStatusChanged(Orders order) {
+        eventPublisher.publishEvent(
+                new OrderStatusChangedEvent(order.getId(), order.getUserId(), order.getOrderStatus()));
     }
 
     private Orders getOrder(Long orderId, Long userId) {
@@ -0,0 +1,59 @@
+package com.minju.order.submission;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 주문 접수 건 (메모리)
+ * - ACCEPTED → (주문 생성) PENDING → Saga 상태 전이 → 종료 상태
+ * - 주문 생성 자체가 실패하면 FAILED
+ */
+@Getter
+public class OrderSubmission {
+
+    static final String ACCEPTED = "ACCEPTED";
+    static final String FAILED = "FAILED";
+    private static final Set<String> TERMINAL_STATUSES = Set.of("COMPLETED", "CANCELLED", "PAYMENT_FAILED", FAILED);
+
+    private final String token;
+    private final Long userId;
+    private volatile Long orderId;
+    private volatile String status = ACCEPTED;
+    private volatile String message;
+    private volatile long updatedAtMs = System.currentTimeMillis();
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    OrderSubmission(String token, Long userId) {
+        this.token = token;
+        this.userId = userId;
+    }
+
+    public boolean isTerminal() {
+        return TERMINAL_STATUSES.contains(status);
+    }
+
+    synchronized void update(Long orderId, String status, String message) {
+        if (orderId != null) {
+            this.orderId = orderId;
+        }
+        this.status = status;
+        this.message = message;
+        this.updatedAtMs = System.currentTimeMillis();
+    }
+
+    /**
+     * 아직 상태 전이를 받지 않았을 때만 반영 (이미 받은 전이가 더 최신이므로 덮어쓰지 않음)
+     */
+    synchronized boolean updateIfAccepted(Long orderId, String status) {
+        if (!ACCEPTED.equals(this.status)) {
+            return false;
+        }
+        update(orderId, status, null);
+        return true;
+    }
+}
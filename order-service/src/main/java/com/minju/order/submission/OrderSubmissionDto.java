@@ -0,0 +1,37 @@
+package com.minju.order.submission;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Getter;
+
+/**
+ * 비동기 주문 접수 상태 응답
+ */
+@Getter
+public class OrderSubmissionDto {
+    private final String token;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long orderId;
+    private final String status;
+    private final String message;
+
+    public OrderSubmissionDto(OrderSubmission submission) {
+        this.token = submission.getToken();
+        this.orderId = submission.getOrderId();
+        this.status = submission.getStatus();
+        this.message = submission.getMessage();
+    }
+
+    @JsonCreator
+    public OrderSubmissionDto(@JsonProperty("token") String token,
+                              @JsonProperty("orderId") Long orderId,
+                              @JsonProperty("status") String status,
+                              @JsonProperty("message") String message) {
+        this.token = token;
+        this.orderId = orderId;
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -0,0 +1,263 @@
+package com.minju.order.submission;
+
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import com.minju.order.dto.OrderResponseDto;
+import com.minju.order.history.OrderStatusChangedEvent;
+import com.minju.order.repository.OrderRepository;
+import com.minju.order.service.OrderService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 비동기 주문 접수
+ * - 요청 스레드는 장바구니/재고를 사전 검증한 뒤 토큰을 발급하고 즉시 반환 (202 Accepted)
+ * - 주문 생성(장바구니 조회 + 저장 + Outbox)은 가상 스레드에서 실행, 동시 처리 수는 max-in-flight로 제한
+ * - 주문 상태 전이를 구독자에게 SSE로 전송 (종료 상태면 스트림 종료)
+ * - 접수 정보는 인스턴스 메모리에 보관하므로 상태 조회/구독은 접수한 인스턴스로 라우팅되어야 함
+ * - Saga 전이는 해당 주문 파티션을 소비하는 인스턴스에서 커밋되므로, 접수 건이 없는 인스턴스는
+ *   Redis pub/sub으로 전이를 전파하고 접수 건을 가진 인스턴스가 구독자에게 전송 (메시지: "orderId|status")
+ */
+@Service
+@Slf4j
+public class OrderSubmissionService implements MessageListener {
+
+    public static final String STATUS_CHANNEL = "order:submission:status";
+    private static final String EVENT_NAME = "order-status";
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Semaphore inFlight;
+    private final long emitterTimeoutMs;
+    private final long retentionMs;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ConcurrentHashMap<String, OrderSubmission> submissions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, OrderSubmission> submissionsByOrderId = new ConcurrentHashMap<>();
+
+    public OrderSubmissionService(OrderService orderService,
+                                  OrderRepository orderRepository,
+                                  StringRedisTemplate redisTemplate,
+                                  @Value("${order.submission.max-in-flight:1000}") int maxInFlight,
+                                  @Value("${order.submission.emitter-timeout-ms:300000}") long emitterTimeoutMs,
+                                  @Value("${order.submission.retention-ms:600000}") long retentionMs) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.redisTemplate = redisTemplate;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.retentionMs = retentionMs;
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * 주문 접수 (사전 검증 → 토큰 발급 후 가상 스레드에서 주문 생성)
+     */
+    public OrderSubmissionDto submit(Long userId) {
+        if (!inFlight.tryAcquire()) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "주문 접수가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            // 빈 장바구니/품절처럼 생성이 확실히 실패할 요청은 202 대신 바로 거절
+            orderService.validateOrderable(userId);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+
+        OrderSubmission submission = new OrderSubmission(UUID.randomUUID().toString(), userId);
+        submissions.put(submission.getToken(), submission);
+        // 처리 스레드가 먼저 상태를 바꿀 수 있으므로 접수 시점 상태를 먼저 고정
+        OrderSubmissionDto accepted = new OrderSubmissionDto(submission);
+        try {
+            executor.execute(() -> process(submission));
+        } catch (RuntimeException e) {
+            inFlight.release();
+            submissions.remove(submission.getToken());
+            throw e;
+        }
+
+        log.info("주문 접수 - userId: {}, token: {}", userId, submission.getToken());
+        return accepted;
+    }
+
+    /**
+     * 접수 정보 보관 기간 (접수 응답의 멱등성 보관 기간도 이 이하여야 재전송 응답의 토큰이 유효)
+     */
+    public Duration getRetention() {
+        return Duration.ofMillis(retentionMs);
+    }
+
+    /**
+     * 접수 상태 조회
+     */
+    public OrderSubmissionDto getSubmission(String token, Long userId) {
+        return new OrderSubmissionDto(find(token, userId));
+    }
+
+    /**
+     * 접수 상태 구독 (현재 상태 즉시 전송, 이후 전이마다 전송)
+     */
+    public SseEmitter subscribe(String token, Long userId) {
+        OrderSubmission submission = find(token, userId);
+        SseEmitter emitter = createEmitter();
+        submission.getEmitters().add(emitter);
+        emitter.onCompletion(() -> submission.getEmitters().remove(emitter));
+        emitter.onTimeout(() -> submission.getEmitters().remove(emitter));
+        emitter.onError(e -> submission.getEmitters().remove(emitter));
+
+        send(submission, emitter);
+        return emitter;
+    }
+
+    /**
+     * 주문 상태 전이 커밋 후 구독자에게 전송 (접수 건이 다른 인스턴스에 있으면 전파)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (!applyTransition(event.getOrderId(), event.getOrderStatus())) {
+            publish(event.getOrderId(), event.getOrderStatus());
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 전이 수신 (접수 건을 가진 인스턴스만 반영)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            applyTransition(Long.valueOf(body.substring(0, separator)), body.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("주문 상태 전이 메시지 형식 오류 - {}", body);
+        }
+    }
+
+    /**
+     * 오래된 접수 정보 정리
+     */
+    @Scheduled(fixedDelayString = "${order.submission.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - retentionMs;
+        submissions.values().removeIf(submission -> {
+            boolean expired = submission.getUpdatedAtMs() < threshold;
+            if (expired) {
+                if (submission.getOrderId() != null) {
+                    submissionsByOrderId.remove(submission.getOrderId());
+                }
+                submission.getEmitters().forEach(SseEmitter::complete);
+            }
+            return expired;
+        });
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    private void process(OrderSubmission submission) {
+        try {
+            OrderResponseDto order = orderService.createOrderFromCart(submission.getUserId());
+            if (order.getOrderId() == null || order.getOrderId() < 0) {
+                // Circuit Breaker / Retry fallback 응답
+                changeStatus(submission, null, OrderSubmission.FAILED, "주문 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
+                return;
+            }
+            Long orderId = order.getOrderId();
+            submissionsByOrderId.put(orderId, submission);
+            // 커밋 후 등록 전에 지나간 전이 이벤트는 받지 못했으므로 등록 후 현재 상태를 다시 읽어 반영
+            // (등록 이후 도착한 전이로 이미 갱신됐다면 그쪽이 더 최신이므로 유지)
+            String current = orderRepository.findOrderStatusById(orderId).orElse(order.getOrderStatus());
+            if (submission.updateIfAccepted(orderId, current)) {
+                notifySubscribers(submission);
+            }
+        } catch (Exception e) {
+            log.warn("비동기 주문 생성 실패 - token: {}, error: {}", submission.getToken(), e.getMessage());
+            changeStatus(submission, null, OrderSubmission.FAILED, e.getMessage());
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    // 접수 건이 이 인스턴스에 있으면 반영 (인스턴스 간 전파는 순서가 보장되지 않으므로 종료 상태 이후 전이는 무시)
+    private boolean applyTransition(Long orderId, String status) {
+        OrderSubmission submission = submissionsByOrderId.get(orderId);
+        if (submission == null) {
+            return false;
+        }
+        if (!submission.isTerminal()) {
+            changeStatus(submission, orderId, status, null);
+        }
+        return true;
+    }
+
+    private void publish(Long orderId, String status) {
+        try {
+            redisTemplate.convertAndSend(STATUS_CHANNEL, orderId + "|" + status);
+        } catch (Exception e) {
+            // 구독자는 전이를 받지 못하지만 주문 처리에는 영향 없음 (조회 API로 확인 가능)
+            log.warn("주문 상태 전이 전파 실패 - orderId: {}, status: {}, {}", orderId, status, e.getMessage());
+        }
+    }
+
+    private void changeStatus(OrderSubmission submission, Long orderId, String status, String message) {
+        submission.update(orderId, status, message);
+        notifySubscribers(submission);
+    }
+
+    private void notifySubscribers(OrderSubmission submission) {
+        for (SseEmitter emitter : submission.getEmitters()) {
+            send(submission, emitter);
+        }
+    }
+
+    private void send(OrderSubmission submission, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(new OrderSubmissionDto(submission)));
+            if (submission.isTerminal()) {
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            // 연결이 끊긴 구독자 정리
+            submission.getEmitters().remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private OrderSubmission find(String token, Long userId) {
+        OrderSubmission submission = submissions.get(token);
+        if (submission == null) {
+            throw new BusinessException(ErrorCode.ORDER_SUBMISSION_NOT_FOUND);
+        }
+        if (!submission.getUserId().equals(userId)) {
+            throw new BusinessException(ErrorCode.NOT_YOUR_ORDER);
+        }
+        return submission;
+    }
+}
@@ -0,0 +1,12 @@
+-- 기한이 지난 Saga 단계 선점 Lua Script
+-- KEYS[1] = deadline zset key (saga:deadlines)
+-- ARGV[1] = 현재 시각 (epoch ms)
+-- ARGV[2] = 최대 선점 개수
+-- ARGV[3] = 선점 만료 시각 (epoch ms) - 처리 중 장애가 나면 이 시각 이후 다시 선점됨
+-- 반환값: 선점한 member 목록 ("{orderId}:{step}")
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+for _, member in ipairs(due) do
+    redis.call('ZADD', KEYS[1], 'XX', ARGV[3], member)
+end
+return due
@@ -0,0 +1,12 @@
+-- 멱등성 응답 저장 Lua Script (compare-and-set)
+-- KEYS[1] = 멱등성 키 (idempotency:order:{userId}:{key})
+-- ARGV[1] = 이 요청이 잡은 IN_FLIGHT 마커 (요청별 토큰 포함)
+-- ARGV[2] = 응답 JSON
+-- ARGV[3] = 응답 보관 TTL (ms)
+-- 반환값: 1 (저장), 0 (마커가 이 요청의 것이 아님 - 만료 후 다른 요청이 잡았거나 이미 저장됨)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', tonumber(ARGV[3]))
+    return 1
+end
+return 0
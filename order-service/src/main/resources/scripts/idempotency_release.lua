@@ -0,0 +1,9 @@
+-- 멱등성 마커 해제 Lua Script (compare-and-delete)
+-- KEYS[1] = 멱등성 키 (idempotency:order:{userId}:{key})
+-- ARGV[1] = 이 요청이 잡은 IN_FLIGHT 마커 (요청별 토큰 포함)
+-- 반환값: 1 (삭제), 0 (마커가 이 요청의 것이 아님 - 다른 요청의 마커/응답은 지우지 않음)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,103 @@
+package com.minju.order.admission;
+
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockAdmissionChecker 테스트")
+class StockAdmissionCheckerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StockAdmissionChecker checker;
+    private Map<Long, Integer> quantities;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        checker = new StockAdmissionChecker(redisTemplate, meterRegistry);
+        quantities = new LinkedHashMap<>();
+        quantities.put(1L, 2);
+        quantities.put(2L, 1);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("모든 상품의 캐시 재고가 충분하면 한 번의 MGET으로 통과")
+    void enoughStock_Admitted() {
+        // given
+        given(valueOperations.multiGet(List.of("product:stock:1", "product:stock:2"))).willReturn(List.of("5", "1"));
+
+        // when & then
+        assertThatCode(() -> checker.check(1L, quantities)).doesNotThrowAnyException();
+        verify(valueOperations, times(1)).multiGet(List.of("product:stock:1", "product:stock:2"));
+        assertThat(count("admitted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재고가 주문 수량보다 적은 상품이 있으면 PRODUCT_SOLD_OUT으로 거절")
+    void insufficientStock_Rejected() {
+        // given
+        given(valueOperations.multiGet(List.of("product:stock:1", "product:stock:2"))).willReturn(List.of("1", "3"));
+
+        // when & then
+        assertThatThrownBy(() -> checker.check(1L, quantities))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code").isEqualTo(ErrorCode.PRODUCT_SOLD_OUT.getCode());
+        assertThat(count("rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 상품은 판단하지 않고 통과")
+    void unknownStock_Admitted() {
+        // given
+        given(valueOperations.multiGet(List.of("product:stock:1", "product:stock:2"))).willReturn(Arrays.asList(null, "1"));
+
+        // when & then
+        assertThatCode(() -> checker.check(1L, quantities)).doesNotThrowAnyException();
+        assertThat(count("admitted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 확인을 생략하고 통과")
+    void redisDown_Skipped() {
+        // given
+        given(valueOperations.multiGet(List.of("product:stock:1", "product:stock:2")))
+                .willThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when & then
+        assertThatCode(() -> checker.check(1L, quantities)).doesNotThrowAnyException();
+        assertThat(count("skipped")).isEqualTo(1.0);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("order.admission", "result", result).count();
+    }
+}
@@ -0,0 +1,140 @@
+package com.minju.order.history;
+
+import com.minju.order.dto.OrderResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderHistoryCache 테스트")
+class OrderHistoryCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Nested
+    @DisplayName("TTL")
+    class Ttl {
+
+        @Test
+        @DisplayName("TTL이 지나면 무효화 없이도 다시 조회")
+        void expiredEntry_Reloads() {
+            // given
+            OrderHistoryCache cache = new OrderHistoryCache(redisTemplate, 100, 0);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            cache.get(1L, () -> load(loads));
+            cache.get(1L, () -> load(loads));
+
+            // then
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("TTL 안에서는 캐시된 값 사용")
+        void freshEntry_Cached() {
+            // given
+            OrderHistoryCache cache = new OrderHistoryCache(redisTemplate, 100, 60_000);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            cache.get(1L, () -> load(loads));
+            cache.get(1L, () -> load(loads));
+
+            // then
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("인스턴스 간 무효화")
+    class CrossInstance {
+
+        @Test
+        @DisplayName("무효화 시 다른 인스턴스로 userId 전파")
+        void evict_Publishes() {
+            // given
+            OrderHistoryCache cache = new OrderHistoryCache(redisTemplate, 100, 60_000);
+
+            // when
+            cache.evict(7L);
+
+            // then
+            ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(OrderHistoryCache.INVALIDATION_CHANNEL), message.capture());
+            assertThat(message.getValue()).endsWith("|7");
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 해당 사용자만 제거")
+        void onMessage_EvictsUser() {
+            // given
+            OrderHistoryCache cache = new OrderHistoryCache(redisTemplate, 100, 60_000);
+            cache.get(7L, List::of);
+            cache.get(8L, List::of);
+
+            // when
+            cache.onMessage(message("other-instance|7"), null);
+
+            // then
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("전체 무효화 메시지를 받으면 모두 제거")
+        void onMessage_ClearsAll() {
+            // given
+            OrderHistoryCache cache = new OrderHistoryCache(redisTemplate, 100, 60_000);
+            cache.get(7L, List::of);
+            cache.get(8L, List::of);
+
+            // when
+            cache.onMessage(message("other-instance|*"), null);
+
+            // then
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("전파 실패는 로컬 무효화를 막지 않음 (다른 인스턴스는 TTL로 갱신)")
+        void publishFailure_StillEvictsLocally() {
+            // given
+            OrderHistoryCache cache = new OrderHistoryCache(redisTemplate, 100, 60_000);
+            cache.get(7L, List::of);
+            given(redisTemplate.convertAndSend(eq(OrderHistoryCache.INVALIDATION_CHANNEL), anyString()))
+                    .willThrow(new IllegalStateException("Redis 연결 실패"));
+
+            // when & then
+            assertThatCode(() -> cache.evict(7L)).doesNotThrowAnyException();
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    private static List<OrderResponseDto> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.of();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(OrderHistoryCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
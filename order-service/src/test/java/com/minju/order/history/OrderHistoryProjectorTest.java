@@ -0,0 +1,107 @@
+package com.minju.order.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.order.entity.OrderHistoryView;
+import com.minju.order.entity.OrderItem;
+import com.minju.order.entity.Orders;
+import com.minju.order.repository.OrderHistoryViewRepository;
+import com.minju.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderHistoryProjector 테스트")
+class OrderHistoryProjectorTest {
+
+    @Mock
+    private OrderHistoryViewRepository viewRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderHistoryCache orderHistoryCache;
+    private OrderHistoryProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        orderHistoryCache = new OrderHistoryCache(redisTemplate, 100, 60_000);
+        projector = new OrderHistoryProjector(viewRepository, orderRepository, orderHistoryCache, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("프로젝션 행이 있으면 상태만 갱신")
+    void project_ExistingRow_UpdatesStatusOnly() {
+        // given
+        given(viewRepository.updateStatus(eq(1L), eq("COMPLETED"), any())).willReturn(1);
+
+        // when
+        projector.project(new OrderStatusChangedEvent(1L, 7L, "COMPLETED"));
+
+        // then
+        verify(orderRepository, never()).findById(anyLong());
+        verify(viewRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("프로젝션 행이 없으면 원본 주문에서 상품을 포함해 생성")
+    void project_MissingRow_CreatesFromSource() {
+        // given
+        Orders order = new Orders();
+        order.setId(1L);
+        order.setUserId(7L);
+        order.setOrderStatus("PENDING");
+        order.setTotalAmount(20000);
+        OrderItem item = new OrderItem();
+        item.setProductId(100L);
+        item.setQuantity(2);
+        item.setPrice(20000);
+        order.getOrderItems().add(item);
+
+        given(viewRepository.updateStatus(eq(1L), eq("PENDING"), any())).willReturn(0);
+        given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+
+        // when
+        projector.project(new OrderStatusChangedEvent(1L, 7L, "PENDING"));
+
+        // then
+        ArgumentCaptor<OrderHistoryView> captor = ArgumentCaptor.forClass(OrderHistoryView.class);
+        verify(viewRepository).save(captor.capture());
+        OrderHistoryView view = captor.getValue();
+        assertThat(view.getUserId()).isEqualTo(7L);
+        assertThat(view.getItemCount()).isEqualTo(1);
+        assertThat(view.getItems()).contains("\"productId\":100");
+        assertThat(view.isNew()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커밋 후 해당 사용자 캐시 무효화")
+    void evictCache_AfterCommit() {
+        // given
+        orderHistoryCache.get(7L, java.util.List::of);
+
+        // when
+        projector.evictCache(new OrderStatusChangedEvent(1L, 7L, "COMPLETED"));
+
+        // then
+        assertThat(orderHistoryCache.size()).isZero();
+    }
+}
@@ -0,0 +1,263 @@
+package com.minju.order.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import com.minju.order.dto.OrderResponseDto;
+import com.minju.order.entity.Orders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyKeyStore 테스트")
+class IdempotencyKeyStoreTest {
+
+    private static final String KEY = "idempotency:order:1:abc";
+    private static final String OTHER_MARKER = IdempotencyKeyStore.IN_FLIGHT + "other-request";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisScript<Long> completeScript;
+
+    @Mock
+    private RedisScript<Long> releaseScript;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private IdempotencyKeyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyKeyStore(redisTemplate, completeScript, releaseScript, objectMapper,
+                86_400_000L, 120_000L, 200L, 10L);
+    }
+
+    @Nested
+    @DisplayName("최초 요청")
+    class FirstRequest {
+
+        @Test
+        @DisplayName("키가 없으면 Redis 없이 바로 처리")
+        void noKey_RunsDirectly() {
+            // when
+            OrderResponseDto result = store.execute(1L, null, OrderResponseDto.class,
+                    () -> response(100L), r -> true);
+
+            // then
+            assertThat(result.getOrderId()).isEqualTo(100L);
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("마커를 잡고 처리한 뒤 응답을 TTL과 함께 저장")
+        void acquired_StoresResponse() throws Exception {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), startsWith(IdempotencyKeyStore.IN_FLIGHT), any(Duration.class)))
+                    .willReturn(true);
+
+            // when
+            OrderResponseDto result = store.execute(1L, "abc", OrderResponseDto.class,
+                    () -> response(100L), r -> true);
+
+            // then
+            assertThat(result.getOrderId()).isEqualTo(100L);
+            verify(redisTemplate).execute(eq(completeScript), eq(List.of(KEY)), startsWith(IdempotencyKeyStore.IN_FLIGHT),
+                    eq(objectMapper.writeValueAsString(result)), eq("86400000"));
+        }
+
+        @Test
+        @DisplayName("처리 실패 시 마커를 지워 재시도 허용")
+        void failure_ReleasesKey() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), startsWith(IdempotencyKeyStore.IN_FLIGHT), any(Duration.class)))
+                    .willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> store.execute(1L, "abc", OrderResponseDto.class,
+                    () -> { throw new BusinessException(ErrorCode.CART_NOT_FOUND); }, r -> true))
+                    .isInstanceOf(BusinessException.class);
+            verify(redisTemplate).execute(eq(releaseScript), eq(List.of(KEY)), startsWith(IdempotencyKeyStore.IN_FLIGHT));
+            verify(redisTemplate, never()).execute(eq(completeScript), anyList(), any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("저장 대상이 아닌 응답(fallback)은 저장하지 않고 마커 삭제")
+        void notStorable_ReleasesKey() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), startsWith(IdempotencyKeyStore.IN_FLIGHT), any(Duration.class)))
+                    .willReturn(true);
+
+            // when
+            OrderResponseDto result = store.execute(1L, "abc", OrderResponseDto.class,
+                    () -> response(-1L), r -> r.getOrderId() > 0);
+
+            // then
+            assertThat(result.getOrderId()).isEqualTo(-1L);
+            verify(redisTemplate).execute(eq(releaseScript), eq(List.of(KEY)), startsWith(IdempotencyKeyStore.IN_FLIGHT));
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 키 없이 처리")
+        void redisDown_RunsWithoutKey() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), startsWith(IdempotencyKeyStore.IN_FLIGHT), any(Duration.class)))
+                    .willThrow(new RedisConnectionFailureException("연결 실패"));
+
+            // when
+            OrderResponseDto result = store.execute(1L, "abc", OrderResponseDto.class,
+                    () -> response(100L), r -> true);
+
+            // then
+            assertThat(result.getOrderId()).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("키가 너무 길면 INVALID_REQUEST")
+        void tooLongKey_Rejected() {
+            assertThatThrownBy(() -> store.execute(1L, "k".repeat(101), OrderResponseDto.class,
+                    () -> response(100L), r -> true))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code").isEqualTo(ErrorCode.INVALID_REQUEST.getCode());
+        }
+
+        @Test
+        @DisplayName("요청마다 다른 마커를 잡고, 저장/삭제는 자신의 마커로만 수행")
+        void markerIsPerRequest() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            ArgumentCaptor<String> markers = ArgumentCaptor.forClass(String.class);
+            given(valueOperations.setIfAbsent(eq(KEY), markers.capture(), any(Duration.class))).willReturn(true);
+
+            // when
+            store.execute(1L, "abc", OrderResponseDto.class, () -> response(-1L), r -> false);
+            store.execute(1L, "abc", OrderResponseDto.class, () -> response(-1L), r -> false);
+
+            // then
+            assertThat(markers.getAllValues()).hasSize(2).doesNotHaveDuplicates();
+            verify(redisTemplate).execute(releaseScript, List.of(KEY), markers.getAllValues().get(0));
+            verify(redisTemplate).execute(releaseScript, List.of(KEY), markers.getAllValues().get(1));
+        }
+
+        @Test
+        @DisplayName("응답 보관 기간을 지정하면 그 TTL로 저장")
+        void customResponseTtl() throws Exception {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), startsWith(IdempotencyKeyStore.IN_FLIGHT), any(Duration.class)))
+                    .willReturn(true);
+
+            // when
+            OrderResponseDto result = store.execute(1L, "abc", OrderResponseDto.class,
+                    () -> response(100L), r -> true, Duration.ofMinutes(10));
+
+            // then
+            verify(redisTemplate).execute(eq(completeScript), eq(List.of(KEY)), startsWith(IdempotencyKeyStore.IN_FLIGHT),
+                    eq(objectMapper.writeValueAsString(result)), eq("600000"));
+        }
+    }
+
+    @Nested
+    @DisplayName("중복 요청")
+    class DuplicateRequest {
+
+        @Test
+        @DisplayName("저장된 응답이 있으면 처리 없이 그대로 반환")
+        void stored_ReturnsOriginalResponse() throws Exception {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), startsWith(IdempotencyKeyStore.IN_FLIGHT), any(Duration.class)))
+                    .willReturn(false);
+            given(valueOperations.get(KEY)).willReturn(objectMapper.writeValueAsString(response(100L)));
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            OrderResponseDto result = store.execute(1L, "abc", OrderResponseDto.class,
+                    () -> {
+                        calls.incrementAndGet();
+                        return response(200L);
+                    }, r -> true);
+
+            // then
+            assertThat(result.getOrderId()).isEqualTo(100L);
+            assertThat(result.getOrderStatus()).isEqualTo("PENDING");
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("처리 중이면 결과가 저장될 때까지 대기")
+        void inFlight_WaitsForResult() throws Exception {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), startsWith(IdempotencyKeyStore.IN_FLIGHT), any(Duration.class)))
+                    .willReturn(false);
+            given(valueOperations.get(KEY)).willReturn(OTHER_MARKER, OTHER_MARKER,
+                    objectMapper.writeValueAsString(response(100L)));
+
+            // when
+            OrderResponseDto result = store.execute(1L, "abc", OrderResponseDto.class,
+                    () -> response(200L), r -> true);
+
+            // then
+            assertThat(result.getOrderId()).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("대기 시간 내에 끝나지 않으면 IDEMPOTENCY_KEY_IN_PROGRESS")
+        void inFlightTimeout_Conflict() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), startsWith(IdempotencyKeyStore.IN_FLIGHT), any(Duration.class)))
+                    .willReturn(false);
+            given(valueOperations.get(KEY)).willReturn(OTHER_MARKER);
+
+            // when & then
+            assertThatThrownBy(() -> store.execute(1L, "abc", OrderResponseDto.class,
+                    () -> response(200L), r -> true))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code").isEqualTo(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getCode());
+        }
+    }
+
+    private static OrderResponseDto response(Long orderId) {
+        Orders order = new Orders();
+        order.setId(orderId);
+        order.setUserId(1L);
+        order.setOrderStatus("PENDING");
+        order.setTotalAmount(10_000);
+        return new OrderResponseDto(order);
+    }
+}
@@ -128,7 +128,7 @@ class SagaIntegrationTest {
                     .build();
 
             // when
-            sagaOrchestrator.handleStockReserved(event);
+            sagaOrchestrator.handleStockReserved(event).join();
 
             // then
             Orders updatedOrder = orderRepository.findById(testOrder.getId()).orElseThrow();
@@ -154,7 +154,7 @@ class SagaIntegrationTest {
                     .build();
 
             // when
-            sagaOrchestrator.handleStockReserved(event);
+            sagaOrchestrator.handleStockReserved(event).join();
 
             // then
             Orders updatedOrder = orderRepository.findById(testOrder.getId()).orElseThrow();
@@ -179,8 +179,8 @@ class SagaIntegrationTest {
                     .build();
 
             // when - 동일 이벤트 두 번 처리
-            sagaOrchestrator.handleStockReserved(event);
-            sagaOrchestrator.handleStockReserved(event);
+            sagaOrchestrator.handleStockReserved(event).join();
+            sagaOrchestrator.handleStockReserved(event).join();
 
             // then - 카운터가 1만 증가해야 함
             Orders updatedOrder = orderRepository.findById(testOrder.getId()).orElseThrow();
@@ -205,7 +205,7 @@ class SagaIntegrationTest {
                     .build();
 
             // when
-            sagaOrchestrator.handleStockReservationFailed(event);
+            sagaOrchestrator.handleStockReservationFailed(event).join();
 
             // then
             Orders updatedOrder = orderRepository.findById(testOrder.getId()).orElseThrow();
@@ -234,7 +234,7 @@ class SagaIntegrationTest {
                     .build();
 
             // when
-            sagaOrchestrator.handleStockReservationFailed(event);
+            sagaOrchestrator.handleStockReservationFailed(event).join();
 
             // then
             List<OutboxEvent> outboxEvents = outboxEventRepository.findAll();
@@ -266,7 +266,7 @@ class SagaIntegrationTest {
                     .build();
 
             // when
-            sagaOrchestrator.handlePaymentCompleted(event);
+            sagaOrchestrator.handlePaymentCompleted(event).join();
 
             // then
             Orders updatedOrder = orderRepository.findById(testOrder.getId()).orElseThrow();
@@ -296,7 +296,7 @@ class SagaIntegrationTest {
                     .build();
 
             // when
-            sagaOrchestrator.handlePaymentCompleted(event);
+            sagaOrchestrator.handlePaymentCompleted(event).join();
 
             // then
             Orders updatedOrder = orderRepository.findById(testOrder.getId()).orElseThrow();
@@ -330,7 +330,7 @@ class SagaIntegrationTest {
                     .build();
 
             // when
-            sagaOrchestrator.handlePaymentFailed(event);
+            sagaOrchestrator.handlePaymentFailed(event).join();
 
             // then
             Orders updatedOrder = orderRepository.findById(testOrder.getId()).orElseThrow();
@@ -372,13 +372,13 @@ class SagaIntegrationTest {
 
             // when - 2개 예약 성공
             sagaOrchestrator.handleStockReserved(StockReservedEvent.builder()
-                    .orderId(orderId).productId("1").quantity(1).status("STOCK_RESERVED").build());
+                    .orderId(orderId).productId("1").quantity(1).status("STOCK_RESERVED").build()).join();
             sagaOrchestrator.handleStockReserved(StockReservedEvent.builder()
-                    .orderId(orderId).productId("2").quantity(1).status("STOCK_RESERVED").build());
+                    .orderId(orderId).productId("2").quantity(1).status("STOCK_RESERVED").build()).join();
 
             // when - 1개 예약 실패
             sagaOrchestrator.handleStockReservationFailed(StockReservationFailedEvent.builder()
-                    .orderId(orderId).productId("3").quantity(1).reason("재고 부족").status("STOCK_RESERVATION_FAILED").build());
+                    .orderId(orderId).productId("3").quantity(1).reason("재고 부족").status("STOCK_RESERVATION_FAILED").build()).join();
 
             // then
             Orders updatedOrder = orderRepository.findById(multiItemOrder.getId()).orElseThrow();
@@ -0,0 +1,186 @@
+package com.minju.order.job;
+
+import com.minju.order.history.OrderHistoryCache;
+import com.minju.order.repository.OrderHistoryViewRepository;
+import com.minju.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("OrderStatusTransitionJob 테스트")
+class OrderStatusTransitionJobTest {
+
+    private static final String PENDING_JOB = OrderStatusTransitionJob.JOB_PREFIX + "PENDING->SHIPPING";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderHistoryViewRepository viewRepository;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private JobLeaseRepository leaseRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderHistoryCache orderHistoryCache = new OrderHistoryCache(mock(StringRedisTemplate.class), 100, 60_000);
+    private OrderStatusTransitionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new OrderStatusTransitionJob(orderRepository, viewRepository, checkpointRepository, leaseRepository,
+                orderHistoryCache, transactionManager, meterRegistry, 2, 2, 60_000L);
+        given(leaseRepository.tryAcquire(eq(OrderStatusTransitionJob.LEASE_NAME), anyString(), any(), any())).willReturn(1);
+        given(leaseRepository.renew(eq(OrderStatusTransitionJob.LEASE_NAME), anyString(), any(), any())).willReturn(1);
+        given(checkpointRepository.findByJobNameAndCompletedFalse(anyString())).willReturn(List.of());
+        given(orderRepository.findMinIdForStatusTransition(anyString(), any())).willReturn(null);
+        given(orderRepository.findMaxIdForStatusTransition(anyString(), any())).willReturn(null);
+        given(orderRepository.findIdsForStatusTransition(anyString(), any(), anyLong(), anyLong(), any()))
+                .willReturn(List.of());
+    }
+
+    @Nested
+    @DisplayName("파티션 분할 실행")
+    class Partitioned {
+
+        @Test
+        @DisplayName("ID 범위를 파티션으로 나눠 청크 단위 UPDATE 후 체크포인트 완료 처리")
+        void run_UpdatesChunksPerPartition() {
+            // given - PENDING 대상 ID 100 ~ 199 → 파티션 [100,149], [150,199]
+            given(orderRepository.findMinIdForStatusTransition(eq("PENDING"), any())).willReturn(100L);
+            given(orderRepository.findMaxIdForStatusTransition(eq("PENDING"), any())).willReturn(199L);
+            given(orderRepository.findIdsForStatusTransition(eq("PENDING"), any(), eq(99L), eq(149L), any()))
+                    .willReturn(List.of(100L, 120L));
+            given(orderRepository.findIdsForStatusTransition(eq("PENDING"), any(), eq(149L), eq(199L), any()))
+                    .willReturn(List.of(150L));
+            given(orderRepository.transitionStatusInRange(eq("PENDING"), eq("SHIPPING"), any(), eq(100L), eq(120L)))
+                    .willReturn(2);
+            given(orderRepository.transitionStatusInRange(eq("PENDING"), eq("SHIPPING"), any(), eq(150L), eq(150L)))
+                    .willReturn(1);
+
+            // when
+            Map<String, Integer> result = job.run();
+
+            // then
+            assertThat(result).containsEntry("SHIPPING->DELIVERED", 0).containsEntry("PENDING->SHIPPING", 3);
+            verify(checkpointRepository).saveAll(anyList());
+            verify(viewRepository).transitionStatusInRange(eq("PENDING"), eq("SHIPPING"), any(), eq(100L), eq(120L), any());
+            verify(checkpointRepository).updateLastId(eq(PENDING_JOB + ":0"), eq(120L), any());
+            verify(checkpointRepository).updateLastId(eq(PENDING_JOB + ":1"), eq(150L), any());
+            verify(checkpointRepository).markCompleted(eq(PENDING_JOB + ":0"), any());
+            verify(checkpointRepository).markCompleted(eq(PENDING_JOB + ":1"), any());
+            assertThat(meterRegistry.counter("order.status_transition.rows", "transition", "PENDING->SHIPPING").count())
+                    .isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("미완료 체크포인트가 있으면 마지막 반영 ID 이후부터 재개")
+        void run_ResumesFromCheckpoint() {
+            // given
+            JobCheckpoint checkpoint = JobCheckpoint.create(PENDING_JOB, 0, 100L, 199L);
+            ReflectionTestUtils.setField(checkpoint, "lastId", 160L);
+            given(checkpointRepository.findByJobNameAndCompletedFalse(PENDING_JOB)).willReturn(List.of(checkpoint));
+            given(orderRepository.findIdsForStatusTransition(eq("PENDING"), any(), eq(160L), eq(199L), any()))
+                    .willReturn(List.of(170L, 180L));
+            given(orderRepository.transitionStatusInRange(eq("PENDING"), eq("SHIPPING"), any(), eq(170L), eq(180L)))
+                    .willReturn(2);
+
+            // when
+            Map<String, Integer> result = job.run();
+
+            // then
+            assertThat(result).containsEntry("PENDING->SHIPPING", 2);
+            verify(orderRepository, never()).findMinIdForStatusTransition(eq("PENDING"), any());
+            verify(checkpointRepository).markCompleted(eq(PENDING_JOB + ":0"), any());
+        }
+
+        @Test
+        @DisplayName("청크 반영 실패 시 파티션을 완료 처리하지 않고 예외 전파")
+        void run_ChunkFailure_KeepsCheckpointOpen() {
+            // given
+            given(orderRepository.findMinIdForStatusTransition(eq("PENDING"), any())).willReturn(100L);
+            given(orderRepository.findMaxIdForStatusTransition(eq("PENDING"), any())).willReturn(100L);
+            given(orderRepository.findIdsForStatusTransition(eq("PENDING"), any(), eq(99L), eq(100L), any()))
+                    .willReturn(List.of(100L));
+            given(orderRepository.transitionStatusInRange(eq("PENDING"), eq("SHIPPING"), any(), eq(100L), eq(100L)))
+                    .willThrow(new RuntimeException("DB 장애"));
+
+            // when & then
+            assertThatThrownBy(() -> job.run()).isInstanceOf(IllegalStateException.class);
+            verify(checkpointRepository, never()).markCompleted(eq(PENDING_JOB + ":0"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("인스턴스 간 실행 lease")
+    class Lease {
+
+        @Test
+        @DisplayName("다른 인스턴스가 lease를 보유 중이면 계획/체크포인트를 건드리지 않고 종료")
+        void run_LeaseHeldElsewhere_Skips() {
+            // given
+            given(leaseRepository.tryAcquire(eq(OrderStatusTransitionJob.LEASE_NAME), anyString(), any(), any()))
+                    .willReturn(0);
+
+            // when
+            Map<String, Integer> result = job.run();
+
+            // then
+            assertThat(result).isEmpty();
+            verify(checkpointRepository, never()).findByJobNameAndCompletedFalse(anyString());
+            verify(checkpointRepository, never()).deleteByJobName(anyString());
+            verify(leaseRepository, never()).release(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("실행 중 lease를 잃으면 청크를 반영하지 않고 중단, 종료 시 lease 해제")
+        void run_LeaseLost_StopsWriting() {
+            // given
+            given(orderRepository.findMinIdForStatusTransition(eq("PENDING"), any())).willReturn(100L);
+            given(orderRepository.findMaxIdForStatusTransition(eq("PENDING"), any())).willReturn(100L);
+            given(orderRepository.findIdsForStatusTransition(eq("PENDING"), any(), eq(99L), eq(100L), any()))
+                    .willReturn(List.of(100L));
+            given(leaseRepository.renew(eq(OrderStatusTransitionJob.LEASE_NAME), anyString(), any(), any()))
+                    .willReturn(1, 0);
+
+            // when & then - 계획 트랜잭션까지는 보유, 첫 청크에서 상실
+            assertThatThrownBy(() -> job.run()).isInstanceOf(IllegalStateException.class);
+            verify(checkpointRepository).saveAll(anyList());
+            verify(orderRepository, never()).transitionStatusInRange(anyString(), anyString(), any(), anyLong(), anyLong());
+            verify(checkpointRepository, never()).markCompleted(anyString(), any());
+            verify(leaseRepository).release(eq(OrderStatusTransitionJob.LEASE_NAME), anyString());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.minju.order.repository;
+
+import com.minju.order.dto.OrderSearchCondition;
+import com.minju.order.entity.OrderItem;
+import com.minju.order.entity.Orders;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderRepositoryImpl 검색 테스트 (H2)")
+class OrderRepositoryImplTest {
+
+    private static final int ORDERS = 30;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private static SessionFactory sessionFactory;
+    private static List<Long> expectedIds;
+
+    private Session session;
+    private OrderRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Orders.class)
+                .addAnnotatedClass(OrderItem.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:order_search;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.generate_statistics", "true")
+                .buildSessionFactory();
+
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < ORDERS; i++) {
+                Orders order = new Orders();
+                order.setUserId(i % 2 == 0 ? 1L : 2L);
+                order.setOrderStatus("PENDING");
+                order.setTotalAmount(1000 * (i + 1));
+                order.setOrderItems(new ArrayList<>());
+                for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                    OrderItem item = new OrderItem();
+                    item.setProductId((long) j + 1);
+                    item.setQuantity(1);
+                    item.setPrice(1000);
+                    item.setOrder(order);
+                    order.getOrderItems().add(item);
+                }
+                session.persist(order);
+            }
+            session.getTransaction().commit();
+        }
+
+        try (Session session = sessionFactory.openSession()) {
+            expectedIds = session.createQuery("select o from Orders o where o.userId = 1", Orders.class)
+                    .getResultList().stream()
+                    .sorted(Comparator.comparing(Orders::getCreatedAt).reversed()
+                            .thenComparing(Comparator.comparing(Orders::getId).reversed()))
+                    .map(Orders::getId)
+                    .toList();
+        }
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        sessionFactory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        session = sessionFactory.openSession();
+        repository = new OrderRepositoryImpl(new JPAQueryFactory(session));
+        sessionFactory.getStatistics().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.close();
+    }
+
+    @Nested
+    @DisplayName("offset 페이징")
+    class OffsetPaging {
+
+        @Test
+        @DisplayName("페이지 크기만큼의 주문만 적재하고 상품은 일괄 조회")
+        void searchOrders_LoadsOnlyPage() {
+            // given
+            OrderSearchCondition condition = OrderSearchCondition.builder().userId(1L).build();
+
+            // when
+            Page<Orders> page = repository.searchOrders(condition, PageRequest.of(1, 5));
+
+            // then
+            assertThat(page.getTotalElements()).isEqualTo(ORDERS / 2);
+            assertThat(page.getContent()).extracting(Orders::getId).containsExactlyElementsOf(expectedIds.subList(5, 10));
+            assertThat(page.getContent()).allSatisfy(order ->
+                    assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER));
+            // 카운트 + ID 페이징 + 상품 일괄 조회, 메모리 페이징 없음
+            assertThat(sessionFactory.getStatistics().getQueryExecutionCount()).isEqualTo(3);
+            assertThat(sessionFactory.getStatistics().getEntityLoadCount()).isEqualTo(5L * (1 + ITEMS_PER_ORDER));
+        }
+    }
+
+    @Nested
+    @DisplayName("keyset 커서 페이징")
+    class CursorPaging {
+
+        @Test
+        @DisplayName("마지막 주문 기준으로 이어서 조회하면 누락/중복 없이 전체를 순회")
+        void searchOrdersAfter_WalksAllOrders() {
+            // given
+            OrderSearchCondition condition = OrderSearchCondition.builder().userId(1L).build();
+            List<Long> visited = new ArrayList<>();
+
+            // when
+            Slice<Orders> slice;
+            do {
+                slice = repository.searchOrdersAfter(condition, 4);
+                slice.forEach(order -> visited.add(order.getId()));
+                if (slice.hasContent()) {
+                    Orders last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                    condition.setCursorCreatedAt(last.getCreatedAt());
+                    condition.setCursorOrderId(last.getId());
+                }
+            } while (slice.hasNext());
+
+            // then
+            assertThat(visited).containsExactlyElementsOf(expectedIds);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.minju.order.saga;
+
+import com.minju.common.idempotency.ProcessedEventRepository;
+import com.minju.order.entity.OrderItem;
+import com.minju.order.entity.Orders;
+import com.minju.order.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SagaCoordinator 테스트")
+class SagaCoordinatorTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SagaCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(orderRepository.updateSagaProgress(anyLong(), anyLong(), anyString(), anyInt(), anyInt())).thenReturn(1);
+        lenient().when(orderRepository.updateSagaState(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyInt())).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coordinator.stop();
+    }
+
+    @Nested
+    @DisplayName("주문별 직렬 처리")
+    class SerializedPerOrder {
+
+        @Test
+        @DisplayName("같은 주문의 이벤트가 동시에 들어와도 카운터 유실 없이 종료 전이는 1번만 실행")
+        void concurrentEvents_NoLostUpdates() throws Exception {
+            // given
+            int itemCount = 50;
+            coordinator = start(4, 20L, 1000);
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order(1L, itemCount)));
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of());
+
+            AtomicInteger transitions = new AtomicInteger();
+            ExecutorService producers = Executors.newFixedThreadPool(8);
+            CountDownLatch ready = new CountDownLatch(1);
+            List<CompletableFuture<CompletableFuture<Void>>> submitted = new ArrayList<>();
+
+            // when
+            for (int i = 1; i <= itemCount; i++) {
+                String productId = String.valueOf(i);
+                submitted.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(ready);
+                    return coordinator.dispatch("1", "STOCK_RESERVED", productId, state -> {
+                        state.incrementReserved();
+                        if (state.isAllItemsReserved()) {
+                            state.setOrderStatus("STOCK_RESERVED");
+                            return transitions::incrementAndGet;
+                        }
+                        return null;
+                    });
+                }, producers));
+            }
+            ready.countDown();
+            for (CompletableFuture<CompletableFuture<Void>> f : submitted) {
+                f.get(2, TimeUnit.SECONDS).get(2, TimeUnit.SECONDS);
+            }
+            producers.shutdown();
+
+            // then
+            assertThat(transitions.get()).isEqualTo(1);
+            verify(orderRepository, times(1)).findById(1L);
+            // 기대 버전은 그 사이 write-behind 반영 횟수에 따라 달라짐
+            verify(orderRepository).updateSagaState(eq(1L), anyLong(), eq("PENDING"), eq("STOCK_RESERVED"), eq(itemCount), eq(0));
+        }
+
+        @Test
+        @DisplayName("메모리 상태로 중복 이벤트를 걸러냄")
+        void duplicateEvent_IgnoredInMemory() throws Exception {
+            // given
+            coordinator = start(1, 20L, 1000);
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order(1L, 3)));
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of());
+            AtomicInteger applied = new AtomicInteger();
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                coordinator.dispatch("1", "STOCK_RESERVED", "7", state -> {
+                    applied.incrementAndGet();
+                    return null;
+                }).get(2, TimeUnit.SECONDS);
+            }
+
+            // then
+            assertThat(applied.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("write-behind")
+    class WriteBehind {
+
+        @Test
+        @DisplayName("중간 단계 변경은 모아서 한 트랜잭션으로 반영한 뒤 완료 처리")
+        void intermediateSteps_FlushedInOneTransaction() throws Exception {
+            // given - 주기 flush는 사실상 끄고 lane당 대기 3건에서 flush
+            coordinator = start(1, 60_000L, 3);
+            for (long id = 1; id <= 3; id++) {
+                given(orderRepository.findById(id)).willReturn(Optional.of(order(id, 2)));
+                given(processedEventRepository.findByAggregateId(String.valueOf(id))).willReturn(List.of());
+            }
+
+            // when
+            CompletableFuture<Void> first = coordinator.dispatch("1", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve);
+            CompletableFuture<Void> second = coordinator.dispatch("2", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve);
+            Thread.sleep(100);
+
+            // then - 반영 전에는 완료되지 않음 (offset 미커밋)
+            assertThat(first).isNotDone();
+            assertThat(second).isNotDone();
+
+            coordinator.dispatch("3", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve).get(2, TimeUnit.SECONDS);
+            first.get(1, TimeUnit.SECONDS);
+            second.get(1, TimeUnit.SECONDS);
+
+            verify(orderRepository).updateSagaProgress(1L, 0L, "PENDING", 1, 0);
+            verify(orderRepository).updateSagaProgress(2L, 0L, "PENDING", 1, 0);
+            verify(orderRepository).updateSagaProgress(3L, 0L, "PENDING", 1, 0);
+            verify(processedEventRepository, times(1)).saveAll(argThat(events -> sizeOf(events) == 3));
+            // 읽기 트랜잭션 3회 (상태 적재) + 쓰기 트랜잭션 1회
+            verify(transactionManager, times(4)).getTransaction(any());
+        }
+
+        @Test
+        @DisplayName("반영 실패 시 future를 실패 처리하고 다음 이벤트에서 DB 상태를 다시 적재")
+        void flushFailure_EvictsState() throws Exception {
+            // given
+            coordinator = start(1, 20L, 1000);
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order(1L, 3)));
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of());
+            willThrow(new RuntimeException("DB 장애")).given(orderRepository).updateSagaProgress(1L, 0L, "PENDING", 1, 0);
+
+            // when
+            CompletableFuture<Void> failed = coordinator.dispatch("1", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve);
+
+            // then
+            assertThatThrownBy(() -> failed.get(2, TimeUnit.SECONDS)).hasCauseInstanceOf(RuntimeException.class);
+
+            coordinator.dispatch("1", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve);
+            verify(orderRepository, timeout(2000).times(2)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("반영이 끝난 유휴 상태는 메모리에서 정리")
+        void idleState_Evicted() throws Exception {
+            // given
+            coordinator = new SagaCoordinator(orderRepository, processedEventRepository, eventPublisher,
+                    transactionManager, 1, 20L, 1000, 0L);
+            coordinator.start();
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order(1L, 3)));
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of());
+
+            // when
+            coordinator.dispatch("1", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve).get(2, TimeUnit.SECONDS);
+            Thread.sleep(100);
+
+            // then
+            assertThat(coordinator.getCachedStateCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("다른 경로의 상태 변경")
+    class ExternalStatusChange {
+
+        @Test
+        @DisplayName("주문 상태가 이미 바뀌었으면 전이를 롤백하고 다음 이벤트에서 DB 상태를 다시 적재")
+        void transition_StatusChanged_EvictsAndReloads() throws Exception {
+            // given - 메모리에는 PENDING, DB는 취소 API로 CANCELLED
+            coordinator = start(1, 20L, 1000);
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order(1L, 1)));
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of());
+            given(orderRepository.updateSagaState(1L, 0L, "PENDING", "STOCK_RESERVED", 1, 0)).willReturn(0);
+            AtomicInteger paymentRequests = new AtomicInteger();
+
+            // when
+            CompletableFuture<Void> result = coordinator.dispatch("1", "STOCK_RESERVED", "1", state -> {
+                state.incrementReserved();
+                state.setOrderStatus("STOCK_RESERVED");
+                return paymentRequests::incrementAndGet;
+            });
+
+            // then
+            assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(SagaCoordinator.SagaStateConflictException.class);
+            assertThat(paymentRequests.get()).isZero();
+            verify(processedEventRepository, never()).saveAll(any());
+            assertThat(coordinator.getCachedStateCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("write-behind 반영 시 상태가 바뀐 주문만 제외하고 캐시에서 제거")
+        void flush_StatusChanged_EvictsOnlyConflicted() throws Exception {
+            // given
+            coordinator = start(1, 60_000L, 2);
+            for (long id = 1; id <= 2; id++) {
+                given(orderRepository.findById(id)).willReturn(Optional.of(order(id, 2)));
+                given(processedEventRepository.findByAggregateId(String.valueOf(id))).willReturn(List.of());
+            }
+            given(orderRepository.updateSagaProgress(1L, 0L, "PENDING", 1, 0)).willReturn(0);
+
+            // when
+            CompletableFuture<Void> conflicted = coordinator.dispatch("1", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve);
+            CompletableFuture<Void> applied = coordinator.dispatch("2", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve);
+
+            // then
+            applied.get(2, TimeUnit.SECONDS);
+            assertThatThrownBy(() -> conflicted.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(SagaCoordinator.SagaStateConflictException.class);
+            verify(processedEventRepository).saveAll(argThat(events -> sizeOf(events) == 1
+                    && events.iterator().next().getAggregateId().equals("2")));
+            assertThat(coordinator.getCachedStateCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 먼저 카운터를 반영했으면(버전 불일치) 덮어쓰지 않고 다시 적재해 합산")
+        void flush_VersionChanged_ReloadsAndMerges() throws Exception {
+            // given - 예약 실패 이벤트를 다른 인스턴스가 처리해 DB는 failed=1, 버전 1
+            coordinator = start(1, 60_000L, 1);
+            Orders reloaded = order(1L, 2);
+            reloaded.setFailedItemCount(1);
+            reloaded.setSagaVersion(1L);
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order(1L, 2)), Optional.of(reloaded));
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of());
+            given(orderRepository.updateSagaProgress(1L, 0L, "PENDING", 1, 0)).willReturn(0);
+            SagaCoordinator.SagaStep reserveOrCancel = state -> {
+                state.incrementReserved();
+                if (state.isAllReservationsProcessed()) {
+                    state.setOrderStatus("CANCELLED");
+                    return () -> { };
+                }
+                return null;
+            };
+
+            // when - 첫 반영은 버전 충돌, 재전달 시 DB 값을 다시 적재해 처리
+            CompletableFuture<Void> conflicted = coordinator.dispatch("1", "STOCK_RESERVED", "1", reserveOrCancel);
+            assertThatThrownBy(() -> conflicted.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(SagaCoordinator.SagaStateConflictException.class);
+            coordinator.dispatch("1", "STOCK_RESERVED", "1", reserveOrCancel).get(2, TimeUnit.SECONDS);
+
+            // then - 두 인스턴스의 결과가 합쳐져 종료 전이
+            verify(orderRepository).updateSagaState(1L, 1L, "PENDING", "CANCELLED", 1, 1);
+        }
+
+        @Test
+        @DisplayName("파티션 회수 시 대기 중인 변경을 반영하고 캐시를 비움")
+        void evictAll_FlushesAndClears() throws Exception {
+            // given
+            coordinator = start(2, 60_000L, 1000);
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order(1L, 2)));
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of());
+            CompletableFuture<Void> pending = coordinator.dispatch("1", "STOCK_RESERVED", "1", SagaCoordinatorTest::reserve);
+
+            // when
+            coordinator.evictAll();
+
+            // then
+            pending.get(1, TimeUnit.SECONDS);
+            verify(orderRepository).updateSagaProgress(1L, 0L, "PENDING", 1, 0);
+            assertThat(coordinator.getCachedStateCount()).isZero();
+        }
+    }
+
+    private SagaCoordinator start(int lanes, long flushIntervalMs, int maxPendingPerLane) {
+        SagaCoordinator started = new SagaCoordinator(orderRepository, processedEventRepository, eventPublisher,
+                transactionManager, lanes, flushIntervalMs, maxPendingPerLane, 60_000L);
+        started.start();
+        return started;
+    }
+
+    private static Runnable reserve(SagaState state) {
+        state.incrementReserved();
+        return null;
+    }
+
+    private static Orders order(Long id, int itemCount) {
+        Orders order = new Orders();
+        order.setId(id);
+        order.setUserId(1L);
+        order.setOrderStatus("PENDING");
+        order.setTotalItemCount(itemCount);
+        for (int i = 1; i <= itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId((long) i);
+            item.setQuantity(1);
+            item.setOrder(order);
+            order.getOrderItems().add(item);
+        }
+        return order;
+    }
+
+    private static int sizeOf(Iterable<?> iterable) {
+        int size = 0;
+        for (Object ignored : iterable) {
+            size++;
+        }
+        return size;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,27 +6,34 @@ import com.minju.common.kafka.payment.PaymentCompletedEvent;
 import com.minju.common.kafka.payment.PaymentFailedEvent;
 import com.minju.common.kafka.stock.StockReservationFailedEvent;
 import com.minju.common.kafka.stock.StockReservedEvent;
+import com.minju.common.kafka.stock.StockRestoreEvent;
 import com.minju.order.entity.OrderItem;
 import com.minju.order.entity.Orders;
 import com.minju.order.outbox.OutboxEventPublisher;
 import com.minju.order.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 @DisplayName("SagaOrchestrator 단위 테스트")
 class SagaOrchestratorTest {
 
@@ -39,7 +46,13 @@ class SagaOrchestratorTest {
     @Mock
     private ProcessedEventRepository processedEventRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SagaCoordinator sagaCoordinator;
     private SagaOrchestrator sagaOrchestrator;
 
     private Orders mockOrder;
@@ -67,6 +80,21 @@ class SagaOrchestratorTest {
         item2.setQuantity(1);
         item2.setOrder(mockOrder);
         mockOrder.getOrderItems().add(item2);
+
+        sagaCoordinator = new SagaCoordinator(orderRepository, processedEventRepository, eventPublisher,
+                transactionManager, 2, 20L, 500, 60_000L);
+        sagaCoordinator.start();
+        sagaOrchestrator = new SagaOrchestrator(sagaCoordinator, outboxPublisher);
+
+        given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
+        given(processedEventRepository.findByAggregateId("1")).willReturn(List.of());
+        given(orderRepository.updateSagaProgress(anyLong(), anyLong(), anyString(), anyInt(), anyInt())).willReturn(1);
+        given(orderRepository.updateSagaState(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyInt())).willReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sagaCoordinator.stop();
     }
 
     @Nested
@@ -75,7 +103,7 @@ class SagaOrchestratorTest {
 
         @Test
         @DisplayName("첫 번째 상품 재고 예약 성공 시 카운터가 증가한다")
-        void handleStockReserved_FirstProduct_ShouldIncrementCounter() {
+        void handleStockReserved_FirstProduct_ShouldIncrementCounter() throws Exception {
             // given
             StockReservedEvent event = StockReservedEvent.builder()
                     .orderId("1")
@@ -84,15 +112,11 @@ class SagaOrchestratorTest {
                     .status("STOCK_RESERVED")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handleStockReserved(event);
+            sagaOrchestrator.handleStockReserved(event).get(2, TimeUnit.SECONDS);
 
             // then
-            assertThat(mockOrder.getReservedItemCount()).isEqualTo(1);
+            verify(orderRepository).updateSagaProgress(1L, 0L, "PENDING", 1, 0);
             verify(outboxPublisher, never()).saveEvent(
                     anyString(), anyString(), eq("PAYMENT_REQUESTED"), anyString(), any()
             );
@@ -100,7 +124,7 @@ class SagaOrchestratorTest {
 
         @Test
         @DisplayName("모든 상품 재고 예약 완료 시 결제 요청 이벤트가 발행된다")
-        void handleStockReserved_AllReserved_ShouldPublishPaymentRequest() {
+        void handleStockReserved_AllReserved_ShouldPublishPaymentRequest() throws Exception {
             // given
             mockOrder.setReservedItemCount(1); // 이미 1개 예약됨
             mockOrder.setTotalItemCount(2);
@@ -112,15 +136,11 @@ class SagaOrchestratorTest {
                     .status("STOCK_RESERVED")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handleStockReserved(event);
+            sagaOrchestrator.handleStockReserved(event).get(2, TimeUnit.SECONDS);
 
             // then
-            assertThat(mockOrder.getOrderStatus()).isEqualTo("STOCK_RESERVED");
+            verify(orderRepository).updateSagaState(1L, 0L, "PENDING", "STOCK_RESERVED", 2, 0);
             verify(outboxPublisher).saveEvent(
                     eq("ORDER"),
                     eq("1"),
@@ -132,7 +152,7 @@ class SagaOrchestratorTest {
 
         @Test
         @DisplayName("이미 실패한 상품이 있으면 재고 복구 이벤트가 발행된다")
-        void handleStockReserved_HasFailedItem_ShouldPublishStockRestore() {
+        void handleStockReserved_HasFailedItem_ShouldPublishStockRestore() throws Exception {
             // given
             mockOrder.setFailedItemCount(1); // 이미 실패한 상품 있음
 
@@ -143,12 +163,8 @@ class SagaOrchestratorTest {
                     .status("STOCK_RESERVED")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handleStockReserved(event);
+            sagaOrchestrator.handleStockReserved(event).get(2, TimeUnit.SECONDS);
 
             // then
             verify(outboxPublisher).saveEvent(
@@ -156,13 +172,14 @@ class SagaOrchestratorTest {
                     anyString(),
                     eq("STOCK_RESTORE_REQUESTED"),
                     eq("stock-restore-topic"),
+                    anyString(),
                     any()
             );
         }
 
         @Test
         @DisplayName("중복 이벤트는 무시된다 (멱등성)")
-        void handleStockReserved_DuplicateEvent_ShouldBeIgnored() {
+        void handleStockReserved_DuplicateEvent_ShouldBeIgnored() throws Exception {
             // given
             StockReservedEvent event = StockReservedEvent.builder()
                     .orderId("1")
@@ -170,14 +187,16 @@ class SagaOrchestratorTest {
                     .quantity(2)
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(true);
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of(
+                    ProcessedEvent.create("1", "STOCK_RESERVED", "1", "ORDER_SAGA")));
 
             // when
-            sagaOrchestrator.handleStockReserved(event);
+            sagaOrchestrator.handleStockReserved(event).get(2, TimeUnit.SECONDS);
 
             // then
-            verify(orderRepository, never()).findById(anyLong());
+            verify(orderRepository, never()).updateSagaProgress(anyLong(), anyLong(), anyString(), anyInt(), anyInt());
             verify(outboxPublisher, never()).saveEvent(any(), any(), any(), any(), any());
+            verify(outboxPublisher, never()).saveEvent(any(), any(), any(), any(), any(), any());
         }
     }
 
@@ -187,7 +206,7 @@ class SagaOrchestratorTest {
 
         @Test
         @DisplayName("재고 예약 실패 시 주문이 CANCELLED 상태가 된다")
-        void handleStockReservationFailed_ShouldCancelOrder() {
+        void handleStockReservationFailed_ShouldCancelOrder() throws Exception {
             // given
             StockReservationFailedEvent event = StockReservationFailedEvent.builder()
                     .orderId("1")
@@ -197,21 +216,16 @@ class SagaOrchestratorTest {
                     .status("STOCK_RESERVATION_FAILED")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handleStockReservationFailed(event);
+            sagaOrchestrator.handleStockReservationFailed(event).get(2, TimeUnit.SECONDS);
 
             // then
-            assertThat(mockOrder.getOrderStatus()).isEqualTo("CANCELLED");
-            assertThat(mockOrder.getFailedItemCount()).isEqualTo(1);
+            verify(orderRepository).updateSagaState(1L, 0L, "PENDING", "CANCELLED", 0, 1);
         }
 
         @Test
         @DisplayName("재고 예약 실패 시 ORDER_CANCELLED 이벤트가 발행된다")
-        void handleStockReservationFailed_ShouldPublishOrderCancelled() {
+        void handleStockReservationFailed_ShouldPublishOrderCancelled() throws Exception {
             // given
             StockReservationFailedEvent event = StockReservationFailedEvent.builder()
                     .orderId("1")
@@ -221,12 +235,8 @@ class SagaOrchestratorTest {
                     .status("STOCK_RESERVATION_FAILED")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handleStockReservationFailed(event);
+            sagaOrchestrator.handleStockReservationFailed(event).get(2, TimeUnit.SECONDS);
 
             // then
             verify(outboxPublisher).saveEvent(
@@ -240,7 +250,7 @@ class SagaOrchestratorTest {
 
         @Test
         @DisplayName("이미 예약된 상품이 있으면 재고 복구 이벤트가 발행된다")
-        void handleStockReservationFailed_HasReservedItems_ShouldRestoreStock() {
+        void handleStockReservationFailed_HasReservedItems_ShouldRestoreStock() throws Exception {
             // given
             mockOrder.setReservedItemCount(1);
 
@@ -251,12 +261,8 @@ class SagaOrchestratorTest {
                     .reason("재고 부족")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handleStockReservationFailed(event);
+            sagaOrchestrator.handleStockReservationFailed(event).get(2, TimeUnit.SECONDS);
 
             // then
             verify(outboxPublisher, atLeastOnce()).saveEvent(
@@ -264,6 +270,7 @@ class SagaOrchestratorTest {
                     anyString(),
                     eq("STOCK_RESTORE_REQUESTED"),
                     eq("stock-restore-topic"),
+                    anyString(),
                     any()
             );
         }
@@ -275,7 +282,7 @@ class SagaOrchestratorTest {
 
         @Test
         @DisplayName("결제 성공 시 주문이 COMPLETED 상태가 된다")
-        void handlePaymentCompleted_Success_ShouldCompleteOrder() {
+        void handlePaymentCompleted_Success_ShouldCompleteOrder() throws Exception {
             // given
             mockOrder.setOrderStatus("STOCK_RESERVED");
 
@@ -289,15 +296,11 @@ class SagaOrchestratorTest {
                     .status("PAYMENT_COMPLETED")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handlePaymentCompleted(event);
+            sagaOrchestrator.handlePaymentCompleted(event).get(2, TimeUnit.SECONDS);
 
             // then
-            assertThat(mockOrder.getOrderStatus()).isEqualTo("COMPLETED");
+            verify(orderRepository).updateSagaState(1L, 0L, "STOCK_RESERVED", "COMPLETED", 0, 0);
             verify(outboxPublisher).saveEvent(
                     eq("ORDER"),
                     eq("1"),
@@ -309,7 +312,7 @@ class SagaOrchestratorTest {
 
         @Test
         @DisplayName("결제 실패 시 재고 복구 이벤트가 발행된다 (보상 트랜잭션)")
-        void handlePaymentCompleted_Failed_ShouldTriggerCompensation() {
+        void handlePaymentCompleted_Failed_ShouldTriggerCompensation() throws Exception {
             // given
             mockOrder.setOrderStatus("STOCK_RESERVED");
 
@@ -323,20 +326,17 @@ class SagaOrchestratorTest {
                     .status("PAYMENT_COMPLETED")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handlePaymentCompleted(event);
+            sagaOrchestrator.handlePaymentCompleted(event).get(2, TimeUnit.SECONDS);
 
             // then
-            assertThat(mockOrder.getOrderStatus()).isEqualTo("PAYMENT_FAILED");
+            verify(orderRepository).updateSagaState(1L, 0L, "STOCK_RESERVED", "PAYMENT_FAILED", 0, 0);
             verify(outboxPublisher).saveEvent(
                     eq("ORDER"),
                     anyString(),
                     eq("STOCK_RESTORE_REQUESTED"),
                     eq("stock-restore-topic"),
+                    anyString(),
                     any()
             );
         }
@@ -348,7 +348,7 @@ class SagaOrchestratorTest {
 
         @Test
         @DisplayName("결제 실패 이벤트 수신 시 보상 트랜잭션이 실행된다")
-        void handlePaymentFailed_ShouldTriggerCompensation() {
+        void handlePaymentFailed_ShouldTriggerCompensation() throws Exception {
             // given
             mockOrder.setOrderStatus("STOCK_RESERVED");
 
@@ -361,22 +361,110 @@ class SagaOrchestratorTest {
                     .status("PAYMENT_FAILED")
                     .build();
 
-            given(processedEventRepository.existsById(anyString())).willReturn(false);
-            given(orderRepository.findById(1L)).willReturn(Optional.of(mockOrder));
-            given(orderRepository.save(any(Orders.class))).willReturn(mockOrder);
-
             // when
-            sagaOrchestrator.handlePaymentFailed(event);
+            sagaOrchestrator.handlePaymentFailed(event).get(2, TimeUnit.SECONDS);
 
             // then
-            assertThat(mockOrder.getOrderStatus()).isEqualTo("PAYMENT_FAILED");
+            verify(orderRepository).updateSagaState(1L, 0L, "STOCK_RESERVED", "PAYMENT_FAILED", 0, 0);
             verify(outboxPublisher).saveEvent(
                     eq("ORDER"),
                     anyString(),
                     eq("STOCK_RESTORE_REQUESTED"),
                     eq("stock-restore-topic"),
+                    anyString(),
                     any()
             );
         }
     }
+
+    @Nested
+    @DisplayName("Saga 응답 시간 초과 처리")
+    class HandleTimeoutTest {
+
+        @Test
+        @DisplayName("재고 예약 대기 중 시간 초과 시 주문을 취소하고 예약된 상품만 재고 복구")
+        void handleTimeout_StockReservation_RestoresReservedOnly() throws Exception {
+            // given - 상품 1만 예약 완료
+            mockOrder.setReservedItemCount(1);
+            ProcessedEvent reserved = ProcessedEvent.create("1", "STOCK_RESERVED", "1", SagaCoordinator.SERVICE_NAME);
+            given(processedEventRepository.findByAggregateId("1")).willReturn(List.of(reserved));
+
+            // when
+            boolean timedOut = sagaOrchestrator.handleTimeout("1", SagaTimeoutStep.STOCK_RESERVATION)
+                    .get(2, TimeUnit.SECONDS);
+
+            // then
+            assertThat(timedOut).isTrue();
+            verify(orderRepository).updateSagaState(1L, 0L, "PENDING", "CANCELLED", 1, 0);
+            verify(outboxPublisher, times(1)).saveEvent(
+                    eq("ORDER"), eq("1"), eq("STOCK_RESTORE_REQUESTED"), eq("stock-restore-topic"), eq("1"),
+                    argThat(e -> "1".equals(((StockRestoreEvent) e).getProductId())));
+            verify(outboxPublisher).saveEvent(
+                    eq("ORDER"), eq("1"), eq("ORDER_CANCELLED"), eq("order-cancelled-topic"), any());
+        }
+
+        @Test
+        @DisplayName("이미 다음 단계로 진행된 주문은 시간 초과 처리하지 않음")
+        void handleTimeout_AlreadyProgressed_NoOp() throws Exception {
+            // given
+            mockOrder.setOrderStatus("COMPLETED");
+
+            // when
+            boolean timedOut = sagaOrchestrator.handleTimeout("1", SagaTimeoutStep.PAYMENT)
+                    .get(2, TimeUnit.SECONDS);
+
+            // then
+            assertThat(timedOut).isFalse();
+            verify(orderRepository, never()).updateSagaState(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyInt());
+            verify(outboxPublisher, never()).saveEvent(anyString(), anyString(), anyString(), anyString(), any());
+            verify(outboxPublisher, never()).saveEvent(anyString(), anyString(), anyString(), anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("시간 초과로 취소된 뒤 도착한 재고 예약은 즉시 복구")
+        void lateStockReserved_AfterTimeout_Restored() throws Exception {
+            // given
+            sagaOrchestrator.handleTimeout("1", SagaTimeoutStep.STOCK_RESERVATION).get(2, TimeUnit.SECONDS);
+            StockReservedEvent late = StockReservedEvent.builder()
+                    .orderId("1")
+                    .productId("2")
+                    .quantity(1)
+                    .status("STOCK_RESERVED")
+                    .build();
+
+            // when
+            sagaOrchestrator.handleStockReserved(late).get(2, TimeUnit.SECONDS);
+
+            // then
+            verify(outboxPublisher).saveEvent(
+                    eq("ORDER"), eq("1"), eq("STOCK_RESTORE_REQUESTED"), eq("stock-restore-topic"), eq("2"),
+                    argThat(e -> "2".equals(((StockRestoreEvent) e).getProductId())));
+            verify(outboxPublisher, never()).saveEvent(
+                    anyString(), anyString(), eq("PAYMENT_REQUESTED"), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("결제 대기 시간 초과로 취소된 뒤 결제 성공이 도착하면 수동 처리 요청")
+        void latePaymentSuccess_AfterTimeout_RequestsManualProcessing() throws Exception {
+            // given
+            mockOrder.setOrderStatus("STOCK_RESERVED");
+            mockOrder.setReservedItemCount(2);
+            sagaOrchestrator.handleTimeout("1", SagaTimeoutStep.PAYMENT).get(2, TimeUnit.SECONDS);
+            PaymentCompletedEvent late = PaymentCompletedEvent.builder()
+                    .orderId("1")
+                    .success(true)
+                    .build();
+
+            // when
+            sagaOrchestrator.handlePaymentCompleted(late).get(2, TimeUnit.SECONDS);
+
+            // then
+            verify(outboxPublisher, times(2)).saveEvent(
+                    anyString(), anyString(), eq("STOCK_RESTORE_REQUESTED"), anyString(), anyString(), any());
+            verify(outboxPublisher).saveEvent(
+                    eq("ORDER"), eq("1"), eq("PAYMENT_MANUAL_PROCESSING"), eq("payment-manual-processing-topic"),
+                    any());
+            verify(orderRepository, never()).updateSagaState(eq(1L), anyLong(), anyString(), eq("COMPLETED"), anyInt(), anyInt());
+        }
+    }
 }
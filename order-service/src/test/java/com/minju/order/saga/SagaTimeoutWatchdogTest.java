@@ -0,0 +1,154 @@
+package com.minju.order.saga;
+
+import com.minju.order.history.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SagaTimeoutWatchdog 테스트")
+class SagaTimeoutWatchdogTest {
+
+    private static final String KEY = SagaTimeoutWatchdog.DEADLINE_KEY;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisScript<List<String>> claimScript;
+
+    @Mock
+    private SagaOrchestrator sagaOrchestrator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SagaTimeoutWatchdog watchdog;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        watchdog = new SagaTimeoutWatchdog(redisTemplate, claimScript, sagaOrchestrator, meterRegistry,
+                30_000L, 60_000L, 100, 30_000L);
+    }
+
+    @Nested
+    @DisplayName("기한 등록/해제")
+    class Schedule {
+
+        @Test
+        @DisplayName("주문 생성(PENDING) 시 재고 예약 기한 등록")
+        void pending_SchedulesStockReservation() {
+            // given
+            long before = System.currentTimeMillis();
+
+            // when
+            watchdog.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 7L, "PENDING"));
+
+            // then
+            verify(zSetOperations).add(eq(KEY), eq("1:STOCK_RESERVATION"),
+                    doubleThat(score -> score >= before + 30_000));
+        }
+
+        @Test
+        @DisplayName("재고 예약 완료 시 재고 기한 해제 후 결제 기한 등록")
+        void stockReserved_SchedulesPayment() {
+            // when
+            watchdog.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 7L, "STOCK_RESERVED"));
+
+            // then
+            verify(zSetOperations).remove(KEY, "1:STOCK_RESERVATION");
+            verify(zSetOperations).add(eq(KEY), eq("1:PAYMENT"), anyDouble());
+        }
+
+        @Test
+        @DisplayName("종료 상태가 되면 모든 단계 기한 해제")
+        void terminal_ClearsAll() {
+            // when
+            watchdog.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 7L, "COMPLETED"));
+
+            // then
+            verify(zSetOperations).remove(KEY, "1:STOCK_RESERVATION", "1:PAYMENT");
+            verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Redis 장애가 주문 처리로 전파되지 않음")
+        void redisFailure_Swallowed() {
+            // given
+            given(zSetOperations.add(anyString(), anyString(), anyDouble())).willThrow(new RuntimeException("Redis 장애"));
+
+            // when & then (예외 없음)
+            watchdog.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 7L, "PENDING"));
+        }
+    }
+
+    @Nested
+    @DisplayName("기한 초과 스윕")
+    class Sweep {
+
+        @Test
+        @DisplayName("선점한 항목을 타임아웃 처리하고 단계별로 집계 후 제거")
+        void sweep_HandlesClaimedDeadlines() {
+            // given
+            given(redisTemplate.execute(eq(claimScript), anyList(), any(Object[].class)))
+                    .willReturn(List.of("1:STOCK_RESERVATION", "2:PAYMENT"));
+            given(sagaOrchestrator.handleTimeout("1", SagaTimeoutStep.STOCK_RESERVATION))
+                    .willReturn(CompletableFuture.completedFuture(true));
+            given(sagaOrchestrator.handleTimeout("2", SagaTimeoutStep.PAYMENT))
+                    .willReturn(CompletableFuture.completedFuture(false));
+
+            // when
+            watchdog.sweep();
+
+            // then
+            assertThat(meterRegistry.counter("saga.timeouts", "step", "STOCK_RESERVATION").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.counter("saga.timeouts", "step", "PAYMENT").count()).isZero();
+            verify(zSetOperations).remove(KEY, "1:STOCK_RESERVATION");
+            verify(zSetOperations).remove(KEY, "2:PAYMENT");
+        }
+
+        @Test
+        @DisplayName("처리 실패 시 항목을 남겨 lease 만료 후 재시도")
+        void sweep_Failure_KeepsDeadline() {
+            // given
+            given(redisTemplate.execute(eq(claimScript), anyList(), any(Object[].class)))
+                    .willReturn(List.of("1:PAYMENT"));
+            given(sagaOrchestrator.handleTimeout("1", SagaTimeoutStep.PAYMENT))
+                    .willReturn(CompletableFuture.failedFuture(new RuntimeException("DB 장애")));
+
+            // when
+            watchdog.sweep();
+
+            // then
+            verify(zSetOperations, never()).remove(anyString(), any(Object[].class));
+            assertThat(meterRegistry.counter("saga.timeouts", "step", "PAYMENT").count()).isZero();
+        }
+    }
+}
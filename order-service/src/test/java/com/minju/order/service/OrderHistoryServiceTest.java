@@ -0,0 +1,240 @@
+package com.minju.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.exception.BusinessException;
+import com.minju.order.dto.OrderHistoryPageDto;
+import com.minju.order.dto.OrderResponseDto;
+import com.minju.order.entity.OrderHistoryView;
+import com.minju.order.entity.OrderItem;
+import com.minju.order.entity.Orders;
+import com.minju.order.history.OrderHistoryCache;
+import com.minju.order.history.OrderHistoryCursor;
+import com.minju.order.history.OrderHistoryProjector;
+import com.minju.order.repository.OrderHistoryViewRepository;
+import com.minju.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderHistoryService 테스트")
+class OrderHistoryServiceTest {
+
+    @Mock
+    private OrderHistoryViewRepository viewRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private OrderHistoryCache orderHistoryCache;
+    private OrderHistoryService orderHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        orderHistoryCache = new OrderHistoryCache(redisTemplate, 100, 60_000);
+        OrderHistoryProjector projector =
+                new OrderHistoryProjector(viewRepository, orderRepository, orderHistoryCache, objectMapper);
+        orderHistoryService = new OrderHistoryService(viewRepository, orderRepository, projector,
+                orderHistoryCache, objectMapper, transactionManager, 2);
+    }
+
+    @Nested
+    @DisplayName("주문 내역 조회")
+    class GetOrderHistory {
+
+        @Test
+        @DisplayName("읽기 모델의 JSON 상품 목록을 응답으로 변환하고 사용자별로 캐시")
+        void getOrderHistory_ReadsViewAndCaches() {
+            // given
+            given(viewRepository.findByUserIdOrderByCreatedAtDesc(1L)).willReturn(List.of(view(10L, 1L)));
+
+            // when
+            List<OrderResponseDto> first = orderHistoryService.getOrderHistory(1L);
+            List<OrderResponseDto> second = orderHistoryService.getOrderHistory(1L);
+
+            // then
+            assertThat(first).hasSize(1);
+            assertThat(first.get(0).getItems()).extracting(OrderResponseDto.OrderItemDto::getProductId)
+                    .containsExactly(100L, 200L);
+            assertThat(second).isSameAs(first);
+            verify(viewRepository, times(1)).findByUserIdOrderByCreatedAtDesc(1L);
+        }
+
+        @Test
+        @DisplayName("무효화 후에는 다시 읽기 모델에서 조회")
+        void getOrderHistory_AfterEvict_Reloads() {
+            // given
+            given(viewRepository.findByUserIdOrderByCreatedAtDesc(1L)).willReturn(List.of(view(10L, 1L)));
+            orderHistoryService.getOrderHistory(1L);
+
+            // when
+            orderHistoryCache.evict(1L);
+            orderHistoryService.getOrderHistory(1L);
+
+            // then
+            verify(viewRepository, times(2)).findByUserIdOrderByCreatedAtDesc(1L);
+        }
+
+        @Test
+        @DisplayName("조회 도중 무효화되면 읽은 값을 캐시에 넣지 않음")
+        void getOrderHistory_InvalidatedDuringLoad_NotCached() {
+            // when
+            orderHistoryCache.get(1L, () -> {
+                orderHistoryCache.evict(1L);  // 조회 중 다른 트랜잭션 커밋
+                return List.of();
+            });
+
+            // then
+            assertThat(orderHistoryCache.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 내역 커서 페이지")
+    class GetOrderHistoryPage {
+
+        @Test
+        @DisplayName("페이지 크기보다 1건 더 조회해 다음 페이지 여부와 커서를 만든다")
+        void firstPage_ReturnsNextCursor() {
+            // given
+            OrderHistoryView first = view(30L, 1L);
+            OrderHistoryView second = view(20L, 1L);
+            given(viewRepository.findPageByUserId(1L, null, null, null, PageRequest.of(0, 3)))
+                    .willReturn(List.of(first, second, view(10L, 1L)));
+
+            // when
+            OrderHistoryPageDto page = orderHistoryService.getOrderHistoryPage(1L, null, 2, null);
+
+            // then
+            assertThat(page.getOrders()).extracting(OrderResponseDto::getOrderId).containsExactly(30L, 20L);
+            assertThat(page.isHasNext()).isTrue();
+            OrderHistoryCursor cursor = OrderHistoryCursor.decode(page.getNextCursor());
+            assertThat(cursor.getOrderId()).isEqualTo(20L);
+            assertThat(cursor.getCreatedAt()).isEqualTo(second.getCreatedAt());
+        }
+
+        @Test
+        @DisplayName("커서와 상태 필터로 이어서 조회하고 마지막 페이지는 커서 없음")
+        void nextPage_UsesCursorAndStatus() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123456000);
+            String token = new OrderHistoryCursor(createdAt, 20L).encode();
+            given(viewRepository.findPageByUserId(1L, "COMPLETED", createdAt, 20L, PageRequest.of(0, 3)))
+                    .willReturn(List.of(view(10L, 1L)));
+
+            // when
+            OrderHistoryPageDto page = orderHistoryService.getOrderHistoryPage(1L, token, 2, "COMPLETED");
+
+            // then
+            assertThat(page.getOrders()).hasSize(1);
+            assertThat(page.isHasNext()).isFalse();
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("페이지 크기는 최대값으로 제한")
+        void pageSize_Capped() {
+            // given
+            given(viewRepository.findPageByUserId(eq(1L), any(), any(), any(), any(Pageable.class)))
+                    .willReturn(List.of());
+
+            // when
+            orderHistoryService.getOrderHistoryPage(1L, null, 10_000, null);
+
+            // then
+            verify(viewRepository).findPageByUserId(1L, null, null, null,
+                    PageRequest.of(0, OrderHistoryService.MAX_PAGE_SIZE + 1));
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 INVALID_REQUEST")
+        void invalidCursor_Throws() {
+            assertThatThrownBy(() -> orderHistoryService.getOrderHistoryPage(1L, "not-a-cursor", 20, null))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("읽기 모델 재구성")
+    class Rebuild {
+
+        @Test
+        @DisplayName("주문 ID keyset chunk 단위로 원본에서 다시 만들고 캐시 초기화")
+        void rebuild_ChunkedByOrderId() {
+            // given
+            given(orderRepository.findIdsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+            given(orderRepository.findIdsAfter(eq(2L), any(Pageable.class))).willReturn(List.of(3L));
+            given(orderRepository.findIdsAfter(eq(3L), any(Pageable.class))).willReturn(List.of());
+            given(orderRepository.findWithItemsByIdIn(anyList())).willAnswer(invocation -> {
+                List<Long> ids = invocation.getArgument(0);
+                return ids.stream().map(id -> order(id, 1L)).toList();
+            });
+            given(viewRepository.findByUserIdOrderByCreatedAtDesc(1L)).willReturn(List.of());
+            orderHistoryService.getOrderHistory(1L);
+
+            // when
+            int rebuilt = orderHistoryService.rebuild();
+
+            // then
+            assertThat(rebuilt).isEqualTo(3);
+            verify(viewRepository).deleteByOrderIdIn(List.of(1L, 2L));
+            verify(viewRepository).deleteByOrderIdIn(List.of(3L));
+            verify(viewRepository, times(2)).saveAll(anyList());
+            assertThat(orderHistoryCache.size()).isZero();
+        }
+    }
+
+    private OrderHistoryView view(Long orderId, Long userId) {
+        OrderHistoryView view = new OrderHistoryView();
+        view.setOrderId(orderId);
+        view.setUserId(userId);
+        view.setOrderStatus("COMPLETED");
+        view.setTotalAmount(30000);
+        view.setItemCount(2);
+        view.setItems("[{\"productId\":100,\"quantity\":1,\"price\":10000},{\"productId\":200,\"quantity\":2,\"price\":20000}]");
+        view.setCreatedAt(LocalDateTime.now());
+        return view;
+    }
+
+    private Orders order(Long orderId, Long userId) {
+        Orders order = new Orders();
+        order.setId(orderId);
+        order.setUserId(userId);
+        order.setOrderStatus("PENDING");
+        order.setTotalAmount(10000);
+        OrderItem item = new OrderItem();
+        item.setProductId(100L);
+        item.setQuantity(1);
+        item.setPrice(10000);
+        item.setOrder(order);
+        order.getOrderItems().add(item);
+        return order;
+    }
+}
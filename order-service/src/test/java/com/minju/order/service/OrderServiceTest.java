@@ -1,12 +1,16 @@
 package com.minju.order.service;
 
 import com.minju.common.dto.CartResponseDto;
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
 import com.minju.common.kafka.stock.StockReservationRequestEvent;
+import com.minju.order.admission.StockAdmissionChecker;
 import com.minju.order.client.CartServiceClient;
 import com.minju.order.client.ProductServiceClient;
 import com.minju.order.dto.OrderResponseDto;
 import com.minju.order.entity.OrderItem;
 import com.minju.order.entity.Orders;
+import com.minju.order.job.OrderStatusTransitionJob;
 import com.minju.order.outbox.OutboxEventPublisher;
 import com.minju.order.repository.OrderRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,9 +22,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -43,6 +49,18 @@ class OrderServiceTest {
     @Mock
     private ProductServiceClient productServiceClient;
 
+    @Mock
+    private OrderHistoryService orderHistoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OrderStatusTransitionJob orderStatusTransitionJob;
+
+    @Mock
+    private StockAdmissionChecker stockAdmissionChecker;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -106,6 +124,7 @@ class OrderServiceTest {
                     anyString(),
                     eq("STOCK_RESERVATION_REQUESTED"),
                     eq("stock-reservation-requested-topic"),
+                    anyString(),
                     any(StockReservationRequestEvent.class)
             );
         }
@@ -124,6 +143,22 @@ class OrderServiceTest {
                     .hasMessageContaining("장바구니에 상품이 없습니다");
         }
 
+        @Test
+        @DisplayName("사전 재고 확인에서 거절되면 주문과 Outbox 이벤트를 저장하지 않는다")
+        void createOrderFromCart_SoldOut_ShouldRejectBeforeSave() {
+            // given
+            given(cartServiceClient.getCart(1L)).willReturn(mockCart);
+            willThrow(new BusinessException(ErrorCode.PRODUCT_SOLD_OUT))
+                    .given(stockAdmissionChecker).check(1L, Map.of(1L, 2, 2L, 1));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrderFromCart(1L))
+                    .isInstanceOf(BusinessException.class);
+            verify(orderRepository, never()).save(any(Orders.class));
+            verify(outboxPublisher, never()).saveEvent(anyString(), anyString(), anyString(), anyString(), any());
+            verify(outboxPublisher, never()).saveEvent(anyString(), anyString(), anyString(), anyString(), anyString(), any());
+        }
+
         @Test
         @DisplayName("주문 생성 시 totalItemCount가 올바르게 설정된다")
         void createOrderFromCart_ShouldSetCorrectTotalItemCount() {
@@ -148,6 +183,51 @@ class OrderServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("비동기 접수 전 사전 검증")
+    class ValidateOrderableTest {
+
+        @Test
+        @DisplayName("빈 장바구니면 접수하지 않고 400 계열 비즈니스 예외")
+        void validateOrderable_EmptyCart_Rejected() {
+            // given
+            CartResponseDto emptyCart = new CartResponseDto();
+            emptyCart.setItems(new ArrayList<>());
+            given(cartServiceClient.getCart(1L)).willReturn(emptyCart);
+
+            // when & then
+            assertThatThrownBy(() -> orderService.validateOrderable(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code").isEqualTo(ErrorCode.CART_NOT_QUANTITY.getCode());
+        }
+
+        @Test
+        @DisplayName("장바구니 조회 실패는 503으로 변환")
+        void validateOrderable_CartUnavailable_ServiceUnavailable() {
+            // given
+            given(cartServiceClient.getCart(1L)).willThrow(new RuntimeException("connection refused"));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.validateOrderable(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code").isEqualTo(ErrorCode.SERVICE_UNAVAILABLE.getCode());
+        }
+
+        @Test
+        @DisplayName("상품별 수량을 합산해 사전 재고 확인")
+        void validateOrderable_ChecksStock() {
+            // given
+            given(cartServiceClient.getCart(1L)).willReturn(mockCart);
+
+            // when
+            orderService.validateOrderable(1L);
+
+            // then
+            verify(stockAdmissionChecker).check(1L, Map.of(1L, 2, 2L, 1));
+            verify(orderRepository, never()).save(any(Orders.class));
+        }
+    }
+
     @Nested
     @DisplayName("주문 취소 테스트")
     class CancelOrderTest {
@@ -176,6 +256,7 @@ class OrderServiceTest {
                     anyString(),
                     eq("STOCK_RESTORE_REQUESTED"),
                     eq("stock-restore-topic"),
+                    anyString(),
                     any()
             );
         }
@@ -0,0 +1,280 @@
+package com.minju.order.submission;
+
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import com.minju.order.dto.OrderResponseDto;
+import com.minju.order.entity.Orders;
+import com.minju.order.history.OrderStatusChangedEvent;
+import com.minju.order.repository.OrderRepository;
+import com.minju.order.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSubmissionService 테스트")
+class OrderSubmissionServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private OrderSubmissionService submissionService;
+
+    @AfterEach
+    void tearDown() {
+        if (submissionService != null) {
+            submissionService.stop();
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 접수")
+    class Submit {
+
+        @Test
+        @DisplayName("토큰을 즉시 발급하고 가상 스레드에서 주문을 생성")
+        void submit_ReturnsTokenThenCreatesOrder() {
+            // given
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 10, 60_000L, 600_000L);
+            given(orderService.createOrderFromCart(1L)).willReturn(order(100L, "PENDING"));
+
+            // when
+            OrderSubmissionDto accepted = submissionService.submit(1L);
+
+            // then
+            assertThat(accepted.getStatus()).isEqualTo("ACCEPTED");
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+                OrderSubmissionDto current = submissionService.getSubmission(accepted.getToken(), 1L);
+                assertThat(current.getStatus()).isEqualTo("PENDING");
+                assertThat(current.getOrderId()).isEqualTo(100L);
+            });
+        }
+
+        @Test
+        @DisplayName("주문 생성 실패 시 FAILED와 사유를 기록")
+        void submit_CreationFails_MarkedFailed() {
+            // given
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 10, 60_000L, 600_000L);
+            given(orderService.createOrderFromCart(1L)).willThrow(new IllegalArgumentException("장바구니에 상품이 없습니다."));
+
+            // when
+            OrderSubmissionDto accepted = submissionService.submit(1L);
+
+            // then
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+                OrderSubmissionDto current = submissionService.getSubmission(accepted.getToken(), 1L);
+                assertThat(current.getStatus()).isEqualTo("FAILED");
+                assertThat(current.getMessage()).isEqualTo("장바구니에 상품이 없습니다.");
+            });
+        }
+
+        @Test
+        @DisplayName("처리 중인 접수가 한도에 도달하면 503")
+        void submit_OverCapacity_Rejected() throws Exception {
+            // given
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 1, 60_000L, 600_000L);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            given(orderService.createOrderFromCart(1L)).willAnswer(invocation -> {
+                started.countDown();
+                release.await(2, TimeUnit.SECONDS);
+                return order(100L, "PENDING");
+            });
+            submissionService.submit(1L);
+            assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> submissionService.submit(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code").isEqualTo(ErrorCode.SERVICE_UNAVAILABLE.getCode());
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("사전 검증에 실패하면 토큰을 발급하지 않고 처리 한도도 반환")
+        void submit_ValidationFails_RejectedBeforeAccept() {
+            // given
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 1, 60_000L, 600_000L);
+            willThrow(new BusinessException(ErrorCode.CART_NOT_QUANTITY)).given(orderService).validateOrderable(1L);
+
+            // when & then
+            assertThatThrownBy(() -> submissionService.submit(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code").isEqualTo(ErrorCode.CART_NOT_QUANTITY.getCode());
+            assertThatThrownBy(() -> submissionService.submit(1L))
+                    .extracting("code").isEqualTo(ErrorCode.CART_NOT_QUANTITY.getCode());  // 503이 아니라 다시 검증
+            verify(orderService, never()).createOrderFromCart(1L);
+        }
+
+        @Test
+        @DisplayName("커밋과 등록 사이에 지나간 전이는 등록 후 다시 읽은 상태로 반영")
+        void process_TransitionBeforeRegistration_Recovered() {
+            // given - 생성 직후 Saga가 먼저 STOCK_RESERVED로 전이(이벤트는 등록 전이라 유실)
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 10, 60_000L, 600_000L);
+            given(orderService.createOrderFromCart(1L)).willAnswer(invocation -> {
+                submissionService.onOrderStatusChanged(new OrderStatusChangedEvent(100L, 1L, "STOCK_RESERVED"));
+                return order(100L, "PENDING");
+            });
+            given(orderRepository.findOrderStatusById(100L)).willReturn(Optional.of("STOCK_RESERVED"));
+
+            // when
+            OrderSubmissionDto accepted = submissionService.submit(1L);
+
+            // then
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                    assertThat(submissionService.getSubmission(accepted.getToken(), 1L).getStatus())
+                            .isEqualTo("STOCK_RESERVED"));
+        }
+
+        @Test
+        @DisplayName("등록 후 도착한 전이가 있으면 다시 읽은 상태로 덮어쓰지 않음")
+        void process_TransitionAfterRegistration_NotOverwritten() {
+            // given - 상태를 다시 읽는 사이 COMPLETED 전이가 먼저 반영되고, 읽은 값은 그보다 오래된 PENDING
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 10, 60_000L, 600_000L);
+            given(orderService.createOrderFromCart(1L)).willReturn(order(100L, "PENDING"));
+            given(orderRepository.findOrderStatusById(100L)).willAnswer(invocation -> {
+                submissionService.onOrderStatusChanged(new OrderStatusChangedEvent(100L, 1L, "COMPLETED"));
+                return Optional.of("PENDING");
+            });
+
+            // when
+            OrderSubmissionDto accepted = submissionService.submit(1L);
+
+            // then
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                    assertThat(submissionService.getSubmission(accepted.getToken(), 1L).getStatus())
+                            .isEqualTo("COMPLETED"));
+            verify(orderRepository).findOrderStatusById(100L);
+            assertThat(submissionService.getSubmission(accepted.getToken(), 1L).getStatus()).isEqualTo("COMPLETED");
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 접수 건은 조회할 수 없음")
+        void getSubmission_OtherUser_Denied() {
+            // given
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 10, 60_000L, 600_000L);
+            given(orderService.createOrderFromCart(1L)).willReturn(order(100L, "PENDING"));
+            OrderSubmissionDto accepted = submissionService.submit(1L);
+
+            // when & then
+            assertThatThrownBy(() -> submissionService.getSubmission(accepted.getToken(), 2L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code").isEqualTo(ErrorCode.NOT_YOUR_ORDER.getCode());
+            verify(orderService, timeout(1000)).createOrderFromCart(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("상태 전송")
+    class Push {
+
+        @Test
+        @DisplayName("주문 상태 전이를 구독자에게 전송하고 종료 상태면 스트림 종료")
+        void statusChanges_PushedUntilTerminal() throws Exception {
+            // given
+            SseEmitter emitter = mock(SseEmitter.class);
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 10, 60_000L, 600_000L) {
+                @Override
+                SseEmitter createEmitter() {
+                    return emitter;
+                }
+            };
+            given(orderService.createOrderFromCart(1L)).willReturn(order(100L, "PENDING"));
+            OrderSubmissionDto accepted = submissionService.submit(1L);
+            await().atMost(Duration.ofSeconds(2)).until(() ->
+                    "PENDING".equals(submissionService.getSubmission(accepted.getToken(), 1L).getStatus()));
+            submissionService.subscribe(accepted.getToken(), 1L);
+
+            // when
+            submissionService.onOrderStatusChanged(new OrderStatusChangedEvent(100L, 1L, "STOCK_RESERVED"));
+            submissionService.onOrderStatusChanged(new OrderStatusChangedEvent(100L, 1L, "COMPLETED"));
+
+            // then - 구독 직후 현재 상태 + 전이 2회
+            verify(emitter, atLeast(3)).send(any(SseEmitter.SseEventBuilder.class));
+            verify(emitter).complete();
+            assertThat(submissionService.getSubmission(accepted.getToken(), 1L).getStatus()).isEqualTo("COMPLETED");
+        }
+    }
+
+    @Nested
+    @DisplayName("인스턴스 간 전이 전파")
+    class CrossInstance {
+
+        @Test
+        @DisplayName("접수 건이 없는 인스턴스에서 커밋된 전이는 Redis로 전파")
+        void transitionWithoutSubmission_Published() {
+            // given
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 10, 60_000L, 600_000L);
+
+            // when
+            submissionService.onOrderStatusChanged(new OrderStatusChangedEvent(100L, 1L, "STOCK_RESERVED"));
+
+            // then
+            verify(redisTemplate).convertAndSend(OrderSubmissionService.STATUS_CHANNEL, "100|STOCK_RESERVED");
+        }
+
+        @Test
+        @DisplayName("접수 건을 가진 인스턴스는 전파된 전이를 반영하고, 종료 상태 이후 늦게 도착한 전이는 무시")
+        void publishedTransition_AppliedUntilTerminal() {
+            // given
+            submissionService = new OrderSubmissionService(orderService, orderRepository, redisTemplate, 10, 60_000L, 600_000L);
+            given(orderService.createOrderFromCart(1L)).willReturn(order(100L, "PENDING"));
+            OrderSubmissionDto accepted = submissionService.submit(1L);
+            await().atMost(Duration.ofSeconds(2)).until(() ->
+                    "PENDING".equals(submissionService.getSubmission(accepted.getToken(), 1L).getStatus()));
+
+            // when - 다른 인스턴스들이 발행한 전이가 순서가 뒤바뀌어 도착
+            submissionService.onMessage(message("100|COMPLETED"), null);
+            submissionService.onMessage(message("100|STOCK_RESERVED"), null);
+
+            // then
+            assertThat(submissionService.getSubmission(accepted.getToken(), 1L).getStatus()).isEqualTo("COMPLETED");
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(OrderSubmissionService.STATUS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OrderResponseDto order(Long orderId, String status) {
+        Orders order = new Orders();
+        order.setId(orderId);
+        order.setUserId(1L);
+        order.setOrderStatus(status);
+        return new OrderResponseDto(order);
+    }
+}
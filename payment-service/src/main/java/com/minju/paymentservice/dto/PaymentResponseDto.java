@@ -1,11 +1,14 @@
 package com.minju.paymentservice.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
 @Getter
 public class PaymentResponseDto {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long Id;
 
     private String paymentStatus;
@@ -1,5 +1,6 @@
 package com.minju.paymentservice.saga;
 
+import com.minju.common.config.SagaKafkaListenerConfig;
 import com.minju.common.idempotency.ProcessedEvent;
 import com.minju.common.idempotency.ProcessedEventRepository;
 import com.minju.common.kafka.payment.PaymentCompletedEvent;
@@ -28,7 +29,8 @@ public class PaymentSagaHandler {
      * 결제 요청 처리 - Outbox 패턴 적용
      * 이벤트 소비 → DB 저장 → Outbox 저장이 하나의 트랜잭션
      */
-    @KafkaListener(topics = "payment-requested-topic", groupId = "payment-saga-group")
+    @KafkaListener(id = "payment-requested", topics = "payment-requested-topic", groupId = "payment-saga-group",
+            containerFactory = SagaKafkaListenerConfig.CONTAINER_FACTORY)
     @Transactional
     public void handlePaymentRequest(PaymentRequestedEvent event) {
         log.info("결제 요청 수신: orderId={}, amount={}", event.getOrderId(), event.getAmount());
@@ -6,11 +6,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.minju")
 @EnableDiscoveryClient
 @EnableFeignClients
 @Import(AppConfig.class)
+@EnableScheduling
 public class ProductApplication {
 
 	public static void main(String[] args) {
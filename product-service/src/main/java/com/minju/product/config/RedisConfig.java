@@ -1,5 +1,6 @@
 package com.minju.product.config;
 
+import com.minju.product.service.StockBroadcastHub;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -8,6 +9,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -35,6 +38,18 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 재고 변경 알림(stock:changed) 구독 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer stockChangeListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      StockBroadcastHub stockBroadcastHub) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(stockBroadcastHub, new ChannelTopic(StockBroadcastHub.STOCK_CHANGED_CHANNEL));
+        return container;
+    }
+
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
@@ -82,4 +97,43 @@ public class RedisConfig {
         script.setResultType(Long.class);
         return script;
     }
+
+    /**
+     * 재고 조정 Lua Script (절대값 설정 + 원장 기록)
+     * 반환값: 조정 후 재고
+     */
+    @Bean
+    public RedisScript<Long> adjustStockScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(
+                new ClassPathResource("scripts/adjust_stock.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 재고 증감 반영 Lua Script (원장 기록 포함, handoff 순번당 1회)
+     * 반환값: 해당 순번으로 반영된 증감 수량 (재반영 시 처음 값), 0 (이미 지난 순번)
+     */
+    @Bean
+    public RedisScript<Long> applyStockDeltaScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(
+                new ClassPathResource("scripts/apply_stock_delta.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 주문·상품 단위 1회 재고 차감 Lua Script (Kafka 트랜잭션 모드)
+     * 반환값: >= 0 (남은 재고), -1 (재고 부족), -2 (상품 없음) - 이미 처리한 예약이면 처음 결과
+     */
+    @Bean
+    public RedisScript<Long> reserveStockOnceScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(
+                new ClassPathResource("scripts/reserve_stock_once.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
 }
@@ -0,0 +1,79 @@
+package com.minju.product.config;
+
+import com.minju.common.kafka.listener.SagaListenerContainerCustomizer;
+import com.minju.product.saga.StockReservationTransactionalHandler;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
+
+/**
+ * Saga Kafka 트랜잭션 모드 (saga.kafka-transactions.enabled=true, 기본은 Outbox 경로)
+ * - 트랜잭션 프로듀서 + 공용 Saga 소비자(read_committed), 오프셋은 발행 이벤트와 같은 Kafka 트랜잭션으로 커밋
+ * - KafkaTransactionManager는 빈으로 등록하지 않음 (등록하면 JPA 기본 트랜잭션 매니저 자동 구성이 빠짐)
+ * - 처리 실패 시 롤백 후 같은 레코드 재시도, 재시도 소진 시 DLQ 저장 후 오프셋 커밋
+ */
+@Configuration
+@ConditionalOnProperty(name = "saga.kafka-transactions.enabled", havingValue = "true")
+public class SagaKafkaTransactionConfig {
+
+    public static final String CONTAINER_FACTORY = "sagaTxListenerContainerFactory";
+
+    private final DefaultKafkaProducerFactory<String, Object> producerFactory;
+
+    public SagaKafkaTransactionConfig(KafkaProperties kafkaProperties,
+                                      @Value("${saga.kafka-transactions.transaction-id-prefix:stock-saga-tx-}") String transactionIdPrefix) {
+        Map<String, Object> config = kafkaProperties.buildProducerProperties(null);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        this.producerFactory = new DefaultKafkaProducerFactory<>(config);
+        this.producerFactory.setTransactionIdPrefix(transactionIdPrefix);
+    }
+
+    /**
+     * 리스너 트랜잭션에 참여하는 템플릿 (같은 프로듀서 팩토리)
+     */
+    @Bean
+    public KafkaTemplate<String, Object> sagaTxKafkaTemplate() {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean(CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> sagaTxListenerContainerFactory(
+            ConsumerFactory<Object, Object> sagaConsumerFactory,
+            SagaListenerContainerCustomizer containerCustomizer,
+            KafkaTemplate<String, Object> sagaTxKafkaTemplate,
+            StockReservationTransactionalHandler stockReservationHandler,
+            @Value("${saga.kafka-transactions.retry-interval-ms:500}") long retryIntervalMs,
+            @Value("${saga.kafka-transactions.max-retries:4}") long maxRetries) {
+        // 공용 Saga 소비자 설정(read_committed, cooperative-sticky 등)과 리스너 공통 설정을 그대로 사용
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(sagaConsumerFactory);
+        factory.setContainerCustomizer(containerCustomizer);
+        factory.getContainerProperties().setKafkaAwareTransactionManager(new KafkaTransactionManager<>(producerFactory));
+        // 재시도 소진 시 복구(DLQ 저장)와 오프셋 커밋을 새 트랜잭션에서 수행
+        factory.setAfterRollbackProcessor(new DefaultAfterRollbackProcessor<>(
+                stockReservationHandler::recover,
+                new FixedBackOff(retryIntervalMs, maxRetries),
+                sagaTxKafkaTemplate,
+                true));
+        return factory;
+    }
+
+    @PreDestroy
+    public void close() {
+        producerFactory.destroy();
+    }
+}
@@ -2,17 +2,32 @@ package com.minju.product.controller;
 
 import com.minju.common.dto.CommonResponse;
 import com.minju.common.dto.StockResponse;
+import com.minju.product.dto.BulkImportResult;
 import com.minju.product.dto.DecreaseStockRequest;
 import com.minju.product.dto.ProductRequestDto;
 import com.minju.product.dto.ProductResponseDto;
+import com.minju.product.dto.StockMovementDto;
+import com.minju.product.service.FlashSaleCatalogService;
+import com.minju.product.service.ProductBulkImportService;
 import com.minju.product.service.ProductService;
+import com.minju.product.service.StockBroadcastHub;
+import com.minju.product.service.StockLedgerService;
 import com.minju.product.service.StockService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,6 +35,10 @@ import java.util.List;
 public class ProductController {
     private final ProductService productService;
     private final StockService stockService;
+    private final StockLedgerService stockLedgerService;
+    private final StockBroadcastHub stockBroadcastHub;
+    private final ProductBulkImportService productBulkImportService;
+    private final FlashSaleCatalogService flashSaleCatalogService;
 
     // 상품 전체 조회
     @GetMapping
@@ -39,6 +58,25 @@ public class ProductController {
         );
     }
 
+    // 플래시세일 상품 목록 (메모리 스냅샷, ETag 지원)
+    @GetMapping("/flash-sale")
+    public ResponseEntity<byte[]> getFlashSaleCatalog(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        FlashSaleCatalogService.CatalogSnapshot snapshot = flashSaleCatalogService.getSnapshot();
+
+        if (snapshot.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
+    }
+
     // 스케줄링 테스트 API (선착순 상품 만료 처리)
     @GetMapping("/scheduled")
     public ResponseEntity<CommonResponse<Void>> triggerScheduledTask() {
@@ -60,6 +98,37 @@ public class ProductController {
                 ));
     }
 
+    // 상품 대량 등록 (JSON 배열 스트리밍)
+    @PostMapping(value = "/bulk-import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CommonResponse<BulkImportResult>> bulkImportJson(
+            InputStream body,
+            @RequestParam(required = false) String importId
+    ) {
+        BulkImportResult result = productBulkImportService.importJson(body, importId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(CommonResponse.success("상품 대량 등록이 완료되었습니다.", result));
+    }
+
+    // 상품 대량 등록 (CSV 스트리밍)
+    @PostMapping(value = "/bulk-import", consumes = "text/csv")
+    public ResponseEntity<CommonResponse<BulkImportResult>> bulkImportCsv(
+            InputStream body,
+            @RequestParam(required = false) String importId
+    ) {
+        BulkImportResult result = productBulkImportService.importCsv(body, importId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(CommonResponse.success("상품 대량 등록이 완료되었습니다.", result));
+    }
+
+    // 상품 대량 등록 진행 상황 조회
+    @GetMapping("/bulk-import/{importId}")
+    public ResponseEntity<CommonResponse<BulkImportResult>> getBulkImportProgress(@PathVariable String importId) {
+        return ResponseEntity.ok(
+                CommonResponse.success("대량 등록 진행 상황 조회에 성공했습니다.",
+                        productBulkImportService.getProgress(importId))
+        );
+    }
+
     // 상품 남은 재고 조회 (Redis)
     @GetMapping("/{id}/remaining-stock")
     public ResponseEntity<CommonResponse<Integer>> getRemainingStock(@PathVariable Long id) {
@@ -92,4 +161,36 @@ public class ProductController {
                 CommonResponse.success("재고 감소에 성공했습니다.", stockResponse)
         );
     }
+
+    // 실시간 잔여 재고 구독 (SSE)
+    @GetMapping(value = "/stock-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStock(@RequestParam Set<Long> productIds) {
+        return stockBroadcastHub.subscribe(productIds);
+    }
+
+    // 상품별 재고 변동 원장 조회 (기간)
+    @GetMapping("/{productId}/stock-ledger")
+    public ResponseEntity<CommonResponse<List<StockMovementDto>>> getStockLedger(
+            @PathVariable Long productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        List<StockMovementDto> movements = stockLedgerService.findMovements(productId, from, to);
+
+        return ResponseEntity.ok(
+                CommonResponse.success("재고 원장 조회에 성공했습니다.", movements)
+        );
+    }
+
+    // 스냅샷 + 원장으로 전체 재고 재구성 (apply=true면 Redis에 반영)
+    @PostMapping("/stock-ledger/rebuild")
+    public ResponseEntity<CommonResponse<Map<Long, Integer>>> rebuildStock(
+            @RequestParam(defaultValue = "false") boolean apply
+    ) {
+        Map<Long, Integer> stocks = stockLedgerService.rebuild(apply);
+
+        return ResponseEntity.ok(
+                CommonResponse.success("재고 재구성에 성공했습니다.", stocks)
+        );
+    }
 }
@@ -0,0 +1,67 @@
+package com.minju.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 상품 대량 등록 진행 상황 / 결과
+ * - 처리 중에는 진행 상황 조회용으로, 완료 후에는 최종 결과로 사용
+ */
+@Getter
+@NoArgsConstructor
+public class BulkImportResult {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private String importId;
+    private volatile String status;         // RUNNING, COMPLETED, FAILED
+    private volatile long totalRows;
+    private volatile long importedRows;
+    private volatile long failedRows;
+    private volatile long elapsedMs;
+    private volatile double rowsPerSecond;
+    private final List<RowError> errors = Collections.synchronizedList(new ArrayList<>());
+
+    public BulkImportResult(String importId) {
+        this.importId = importId;
+        this.status = "RUNNING";
+    }
+
+    public void rowRead() {
+        totalRows++;
+    }
+
+    public void imported(int count) {
+        importedRows += count;
+    }
+
+    public void failed(long rowNumber, String message) {
+        failedRows++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(rowNumber, message));
+        }
+    }
+
+    public void updateElapsed(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+        this.rowsPerSecond = elapsedMs > 0 ? importedRows * 1000.0 / elapsedMs : importedRows;
+    }
+
+    public void finish(String status, long elapsedMs) {
+        updateElapsed(elapsedMs);
+        this.status = status;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
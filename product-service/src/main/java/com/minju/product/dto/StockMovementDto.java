@@ -0,0 +1,31 @@
+package com.minju.product.dto;
+
+import com.minju.product.entity.StockLedgerEntry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockMovementDto {
+    private String ledgerId;
+    private Long productId;
+    private String operation;
+    private int quantity;
+    private int balance;
+    private LocalDateTime occurredAt;
+
+    public static StockMovementDto from(StockLedgerEntry entry) {
+        return new StockMovementDto(
+                entry.getLedgerId(),
+                entry.getProductId(),
+                entry.getOperation().name(),
+                entry.getQuantity(),
+                entry.getBalance(),
+                entry.getOccurredAt()
+        );
+    }
+}
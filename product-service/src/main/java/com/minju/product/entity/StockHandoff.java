@@ -0,0 +1,34 @@
+package com.minju.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 장애(degraded) 중 DB에서만 차감되어 Redis에 아직 반영되지 않은 수량
+ * - 차감과 같은 트랜잭션에서 누적 → 응답 전에 기록되므로 재시작해도 유실되지 않음
+ * - handoffSeq: 완료된 반환 횟수, Redis 반영을 순번 단위로 한 번만 수행하는 데 사용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_handoff")
+public class StockHandoff {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(name = "handoff_seq", nullable = false)
+    private long handoffSeq;
+
+    public StockHandoff(Long productId, int quantity, long handoffSeq) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.handoffSeq = handoffSeq;
+    }
+}
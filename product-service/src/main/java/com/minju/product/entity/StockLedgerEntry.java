@@ -0,0 +1,83 @@
+package com.minju.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 재고 원장 (append-only)
+ * - Redis Stream(stock:ledger)에 Lua Script가 기록한 재고 변동을 MySQL로 아카이빙한 레코드
+ * - PK는 Stream ID(ms-seq)를 그대로 사용하므로 재아카이빙 시 중복 저장되지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_ledger",
+        indexes = {
+                @Index(name = "idx_stock_ledger_product_time", columnList = "product_id, occurred_at"),
+                @Index(name = "idx_stock_ledger_position", columnList = "ledger_ms, ledger_seq")
+        })
+public class StockLedgerEntry implements Persistable<String> {
+
+    @Id
+    @Column(name = "ledger_id", length = 40)
+    private String ledgerId;
+
+    @Column(name = "ledger_ms", nullable = false)
+    private long ledgerMs;
+
+    @Column(name = "ledger_seq", nullable = false)
+    private long ledgerSeq;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StockLedgerOperation operation;
+
+    // 부호 있는 변동량 (차감은 음수)
+    @Column(nullable = false)
+    private int quantity;
+
+    // 변동 직후 재고
+    @Column(nullable = false)
+    private int balance;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public StockLedgerEntry(String ledgerId, Long productId, StockLedgerOperation operation,
+                            int quantity, int balance) {
+        String[] position = ledgerId.split("-");
+        this.ledgerId = ledgerId;
+        this.ledgerMs = Long.parseLong(position[0]);
+        this.ledgerSeq = Long.parseLong(position[1]);
+        this.productId = productId;
+        this.operation = operation;
+        this.quantity = quantity;
+        this.balance = balance;
+        this.occurredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(ledgerMs), ZoneId.systemDefault());
+    }
+
+    public boolean isAfter(long ms, long seq) {
+        return ledgerMs > ms || (ledgerMs == ms && ledgerSeq > seq);
+    }
+
+    @Override
+    public String getId() {
+        return ledgerId;
+    }
+
+    // 원장은 수정되지 않으므로 항상 INSERT (merge 전 SELECT 생략 → 배치 INSERT 가능)
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
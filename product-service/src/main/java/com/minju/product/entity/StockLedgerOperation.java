@@ -0,0 +1,7 @@
+package com.minju.product.entity;
+
+public enum StockLedgerOperation {
+    RESERVE,   // 재고 차감 (주문 예약)
+    RESTORE,   // 재고 복구 (취소/보상)
+    ADJUST     // 재고 절대값 조정 (상품 등록, 원장 기반 복구)
+}
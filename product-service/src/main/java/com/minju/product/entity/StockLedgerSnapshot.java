@@ -0,0 +1,44 @@
+package com.minju.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 재고 스냅샷
+ * - (ledgerMs, ledgerSeq) 위치까지의 원장을 반영한 재고
+ * - 복구 시 스냅샷 + 이후 원장(tail)만 재생하면 됨
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_ledger_snapshot")
+public class StockLedgerSnapshot {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private int stock;
+
+    @Column(name = "ledger_ms", nullable = false)
+    private long ledgerMs;
+
+    @Column(name = "ledger_seq", nullable = false)
+    private long ledgerSeq;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    public StockLedgerSnapshot(Long productId, int stock, long ledgerMs, long ledgerSeq) {
+        this.productId = productId;
+        this.stock = stock;
+        this.ledgerMs = ledgerMs;
+        this.ledgerSeq = ledgerSeq;
+        this.takenAt = LocalDateTime.now();
+    }
+}
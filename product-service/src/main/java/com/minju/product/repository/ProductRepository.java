@@ -2,8 +2,25 @@ package com.minju.product.repository;
 
 import com.minju.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     List<Product> findByFlashSaleTrue();
+
+    // 카탈로그 스냅샷용 (행 순서가 고정돼야 내용이 같을 때 ETag도 같음)
+    List<Product> findByFlashSaleTrueOrderByIdAsc();
+
+    // 조건부 원자적 재고 차감 (재고가 충분할 때만 1 반환)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.id = :productId AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 원자적 재고 복구
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
 }
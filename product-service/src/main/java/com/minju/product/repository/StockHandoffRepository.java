@@ -0,0 +1,27 @@
+package com.minju.product.repository;
+
+import com.minju.product.entity.StockHandoff;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StockHandoffRepository extends JpaRepository<StockHandoff, Long> {
+
+    // DB 차감분 누적 (차감 UPDATE와 같은 트랜잭션)
+    @Modifying
+    @Query(value = "INSERT INTO stock_handoff (product_id, quantity, handoff_seq) VALUES (:productId, :quantity, 0) " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)", nativeQuery = true)
+    int addPending(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // Redis에 반영할 차감분이 남은 상품
+    List<StockHandoff> findByQuantityGreaterThan(int quantity);
+
+    // Redis 반영 완료 - 읽은 순번일 때만 반영분 차감 + 순번 증가 (다른 인스턴스가 먼저 끝냈으면 0)
+    @Modifying
+    @Query("UPDATE StockHandoff h SET h.quantity = h.quantity - :quantity, h.handoffSeq = h.handoffSeq + 1 " +
+            "WHERE h.productId = :productId AND h.handoffSeq = :seq")
+    int completeHandoff(@Param("productId") Long productId, @Param("quantity") int quantity, @Param("seq") long seq);
+}
@@ -0,0 +1,27 @@
+package com.minju.product.repository;
+
+import com.minju.product.entity.StockLedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockLedgerEntryRepository extends JpaRepository<StockLedgerEntry, String> {
+
+    // 상품별 기간 조회 (감사용)
+    List<StockLedgerEntry> findByProductIdAndOccurredAtBetweenOrderByLedgerMsAscLedgerSeqAsc(
+            Long productId, LocalDateTime from, LocalDateTime to);
+
+    // 특정 위치 이후의 원장 (keyset 페이징)
+    @Query("SELECT e FROM StockLedgerEntry e " +
+            "WHERE e.ledgerMs > :ms OR (e.ledgerMs = :ms AND e.ledgerSeq > :seq) " +
+            "ORDER BY e.ledgerMs ASC, e.ledgerSeq ASC")
+    List<StockLedgerEntry> findAfter(@Param("ms") long ms, @Param("seq") long seq, Pageable pageable);
+
+    // 마지막으로 아카이빙된 원장
+    Optional<StockLedgerEntry> findTopByOrderByLedgerMsDescLedgerSeqDesc();
+}
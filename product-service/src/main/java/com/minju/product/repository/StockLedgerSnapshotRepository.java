@@ -0,0 +1,7 @@
+package com.minju.product.repository;
+
+import com.minju.product.entity.StockLedgerSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StockLedgerSnapshotRepository extends JpaRepository<StockLedgerSnapshot, Long> {
+}
@@ -0,0 +1,105 @@
+package com.minju.product.saga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.dlq.DeadLetterEvent;
+import com.minju.common.dlq.DeadLetterEventRepository;
+import com.minju.common.kafka.stock.StockReservationFailedEvent;
+import com.minju.common.kafka.stock.StockReservationRequestEvent;
+import com.minju.common.kafka.stock.StockReservedEvent;
+import com.minju.common.outbox.OutboxHeaders;
+import com.minju.product.config.SagaKafkaTransactionConfig;
+import com.minju.product.service.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 재고 예약 요청 처리 - Kafka 트랜잭션 모드 (saga.kafka-transactions.enabled=true)
+ * - 소비 → Redis 재고 차감 → 결과 이벤트 발행 → 오프셋 커밋을 하나의 Kafka 트랜잭션으로 처리
+ * - 재고 상태가 Redis에 있으므로 processed_event/outbox_event(MySQL) 없이 메시지당 DB 접근 0회
+ * - 재전달 시 재차감은 Redis 예약 기록으로 방지 (StockService.reserveStockOnce)
+ * - 재고 복구는 발행 이벤트가 없어 기존 경로(StockSagaHandler) 유지
+ */
+@Component
+@ConditionalOnProperty(name = "saga.kafka-transactions.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationTransactionalHandler {
+
+    private static final String TOPIC = "stock-reservation-requested-topic";
+
+    private final StockService stockService;
+    private final KafkaTemplate<String, Object> sagaTxKafkaTemplate;
+    private final DeadLetterEventRepository deadLetterEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 예외는 그대로 던짐 → 트랜잭션 롤백(발행 이벤트 폐기, 오프셋 미커밋) 후 재시도
+     */
+    @KafkaListener(id = "stock-reservation-tx", topics = TOPIC, groupId = "stock-saga-group",
+            containerFactory = SagaKafkaTransactionConfig.CONTAINER_FACTORY)
+    public void handleStockReservationRequest(StockReservationRequestEvent event) {
+        log.info("재고 예약 요청 수신 (Kafka 트랜잭션): orderId={}, productId={}, quantity={}",
+                event.getOrderId(), event.getProductId(), event.getQuantity());
+
+        Long productId = Long.parseLong(event.getProductId());
+
+        if (stockService.reserveStockOnce(event.getOrderId(), productId, event.getQuantity())) {
+            StockReservedEvent successEvent = StockReservedEvent.builder()
+                    .orderId(event.getOrderId())
+                    .productId(event.getProductId())
+                    .quantity(event.getQuantity())
+                    .status("STOCK_RESERVED")
+                    .build();
+            send("stock-reserved-topic", "STOCK_RESERVED", event.getOrderId(), successEvent);
+            log.info("재고 예약 성공 이벤트 발행 - orderId: {}", event.getOrderId());
+        } else {
+            StockReservationFailedEvent failEvent = StockReservationFailedEvent.builder()
+                    .orderId(event.getOrderId())
+                    .productId(event.getProductId())
+                    .quantity(event.getQuantity())
+                    .reason("재고 부족 (요청: " + event.getQuantity() + ")")
+                    .status("STOCK_RESERVATION_FAILED")
+                    .build();
+            send("stock-reservation-failed-topic", "STOCK_RESERVATION_FAILED", event.getOrderId(), failEvent);
+            log.warn("재고 예약 실패 이벤트 발행 - orderId: {}", event.getOrderId());
+        }
+    }
+
+    /**
+     * 재시도 소진 - DLQ 저장 (오프셋은 컨테이너가 커밋)
+     * 예약 기록이 남아 있으므로 재처리해도 재고는 다시 차감되지 않음
+     */
+    public void recover(ConsumerRecord<?, ?> record, Exception ex) {
+        Object event = record.value();
+        String aggregateId = event instanceof StockReservationRequestEvent request
+                ? request.getOrderId() : String.valueOf(record.key());
+        try {
+            DeadLetterEvent dlqEvent = DeadLetterEvent.create(
+                    event == null ? "UNKNOWN" : event.getClass().getSimpleName(),
+                    TOPIC,
+                    aggregateId,
+                    objectMapper.writeValueAsString(event),
+                    ex.getMessage(),
+                    ex.getClass().getSimpleName()
+            );
+            deadLetterEventRepository.save(dlqEvent);
+            log.error("[DLQ] 재고 예약 재시도 소진 - aggregateId: {}, error: {}", aggregateId, ex.getMessage());
+        } catch (Exception e) {
+            log.error("[DLQ] 이벤트 저장 실패 - 수동 처리 필요: ", e);
+        }
+    }
+
+    private void send(String topic, String eventType, String key, Object payload) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, payload);
+        record.headers().add(OutboxHeaders.EVENT_TYPE, eventType.getBytes(StandardCharsets.UTF_8));
+        sagaTxKafkaTemplate.send(record);
+    }
+}
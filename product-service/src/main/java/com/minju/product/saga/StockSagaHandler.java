@@ -1,6 +1,7 @@
 package com.minju.product.saga;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.config.SagaKafkaListenerConfig;
 import com.minju.common.dlq.DeadLetterEvent;
 import com.minju.common.dlq.DeadLetterEventRepository;
 import com.minju.common.idempotency.ProcessedEvent;
@@ -36,8 +37,11 @@ public class StockSagaHandler {
     /**
      * 재고 예약 요청 처리 - Outbox 패턴 적용
      * Circuit Breaker로 Redis/DB 장애 대응
+     * Kafka 트랜잭션 모드에서는 시작하지 않음 (StockReservationTransactionalHandler가 처리)
      */
-    @KafkaListener(topics = "stock-reservation-requested-topic", groupId = "stock-saga-group")
+    @KafkaListener(id = "stock-reservation", topics = "stock-reservation-requested-topic", groupId = "stock-saga-group",
+            containerFactory = SagaKafkaListenerConfig.CONTAINER_FACTORY,
+            autoStartup = "#{!${saga.kafka-transactions.enabled:false}}")
     @CircuitBreaker(name = REDIS_CB, fallbackMethod = "handleStockReservationFallback")
     @Retry(name = REDIS_CB)
     @Transactional
@@ -78,6 +82,7 @@ public class StockSagaHandler {
                             event.getProductId(),
                             "STOCK_RESERVED",
                             "stock-reserved-topic",
+                            event.getOrderId(),
                             successEvent
                     );
                     log.info("재고 예약 성공 및 Outbox 저장 - orderId: {}", event.getOrderId());
@@ -105,7 +110,8 @@ public class StockSagaHandler {
     /**
      * 재고 복구 요청 처리 - Outbox 패턴 적용
      */
-    @KafkaListener(topics = "stock-restore-topic", groupId = "stock-saga-group")
+    @KafkaListener(id = "stock-restore", topics = "stock-restore-topic", groupId = "stock-saga-group",
+            containerFactory = SagaKafkaListenerConfig.CONTAINER_FACTORY)
     @CircuitBreaker(name = REDIS_CB, fallbackMethod = "handleStockRestoreFallback")
     @Retry(name = REDIS_CB)
     @Transactional
@@ -215,6 +221,7 @@ public class StockSagaHandler {
                     originalEvent.getProductId(),
                     "STOCK_RESERVATION_FAILED",
                     "stock-reservation-failed-topic",
+                    originalEvent.getOrderId(),
                     failEvent
             );
             log.error("재고 예약 실패 Outbox 저장: orderId={}, reason={}",
@@ -0,0 +1,208 @@
+package com.minju.product.service;
+
+import com.minju.product.entity.StockHandoff;
+import com.minju.product.repository.ProductRepository;
+import com.minju.product.repository.StockHandoffRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis 장애(redis-operation Circuit OPEN) 시 DB 재고 차감 처리기
+ * - 조건부 UPDATE(stock >= ?)로 원자적 차감 (lost update 방지)
+ * - 상품별 큐에 쌓인 동시 요청을 리더 스레드가 합산해 UPDATE 1회로 처리
+ * - Bulkhead로 동시 DB 차감 수 제한
+ * - DB에서 처리한 차감분은 같은 트랜잭션에서 stock_handoff에 누적 (응답 전 기록 → 재시작해도 유지)
+ * - 배치는 호출자(Saga 핸들러 등)의 트랜잭션과 분리된 새 트랜잭션으로 커밋한 뒤 결과 전달
+ *   (합류하면 다른 대기자의 차감이 호출자 롤백에 함께 취소되고, 커밋 전까지 상품 행 락이 유지됨)
+ * - Circuit CLOSED 전환 시, 그리고 CLOSED 상태에서 주기적으로 차감분을 Redis에 반영하고 재고 권한 반환
+ *   (재시작 후에는 전환 이벤트가 없으므로 주기 작업이 남은 차감분을 처리)
+ */
+@Component
+@Slf4j
+public class DegradedStockCoordinator {
+
+    private static final String BULKHEAD_NAME = "stock-db-degraded";
+    private static final String REDIS_CIRCUIT_NAME = "redis-operation";
+    private static final int MAX_BATCH_SIZE = 200;
+
+    private final ProductRepository productRepository;
+    private final StockHandoffRepository stockHandoffRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StockLedgerService stockLedgerService;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker redisCircuitBreaker;
+
+    // 상품별 대기 큐
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public DegradedStockCoordinator(ProductRepository productRepository,
+                                    StockHandoffRepository stockHandoffRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    StockLedgerService stockLedgerService,
+                                    BulkheadRegistry bulkheadRegistry,
+                                    CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.productRepository = productRepository;
+        this.stockHandoffRepository = stockHandoffRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stockLedgerService = stockLedgerService;
+        this.bulkhead = bulkheadRegistry.bulkhead(BULKHEAD_NAME);
+        this.redisCircuitBreaker = circuitBreakerRegistry.circuitBreaker(REDIS_CIRCUIT_NAME);
+
+        redisCircuitBreaker.getEventPublisher()
+                .onStateTransition(event -> {
+                    if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                        log.info("Redis Circuit CLOSED - 재고 권한 Redis로 반환 시작");
+                        CompletableFuture.runAsync(this::handBackToRedis);
+                    }
+                });
+    }
+
+    /**
+     * DB 재고 차감 (동시 요청은 상품 단위로 합산 처리)
+     * @return 차감 성공 여부 (재고 부족 시 false)
+     */
+    public boolean decrease(Long productId, int quantity) {
+        Lane lane = lanes.computeIfAbsent(productId, id -> new Lane());
+        PendingDecrease request = new PendingDecrease(quantity);
+        lane.queue.add(request);
+
+        drain(productId, lane);
+
+        try {
+            return request.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+    }
+
+    /**
+     * DB에서 처리한 차감분을 Redis 재고에 반영
+     * - 순번(handoffSeq) 단위로 반영 → 여러 인스턴스가 동시에 실행하거나 중간에 중단돼도 한 번만 반영
+     * - 실패한 상품은 stock_handoff에 남아 다음 주기에 다시 시도
+     */
+    public void handBackToRedis() {
+        for (StockHandoff handoff : stockHandoffRepository.findByQuantityGreaterThan(0)) {
+            Long productId = handoff.getProductId();
+            try {
+                long applied = stockLedgerService.applyDelta(productId, -handoff.getQuantity(), handoff.getHandoffSeq());
+                Integer completed = transactionTemplate.execute(status -> stockHandoffRepository.completeHandoff(
+                        productId, (int) -applied, handoff.getHandoffSeq()));
+                log.info("DB 차감분 Redis 반영 - productId: {}, 차감수량: {}, seq: {}, 완료: {}",
+                        productId, -applied, handoff.getHandoffSeq(), completed != null && completed == 1);
+            } catch (Exception e) {
+                log.error("DB 차감분 Redis 반영 실패 - productId: {}, error: {}", productId, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock.degraded.handoff-interval-ms:30000}")
+    public void retryHandBack() {
+        if (redisCircuitBreaker.getState() == CircuitBreaker.State.CLOSED) {
+            handBackToRedis();
+        }
+    }
+
+    public int getPendingHandoff(Long productId) {
+        return stockHandoffRepository.findById(productId)
+                .map(StockHandoff::getQuantity)
+                .orElse(0);
+    }
+
+    // 큐가 빌 때까지 리더 하나가 배치 단위로 처리 (리더 해제 후 재확인으로 누락 방지)
+    private void drain(Long productId, Lane lane) {
+        while (!lane.queue.isEmpty() && lane.draining.compareAndSet(false, true)) {
+            try {
+                List<PendingDecrease> batch = new ArrayList<>();
+                PendingDecrease next;
+                while (batch.size() < MAX_BATCH_SIZE && (next = lane.queue.poll()) != null) {
+                    batch.add(next);
+                }
+                if (!batch.isEmpty()) {
+                    applyBatch(productId, batch);
+                }
+            } finally {
+                lane.draining.set(false);
+            }
+        }
+    }
+
+    private void applyBatch(Long productId, List<PendingDecrease> batch) {
+        try {
+            boolean[] results = bulkhead.executeSupplier(() -> transactionTemplate.execute(status -> {
+                boolean[] applied = new boolean[batch.size()];
+                int total = batch.stream().mapToInt(r -> r.quantity).sum();
+
+                if (productRepository.decreaseStockIfAvailable(productId, total) == 1) {
+                    Arrays.fill(applied, true);
+                } else {
+                    // 합산 차감 실패 (재고 부족) → 요청 순서대로 개별 조건부 차감
+                    for (int i = 0; i < batch.size(); i++) {
+                        applied[i] = productRepository.decreaseStockIfAvailable(productId, batch.get(i).quantity) == 1;
+                    }
+                }
+
+                // Redis 반환 대상 수량을 차감과 함께 커밋 (응답 전에 기록)
+                int handoff = decreasedQuantity(batch, applied);
+                if (handoff > 0) {
+                    stockHandoffRepository.addPending(productId, handoff);
+                }
+                return applied;
+            }));
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(results[i]);
+            }
+            int decreased = decreasedQuantity(batch, results);
+            log.info("DB 재고 차감 (degraded) - productId: {}, 요청수: {}, 차감수량: {}",
+                    productId, batch.size(), decreased);
+
+        } catch (Exception e) {
+            log.error("DB 재고 차감 실패 (degraded) - productId: {}, 요청수: {}, error: {}",
+                    productId, batch.size(), e.getMessage());
+            batch.forEach(r -> r.result.completeExceptionally(e));
+        }
+    }
+
+    private static int decreasedQuantity(List<PendingDecrease> batch, boolean[] applied) {
+        int decreased = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (applied[i]) {
+                decreased += batch.get(i).quantity;
+            }
+        }
+        return decreased;
+    }
+
+    private static final class Lane {
+        private final ConcurrentLinkedQueue<PendingDecrease> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+    }
+
+    private static final class PendingDecrease {
+        private final int quantity;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private PendingDecrease(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
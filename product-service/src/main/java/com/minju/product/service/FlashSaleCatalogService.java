@@ -0,0 +1,202 @@
+package com.minju.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.dto.CommonResponse;
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import com.minju.product.dto.ProductResponseDto;
+import com.minju.product.entity.Product;
+import com.minju.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 플래시세일 카탈로그 스냅샷
+ * - 활성 플래시세일 상품(상세 + 현재 재고)을 주기적으로(기본 1초) 재구성
+ * - 응답 본문을 미리 직렬화해 메모리에서 바로 서빙 (ETag 포함)
+ * - 스냅샷 나이가 max-staleness를 넘으면 요청 스레드에서 재구성, 실패 시 503
+ *   (다른 스레드가 재구성 중이면 기존 스냅샷 제공, 스냅샷이 아직 없을 때만 대기)
+ */
+@Service
+@Slf4j
+public class FlashSaleCatalogService {
+
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long maxStalenessMs;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CatalogSnapshot snapshot;
+
+    public FlashSaleCatalogService(ProductRepository productRepository,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${product.flash-sale-catalog.max-staleness-ms:5000}") long maxStalenessMs) {
+        this.productRepository = productRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxStalenessMs = maxStalenessMs;
+
+        Gauge.builder("flash_sale.catalog.snapshot.age", this, FlashSaleCatalogService::getSnapshotAgeSeconds)
+                .description("플래시세일 카탈로그 스냅샷 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스냅샷 반환 (허용 범위를 넘게 오래된 경우 즉시 재구성)
+     */
+    public CatalogSnapshot getSnapshot() {
+        CatalogSnapshot current = snapshot;
+        if (current != null && current.ageMs() <= maxStalenessMs) {
+            return current;
+        }
+
+        if (current == null) {
+            // 첫 로드 - 다른 스레드가 로드 중이면 끝날 때까지 대기
+            refreshLock.lock();
+            try {
+                if (snapshot == null) {
+                    rebuild();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        } else if (refreshLock.tryLock()) {
+            try {
+                if (snapshot.ageMs() > maxStalenessMs) {
+                    rebuild();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        } else {
+            // 다른 스레드가 재구성 중 → 기존 스냅샷 제공
+            return current;
+        }
+
+        current = snapshot;
+        if (current == null || current.ageMs() > maxStalenessMs) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "플래시세일 상품 정보를 갱신하지 못했습니다.");
+        }
+        return current;
+    }
+
+    /**
+     * 스냅샷 재구성 (동시에 하나만 수행, 이미 진행 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${product.flash-sale-catalog.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            rebuild();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // refreshLock을 잡은 상태에서 호출
+    private void rebuild() {
+        try {
+            List<Product> products = productRepository.findByFlashSaleTrueOrderByIdAsc();
+            List<Integer> stocks = loadStocks(products);
+
+            List<ProductResponseDto> items = new ArrayList<>(products.size());
+            for (int i = 0; i < products.size(); i++) {
+                Product product = products.get(i);
+                items.add(new ProductResponseDto(
+                        product.getId(),
+                        product.getTitle(),
+                        product.getDescription(),
+                        product.getPrice(),
+                        stocks.get(i),
+                        product.isFlashSale(),
+                        product.getFlashSaleStartTime(),
+                        product.getCreatedAt(),
+                        product.getUpdatedAt()
+                ));
+            }
+
+            String etag = etagOf(objectMapper.writeValueAsBytes(items));
+            long now = System.currentTimeMillis();
+            CatalogSnapshot previous = snapshot;
+
+            // 내용이 같으면 직렬화된 본문 재사용, 갱신 시각만 변경
+            if (previous != null && previous.getEtag().equals(etag)) {
+                snapshot = new CatalogSnapshot(previous.getBody(), etag, items.size(), now);
+            } else {
+                byte[] body = objectMapper.writeValueAsBytes(
+                        CommonResponse.success("플래시세일 상품 조회에 성공했습니다.", items));
+                snapshot = new CatalogSnapshot(body, etag, items.size(), now);
+                log.debug("플래시세일 카탈로그 갱신 - 상품 {}개, ETag: {}", items.size(), etag);
+            }
+        } catch (Exception e) {
+            log.error("플래시세일 카탈로그 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    public double getSnapshotAgeSeconds() {
+        CatalogSnapshot current = snapshot;
+        return current == null ? Double.NaN : current.ageMs() / 1000.0;
+    }
+
+    // 재고는 MGET 1회로 조회, Redis에 없거나 장애 시 DB 재고 사용
+    private List<Integer> loadStocks(List<Product> products) {
+        List<Integer> stocks = new ArrayList<>(products.size());
+        List<String> values = null;
+        if (!products.isEmpty()) {
+            try {
+                values = stringRedisTemplate.opsForValue()
+                        .multiGet(products.stream().map(p -> STOCK_KEY_PREFIX + p.getId()).toList());
+            } catch (Exception e) {
+                log.warn("플래시세일 재고 Redis 조회 실패, DB 재고 사용: {}", e.getMessage());
+            }
+        }
+        for (int i = 0; i < products.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            stocks.add(value != null ? Integer.parseInt(value.trim()) : products.get(i).getStock());
+        }
+        return stocks;
+    }
+
+    private String etagOf(byte[] content) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+        return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    }
+
+    /**
+     * 불변 스냅샷 (직렬화된 응답 본문 + ETag)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class CatalogSnapshot {
+        private final byte[] body;
+        private final String etag;
+        private final int productCount;
+        private final long refreshedAt;
+
+        public long ageMs() {
+            return System.currentTimeMillis() - refreshedAt;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.minju.product.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import com.minju.product.dto.BulkImportResult;
+import com.minju.product.dto.ProductRequestDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 대량 등록 서비스
+ * - JSON 배열 / CSV를 스트리밍 파싱 (전체를 메모리에 올리지 않음)
+ * - chunk 단위 JDBC 배치 INSERT
+ * - chunk마다 Redis 재고 키를 파이프라인 MSET으로 일괄 세팅 (+ 재고 원장 ADJUST 기록)
+ * - 진행 상황과 행 단위 오류를 importId로 조회 가능
+ */
+@Service
+@Slf4j
+public class ProductBulkImportService {
+
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+    private static final String CSV_HEADER = "title,description,price,stock,flashSale,flashSaleStartTime";
+    private static final String INSERT_SQL =
+            "INSERT INTO product (title, description, price, stock, flash_sale, flash_sale_start_time, created_at, updated_at) " +
+            "VALUES (:title, :description, :price, :stock, :flashSale, :flashSaleStartTime, :createdAt, :updatedAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    // 진행 중/최근 완료된 import (importId → 진행 상황)
+    private final Map<String, BulkImportResult> imports = new ConcurrentHashMap<>();
+
+    public ProductBulkImportService(NamedParameterJdbcTemplate jdbcTemplate,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${product.bulk-import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * JSON 배열 스트리밍 등록 ([{"title": ..., "price": ..., "stock": ...}, ...])
+     */
+    public BulkImportResult importJson(InputStream body, String importId) {
+        BulkImportResult result = start(importId);
+        long startedAt = System.currentTimeMillis();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "JSON 배열 형식이어야 합니다.");
+            }
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            long rowNumber = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                rowNumber++;
+                result.rowRead();
+                // 행 전체를 트리로 읽은 뒤 바인딩 → 바인딩 실패해도 파서는 다음 행 위치에 있음
+                // (문법 오류는 이후 위치를 알 수 없으므로 import 전체 실패)
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    addRow(chunk, rowNumber, objectMapper.treeToValue(node, ProductRequestDto.class), result);
+                } catch (JsonProcessingException e) {
+                    result.failed(rowNumber, "JSON 파싱 실패: " + e.getOriginalMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    flushChunk(chunk, result, startedAt);
+                }
+            }
+            flushChunk(chunk, result, startedAt);
+            return finish(result, "COMPLETED", startedAt);
+
+        } catch (BusinessException e) {
+            finish(result, "FAILED", startedAt);
+            throw e;
+        } catch (IOException e) {
+            log.error("상품 대량 등록 JSON 읽기 실패 - importId: {}", result.getImportId(), e);
+            finish(result, "FAILED", startedAt);
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "JSON 읽기 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * CSV 스트리밍 등록 (헤더: title,description,price,stock,flashSale,flashSaleStartTime)
+     */
+    public BulkImportResult importCsv(InputStream body, String importId) {
+        BulkImportResult result = start(importId);
+        long startedAt = System.currentTimeMillis();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null || !CSV_HEADER.equalsIgnoreCase(header.trim())) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "CSV 헤더는 " + CSV_HEADER + " 이어야 합니다.");
+            }
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            long rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                rowNumber++;
+                result.rowRead();
+                try {
+                    addRow(chunk, rowNumber, parseCsvRow(line), result);
+                } catch (IllegalArgumentException e) {
+                    result.failed(rowNumber, e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    flushChunk(chunk, result, startedAt);
+                }
+            }
+            flushChunk(chunk, result, startedAt);
+            return finish(result, "COMPLETED", startedAt);
+
+        } catch (BusinessException e) {
+            finish(result, "FAILED", startedAt);
+            throw e;
+        } catch (IOException e) {
+            log.error("상품 대량 등록 CSV 읽기 실패 - importId: {}", result.getImportId(), e);
+            finish(result, "FAILED", startedAt);
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "CSV 읽기 실패: " + e.getMessage());
+        }
+    }
+
+    public BulkImportResult getProgress(String importId) {
+        BulkImportResult result = imports.get(importId);
+        if (result == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "존재하지 않는 importId입니다: " + importId);
+        }
+        return result;
+    }
+
+    private BulkImportResult start(String importId) {
+        String id = importId != null && !importId.isBlank() ? importId : UUID.randomUUID().toString();
+        BulkImportResult result = new BulkImportResult(id);
+        if (imports.putIfAbsent(id, result) != null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "이미 사용 중인 importId입니다: " + id);
+        }
+        log.info("상품 대량 등록 시작 - importId: {}, chunkSize: {}", id, chunkSize);
+        return result;
+    }
+
+    private BulkImportResult finish(BulkImportResult result, String status, long startedAt) {
+        result.finish(status, System.currentTimeMillis() - startedAt);
+        log.info("상품 대량 등록 종료 - importId: {}, status: {}, 전체: {}, 성공: {}, 실패: {}, {}건/초",
+                result.getImportId(), status, result.getTotalRows(), result.getImportedRows(),
+                result.getFailedRows(), String.format("%.0f", result.getRowsPerSecond()));
+
+        // 오래된 완료 결과 정리 (진행 중인 import는 유지)
+        if (imports.size() > 100) {
+            imports.values().removeIf(r -> !"RUNNING".equals(r.getStatus()) && r != result);
+        }
+        return result;
+    }
+
+    private void addRow(List<Row> chunk, long rowNumber, ProductRequestDto dto, BulkImportResult result) {
+        String error = validate(dto);
+        if (error != null) {
+            result.failed(rowNumber, error);
+            return;
+        }
+        chunk.add(new Row(rowNumber, dto));
+    }
+
+    private String validate(ProductRequestDto dto) {
+        if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+            return "상품명(title)은 필수입니다.";
+        }
+        if (dto.getPrice() < 0) {
+            return "가격(price)은 0 이상이어야 합니다.";
+        }
+        if (dto.getStock() < 0) {
+            return "재고(stock)는 0 이상이어야 합니다.";
+        }
+        return null;
+    }
+
+    /**
+     * chunk 1개 처리: JDBC 배치 INSERT → 생성된 ID로 Redis 파이프라인 세팅
+     * - chunk 단위로 커밋되므로 실패해도 이전 chunk는 유지
+     */
+    private void flushChunk(List<Row> chunk, BulkImportResult result, long startedAt) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids;
+        try {
+            ids = insertBatch(chunk);
+        } catch (Exception e) {
+            log.error("상품 배치 INSERT 실패 - importId: {}, 행 {}~{}", result.getImportId(),
+                    chunk.get(0).rowNumber, chunk.get(chunk.size() - 1).rowNumber, e);
+            chunk.forEach(row -> result.failed(row.rowNumber, "DB 저장 실패: " + e.getMessage()));
+            chunk.clear();
+            return;
+        }
+
+        try {
+            primeStock(ids, chunk);
+        } catch (Exception e) {
+            // DB에는 저장됨 → 재고 조회 시 DB에서 로드되므로 실패 처리하지 않음
+            log.warn("Redis 재고 세팅 실패 (DB 로드로 대체) - importId: {}, error: {}",
+                    result.getImportId(), e.getMessage());
+        }
+
+        result.imported(chunk.size());
+        result.updateElapsed(System.currentTimeMillis() - startedAt);
+        log.debug("상품 대량 등록 진행 - importId: {}, 성공: {}, 실패: {}",
+                result.getImportId(), result.getImportedRows(), result.getFailedRows());
+        chunk.clear();
+    }
+
+    private List<Long> insertBatch(List<Row> chunk) {
+        String now = LocalDateTime.now().toString();
+        SqlParameterSource[] params = new SqlParameterSource[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            ProductRequestDto dto = chunk.get(i).dto;
+            params[i] = new MapSqlParameterSource()
+                    .addValue("title", dto.getTitle())
+                    .addValue("description", dto.getDescription())
+                    .addValue("price", dto.getPrice())
+                    .addValue("stock", dto.getStock())
+                    .addValue("flashSale", dto.isFlashSale())
+                    .addValue("flashSaleStartTime", dto.getFlashSaleStartTime())
+                    .addValue("createdAt", now)
+                    .addValue("updatedAt", now);
+        }
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != chunk.size()) {
+            throw new IllegalStateException("생성된 ID 수가 일치하지 않습니다: " + ids.size() + "/" + chunk.size());
+        }
+        return ids;
+    }
+
+    // MSET 1회 + 원장 XADD를 한 번의 파이프라인으로 전송
+    private void primeStock(List<Long> ids, List<Row> chunk) {
+        byte[] ledgerKey = StockLedgerService.LEDGER_KEY.getBytes(StandardCharsets.UTF_8);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Map<byte[], byte[]> stocks = new LinkedHashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                stocks.put(bytes(STOCK_KEY_PREFIX + ids.get(i)), bytes(String.valueOf(chunk.get(i).dto.getStock())));
+            }
+            connection.stringCommands().mSet(stocks);
+
+            for (int i = 0; i < ids.size(); i++) {
+                appendLedger(connection, ledgerKey, ids.get(i), chunk.get(i).dto.getStock());
+            }
+            return null;
+        });
+    }
+
+    private void appendLedger(RedisConnection connection, byte[] ledgerKey, Long productId, int stock) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(bytes("productId"), bytes(String.valueOf(productId)));
+        fields.put(bytes("op"), bytes("ADJUST"));
+        fields.put(bytes("qty"), bytes(String.valueOf(stock)));
+        fields.put(bytes("balance"), bytes(String.valueOf(stock)));
+        MapRecord<byte[], byte[], byte[]> record = StreamRecords.rawBytes(fields).withStreamKey(ledgerKey);
+        connection.streamCommands().xAdd(record);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // CSV 한 줄 파싱 (큰따옴표로 감싼 필드, "" 이스케이프 지원)
+    private ProductRequestDto parseCsvRow(String line) {
+        List<String> fields = new ArrayList<>(6);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+
+        if (fields.size() != 6) {
+            throw new IllegalArgumentException("CSV 컬럼 수가 올바르지 않습니다: " + fields.size());
+        }
+        try {
+            return new ProductRequestDto(
+                    null,
+                    fields.get(0).trim(),
+                    fields.get(1).trim(),
+                    Integer.parseInt(fields.get(2).trim()),
+                    Integer.parseInt(fields.get(3).trim()),
+                    Boolean.parseBoolean(fields.get(4).trim()),
+                    fields.get(5).isBlank() ? null : fields.get(5).trim()
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+    }
+
+    private static final class Row {
+        private final long rowNumber;
+        private final ProductRequestDto dto;
+
+        private Row(long rowNumber, ProductRequestDto dto) {
+            this.rowNumber = rowNumber;
+            this.dto = dto;
+        }
+    }
+}
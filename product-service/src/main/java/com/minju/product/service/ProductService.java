@@ -30,6 +30,7 @@ public class ProductService {
     @Qualifier("integerRedisTemplate") // Bean 이름 명시
     private final RedisTemplate<String, Integer> redisTemplate;
     private final RedissonClient redissonClient;
+    private final StockLedgerService stockLedgerService;
 
     private static final String PRODUCT_KEY_PREFIX = "product:stock:";
 
@@ -47,8 +48,8 @@ public class ProductService {
 
         Product savedProduct = productRepository.save(product);
 
-        // Redis에 초기 재고 저장
-        redisTemplate.opsForValue().set(PRODUCT_KEY_PREFIX + savedProduct.getId(), savedProduct.getStock());
+        // Redis에 초기 재고 저장 (원장에 ADJUST 기록)
+        stockLedgerService.adjustStock(savedProduct.getId(), savedProduct.getStock());
 
         return new ProductResponseDto(
                 savedProduct.getId(),
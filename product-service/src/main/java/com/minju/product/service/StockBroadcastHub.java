@@ -0,0 +1,220 @@
+package com.minju.product.service;
+
+import com.minju.common.exception.BusinessException;
+import com.minju.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 실시간 잔여 재고 SSE 브로드캐스트 허브 (인스턴스당 1개)
+ * - Lua Script가 PUBLISH한 stock:changed 메시지를 구독
+ * - 상품별 최신 값만 보관하고 초당 최대 N회 구독자에게 전송 (coalescing)
+ * - 전송은 소수의 sender 스레드가 구독자를 나눠 처리 (구독자는 항상 같은 스레드 → 순서 보장)
+ */
+@Component
+@Slf4j
+public class StockBroadcastHub implements MessageListener {
+
+    public static final String STOCK_CHANGED_CHANNEL = "stock:changed";
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+    private static final String EVENT_NAME = "stock";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int maxUpdatesPerSecond;
+    private final int senderThreads;
+    private final long emitterTimeoutMs;
+    private final int maxProductsPerSubscription;
+
+    // 마지막 flush 이후 변경된 상품의 최신 재고
+    private final ConcurrentHashMap<Long, Integer> pendingChanges = new ConcurrentHashMap<>();
+
+    // 상품 ID → 구독자
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribersByProduct = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushScheduler;
+    private ExecutorService[] senderLanes;
+
+    public StockBroadcastHub(StringRedisTemplate stringRedisTemplate,
+                             @Value("${stock.stream.max-updates-per-second:5}") int maxUpdatesPerSecond,
+                             @Value("${stock.stream.sender-threads:4}") int senderThreads,
+                             @Value("${stock.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                             @Value("${stock.stream.max-products-per-subscription:50}") int maxProductsPerSubscription) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxUpdatesPerSecond = maxUpdatesPerSecond;
+        this.senderThreads = senderThreads;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxProductsPerSubscription = maxProductsPerSubscription;
+    }
+
+    @PostConstruct
+    public void start() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "stock-broadcast-flush"));
+        senderLanes = new ExecutorService[senderThreads];
+        for (int i = 0; i < senderThreads; i++) {
+            String name = "stock-broadcast-sender-" + i;
+            senderLanes[i] = Executors.newSingleThreadExecutor(r -> new Thread(r, name));
+        }
+
+        long intervalMs = Math.max(1, 1000 / maxUpdatesPerSecond);
+        flushScheduler.scheduleAtFixedRate(this::flush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("재고 브로드캐스트 허브 시작 - 최대 {}회/초, sender {}개", maxUpdatesPerSecond, senderThreads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flushScheduler.shutdownNow();
+        for (ExecutorService lane : senderLanes) {
+            lane.shutdownNow();
+        }
+        subscribersByProduct.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+    }
+
+    /**
+     * 상품 재고 변경 구독
+     */
+    public SseEmitter subscribe(Set<Long> productIds) {
+        if (productIds.isEmpty() || productIds.size() > maxProductsPerSubscription) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "구독 상품 수는 1~" + maxProductsPerSubscription + "개여야 합니다.");
+        }
+
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(productIds));
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        for (Long productId : subscriber.productIds) {
+            subscribersByProduct.computeIfAbsent(productId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+
+        // 구독 직후 현재 재고 전송 (MGET 1회)
+        Map<Long, Integer> initial = loadCurrentStock(subscriber.productIds);
+        if (!initial.isEmpty()) {
+            laneOf(subscriber).execute(() -> send(subscriber, initial));
+        }
+
+        log.debug("재고 스트림 구독 - 상품: {}", subscriber.productIds);
+        return emitter;
+    }
+
+    /**
+     * Redis pub/sub 수신 (메시지: "{productId}:{balance}")
+     * - 최신 값으로 덮어써서 flush 주기 안의 변경을 1건으로 합침
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            Long productId = Long.valueOf(body.substring(0, separator));
+            if (subscribersByProduct.containsKey(productId)) {
+                pendingChanges.put(productId, Integer.valueOf(body.substring(separator + 1)));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 재고 변경 메시지: {}", body);
+        }
+    }
+
+    public int getSubscriberCount() {
+        Set<Subscriber> all = new HashSet<>();
+        subscribersByProduct.values().forEach(all::addAll);
+        return all.size();
+    }
+
+    // 변경분을 구독자별로 묶어서 sender 스레드에 분배
+    void flush() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        Map<Subscriber, Map<Long, Integer>> updates = new HashMap<>();
+        for (Long productId : new ArrayList<>(pendingChanges.keySet())) {
+            Integer stock = pendingChanges.remove(productId);
+            Set<Subscriber> subscribers = subscribersByProduct.get(productId);
+            if (stock == null || subscribers == null) {
+                continue;
+            }
+            for (Subscriber subscriber : subscribers) {
+                updates.computeIfAbsent(subscriber, s -> new HashMap<>()).put(productId, stock);
+            }
+        }
+
+        Map<ExecutorService, List<Map.Entry<Subscriber, Map<Long, Integer>>>> byLane = new HashMap<>();
+        for (Map.Entry<Subscriber, Map<Long, Integer>> entry : updates.entrySet()) {
+            byLane.computeIfAbsent(laneOf(entry.getKey()), l -> new ArrayList<>()).add(entry);
+        }
+        byLane.forEach((lane, entries) -> lane.execute(() ->
+                entries.forEach(entry -> send(entry.getKey(), entry.getValue()))));
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    private ExecutorService laneOf(Subscriber subscriber) {
+        return senderLanes[Math.floorMod(subscriber.hashCode(), senderLanes.length)];
+    }
+
+    private void send(Subscriber subscriber, Map<Long, Integer> stocks) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME).data(stocks));
+        } catch (Exception e) {
+            // 연결이 끊긴 구독자 정리
+            unregister(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        for (Long productId : subscriber.productIds) {
+            subscribersByProduct.computeIfPresent(productId, (id, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private Map<Long, Integer> loadCurrentStock(Set<Long> productIds) {
+        List<Long> ids = new ArrayList<>(productIds);
+        List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(ids.stream().map(id -> STOCK_KEY_PREFIX + id).toList());
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        if (values == null) {
+            return stocks;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                stocks.put(ids.get(i), Integer.valueOf(value.trim()));
+            }
+        }
+        return stocks;
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Long> productIds;
+
+        private Subscriber(SseEmitter emitter, Set<Long> productIds) {
+            this.emitter = emitter;
+            this.productIds = productIds;
+        }
+    }
+}
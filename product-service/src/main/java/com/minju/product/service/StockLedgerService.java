@@ -0,0 +1,263 @@
+package com.minju.product.service;
+
+import com.minju.product.dto.StockMovementDto;
+import com.minju.product.entity.StockLedgerEntry;
+import com.minju.product.entity.StockLedgerOperation;
+import com.minju.product.entity.StockLedgerSnapshot;
+import com.minju.product.repository.StockLedgerEntryRepository;
+import com.minju.product.repository.StockLedgerSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 재고 원장 서비스
+ * - Lua Script가 Redis Stream(stock:ledger)에 남긴 재고 변동을 MySQL로 배치 아카이빙
+ * - Stream은 아카이빙이 끝난 구간만 MINID로 정리 (길이 기준 트리밍 없음 → 아카이빙 전 레코드 유실 방지)
+ * - 주기적으로 상품별 재고 스냅샷 저장
+ * - 스냅샷 + 이후 원장(tail)으로 전체 재고 재구성 (Redis 유실 복구, 오버셀 감사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockLedgerService {
+
+    public static final String LEDGER_KEY = "stock:ledger";
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+    private static final String HANDOFF_KEY_PREFIX = "stock:handoff:";
+    private static final int BATCH_SIZE = 1000;
+    private static final byte[] MINID = "MINID".getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StockLedgerEntryRepository entryRepository;
+    private final StockLedgerSnapshotRepository snapshotRepository;
+    private final RedisScript<Long> adjustStockScript;
+    private final RedisScript<Long> applyStockDeltaScript;
+
+    // 마지막으로 아카이빙한 Stream ID (null이면 DB에서 다시 조회)
+    private volatile String archivedCursor;
+
+    /**
+     * 재고 절대값 설정 + 원장(ADJUST) 기록
+     */
+    public long adjustStock(Long productId, int stock) {
+        Long result = stringRedisTemplate.execute(
+                adjustStockScript,
+                List.of(STOCK_KEY_PREFIX + productId, LEDGER_KEY),
+                String.valueOf(stock)
+        );
+        log.info("재고 조정 - productId: {}, stock: {}", productId, result);
+        return result != null ? result : stock;
+    }
+
+    /**
+     * Redis 장애 중 DB에서 처리한 증감분을 Redis에 반영 + 원장(ADJUST) 기록
+     * - 같은 handoffSeq는 한 번만 반영 (Redis 반영 후 DB 완료 기록 전에 중단돼도 재반영 없음)
+     * - Redis에 재고 키가 없으면 증감 없이 완료 처리 (다음 조회 시 DB에서 로드)
+     * @return 이 순번으로 반영된 증감 수량, 이미 지난 순번이면 0
+     */
+    public long applyDelta(Long productId, int delta, long handoffSeq) {
+        Long result = stringRedisTemplate.execute(
+                applyStockDeltaScript,
+                List.of(STOCK_KEY_PREFIX + productId, LEDGER_KEY, HANDOFF_KEY_PREFIX + productId),
+                String.valueOf(delta),
+                String.valueOf(handoffSeq)
+        );
+        if (result == null) {
+            throw new IllegalStateException("재고 증감 스크립트 결과 없음 - productId: " + productId);
+        }
+        log.info("재고 증감 반영 - productId: {}, delta: {}, seq: {}, 반영: {}", productId, delta, handoffSeq, result);
+        return result;
+    }
+
+    /**
+     * Redis Stream → MySQL 아카이빙
+     */
+    @Scheduled(fixedDelayString = "${stock.ledger.archive-interval-ms:1000}")
+    public void archiveLedger() {
+        try {
+            int archived = 0;
+            List<StockLedgerEntry> batch;
+            do {
+                batch = readStream(currentCursor(), BATCH_SIZE);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                entryRepository.saveAll(batch);
+                archivedCursor = batch.get(batch.size() - 1).getLedgerId();
+                archived += batch.size();
+            } while (batch.size() == BATCH_SIZE);
+
+            if (archived > 0) {
+                trimArchived(archivedCursor);
+                log.debug("재고 원장 아카이빙 완료 - {}건, cursor: {}", archived, archivedCursor);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 아카이빙한 경우 → 다음 주기에 DB 기준으로 커서 재조회
+            log.warn("재고 원장 중복 아카이빙 감지 - 커서 재조회: {}", e.getMessage());
+            archivedCursor = null;
+        } catch (Exception e) {
+            log.error("재고 원장 아카이빙 실패: {}", e.getMessage());
+            archivedCursor = null;
+        }
+    }
+
+    /**
+     * 상품별 재고 스냅샷 저장
+     */
+    @Scheduled(fixedDelayString = "${stock.ledger.snapshot-interval-ms:600000}")
+    @Transactional
+    public void takeSnapshot() {
+        LedgerState state = foldArchived();
+        if (state.balances.isEmpty()) {
+            return;
+        }
+
+        List<StockLedgerSnapshot> snapshots = state.balances.entrySet().stream()
+                .map(e -> new StockLedgerSnapshot(e.getKey(), e.getValue(), state.ms, state.seq))
+                .toList();
+        snapshotRepository.saveAll(snapshots);
+
+        log.info("재고 스냅샷 저장 - 상품 {}개, 위치: {}-{}", snapshots.size(), state.ms, state.seq);
+    }
+
+    /**
+     * 상품별 기간 재고 변동 조회
+     */
+    @Transactional(readOnly = true)
+    public List<StockMovementDto> findMovements(Long productId, LocalDateTime from, LocalDateTime to) {
+        return entryRepository
+                .findByProductIdAndOccurredAtBetweenOrderByLedgerMsAscLedgerSeqAsc(productId, from, to)
+                .stream()
+                .map(StockMovementDto::from)
+                .toList();
+    }
+
+    /**
+     * 스냅샷 + 아카이빙된 원장 + 아직 아카이빙되지 않은 Stream tail로 전체 재고 재구성
+     * @param apply true면 재구성한 재고를 Redis에 반영 (ADJUST로 원장에도 기록)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> rebuild(boolean apply) {
+        LedgerState state = foldArchived();
+
+        // Redis에 남아 있는 미아카이빙 원장 반영 (Stream까지 유실된 경우 빈 결과)
+        String cursor = state.ms < 0 ? null : state.ms + "-" + state.seq;
+        List<StockLedgerEntry> tail;
+        do {
+            tail = readStream(cursor, BATCH_SIZE);
+            for (StockLedgerEntry entry : tail) {
+                state.apply(entry);
+            }
+            if (!tail.isEmpty()) {
+                cursor = tail.get(tail.size() - 1).getLedgerId();
+            }
+        } while (tail.size() == BATCH_SIZE);
+
+        log.info("재고 재구성 완료 - 상품 {}개, 위치: {}, apply: {}", state.balances.size(), cursor, apply);
+
+        if (apply) {
+            state.balances.forEach(this::adjustStock);
+        }
+        return state.balances;
+    }
+
+    // 최신 스냅샷에서 시작해 MySQL에 아카이빙된 원장을 순서대로 재생
+    private LedgerState foldArchived() {
+        LedgerState state = new LedgerState();
+        for (StockLedgerSnapshot snapshot : snapshotRepository.findAll()) {
+            state.balances.put(snapshot.getProductId(), snapshot.getStock());
+            if (snapshot.getLedgerMs() > state.ms
+                    || (snapshot.getLedgerMs() == state.ms && snapshot.getLedgerSeq() > state.seq)) {
+                state.ms = snapshot.getLedgerMs();
+                state.seq = snapshot.getLedgerSeq();
+            }
+        }
+
+        List<StockLedgerEntry> page;
+        do {
+            page = entryRepository.findAfter(state.ms, state.seq, PageRequest.of(0, BATCH_SIZE));
+            page.forEach(state::apply);
+        } while (page.size() == BATCH_SIZE);
+
+        return state;
+    }
+
+    private String currentCursor() {
+        if (archivedCursor == null) {
+            archivedCursor = entryRepository.findTopByOrderByLedgerMsDescLedgerSeqDesc()
+                    .map(StockLedgerEntry::getLedgerId)
+                    .orElse(null);
+        }
+        return archivedCursor;
+    }
+
+    /**
+     * MySQL에 저장된 위치 이전 레코드만 Stream에서 제거 (cursor 레코드 자체는 남김)
+     * 아카이빙이 멈추면 Stream은 계속 늘어나지만, 재구성에 필요한 tail은 잃지 않음
+     */
+    private void trimArchived(String cursor) {
+        byte[] key = LEDGER_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] minId = cursor.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.execute("XTRIM", key, MINID, minId));
+    }
+
+    // cursor 이후(exclusive)의 Stream 레코드 조회
+    private List<StockLedgerEntry> readStream(String cursor, int count) {
+        Range<String> range = cursor == null
+                ? Range.unbounded()
+                : Range.of(Range.Bound.exclusive(cursor), Range.Bound.unbounded());
+
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(LEDGER_KEY, range, Limit.limit().count(count));
+        if (records == null || records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<StockLedgerEntry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            entries.add(new StockLedgerEntry(
+                    record.getId().getValue(),
+                    Long.valueOf(String.valueOf(fields.get("productId"))),
+                    StockLedgerOperation.valueOf(String.valueOf(fields.get("op"))),
+                    Integer.parseInt(String.valueOf(fields.get("qty"))),
+                    Integer.parseInt(String.valueOf(fields.get("balance")))
+            ));
+        }
+        return entries;
+    }
+
+    /**
+     * 원장 재생 상태 (각 원장은 변동 직후 재고를 담고 있으므로 마지막 값이 현재 재고)
+     */
+    private static class LedgerState {
+        private final Map<Long, Integer> balances = new HashMap<>();
+        private long ms = -1;
+        private long seq = -1;
+
+        private void apply(StockLedgerEntry entry) {
+            if (!entry.isAfter(ms, seq)) {
+                return;
+            }
+            balances.put(entry.getProductId(), entry.getBalance());
+            ms = entry.getLedgerMs();
+            seq = entry.getLedgerSeq();
+        }
+    }
+}
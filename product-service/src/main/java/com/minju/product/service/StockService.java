@@ -12,7 +12,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,14 +27,18 @@ public class StockService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ProductRepository productRepository;
+    private final DegradedStockCoordinator degradedStockCoordinator;
 
     // Lua Script Beans
     private final RedisScript<Long> decreaseStockScript;
     private final RedisScript<Long> restoreStockScript;
     private final RedisScript<Long> decreaseStockWithRateLimitScript;
+    private final RedisScript<Long> reserveStockOnceScript;
 
     private static final String STOCK_KEY_PREFIX = "product:stock:";
     private static final String RATE_LIMIT_KEY_PREFIX = "rate:";
+    private static final String RESERVATION_KEY_PREFIX = "stock:reservation:";
+    private static final String STOCK_LEDGER_KEY = StockLedgerService.LEDGER_KEY;
 
     // Lua Script 반환 코드
     private static final long RESULT_OUT_OF_STOCK = -1L;
@@ -46,6 +49,9 @@ public class StockService {
     private static final int DEFAULT_RATE_LIMIT = 5;  // 기본 요청 제한 횟수
     private static final int RATE_LIMIT_EXPIRE_SECONDS = 60;  // 제한 시간 (초)
 
+    // 예약 기록 보관 시간 (초) - 재전달 가능 기간(처리 기록 보관 기간)과 같게
+    private static final int RESERVATION_EXPIRE_SECONDS = 7 * 24 * 60 * 60;
+
     /**
      * Lua Script를 사용한 재고 차감 (원자적 연산)
      * - 락 없이 완전 원자적 처리
@@ -64,7 +70,7 @@ public class StockService {
             // Lua Script 실행 (원자적 재고 차감)
             Long result = redisTemplate.execute(
                     decreaseStockScript,
-                    Collections.singletonList(stockKey),
+                    List.of(stockKey, STOCK_LEDGER_KEY),
                     String.valueOf(quantity)
             );
 
@@ -93,6 +99,46 @@ public class StockService {
         }
     }
 
+    /**
+     * 주문·상품 단위 1회 재고 차감 (Kafka 트랜잭션 모드)
+     * - 차감과 예약 결과 기록을 한 Lua Script로 처리
+     * - Redis 차감은 Kafka 트랜잭션과 함께 롤백되지 않으므로, 재전달된 요청은 다시 차감하지 않고 처음 결과를 반환
+     * - 예외는 그대로 던짐 (Kafka 트랜잭션 롤백 후 재시도)
+     *
+     * @return true: 예약 성공, false: 재고 부족 또는 상품 없음
+     */
+    public boolean reserveStockOnce(String orderId, Long productId, int quantity) {
+        String stockKey = STOCK_KEY_PREFIX + productId;
+        String reservationKey = RESERVATION_KEY_PREFIX + orderId + ":" + productId;
+
+        ensureStockInRedis(productId);
+
+        Long result = redisTemplate.execute(
+                reserveStockOnceScript,
+                List.of(stockKey, STOCK_LEDGER_KEY, reservationKey),
+                String.valueOf(quantity),
+                String.valueOf(RESERVATION_EXPIRE_SECONDS)
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("Lua Script 실행 실패 - productId: " + productId);
+        }
+
+        if (result == RESULT_OUT_OF_STOCK) {
+            log.warn("재고 부족 - orderId: {}, productId: {}, 요청수량: {}", orderId, productId, quantity);
+            return false;
+        }
+
+        if (result == RESULT_PRODUCT_NOT_FOUND) {
+            log.warn("상품 재고 키 없음 - productId: {}", productId);
+            return false;
+        }
+
+        log.info("재고 예약 성공 (Lua) - orderId: {}, productId: {}, 감소수량: {}, 남은재고: {}",
+                orderId, productId, quantity, result);
+        return true;
+    }
+
     /**
      * Rate Limit 포함 재고 차감
      * - 사용자별 요청 제한 + 재고 차감을 원자적으로 처리
@@ -109,7 +155,7 @@ public class StockService {
 
             Long result = redisTemplate.execute(
                     decreaseStockWithRateLimitScript,
-                    List.of(stockKey, rateLimitKey),
+                    List.of(stockKey, rateLimitKey, STOCK_LEDGER_KEY),
                     String.valueOf(quantity),
                     String.valueOf(DEFAULT_RATE_LIMIT),
                     String.valueOf(RATE_LIMIT_EXPIRE_SECONDS)
@@ -155,7 +201,7 @@ public class StockService {
             // Lua Script 실행 (원자적 재고 복구)
             Long newStock = redisTemplate.execute(
                     restoreStockScript,
-                    Collections.singletonList(stockKey),
+                    List.of(stockKey, STOCK_LEDGER_KEY),
                     String.valueOf(quantity)
             );
 
@@ -220,7 +266,7 @@ public class StockService {
     public boolean decreaseStockFallback(Long productId, int quantity, Exception ex) {
         log.error("재고 감소 재시도 실패 - productId: {}, error: {}", productId, ex.getMessage());
         try {
-            return decreaseStockInDatabase(productId, quantity);
+            return degradedStockCoordinator.decrease(productId, quantity);
         } catch (Exception dbEx) {
             log.error("DB에서도 재고 감소 실패: ", dbEx);
             return false;
@@ -229,7 +275,7 @@ public class StockService {
 
     public boolean decreaseStockCircuitFallback(Long productId, int quantity, Exception ex) {
         log.error("재고 감소 Circuit Breaker 활성화 - productId: {}", productId);
-        return decreaseStockInDatabase(productId, quantity);
+        return degradedStockCoordinator.decrease(productId, quantity);
     }
 
     public boolean decreaseStockWithRateLimitFallback(Long productId, Long userId, int quantity, Exception ex) {
@@ -237,7 +283,7 @@ public class StockService {
         if (ex instanceof RateLimitExceededException) {
             throw (RateLimitExceededException) ex;
         }
-        return decreaseStockInDatabase(productId, quantity);
+        return degradedStockCoordinator.decrease(productId, quantity);
     }
 
     public boolean decreaseStockWithRateLimitCircuitFallback(Long productId, Long userId, int quantity, Exception ex) {
@@ -245,7 +291,7 @@ public class StockService {
         if (ex instanceof RateLimitExceededException) {
             throw (RateLimitExceededException) ex;
         }
-        return decreaseStockInDatabase(productId, quantity);
+        return degradedStockCoordinator.decrease(productId, quantity);
     }
 
     public int getStockFromDbFallback(Long productId, Exception ex) {
@@ -265,14 +311,13 @@ public class StockService {
         return new StockResponse(productId, quantity, success ? "SUCCESS" : "FAILURE");
     }
 
+    /**
+     * DB 조건부 재고 차감 (단건)
+     * - Redis 장애 시 대량 요청은 DegradedStockCoordinator를 통해 합산 처리
+     */
     @Transactional
     public boolean decreaseStockInDatabase(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다: " + productId));
-
-        if (product.getStock() >= quantity) {
-            product.setStock(product.getStock() - quantity);
-            productRepository.save(product);
+        if (productRepository.decreaseStockIfAvailable(productId, quantity) == 1) {
             log.info("DB 재고 감소 완료 - productId: {}, 감소수량: {}", productId, quantity);
             return true;
         }
@@ -288,11 +333,9 @@ public class StockService {
     @Transactional
     public void restoreStockInDatabase(Long productId, int quantity) {
         try {
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다: " + productId));
-
-            product.setStock(product.getStock() + quantity);
-            productRepository.save(product);
+            if (productRepository.increaseStock(productId, quantity) == 0) {
+                throw new RuntimeException("상품을 찾을 수 없습니다: " + productId);
+            }
             log.info("DB 재고 복구 완료 - productId: {}, 복구수량: {}", productId, quantity);
 
         } catch (Exception e) {
@@ -0,0 +1,24 @@
+-- 재고 조정 Lua Script (상품 등록, 원장 기반 복구 등 절대값 설정)
+-- KEYS[1] = stock key (예: product:stock:1)
+-- KEYS[2] = stock ledger stream key (예: stock:ledger)
+-- ARGV[1] = 설정할 재고 수량
+
+local stockKey = KEYS[1]
+local ledgerKey = KEYS[2]
+local newStock = tonumber(ARGV[1])
+
+local previousStock = tonumber(redis.call("GET", stockKey)) or 0
+
+redis.call("SET", stockKey, newStock)
+
+-- 재고 원장 기록 (append-only, 아카이빙된 구간만 StockLedgerService가 MINID로 정리)
+redis.call("XADD", ledgerKey, "*",
+        "productId", string.match(stockKey, "(%d+)$"),
+        "op", "ADJUST",
+        "qty", newStock - previousStock,
+        "balance", newStock)
+
+-- 재고 변경 알림 (SSE 브로드캐스트용)
+redis.call("PUBLISH", "stock:changed", string.match(stockKey, "(%d+)$") .. ":" .. newStock)
+
+return newStock
@@ -0,0 +1,43 @@
+-- 재고 증감 반영 Lua Script (DB 우회 처리분을 Redis로 되돌릴 때 사용)
+-- KEYS[1] = stock key (예: product:stock:1)
+-- KEYS[2] = stock ledger stream key (예: stock:ledger)
+-- KEYS[3] = handoff marker key (예: stock:handoff:1) - 마지막으로 반영한 "순번:수량"
+-- ARGV[1] = 증감 수량 (음수면 차감)
+-- ARGV[2] = handoff 순번 (같은 순번은 한 번만 반영)
+-- 반환: 해당 순번으로 반영된 증감 수량 (이미 지난 순번이면 0)
+
+local stockKey = KEYS[1]
+local ledgerKey = KEYS[2]
+local markerKey = KEYS[3]
+local delta = tonumber(ARGV[1])
+local seq = tonumber(ARGV[2])
+
+-- 이미 반영한 순번 (DB 완료 기록 전에 중단된 경우) → 그때 반영한 수량을 그대로 반환
+local marker = redis.call("GET", markerKey)
+if marker then
+    local appliedSeq, appliedDelta = string.match(marker, "^(%d+):(-?%d+)$")
+    if tonumber(appliedSeq) == seq then
+        return tonumber(appliedDelta)
+    end
+    if tonumber(appliedSeq) > seq then
+        return 0
+    end
+end
+
+-- 재고 키가 없으면 다음 조회 시 DB에서 로드되므로 증감은 생략 (DB에 이미 반영됨)
+if redis.call("GET", stockKey) then
+    local balance = redis.call("INCRBY", stockKey, delta)
+
+    -- 재고 원장 기록 (append-only, 아카이빙된 구간만 StockLedgerService가 MINID로 정리)
+    redis.call("XADD", ledgerKey, "*",
+            "productId", string.match(stockKey, "(%d+)$"),
+            "op", "ADJUST",
+            "qty", delta,
+            "balance", balance)
+
+    -- 재고 변경 알림 (SSE 브로드캐스트용)
+    redis.call("PUBLISH", "stock:changed", string.match(stockKey, "(%d+)$") .. ":" .. balance)
+end
+
+redis.call("SET", markerKey, seq .. ":" .. delta, "EX", 604800)
+return delta
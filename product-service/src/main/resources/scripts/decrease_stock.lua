@@ -1,8 +1,10 @@
 -- 재고 차감 Lua Script
 -- KEYS[1] = stock key (예: product:stock:1)
+-- KEYS[2] = stock ledger stream key (예: stock:ledger)
 -- ARGV[1] = 차감할 수량
 
 local stockKey = KEYS[1]
+local ledgerKey = KEYS[2]
 local decreaseAmount = tonumber(ARGV[1])
 
 -- 현재 재고 조회
@@ -19,7 +21,17 @@ if currentStock < decreaseAmount then
 end
 
 -- 재고 차감
-redis.call("DECRBY", stockKey, decreaseAmount)
+local remaining = redis.call("DECRBY", stockKey, decreaseAmount)
+
+-- 재고 원장 기록 (append-only, 아카이빙된 구간만 StockLedgerService가 MINID로 정리)
+redis.call("XADD", ledgerKey, "*",
+        "productId", string.match(stockKey, "(%d+)$"),
+        "op", "RESERVE",
+        "qty", -decreaseAmount,
+        "balance", remaining)
+
+-- 재고 변경 알림 (SSE 브로드캐스트용)
+redis.call("PUBLISH", "stock:changed", string.match(stockKey, "(%d+)$") .. ":" .. remaining)
 
 -- 남은 재고 반환
-return currentStock - decreaseAmount
+return remaining
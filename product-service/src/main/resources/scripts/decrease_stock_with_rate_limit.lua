@@ -1,12 +1,14 @@
 -- 재고 차감 + Rate Limit 통합 Lua Script
 -- KEYS[1] = stock key (예: product:stock:1)
 -- KEYS[2] = rate limit key (예: rate:userId:productId)
+-- KEYS[3] = stock ledger stream key (예: stock:ledger)
 -- ARGV[1] = 차감할 수량
 -- ARGV[2] = Rate Limit 최대 횟수
 -- ARGV[3] = Rate Limit 만료 시간 (초)
 
 local stockKey = KEYS[1]
 local rateLimitKey = KEYS[2]
+local ledgerKey = KEYS[3]
 local decreaseAmount = tonumber(ARGV[1])
 local maxRequests = tonumber(ARGV[2])
 local expireSeconds = tonumber(ARGV[3])
@@ -35,7 +37,17 @@ redis.call("INCR", rateLimitKey)
 redis.call("EXPIRE", rateLimitKey, expireSeconds)
 
 -- 4. 재고 차감
-redis.call("DECRBY", stockKey, decreaseAmount)
+local remaining = redis.call("DECRBY", stockKey, decreaseAmount)
+
+-- 5. 재고 원장 기록 (append-only, 아카이빙된 구간만 StockLedgerService가 MINID로 정리)
+redis.call("XADD", ledgerKey, "*",
+        "productId", string.match(stockKey, "(%d+)$"),
+        "op", "RESERVE",
+        "qty", -decreaseAmount,
+        "balance", remaining)
+
+-- 재고 변경 알림 (SSE 브로드캐스트용)
+redis.call("PUBLISH", "stock:changed", string.match(stockKey, "(%d+)$") .. ":" .. remaining)
 
 -- 남은 재고 반환
-return currentStock - decreaseAmount
+return remaining
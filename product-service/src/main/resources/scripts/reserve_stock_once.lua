@@ -0,0 +1,52 @@
+-- 재고 예약 Lua Script (주문·상품 단위 1회 차감, Kafka 트랜잭션 모드용)
+-- KEYS[1] = stock key (예: product:stock:1)
+-- KEYS[2] = stock ledger stream key (예: stock:ledger)
+-- KEYS[3] = reservation key (예: stock:reservation:100:1)
+-- ARGV[1] = 차감할 수량
+-- ARGV[2] = 예약 기록 보관 시간 (초)
+-- 같은 예약이 다시 오면(트랜잭션 중단 후 재전달) 차감 없이 처음 결과를 반환
+
+local stockKey = KEYS[1]
+local ledgerKey = KEYS[2]
+local reservationKey = KEYS[3]
+local decreaseAmount = tonumber(ARGV[1])
+local expireSeconds = tonumber(ARGV[2])
+
+-- 이미 처리한 예약
+local recorded = redis.call("GET", reservationKey)
+if recorded then
+    return tonumber(recorded)
+end
+
+-- 현재 재고 조회
+local currentStock = tonumber(redis.call("GET", stockKey))
+
+-- 재고 키가 없는 경우 (기록하지 않음 - DB에서 적재 후 재시도)
+if not currentStock then
+    return -2
+end
+
+-- 재고 부족
+if currentStock < decreaseAmount then
+    redis.call("SET", reservationKey, -1, "EX", expireSeconds)
+    return -1
+end
+
+-- 재고 차감
+local remaining = redis.call("DECRBY", stockKey, decreaseAmount)
+
+-- 재고 원장 기록 (append-only, 아카이빙된 구간만 StockLedgerService가 MINID로 정리)
+redis.call("XADD", ledgerKey, "*",
+        "productId", string.match(stockKey, "(%d+)$"),
+        "op", "RESERVE",
+        "qty", -decreaseAmount,
+        "balance", remaining)
+
+-- 재고 변경 알림 (SSE 브로드캐스트용)
+redis.call("PUBLISH", "stock:changed", string.match(stockKey, "(%d+)$") .. ":" .. remaining)
+
+-- 예약 결과 기록
+redis.call("SET", reservationKey, remaining, "EX", expireSeconds)
+
+-- 남은 재고 반환
+return remaining
@@ -1,11 +1,23 @@
 -- 재고 복구 Lua Script
 -- KEYS[1] = stock key (예: product:stock:1)
+-- KEYS[2] = stock ledger stream key (예: stock:ledger)
 -- ARGV[1] = 복구할 수량
 
 local stockKey = KEYS[1]
+local ledgerKey = KEYS[2]
 local restoreAmount = tonumber(ARGV[1])
 
 -- 재고 증가 (키가 없으면 생성)
 local newStock = redis.call("INCRBY", stockKey, restoreAmount)
 
+-- 재고 원장 기록 (append-only, 아카이빙된 구간만 StockLedgerService가 MINID로 정리)
+redis.call("XADD", ledgerKey, "*",
+        "productId", string.match(stockKey, "(%d+)$"),
+        "op", "RESTORE",
+        "qty", restoreAmount,
+        "balance", newStock)
+
+-- 재고 변경 알림 (SSE 브로드캐스트용)
+redis.call("PUBLISH", "stock:changed", string.match(stockKey, "(%d+)$") .. ":" .. newStock)
+
 return newStock
@@ -0,0 +1,189 @@
+package com.minju.product.saga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.dlq.DeadLetterEvent;
+import com.minju.common.dlq.DeadLetterEventRepository;
+import com.minju.common.idempotency.ProcessedEventRepository;
+import com.minju.common.kafka.stock.StockReservationFailedEvent;
+import com.minju.common.kafka.stock.StockReservationRequestEvent;
+import com.minju.common.kafka.stock.StockReservedEvent;
+import com.minju.common.outbox.OutboxHeaders;
+import com.minju.product.outbox.OutboxEventPublisher;
+import com.minju.product.service.StockService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationTransactionalHandler 단위 테스트")
+class StockReservationTransactionalHandlerTest {
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private KafkaTemplate<String, Object> sagaTxKafkaTemplate;
+
+    @Mock
+    private DeadLetterEventRepository deadLetterEventRepository;
+
+    private StockReservationTransactionalHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new StockReservationTransactionalHandler(
+                stockService, sagaTxKafkaTemplate, deadLetterEventRepository, new ObjectMapper());
+    }
+
+    @Nested
+    @DisplayName("재고 예약 요청 처리")
+    class HandleStockReservationRequest {
+
+        @Test
+        @DisplayName("예약 성공 시 STOCK_RESERVED를 orderId 키로 트랜잭션 템플릿에 발행")
+        void reserved_SendsWithOrderIdKey() {
+            // given
+            given(stockService.reserveStockOnce("100", 1L, 5)).willReturn(true);
+
+            // when
+            handler.handleStockReservationRequest(request("100", "1", 5));
+
+            // then
+            ProducerRecord<String, Object> record = sentRecord();
+            assertThat(record.topic()).isEqualTo("stock-reserved-topic");
+            assertThat(record.key()).isEqualTo("100");
+            assertThat(record.value()).isInstanceOf(StockReservedEvent.class);
+            assertThat(OutboxHeaders.eventType(record.headers())).isEqualTo("STOCK_RESERVED");
+        }
+
+        @Test
+        @DisplayName("재고 부족 시 STOCK_RESERVATION_FAILED 발행")
+        void outOfStock_SendsFailed() {
+            // given
+            given(stockService.reserveStockOnce("100", 1L, 5)).willReturn(false);
+
+            // when
+            handler.handleStockReservationRequest(request("100", "1", 5));
+
+            // then
+            ProducerRecord<String, Object> record = sentRecord();
+            assertThat(record.topic()).isEqualTo("stock-reservation-failed-topic");
+            assertThat(record.value()).isInstanceOf(StockReservationFailedEvent.class);
+        }
+
+        @Test
+        @DisplayName("Redis 오류는 그대로 던져 트랜잭션을 롤백 (발행 없음)")
+        void redisFailure_Propagates() {
+            // given
+            given(stockService.reserveStockOnce("100", 1L, 5)).willThrow(new IllegalStateException("Lua Script 실행 실패"));
+
+            // when & then
+            assertThatThrownBy(() -> handler.handleStockReservationRequest(request("100", "1", 5)))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(sagaTxKafkaTemplate, never()).send(any(ProducerRecord.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도 소진 복구")
+    class Recover {
+
+        @Test
+        @DisplayName("DLQ에 orderId로 저장")
+        void savesToDeadLetterQueue() {
+            // given
+            ConsumerRecord<String, Object> record = new ConsumerRecord<>(
+                    "stock-reservation-requested-topic", 0, 10L, "1", request("100", "1", 5));
+
+            // when
+            handler.recover(record, new IllegalStateException("Redis 연결 실패"));
+
+            // then
+            ArgumentCaptor<DeadLetterEvent> captor = ArgumentCaptor.forClass(DeadLetterEvent.class);
+            verify(deadLetterEventRepository).save(captor.capture());
+            assertThat(captor.getValue().getAggregateId()).isEqualTo("100");
+            assertThat(captor.getValue().getOriginalTopic()).isEqualTo("stock-reservation-requested-topic");
+        }
+    }
+
+    @Nested
+    @DisplayName("메시지당 DB 접근 횟수 (Outbox 경로 vs Kafka 트랜잭션)")
+    class DeliveryRoundTrips {
+
+        private static final int MESSAGES = 100;
+
+        @Mock
+        private OutboxEventPublisher outboxPublisher;
+
+        @Mock
+        private ProcessedEventRepository processedEventRepository;
+
+        @Test
+        @DisplayName("Outbox 경로는 메시지당 처리 기록 조회·저장과 outbox INSERT, Kafka 트랜잭션 모드는 0회")
+        void transactionalMode_RemovesDeliveryRoundTrips() {
+            // given
+            StockSagaHandler outboxHandler = new StockSagaHandler(stockService, outboxPublisher,
+                    deadLetterEventRepository, processedEventRepository, new ObjectMapper());
+            given(processedEventRepository.existsById(anyString())).willReturn(false);
+            given(stockService.getAccurateStock(any())).willReturn(Integer.MAX_VALUE);
+            given(stockService.decreaseStockWithTransaction(any(), anyInt())).willReturn(true);
+            given(stockService.reserveStockOnce(anyString(), any(), anyInt())).willReturn(true);
+
+            // when
+            for (int i = 0; i < MESSAGES; i++) {
+                outboxHandler.handleStockReservationRequest(request(String.valueOf(i), "1", 1));
+            }
+            for (int i = 0; i < MESSAGES; i++) {
+                handler.handleStockReservationRequest(request(String.valueOf(i), "1", 1));
+            }
+
+            // then - Outbox 경로: 메시지당 existsById + processed_event INSERT + outbox INSERT
+            verify(processedEventRepository, times(MESSAGES)).existsById(anyString());
+            verify(processedEventRepository, times(MESSAGES)).save(any());
+            assertThat(invocations(outboxPublisher)).isEqualTo(MESSAGES);
+
+            // then - Kafka 트랜잭션 모드: DB 접근 없이 메시지당 트랜잭션 전송 1회
+            assertThat(invocations(sagaTxKafkaTemplate)).isEqualTo(MESSAGES);
+            assertThat(invocations(deadLetterEventRepository)).isZero();
+        }
+
+        private int invocations(Object mock) {
+            return mockingDetails(mock).getInvocations().size();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, Object> sentRecord() {
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(sagaTxKafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private StockReservationRequestEvent request(String orderId, String productId, int quantity) {
+        return StockReservationRequestEvent.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .quantity(quantity)
+                .status("STOCK_RESERVATION_REQUESTED")
+                .build();
+    }
+}
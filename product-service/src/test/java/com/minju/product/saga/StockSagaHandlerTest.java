@@ -71,6 +71,7 @@ class StockSagaHandlerTest {
                     eq("1"),
                     eq("STOCK_RESERVED"),
                     eq("stock-reserved-topic"),
+                    eq("1"),
                     any()
             );
         }
@@ -98,6 +99,7 @@ class StockSagaHandlerTest {
                     eq("1"),
                     eq("STOCK_RESERVATION_FAILED"),
                     eq("stock-reservation-failed-topic"),
+                    eq("1"),
                     any()
             );
         }
@@ -126,6 +128,7 @@ class StockSagaHandlerTest {
                     eq("1"),
                     eq("STOCK_RESERVATION_FAILED"),
                     eq("stock-reservation-failed-topic"),
+                    eq("1"),
                     any()
             );
         }
@@ -148,6 +151,7 @@ class StockSagaHandlerTest {
             // then
             verify(stockService, never()).getAccurateStock(anyLong());
             verify(outboxPublisher, never()).saveEvent(any(), any(), any(), any(), any());
+            verify(outboxPublisher, never()).saveEvent(any(), any(), any(), any(), any(), any());
         }
     }
 
@@ -242,6 +246,7 @@ class StockSagaHandlerTest {
                     eq("1"),
                     eq("STOCK_RESERVATION_FAILED"),
                     eq("stock-reservation-failed-topic"),
+                    eq("1"),
                     any()
             );
         }
@@ -0,0 +1,230 @@
+package com.minju.product.service;
+
+import com.minju.product.entity.StockHandoff;
+import com.minju.product.repository.ProductRepository;
+import com.minju.product.repository.StockHandoffRepository;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DegradedStockCoordinator 테스트")
+class DegradedStockCoordinatorTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockHandoffRepository stockHandoffRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private DegradedStockCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        coordinator = new DegradedStockCoordinator(
+                productRepository,
+                stockHandoffRepository,
+                transactionManager,
+                stockLedgerService,
+                BulkheadRegistry.ofDefaults(),
+                circuitBreakerRegistry
+        );
+    }
+
+    @Nested
+    @DisplayName("DB 재고 차감")
+    class Decrease {
+
+        @Test
+        @DisplayName("처리 중에 쌓인 동시 요청은 합산해 UPDATE 1회로 처리")
+        void decrease_CoalescesConcurrentRequests() throws Exception {
+            // given
+            CountDownLatch firstUpdateStarted = new CountDownLatch(1);
+            CountDownLatch releaseFirstUpdate = new CountDownLatch(1);
+            given(productRepository.decreaseStockIfAvailable(eq(1L), anyInt())).willAnswer(invocation -> {
+                if (firstUpdateStarted.getCount() > 0) {
+                    firstUpdateStarted.countDown();
+                    releaseFirstUpdate.await(5, TimeUnit.SECONDS);
+                }
+                return 1;
+            });
+
+            AtomicInteger successCount = new AtomicInteger();
+            Thread leader = new Thread(() -> {
+                if (coordinator.decrease(1L, 1)) successCount.incrementAndGet();
+            });
+            leader.start();
+            assertThat(firstUpdateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Thread> followers = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Thread follower = new Thread(() -> {
+                    if (coordinator.decrease(1L, 2)) successCount.incrementAndGet();
+                });
+                followers.add(follower);
+                follower.start();
+            }
+            await().atMost(Duration.ofSeconds(5)).until(() ->
+                    followers.stream().allMatch(t -> t.getState() == Thread.State.WAITING));
+
+            // when
+            releaseFirstUpdate.countDown();
+            leader.join(5000);
+            for (Thread follower : followers) {
+                follower.join(5000);
+            }
+
+            // then
+            assertThat(successCount.get()).isEqualTo(6);
+            verify(productRepository).decreaseStockIfAvailable(1L, 1);
+            verify(productRepository).decreaseStockIfAvailable(1L, 10);
+            verifyNoMoreInteractions(productRepository);
+            verify(stockHandoffRepository).addPending(1L, 1);
+            verify(stockHandoffRepository).addPending(1L, 10);
+        }
+
+        @Test
+        @DisplayName("재고 부족 시 false 반환, Redis 반영 대상에서 제외")
+        void decrease_InsufficientStock() {
+            // given
+            given(productRepository.decreaseStockIfAvailable(1L, 5)).willReturn(0);
+
+            // when
+            boolean result = coordinator.decrease(1L, 5);
+
+            // then
+            assertThat(result).isFalse();
+            verify(stockHandoffRepository, never()).addPending(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("호출자 트랜잭션에 합류하지 않고 배치마다 새 트랜잭션으로 커밋")
+        void decrease_CommitsInOwnTransaction() {
+            // given
+            given(productRepository.decreaseStockIfAvailable(1L, 1)).willReturn(1);
+
+            // when
+            coordinator.decrease(1L, 1);
+
+            // then
+            verify(transactionManager).getTransaction(argThat(definition ->
+                    definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+            verify(transactionManager).commit(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis로 재고 권한 반환")
+    class HandBack {
+
+        @Test
+        @DisplayName("DB에서 차감한 수량을 Redis에 반영하고 같은 순번으로 완료 기록")
+        void handBackToRedis_AppliesDegradedDelta() {
+            // given
+            given(stockHandoffRepository.findByQuantityGreaterThan(0)).willReturn(List.of(new StockHandoff(1L, 3, 5L)));
+            given(stockLedgerService.applyDelta(1L, -3, 5L)).willReturn(-3L);
+
+            // when
+            coordinator.handBackToRedis();
+
+            // then
+            verify(stockHandoffRepository).completeHandoff(1L, 3, 5L);
+        }
+
+        @Test
+        @DisplayName("이미 반영된 순번이면 그때 반영한 수량만 완료 처리 (이후 차감분은 다음 순번으로)")
+        void handBackToRedis_CompletesPreviouslyAppliedSeq() {
+            // given - seq 5에서 2개 반영 후 완료 기록 전에 중단, 그 사이 DB 차감 3개 추가
+            given(stockHandoffRepository.findByQuantityGreaterThan(0)).willReturn(List.of(new StockHandoff(1L, 5, 5L)));
+            given(stockLedgerService.applyDelta(1L, -5, 5L)).willReturn(-2L);
+
+            // when
+            coordinator.handBackToRedis();
+
+            // then
+            verify(stockHandoffRepository).completeHandoff(1L, 2, 5L);
+        }
+
+        @Test
+        @DisplayName("Redis 반영 실패 시 차감분을 stock_handoff에 유지")
+        void handBackToRedis_KeepsDeltaOnFailure() {
+            // given
+            given(stockHandoffRepository.findByQuantityGreaterThan(0)).willReturn(List.of(new StockHandoff(1L, 3, 5L)));
+            given(stockLedgerService.applyDelta(1L, -3, 5L)).willThrow(new RuntimeException("Redis 연결 실패"));
+
+            // when
+            coordinator.handBackToRedis();
+
+            // then
+            verify(stockHandoffRepository, never()).completeHandoff(anyLong(), anyInt(), anyLong());
+        }
+
+        @Test
+        @DisplayName("주기 작업은 Circuit이 CLOSED일 때만 반환 (재시작 후 남은 차감분 처리)")
+        void retryHandBack_OnlyWhenClosed() {
+            // given
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("redis-operation");
+            circuitBreaker.transitionToOpenState();
+
+            // when & then - OPEN
+            coordinator.retryHandBack();
+            verify(stockHandoffRepository, never()).findByQuantityGreaterThan(anyInt());
+
+            // when & then - 재시작 직후처럼 CLOSED 상태
+            new DegradedStockCoordinator(productRepository, stockHandoffRepository, transactionManager,
+                    stockLedgerService, BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults()).retryHandBack();
+            verify(stockHandoffRepository).findByQuantityGreaterThan(0);
+        }
+
+        @Test
+        @DisplayName("redis-operation Circuit이 CLOSED로 전환되면 자동 반환")
+        void circuitClosed_TriggersHandBack() {
+            // given
+            given(stockHandoffRepository.findByQuantityGreaterThan(0)).willReturn(List.of(new StockHandoff(1L, 4, 0L)));
+            given(stockLedgerService.applyDelta(1L, -4, 0L)).willReturn(-4L);
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("redis-operation");
+            circuitBreaker.transitionToOpenState();
+
+            // when
+            circuitBreaker.transitionToHalfOpenState();
+            circuitBreaker.transitionToClosedState();
+
+            // then
+            verify(stockHandoffRepository, timeout(2000)).completeHandoff(1L, 4, 0L);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.minju.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.exception.BusinessException;
+import com.minju.product.entity.Product;
+import com.minju.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlashSaleCatalogService 테스트")
+class FlashSaleCatalogServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FlashSaleCatalogService catalogService;
+
+    private final Product product = new Product(1L, "플래시세일 상품", "설명", 10000, 100, true, "10:00");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogService = new FlashSaleCatalogService(
+                productRepository, stringRedisTemplate, new ObjectMapper().findAndRegisterModules(), meterRegistry, 5000L);
+    }
+
+    @Nested
+    @DisplayName("스냅샷 재구성")
+    class Refresh {
+
+        @Test
+        @DisplayName("내용이 같으면 ETag를 유지하고 직렬화된 본문을 재사용")
+        void refresh_SameContent_ReusesBody() {
+            // given
+            given(productRepository.findByFlashSaleTrueOrderByIdAsc()).willReturn(List.of(product));
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(anyList())).willReturn(List.of("50"));
+
+            // when
+            catalogService.refresh();
+            FlashSaleCatalogService.CatalogSnapshot first = catalogService.getSnapshot();
+            catalogService.refresh();
+            FlashSaleCatalogService.CatalogSnapshot second = catalogService.getSnapshot();
+
+            // then
+            assertThat(second.getEtag()).isEqualTo(first.getEtag());
+            assertThat(second.getBody()).isSameAs(first.getBody());
+            assertThat(second.getProductCount()).isEqualTo(1);
+            assertThat(new String(first.getBody())).contains("\"stock\":50");
+        }
+
+        @Test
+        @DisplayName("재고가 바뀌면 새 ETag 발급")
+        void refresh_StockChanged_NewEtag() {
+            // given
+            given(productRepository.findByFlashSaleTrueOrderByIdAsc()).willReturn(List.of(product));
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(anyList())).willReturn(List.of("50"), List.of("49"));
+
+            // when
+            catalogService.refresh();
+            String before = catalogService.getSnapshot().getEtag();
+            catalogService.refresh();
+            String after = catalogService.getSnapshot().getEtag();
+
+            // then
+            assertThat(after).isNotEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("Redis에 재고가 없으면 DB 재고 사용")
+        void refresh_MissingRedisStock_UsesDbStock() {
+            // given
+            given(productRepository.findByFlashSaleTrueOrderByIdAsc()).willReturn(List.of(product));
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList((String) null));
+
+            // when
+            catalogService.refresh();
+
+            // then
+            assertThat(new String(catalogService.getSnapshot().getBody())).contains("\"stock\":100");
+            verify(valueOperations, times(1)).multiGet(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 조회")
+    class GetSnapshot {
+
+        @Test
+        @DisplayName("스냅샷이 없고 재구성도 실패하면 503 예외")
+        void getSnapshot_RefreshFails_ThrowsServiceUnavailable() {
+            // given
+            given(productRepository.findByFlashSaleTrueOrderByIdAsc()).willThrow(new RuntimeException("DB 장애"));
+
+            // when & then
+            assertThatThrownBy(() -> catalogService.getSnapshot())
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("오래된 스냅샷이라도 다른 스레드가 재구성 중이면 503 대신 기존 스냅샷 제공")
+        void getSnapshot_RefreshInProgress_ServesExisting() throws Exception {
+            // given
+            FlashSaleCatalogService service = new FlashSaleCatalogService(
+                    productRepository, stringRedisTemplate, new ObjectMapper().findAndRegisterModules(), meterRegistry, 50L);
+            CountDownLatch refreshing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            given(productRepository.findByFlashSaleTrueOrderByIdAsc()).willAnswer(invocation -> {
+                if (calls.incrementAndGet() > 1) {
+                    refreshing.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                return List.of();
+            });
+            service.refresh();
+            FlashSaleCatalogService.CatalogSnapshot existing = service.getSnapshot();
+            await().atMost(Duration.ofSeconds(2)).until(() -> existing.ageMs() > 50);
+
+            Thread scheduler = new Thread(service::refresh);
+            scheduler.start();
+            assertThat(refreshing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            FlashSaleCatalogService.CatalogSnapshot served = service.getSnapshot();
+
+            // then
+            assertThat(served).isSameAs(existing);
+            release.countDown();
+            scheduler.join(5000);
+        }
+
+        @Test
+        @DisplayName("스냅샷 경과 시간 게이지 등록")
+        void snapshotAgeGauge_Registered() {
+            // given
+            given(productRepository.findByFlashSaleTrueOrderByIdAsc()).willReturn(List.of());
+
+            // when
+            catalogService.refresh();
+
+            // then
+            double age = meterRegistry.get("flash_sale.catalog.snapshot.age").gauge().value();
+            assertThat(age).isBetween(0.0, 5.0);
+        }
+    }
+}
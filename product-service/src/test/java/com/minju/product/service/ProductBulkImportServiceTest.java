@@ -0,0 +1,224 @@
+package com.minju.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minju.common.exception.BusinessException;
+import com.minju.product.dto.BulkImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 상품 대량 등록 테스트 (H2 + Redis Mock)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductBulkImportService 테스트")
+class ProductBulkImportServiceTest {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private EmbeddedDatabase dataSource;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private ProductBulkImportService bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = spy(new NamedParameterJdbcTemplate(dataSource));
+        jdbcTemplate.getJdbcTemplate().execute("""
+                CREATE TABLE product (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    title VARCHAR(255),
+                    description VARCHAR(255),
+                    price INT NOT NULL,
+                    stock INT NOT NULL,
+                    flash_sale BOOLEAN NOT NULL,
+                    flash_sale_start_time VARCHAR(255),
+                    created_at VARCHAR(255),
+                    updated_at VARCHAR(255)
+                )""");
+        bulkImportService = new ProductBulkImportService(jdbcTemplate, stringRedisTemplate, new ObjectMapper(), CHUNK_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Nested
+    @DisplayName("JSON 대량 등록")
+    class ImportJson {
+
+        @Test
+        @DisplayName("2만 건을 chunk당 배치 INSERT 1회 + Redis 파이프라인 1회로 등록")
+        void importJson_OneRoundTripPerChunk() {
+            // given
+            int rows = 20_000;
+            StringBuilder json = new StringBuilder("[");
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) json.append(',');
+                json.append("{\"title\":\"상품").append(i)
+                        .append("\",\"description\":\"시즌 상품\",\"price\":").append(1000 + i)
+                        .append(",\"stock\":").append(i % 100).append('}');
+            }
+            json.append(']');
+
+            // when
+            BulkImportResult result = bulkImportService.importJson(stream(json.toString()), null);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo("COMPLETED");
+            assertThat(result.getImportedRows()).isEqualTo(rows);
+            assertThat(result.getFailedRows()).isZero();
+            assertThat(countProducts()).isEqualTo(rows);
+            // DB/Redis 왕복은 행 수가 아니라 chunk 수에 비례
+            ArgumentCaptor<SqlParameterSource[]> batches = ArgumentCaptor.forClass(SqlParameterSource[].class);
+            verify(jdbcTemplate, times(rows / CHUNK_SIZE))
+                    .batchUpdate(anyString(), batches.capture(), any(KeyHolder.class), any(String[].class));
+            assertThat(batches.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSize(CHUNK_SIZE));
+            verify(stringRedisTemplate, times(rows / CHUNK_SIZE)).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 행은 행 번호와 함께 오류로 보고하고 나머지는 등록")
+        void importJson_ReportsRowErrors() {
+            // given
+            String json = """
+                    [
+                      {"title": "정상 상품", "price": 1000, "stock": 10},
+                      {"title": "", "price": 1000, "stock": 10},
+                      {"title": "음수 재고", "price": 1000, "stock": -1},
+                      {"title": "정상 상품2", "price": 2000, "stock": 5}
+                    ]""";
+
+            // when
+            BulkImportResult result = bulkImportService.importJson(stream(json), "import-1");
+
+            // then
+            assertThat(result.getTotalRows()).isEqualTo(4);
+            assertThat(result.getImportedRows()).isEqualTo(2);
+            assertThat(result.getFailedRows()).isEqualTo(2);
+            assertThat(result.getErrors()).extracting(BulkImportResult.RowError::getRow).containsExactly(2L, 3L);
+            assertThat(bulkImportService.getProgress("import-1")).isSameAs(result);
+        }
+
+        @Test
+        @DisplayName("중간 행의 필드 타입이 잘못돼도 해당 행만 실패하고 이후 행은 계속 등록")
+        void importJson_BadRowInMiddle() {
+            // given
+            String json = """
+                    [
+                      {"title": "정상 상품", "price": 1000, "stock": 10},
+                      {"title": "가격 오류", "price": "abc", "stock": 10, "description": "뒤에 남은 필드"},
+                      {"title": "중첩 오류", "price": {"amount": 1000}, "stock": 3},
+                      {"title": "정상 상품2", "price": 2000, "stock": 5},
+                      {"title": "정상 상품3", "price": 3000, "stock": 7}
+                    ]""";
+
+            // when
+            BulkImportResult result = bulkImportService.importJson(stream(json), null);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo("COMPLETED");
+            assertThat(result.getTotalRows()).isEqualTo(5);
+            assertThat(result.getImportedRows()).isEqualTo(3);
+            assertThat(result.getErrors()).extracting(BulkImportResult.RowError::getRow).containsExactly(2L, 3L);
+            assertThat(countProducts()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("JSON 문법 오류는 이후 행을 알 수 없으므로 FAILED")
+        void importJson_SyntaxErrorFails() {
+            // given
+            String json = "[{\"title\": \"정상 상품\", \"price\": 1000, \"stock\": 10}, {\"title\": ";
+
+            // when & then
+            assertThatThrownBy(() -> bulkImportService.importJson(stream(json), "import-broken"))
+                    .isInstanceOf(BusinessException.class);
+            assertThat(bulkImportService.getProgress("import-broken").getStatus()).isEqualTo("FAILED");
+        }
+
+        @Test
+        @DisplayName("JSON 배열이 아니면 예외")
+        void importJson_NotArray() {
+            assertThatThrownBy(() -> bulkImportService.importJson(stream("{\"title\":\"x\"}"), null))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV 대량 등록")
+    class ImportCsv {
+
+        @Test
+        @DisplayName("따옴표 필드를 포함한 CSV를 등록하고 형식 오류 행은 건너뜀")
+        void importCsv_Success() {
+            // given
+            String csv = """
+                    title,description,price,stock,flashSale,flashSaleStartTime
+                    "쉼표, 포함 상품","설명 \"\"인용\"\"",1500,30,true,10:00
+                    일반 상품,,2000,5,false,
+                    가격 오류,설명,abc,5,false,
+                    """;
+
+            // when
+            BulkImportResult result = bulkImportService.importCsv(stream(csv), null);
+
+            // then
+            assertThat(result.getImportedRows()).isEqualTo(2);
+            assertThat(result.getFailedRows()).isEqualTo(1);
+            Map<String, Object> first = jdbcTemplate.getJdbcTemplate()
+                    .queryForMap("SELECT title, description, flash_sale FROM product ORDER BY id LIMIT 1");
+            assertThat(first.get("TITLE")).isEqualTo("쉼표, 포함 상품");
+            assertThat(first.get("DESCRIPTION")).isEqualTo("설명 \"인용\"");
+            assertThat(first.get("FLASH_SALE")).isEqualTo(true);
+        }
+
+        @Test
+        @DisplayName("헤더가 다르면 예외")
+        void importCsv_InvalidHeader() {
+            assertThatThrownBy(() -> bulkImportService.importCsv(stream("name,price\n상품,1000\n"), null))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long countProducts() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM product", Long.class);
+    }
+}
@@ -0,0 +1,154 @@
+package com.minju.product.service;
+
+import com.minju.common.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockBroadcastHub 테스트")
+class StockBroadcastHubTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private StockBroadcastHub hub;
+
+    @BeforeEach
+    void setUp() {
+        // flush는 테스트에서 직접 호출 (자동 flush 주기는 길게)
+        hub = new StockBroadcastHub(stringRedisTemplate, 1, 2, 60_000L, 3) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        hub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Nested
+    @DisplayName("구독")
+    class Subscribe {
+
+        @Test
+        @DisplayName("구독 직후 현재 재고를 MGET 1회로 조회해 전송")
+        void subscribe_SendsInitialStock() {
+            // given
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(anyList())).willReturn(List.of("10", "20"));
+
+            // when
+            hub.subscribe(Set.of(1L, 2L));
+
+            // then
+            await().atMost(Duration.ofSeconds(2)).until(() -> emitters.get(0).sent.size() == 1);
+            assertThat(hub.getSubscriberCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("구독 상품 수 제한 초과 시 예외")
+        void subscribe_TooManyProducts() {
+            assertThatThrownBy(() -> hub.subscribe(Set.of(1L, 2L, 3L, 4L)))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("브로드캐스트")
+    class Broadcast {
+
+        @Test
+        @DisplayName("flush 주기 안의 여러 변경은 최신 값 1건으로 합쳐서 전송")
+        void flush_CoalescesChangesPerProduct() {
+            // given
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList((String) null));
+            hub.subscribe(Set.of(1L));
+            RecordingEmitter emitter = emitters.get(0);
+
+            hub.onMessage(message("1:9"), null);
+            hub.onMessage(message("1:8"), null);
+            hub.onMessage(message("1:7"), null);
+            hub.onMessage(message("2:100"), null);  // 구독자 없는 상품
+
+            // when
+            hub.flush();
+
+            // then
+            await().atMost(Duration.ofSeconds(2)).until(() -> emitter.sent.size() == 1);
+            hub.flush();
+            assertThat(emitter.sent).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("연결 종료된 구독자는 정리")
+        void completedSubscriber_IsRemoved() {
+            // given
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList((String) null));
+            hub.subscribe(Set.of(1L));
+            RecordingEmitter emitter = emitters.get(0);
+            emitter.failOnSend = true;
+
+            // when
+            hub.onMessage(message("1:5"), null);
+            hub.flush();
+
+            // then
+            await().atMost(Duration.ofSeconds(2)).until(() -> hub.getSubscriberCount() == 0);
+        }
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                StockBroadcastHub.STOCK_CHANGED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean failOnSend;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failOnSend) {
+                throw new IOException("연결 종료");
+            }
+            sent.add(builder);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.minju.product.service;
+
+import com.minju.product.entity.StockLedgerEntry;
+import com.minju.product.entity.StockLedgerOperation;
+import com.minju.product.entity.StockLedgerSnapshot;
+import com.minju.product.repository.StockLedgerEntryRepository;
+import com.minju.product.repository.StockLedgerSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLedgerService 테스트")
+class StockLedgerServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StockLedgerEntryRepository entryRepository;
+
+    @Mock
+    private StockLedgerSnapshotRepository snapshotRepository;
+
+    @Mock
+    private RedisScript<Long> adjustStockScript;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @InjectMocks
+    private StockLedgerService stockLedgerService;
+
+    @BeforeEach
+    void setUp() {
+        given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+    }
+
+    @Nested
+    @DisplayName("재고 재구성")
+    class Rebuild {
+
+        @Test
+        @DisplayName("스냅샷 이후 원장과 Stream tail의 마지막 잔량으로 재구성")
+        void rebuild_FromSnapshotAndTail() {
+            // given
+            given(snapshotRepository.findAll()).willReturn(List.of(
+                    new StockLedgerSnapshot(1L, 100, 1000L, 0L),
+                    new StockLedgerSnapshot(2L, 50, 1000L, 0L)
+            ));
+            given(entryRepository.findAfter(eq(1000L), eq(0L), any(Pageable.class))).willReturn(List.of(
+                    new StockLedgerEntry("1001-0", 1L, StockLedgerOperation.RESERVE, -3, 97),
+                    new StockLedgerEntry("1002-0", 1L, StockLedgerOperation.RESTORE, 1, 98)
+            ));
+            given(streamOperations.range(eq(StockLedgerService.LEDGER_KEY), any(Range.class), any(Limit.class)))
+                    .willReturn(List.of(record("1003-0", 2L, "RESERVE", -5, 45)));
+
+            // when
+            Map<Long, Integer> result = stockLedgerService.rebuild(false);
+
+            // then
+            assertThat(result).containsEntry(1L, 98).containsEntry(2L, 45);
+            verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        }
+
+        @Test
+        @DisplayName("이미 아카이빙된 위치의 Stream 레코드는 중복 반영하지 않음")
+        void rebuild_IgnoresAlreadyArchivedRecords() {
+            // given
+            given(snapshotRepository.findAll()).willReturn(Collections.emptyList());
+            given(entryRepository.findAfter(eq(-1L), eq(-1L), any(Pageable.class))).willReturn(List.of(
+                    new StockLedgerEntry("2000-1", 1L, StockLedgerOperation.ADJUST, 10, 10)
+            ));
+            given(streamOperations.range(eq(StockLedgerService.LEDGER_KEY), any(Range.class), any(Limit.class)))
+                    .willReturn(List.of(record("2000-0", 1L, "ADJUST", 999, 999)));
+
+            // when
+            Map<Long, Integer> result = stockLedgerService.rebuild(false);
+
+            // then
+            assertThat(result).containsEntry(1L, 10);
+        }
+
+        @Test
+        @DisplayName("apply=true면 재구성한 재고를 ADJUST 스크립트로 Redis에 반영")
+        void rebuild_ApplyToRedis() {
+            // given
+            given(snapshotRepository.findAll()).willReturn(List.of(new StockLedgerSnapshot(1L, 7, 1000L, 0L)));
+            given(entryRepository.findAfter(anyLong(), anyLong(), any(Pageable.class))).willReturn(Collections.emptyList());
+            given(streamOperations.range(eq(StockLedgerService.LEDGER_KEY), any(Range.class), any(Limit.class)))
+                    .willReturn(Collections.emptyList());
+            given(stringRedisTemplate.execute(eq(adjustStockScript), anyList(), any())).willReturn(7L);
+
+            // when
+            stockLedgerService.rebuild(true);
+
+            // then
+            verify(stringRedisTemplate).execute(
+                    eq(adjustStockScript),
+                    eq(List.of("product:stock:1", StockLedgerService.LEDGER_KEY)),
+                    eq("7")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("원장 아카이빙")
+    class Archive {
+
+        @Test
+        @DisplayName("마지막 아카이빙 위치 이후의 Stream 레코드를 배치 저장")
+        void archiveLedger_SavesNewRecords() {
+            // given
+            given(entryRepository.findTopByOrderByLedgerMsDescLedgerSeqDesc()).willReturn(java.util.Optional.empty());
+            given(streamOperations.range(eq(StockLedgerService.LEDGER_KEY), any(Range.class), any(Limit.class)))
+                    .willReturn(List.of(
+                            record("3000-0", 1L, "RESERVE", -1, 9),
+                            record("3000-1", 1L, "RESERVE", -2, 7)
+                    ));
+
+            // when
+            stockLedgerService.archiveLedger();
+
+            // then
+            verify(entryRepository).saveAll(argThat(entries -> {
+                List<StockLedgerEntry> list = (List<StockLedgerEntry>) entries;
+                return list.size() == 2 && list.get(1).getBalance() == 7;
+            }));
+        }
+
+        @Test
+        @DisplayName("아카이빙한 마지막 위치를 MINID로 Stream 정리")
+        void archiveLedger_TrimsUpToArchivedCursor() {
+            // given
+            given(entryRepository.findTopByOrderByLedgerMsDescLedgerSeqDesc()).willReturn(java.util.Optional.empty());
+            given(streamOperations.range(eq(StockLedgerService.LEDGER_KEY), any(Range.class), any(Limit.class)))
+                    .willReturn(List.of(record("3000-0", 1L, "RESERVE", -1, 9), record("3000-1", 1L, "RESERVE", -2, 7)));
+            RedisConnection connection = mock(RedisConnection.class);
+
+            // when
+            stockLedgerService.archiveLedger();
+
+            // then
+            ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+            verify(stringRedisTemplate).execute(callback.capture());
+            callback.getValue().doInRedis(connection);
+            verify(connection).execute(eq("XTRIM"), eq(StockLedgerService.LEDGER_KEY.getBytes(StandardCharsets.UTF_8)),
+                    eq("MINID".getBytes(StandardCharsets.UTF_8)), eq("3000-1".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Test
+        @DisplayName("새로 아카이빙한 레코드가 없으면 Stream을 건드리지 않음")
+        void archiveLedger_NoTrimWithoutProgress() {
+            // given
+            given(entryRepository.findTopByOrderByLedgerMsDescLedgerSeqDesc()).willReturn(java.util.Optional.empty());
+            given(streamOperations.range(eq(StockLedgerService.LEDGER_KEY), any(Range.class), any(Limit.class)))
+                    .willReturn(Collections.emptyList());
+
+            // when
+            stockLedgerService.archiveLedger();
+
+            // then
+            verify(stringRedisTemplate, never()).execute(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("저장이 실패하면 Stream을 정리하지 않음")
+        void archiveLedger_NoTrimOnFailure() {
+            // given
+            given(entryRepository.findTopByOrderByLedgerMsDescLedgerSeqDesc()).willReturn(java.util.Optional.empty());
+            given(streamOperations.range(eq(StockLedgerService.LEDGER_KEY), any(Range.class), any(Limit.class)))
+                    .willReturn(List.of(record("3000-0", 1L, "RESERVE", -1, 9)));
+            given(entryRepository.saveAll(anyList())).willThrow(new IllegalStateException("DB 장애"));
+
+            // when
+            stockLedgerService.archiveLedger();
+
+            // then
+            verify(stringRedisTemplate, never()).execute(any(RedisCallback.class));
+        }
+    }
+
+    private MapRecord<String, Object, Object> record(String id, Long productId, String op, int qty, int balance) {
+        return StreamRecords.<String, Object, Object>mapBacked(Map.of(
+                        "productId", String.valueOf(productId),
+                        "op", op,
+                        "qty", String.valueOf(qty),
+                        "balance", String.valueOf(balance)))
+                .withStreamKey(StockLedgerService.LEDGER_KEY)
+                .withId(RecordId.of(id));
+    }
+}
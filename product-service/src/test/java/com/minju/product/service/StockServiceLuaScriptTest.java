@@ -13,7 +13,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.script.RedisScript;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +36,9 @@ class StockServiceLuaScriptTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private DegradedStockCoordinator degradedStockCoordinator;
+
     @Mock
     private RedisScript<Long> decreaseStockScript;
 
@@ -46,6 +48,9 @@ class StockServiceLuaScriptTest {
     @Mock
     private RedisScript<Long> decreaseStockWithRateLimitScript;
 
+    @Mock
+    private RedisScript<Long> reserveStockOnceScript;
+
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
@@ -53,15 +58,18 @@ class StockServiceLuaScriptTest {
 
     private static final String STOCK_KEY_PREFIX = "product:stock:";
     private static final String RATE_LIMIT_KEY_PREFIX = "rate:";
+    private static final String STOCK_LEDGER_KEY = "stock:ledger";
 
     @BeforeEach
     void setUp() {
         stockService = new StockService(
                 redisTemplate,
                 productRepository,
+                degradedStockCoordinator,
                 decreaseStockScript,
                 restoreStockScript,
-                decreaseStockWithRateLimitScript
+                decreaseStockWithRateLimitScript,
+                reserveStockOnceScript
         );
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
@@ -81,7 +89,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             )).willReturn(95L);  // 100 - 5 = 95
 
@@ -92,7 +100,7 @@ class StockServiceLuaScriptTest {
             assertThat(result).isTrue();
             verify(redisTemplate).execute(
                     eq(decreaseStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             );
         }
@@ -108,7 +116,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             )).willReturn(-1L);  // 재고 부족
 
@@ -147,7 +155,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             )).willReturn(null);
 
@@ -174,7 +182,7 @@ class StockServiceLuaScriptTest {
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
             given(redisTemplate.execute(
                     eq(decreaseStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             )).willReturn(95L);
 
@@ -188,6 +196,67 @@ class StockServiceLuaScriptTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 단위 1회 재고 예약 테스트 (Kafka 트랜잭션 모드)")
+    class ReserveStockOnceTest {
+
+        @Test
+        @DisplayName("주문·상품별 예약 키와 함께 Lua Script 실행, 남은 재고가 있으면 성공")
+        void reserveStockOnce_success() {
+            // given
+            Long productId = 1L;
+            String stockKey = STOCK_KEY_PREFIX + productId;
+
+            given(valueOperations.get(stockKey)).willReturn(100);
+            given(redisTemplate.execute(
+                    eq(reserveStockOnceScript),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY, "stock:reservation:100:1")),
+                    eq("5"),
+                    anyString()
+            )).willReturn(95L);
+
+            // when
+            boolean result = stockService.reserveStockOnce("100", productId, 5);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("재고 부족(-1)이면 실패")
+        void reserveStockOnce_outOfStock() {
+            // given
+            Long productId = 1L;
+            String stockKey = STOCK_KEY_PREFIX + productId;
+
+            given(valueOperations.get(stockKey)).willReturn(3);
+            given(redisTemplate.execute(eq(reserveStockOnceScript), anyList(), eq("5"), anyString()))
+                    .willReturn(-1L);
+
+            // when
+            boolean result = stockService.reserveStockOnce("100", productId, 5);
+
+            // then
+            assertThat(result).isFalse();
+        }
+
+        @Test
+        @DisplayName("Lua Script 결과가 null이면 예외 (Kafka 트랜잭션 롤백 후 재시도)")
+        void reserveStockOnce_nullResult_Throws() {
+            // given
+            Long productId = 1L;
+            String stockKey = STOCK_KEY_PREFIX + productId;
+
+            given(valueOperations.get(stockKey)).willReturn(100);
+            given(redisTemplate.execute(eq(reserveStockOnceScript), anyList(), eq("5"), anyString()))
+                    .willReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> stockService.reserveStockOnce("100", productId, 5))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Rate Limit 포함 재고 차감 테스트")
     class DecreaseStockWithRateLimitTest {
@@ -205,7 +274,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockWithRateLimitScript),
-                    eq(List.of(stockKey, rateLimitKey)),
+                    eq(List.of(stockKey, rateLimitKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity)),
                     eq(String.valueOf(5)),  // DEFAULT_RATE_LIMIT
                     eq(String.valueOf(60))  // RATE_LIMIT_EXPIRE_SECONDS
@@ -231,7 +300,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockWithRateLimitScript),
-                    eq(List.of(stockKey, rateLimitKey)),
+                    eq(List.of(stockKey, rateLimitKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity)),
                     eq(String.valueOf(5)),
                     eq(String.valueOf(60))
@@ -256,7 +325,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockWithRateLimitScript),
-                    eq(List.of(stockKey, rateLimitKey)),
+                    eq(List.of(stockKey, rateLimitKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity)),
                     eq(String.valueOf(5)),
                     eq(String.valueOf(60))
@@ -282,7 +351,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockWithRateLimitScript),
-                    eq(List.of(stockKey, rateLimitKey)),
+                    eq(List.of(stockKey, rateLimitKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity)),
                     eq(String.valueOf(5)),
                     eq(String.valueOf(60))
@@ -308,17 +377,13 @@ class StockServiceLuaScriptTest {
             int quantity = 10;
             String stockKey = STOCK_KEY_PREFIX + productId;
 
-            Product product = new Product();
-            product.setId(productId);
-            product.setStock(90);
-
             given(redisTemplate.execute(
                     eq(restoreStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             )).willReturn(100L);  // 90 + 10 = 100
 
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.increaseStock(productId, quantity)).willReturn(1);
 
             // when
             stockService.restoreStock(productId, quantity);
@@ -326,11 +391,10 @@ class StockServiceLuaScriptTest {
             // then
             verify(redisTemplate).execute(
                     eq(restoreStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             );
-            verify(productRepository).save(product);
-            assertThat(product.getStock()).isEqualTo(100);  // 90 + 10
+            verify(productRepository).increaseStock(productId, quantity);
         }
 
         @Test
@@ -341,24 +405,20 @@ class StockServiceLuaScriptTest {
             int quantity = 10;
             String stockKey = STOCK_KEY_PREFIX + productId;
 
-            Product product = new Product();
-            product.setId(productId);
-            product.setStock(90);
-
             given(redisTemplate.execute(
                     eq(restoreStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             )).willReturn(100L);
 
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.increaseStock(productId, quantity)).willReturn(1);
 
             // when
             stockService.restoreStock(productId, quantity);
 
             // then
-            verify(productRepository).findById(productId);
-            verify(productRepository).save(product);
+            verify(productRepository).increaseStock(productId, quantity);
+            verify(productRepository, never()).findById(any());
         }
     }
 
@@ -412,25 +472,21 @@ class StockServiceLuaScriptTest {
     class FallbackTest {
 
         @Test
-        @DisplayName("재고 감소 Fallback - DB에서 처리")
+        @DisplayName("재고 감소 Fallback - DB degraded 모드로 처리")
         void decreaseStockFallback_success() {
             // given
             Long productId = 1L;
             int quantity = 5;
 
-            Product product = new Product();
-            product.setId(productId);
-            product.setStock(100);
-
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(degradedStockCoordinator.decrease(productId, quantity)).willReturn(true);
 
             // when
             boolean result = stockService.decreaseStockFallback(productId, quantity, new RuntimeException("Redis 오류"));
 
             // then
             assertThat(result).isTrue();
-            assertThat(product.getStock()).isEqualTo(95);
-            verify(productRepository).save(product);
+            verify(degradedStockCoordinator).decrease(productId, quantity);
+            verify(productRepository, never()).save(any());
         }
 
         @Test
@@ -455,25 +511,21 @@ class StockServiceLuaScriptTest {
     class DirectDatabaseOperationTest {
 
         @Test
-        @DisplayName("DB에서 직접 재고 감소")
+        @DisplayName("DB에서 조건부 UPDATE로 재고 감소")
         void decreaseStockInDatabase_success() {
             // given
             Long productId = 1L;
             int quantity = 10;
 
-            Product product = new Product();
-            product.setId(productId);
-            product.setStock(100);
-
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.decreaseStockIfAvailable(productId, quantity)).willReturn(1);
 
             // when
             boolean result = stockService.decreaseStockInDatabase(productId, quantity);
 
             // then
             assertThat(result).isTrue();
-            assertThat(product.getStock()).isEqualTo(90);
-            verify(productRepository).save(product);
+            verify(productRepository, never()).findById(any());
+            verify(productRepository, never()).save(any());
         }
 
         @Test
@@ -483,11 +535,7 @@ class StockServiceLuaScriptTest {
             Long productId = 1L;
             int quantity = 150;
 
-            Product product = new Product();
-            product.setId(productId);
-            product.setStock(100);
-
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.decreaseStockIfAvailable(productId, quantity)).willReturn(0);
 
             // when
             boolean result = stockService.decreaseStockInDatabase(productId, quantity);
@@ -504,18 +552,14 @@ class StockServiceLuaScriptTest {
             Long productId = 1L;
             int quantity = 10;
 
-            Product product = new Product();
-            product.setId(productId);
-            product.setStock(90);
-
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.increaseStock(productId, quantity)).willReturn(1);
 
             // when
             stockService.restoreStockInDatabase(productId, quantity);
 
             // then
-            assertThat(product.getStock()).isEqualTo(100);
-            verify(productRepository).save(product);
+            verify(productRepository).increaseStock(productId, quantity);
+            verify(productRepository, never()).save(any());
         }
     }
 
@@ -534,7 +578,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             )).willReturn(95L);
 
@@ -558,7 +602,7 @@ class StockServiceLuaScriptTest {
             given(valueOperations.get(stockKey)).willReturn(100);
             given(redisTemplate.execute(
                     eq(decreaseStockScript),
-                    eq(Collections.singletonList(stockKey)),
+                    eq(List.of(stockKey, STOCK_LEDGER_KEY)),
                     eq(String.valueOf(quantity))
             )).willReturn(-1L);
 
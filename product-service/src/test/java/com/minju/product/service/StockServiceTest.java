@@ -203,23 +203,21 @@ class StockServiceTest {
         @DisplayName("DB에서 직접 재고 차감이 가능하다")
         void decreaseStockInDatabase_SufficientStock_ShouldSucceed() {
             // given
-            given(productRepository.findById(1L)).willReturn(Optional.of(mockProduct));
-            given(productRepository.save(any(Product.class))).willReturn(mockProduct);
+            given(productRepository.decreaseStockIfAvailable(1L, 10)).willReturn(1);
 
             // when
             boolean result = stockService.decreaseStockInDatabase(1L, 10);
 
             // then
             assertThat(result).isTrue();
-            assertThat(mockProduct.getStock()).isEqualTo(90);
+            verify(productRepository, never()).save(any(Product.class));
         }
 
         @Test
         @DisplayName("DB 재고 부족 시 차감 실패")
         void decreaseStockInDatabase_InsufficientStock_ShouldFail() {
             // given
-            mockProduct.setStock(5);
-            given(productRepository.findById(1L)).willReturn(Optional.of(mockProduct));
+            given(productRepository.decreaseStockIfAvailable(1L, 10)).willReturn(0);
 
             // when
             boolean result = stockService.decreaseStockInDatabase(1L, 10);